@@ -0,0 +1,25 @@
+package com.th.eventmanagmentsystem.audit.api;
+
+import com.th.eventmanagmentsystem.audit.application.AuditLogQueryService;
+import com.th.eventmanagmentsystem.audit.domain.AuditEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+public class AuditLogController {
+
+    private final AuditLogQueryService auditLogQueryService;
+
+    @GetMapping("/entities/{uuid}")
+    public ResponseEntity<List<AuditEvent>> findByEntity(@PathVariable String uuid) {
+        return ResponseEntity.ok(auditLogQueryService.findByEntityUuid(uuid));
+    }
+}
@@ -0,0 +1,79 @@
+package com.th.eventmanagmentsystem.audit.application;
+
+import com.th.eventmanagmentsystem.audit.application.config.AuditOverflowPolicy;
+import com.th.eventmanagmentsystem.audit.application.config.AuditProperties;
+import com.th.eventmanagmentsystem.audit.domain.AuditEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Begrenzter Ringpuffer zwischen den Request-Threads und dem {@link AuditLogWriter}.
+ * Request-Threads machen hier nie I/O; ist der Puffer voll, greift die konfigurierte
+ * {@link AuditOverflowPolicy}.
+ */
+@Component
+@Slf4j
+public class AuditEventBuffer {
+
+    private final ArrayBlockingQueue<AuditEvent> queue;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Counter droppedCounter;
+
+    public AuditEventBuffer(AuditProperties properties, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(properties.bufferCapacity());
+        this.overflowPolicy = properties.overflowPolicy();
+        this.blockTimeoutNanos = properties.blockTimeout().toNanos();
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("Audit events discarded because the buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", queue, ArrayBlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code true}, wenn das Event angenommen wurde.
+     */
+    public boolean publish(AuditEvent event) {
+        boolean accepted = queue.offer(event);
+
+        if (!accepted && overflowPolicy == AuditOverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(event, blockTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!accepted) {
+            droppedCounter.increment();
+            log.warn("Audit buffer full, dropping {} event for {}", event.action(), event.entityUuid());
+        }
+        return accepted;
+    }
+
+    /**
+     * Wartet höchstens {@code timeoutNanos} auf das erste Event und übernimmt dann
+     * alle bereits wartenden Events bis {@code maxEvents} in {@code target}.
+     */
+    int drainTo(List<AuditEvent> target, int maxEvents, long timeoutNanos) throws InterruptedException {
+        AuditEvent first = queue.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return 0;
+        }
+        target.add(first);
+        return 1 + queue.drainTo(target, maxEvents - 1);
+    }
+
+    int size() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,21 @@
+package com.th.eventmanagmentsystem.audit.application;
+
+import com.th.eventmanagmentsystem.audit.domain.AuditEvent;
+import com.th.eventmanagmentsystem.audit.domain.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AuditLogQueryService {
+
+    private final AuditLogRepository auditLogRepository;
+
+    @Transactional(readOnly = true)
+    public List<AuditEvent> findByEntityUuid(String entityUuid) {
+        return auditLogRepository.findByEntityUuid(entityUuid);
+    }
+}
@@ -0,0 +1,106 @@
+package com.th.eventmanagmentsystem.audit.application;
+
+import com.th.eventmanagmentsystem.audit.application.config.AuditProperties;
+import com.th.eventmanagmentsystem.audit.domain.AuditEvent;
+import com.th.eventmanagmentsystem.audit.domain.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Einziger Konsument des {@link AuditEventBuffer}. Schreibt die Events in Batches
+ * in das append-only {@link AuditLogRepository}.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    private final AuditEventBuffer buffer;
+    private final AuditLogRepository auditLogRepository;
+    private final AuditProperties properties;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(AuditEventBuffer buffer, AuditLogRepository auditLogRepository,
+                          AuditProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.auditLogRepository = auditLogRepository;
+        this.properties = properties;
+        this.writtenCounter = Counter.builder("audit.events.written").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.events.failed")
+                .description("Audit events lost after all write attempts failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("audit.batch.write").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("audit-log-writer")
+                .daemon(true)
+                .start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(properties.flushInterval().multipliedBy(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        List<AuditEvent> batch = new ArrayList<>(properties.batchSize());
+        long timeoutNanos = properties.flushInterval().toNanos();
+
+        // Nach stop() wird der Puffer noch vollständig geleert.
+        while (running || buffer.size() > 0) {
+            try {
+                if (buffer.drainTo(batch, properties.batchSize(), timeoutNanos) > 0) {
+                    write(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<AuditEvent> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= properties.maxWriteAttempts(); attempt++) {
+            try {
+                batchTimer.record(() -> auditLogRepository.appendAll(batch));
+                writtenCounter.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Writing {} audit events failed (attempt {}/{})",
+                        batch.size(), attempt, properties.maxWriteAttempts(), e);
+                Thread.sleep(properties.flushInterval().multipliedBy(attempt).toMillis());
+            }
+        }
+        failedCounter.increment(batch.size());
+        log.error("Giving up on {} audit events", batch.size());
+    }
+}
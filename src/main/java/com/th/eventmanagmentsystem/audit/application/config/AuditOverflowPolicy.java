@@ -0,0 +1,8 @@
+package com.th.eventmanagmentsystem.audit.application.config;
+
+public enum AuditOverflowPolicy {
+    /** Das Event wird verworfen und gezählt, der aufrufende Thread läuft sofort weiter. */
+    DROP,
+    /** Der aufrufende Thread wartet bis zu {@code blockTimeout} auf einen freien Platz. */
+    BLOCK
+}
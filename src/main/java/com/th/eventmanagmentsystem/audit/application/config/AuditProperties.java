@@ -0,0 +1,18 @@
+package com.th.eventmanagmentsystem.audit.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "eventmanagement.audit")
+public record AuditProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("8192") int bufferCapacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("DROP") AuditOverflowPolicy overflowPolicy,
+        @DefaultValue("1s") Duration blockTimeout,
+        @DefaultValue("3") int maxWriteAttempts
+) {
+}
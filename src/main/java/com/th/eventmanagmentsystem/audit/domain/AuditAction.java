@@ -0,0 +1,7 @@
+package com.th.eventmanagmentsystem.audit.domain;
+
+public enum AuditAction {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,23 @@
+package com.th.eventmanagmentsystem.audit.domain;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Unveränderlicher Eintrag im Audit-Log.
+ * Es werden nur die Namen der geänderten Properties gespeichert, niemals deren Werte
+ * (z.B. Passwort-Hashes).
+ */
+public record AuditEvent(
+        String entityType,
+        String entityUuid,
+        AuditAction action,
+        Long entityVersion,
+        List<String> changedProperties,
+        String actor,
+        Instant occurredAt
+) {
+    public AuditEvent {
+        changedProperties = changedProperties == null ? List.of() : List.copyOf(changedProperties);
+    }
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.audit.domain;
+
+import java.util.List;
+
+public interface AuditLogRepository {
+    /**
+     * Hängt die Events an das Log an. Bestehende Einträge werden nie verändert.
+     */
+    void appendAll(List<AuditEvent> events);
+
+    List<AuditEvent> findByEntityUuid(String entityUuid);
+}
@@ -0,0 +1,101 @@
+package com.th.eventmanagmentsystem.audit.infrastructure.hibernate;
+
+import com.th.eventmanagmentsystem.audit.application.AuditEventBuffer;
+import com.th.eventmanagmentsystem.audit.domain.AuditAction;
+import com.th.eventmanagmentsystem.audit.domain.AuditEvent;
+import com.th.eventmanagmentsystem.common.BaseEntity;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Übersetzt Hibernate-Events nach erfolgreichem Commit in {@link AuditEvent}s.
+ * Es wird nur in den Puffer geschrieben; die eigentliche I/O passiert im Writer-Thread.
+ */
+class AuditHibernateEventListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String SYSTEM_ACTOR = "system";
+
+    private final AuditEventBuffer buffer;
+
+    AuditHibernateEventListener(AuditEventBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof BaseEntity entity) {
+            publish(entity, AuditAction.CREATED, List.of());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof BaseEntity entity) {
+            publish(entity, AuditAction.UPDATED, changedProperties(event));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof BaseEntity entity) {
+            publish(entity, AuditAction.DELETED, List.of());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Kein Commit, kein Audit-Eintrag.
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return BaseEntity.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    private void publish(BaseEntity entity, AuditAction action, List<String> changedProperties) {
+        buffer.publish(new AuditEvent(
+                entity.getClass().getSimpleName(),
+                entity.getUuid(),
+                action,
+                entity.getVersion(),
+                changedProperties,
+                currentActor(),
+                Instant.now()
+        ));
+    }
+
+    private static List<String> changedProperties(PostUpdateEvent event) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            return List.of();
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        List<String> changed = new ArrayList<>(dirty.length);
+        Arrays.stream(dirty).forEach(index -> changed.add(names[index]));
+        return changed;
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return SYSTEM_ACTOR;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,63 @@
+package com.th.eventmanagmentsystem.audit.infrastructure.hibernate;
+
+import com.th.eventmanagmentsystem.audit.application.AuditEventBuffer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "eventmanagement.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AuditListenerRegistrar implements SmartLifecycle {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditEventBuffer auditEventBuffer;
+
+    private volatile boolean running;
+
+    /**
+     * Registriert erst beim Lifecycle-Start statt im Konstruktor: bei im Hintergrund gebootstrapptem JPA
+     * ({@code bootstrap-mode=deferred}) würde {@code unwrap} sonst den Kontextaufbau bis zum fertigen
+     * Hibernate-Metamodell blockieren. Die Phase liegt vor dem Start des Webservers.
+     */
+    @Override
+    public void start() {
+        register(entityManagerFactory);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    /**
+     * Hängt den Audit-Listener an eine weitere Persistence-Unit, z.B. an einen Shard.
+     */
+    public void register(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+
+        AuditHibernateEventListener listener = new AuditHibernateEventListener(auditEventBuffer);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+}
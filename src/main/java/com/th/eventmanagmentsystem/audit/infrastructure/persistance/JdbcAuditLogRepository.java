@@ -0,0 +1,67 @@
+package com.th.eventmanagmentsystem.audit.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.audit.domain.AuditAction;
+import com.th.eventmanagmentsystem.audit.domain.AuditEvent;
+import com.th.eventmanagmentsystem.audit.domain.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only Ablage in der Tabelle {@code audit_log}. Es gibt bewusst weder Update noch Delete.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcAuditLogRepository implements AuditLogRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_log (entity_type, entity_uuid, action, entity_version, changed_properties, actor, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_BY_ENTITY_SQL = """
+            SELECT entity_type, entity_uuid, action, entity_version, changed_properties, actor, occurred_at
+            FROM audit_log
+            WHERE entity_uuid = ?
+            ORDER BY id
+            """;
+
+    private static final RowMapper<AuditEvent> ROW_MAPPER = (rs, rowNum) -> new AuditEvent(
+            rs.getString("entity_type"),
+            rs.getString("entity_uuid"),
+            AuditAction.valueOf(rs.getString("action")),
+            rs.getObject("entity_version", Long.class),
+            splitProperties(rs.getString("changed_properties")),
+            rs.getString("actor"),
+            rs.getTimestamp("occurred_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void appendAll(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.entityType());
+            ps.setString(2, event.entityUuid());
+            ps.setString(3, event.action().name());
+            ps.setObject(4, event.entityVersion());
+            ps.setString(5, event.changedProperties().isEmpty() ? null : String.join(",", event.changedProperties()));
+            ps.setString(6, event.actor());
+            ps.setTimestamp(7, Timestamp.from(event.occurredAt()));
+        });
+    }
+
+    @Override
+    public List<AuditEvent> findByEntityUuid(String entityUuid) {
+        return jdbcTemplate.query(SELECT_BY_ENTITY_SQL, ROW_MAPPER, entityUuid);
+    }
+
+    private static List<String> splitProperties(String value) {
+        return value == null ? List.of() : Arrays.asList(value.split(","));
+    }
+}
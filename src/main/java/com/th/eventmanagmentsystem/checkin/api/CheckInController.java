@@ -0,0 +1,46 @@
+package com.th.eventmanagmentsystem.checkin.api;
+
+import com.th.eventmanagmentsystem.checkin.application.CheckInSnapshotService;
+import com.th.eventmanagmentsystem.checkin.application.CheckInSyncService;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncRequest;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncResponse;
+import com.th.eventmanagmentsystem.checkin.domain.CheckInConflict;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * Zentrale Endpunkte für die Gates: Snapshot-Export, Synchronisation und Auswertung doppelter Einlässe.
+ */
+@RestController
+@RequestMapping("/api/checkin/events/{eventUuid}")
+@RequiredArgsConstructor
+public class CheckInController {
+
+    private final CheckInSnapshotService snapshotService;
+    private final CheckInSyncService syncService;
+
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> snapshot(@PathVariable String eventUuid) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + eventUuid + ".tickets\"")
+                .body(out -> snapshotService.export(eventUuid, out));
+    }
+
+    @PostMapping("/sync")
+    public ResponseEntity<CheckInSyncResponse> sync(@PathVariable String eventUuid,
+                                                    @Valid @RequestBody CheckInSyncRequest request) {
+        return ResponseEntity.ok(syncService.sync(eventUuid, request));
+    }
+
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<CheckInConflict>> conflicts(@PathVariable String eventUuid) {
+        return ResponseEntity.ok(syncService.conflicts(eventUuid));
+    }
+}
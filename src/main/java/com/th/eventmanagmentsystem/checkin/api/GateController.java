@@ -0,0 +1,45 @@
+package com.th.eventmanagmentsystem.checkin.api;
+
+import com.th.eventmanagmentsystem.checkin.application.dto.GateSnapshotStatus;
+import com.th.eventmanagmentsystem.checkin.application.dto.ScanRequest;
+import com.th.eventmanagmentsystem.checkin.application.dto.ScanResponse;
+import com.th.eventmanagmentsystem.checkin.application.gate.GateCheckInService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/gate")
+@ConditionalOnProperty(prefix = "eventmanagement.checkin.gate", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class GateController {
+
+    private final GateCheckInService gateCheckInService;
+
+    @PostMapping("/events/{eventUuid}/scans")
+    public ResponseEntity<ScanResponse> scan(@PathVariable String eventUuid, @Valid @RequestBody ScanRequest request) {
+        return ResponseEntity.ok(gateCheckInService.scan(eventUuid, request.attendeeUuid()));
+    }
+
+    /**
+     * Lädt den Snapshot der Veranstaltung (erneut) von der Zentrale; erfordert Netzverbindung.
+     */
+    @PostMapping("/events/{eventUuid}/snapshot")
+    public ResponseEntity<GateSnapshotStatus> load(@PathVariable String eventUuid) {
+        return ResponseEntity.ok(gateCheckInService.load(eventUuid));
+    }
+
+    @PostMapping("/sync")
+    public ResponseEntity<Integer> sync() {
+        return ResponseEntity.ok(gateCheckInService.syncNow());
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<List<GateSnapshotStatus>> status() {
+        return ResponseEntity.ok(gateCheckInService.status());
+    }
+}
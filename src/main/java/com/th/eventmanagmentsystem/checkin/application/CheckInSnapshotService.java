@@ -0,0 +1,64 @@
+package com.th.eventmanagmentsystem.checkin.application;
+
+import com.th.eventmanagmentsystem.checkin.domain.ValidTicketRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.EventRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.EventNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Exportiert die gültigen Tickets einer Veranstaltung als Snapshot für die Scanner an den Gates.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CheckInSnapshotService {
+
+    private final EventRepository eventRepository;
+    private final ValidTicketRepository validTicketRepository;
+    private final TicketSnapshotWriter snapshotWriter;
+
+    public void export(String eventUuid, OutputStream target) throws IOException {
+        eventRepository.findByUuid(eventUuid).orElseThrow(() -> new EventNotFoundException(eventUuid));
+
+        Tickets tickets = new Tickets();
+        validTicketRepository.forEachConfirmed(eventUuid, ticket -> {
+            UUID attendee = UUID.fromString(ticket.attendeeUuid());
+            tickets.add(attendee.getMostSignificantBits(), attendee.getLeastSignificantBits(), ticket.seats());
+        });
+
+        snapshotWriter.write(target, UUID.fromString(eventUuid), Instant.now(),
+                tickets.msbs, tickets.lsbs, tickets.seats, tickets.size);
+        log.info("Exported check-in snapshot for event {} with {} tickets", eventUuid, tickets.size);
+    }
+
+    /**
+     * Wächst wie eine ArrayList, hält die UUIDs aber in primitiven Arrays.
+     */
+    private static final class Tickets {
+
+        private long[] msbs = new long[1024];
+        private long[] lsbs = new long[1024];
+        private int[] seats = new int[1024];
+        private int size;
+
+        void add(long msb, long lsb, int seatCount) {
+            if (size == msbs.length) {
+                msbs = Arrays.copyOf(msbs, size * 2);
+                lsbs = Arrays.copyOf(lsbs, size * 2);
+                seats = Arrays.copyOf(seats, size * 2);
+            }
+            msbs[size] = msb;
+            lsbs[size] = lsb;
+            seats[size] = seatCount;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.th.eventmanagmentsystem.checkin.application;
+
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncRequest;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncResponse;
+import com.th.eventmanagmentsystem.checkin.application.dto.ScannedTicket;
+import com.th.eventmanagmentsystem.checkin.domain.CheckIn;
+import com.th.eventmanagmentsystem.checkin.domain.CheckInConflict;
+import com.th.eventmanagmentsystem.checkin.domain.CheckInRepository;
+import com.th.eventmanagmentsystem.checkin.domain.RecordedCheckIn;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Nimmt die offline erfassten Check-ins der Gates entgegen. Pro Ticket gilt der zuerst zentral gespeicherte
+ * Einlass; jeder weitere Einlass desselben Tickets an einem anderen Gate wird als Konflikt protokolliert.
+ */
+@Service
+@Slf4j
+public class CheckInSyncService {
+
+    static final int MAX_CHECKED_IN_ELSEWHERE = 10_000;
+
+    private final CheckInRepository checkInRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter acceptedCounter;
+    private final Counter conflictCounter;
+
+    public CheckInSyncService(CheckInRepository checkInRepository, TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry) {
+        this.checkInRepository = checkInRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.acceptedCounter = Counter.builder("checkin.sync.accepted").register(meterRegistry);
+        this.conflictCounter = Counter.builder("checkin.sync.conflicts")
+                .description("Tickets admitted at more than one gate")
+                .register(meterRegistry);
+    }
+
+    public CheckInSyncResponse sync(String eventUuid, CheckInSyncRequest request) {
+        try {
+            return transactionTemplate.execute(status -> record(eventUuid, request));
+        } catch (DuplicateKeyException e) {
+            // Ein anderes Gate hat dieselben Tickets gleichzeitig gemeldet; der zweite Lauf sieht dessen Zeilen
+            return transactionTemplate.execute(status -> record(eventUuid, request));
+        }
+    }
+
+    public List<CheckInConflict> conflicts(String eventUuid) {
+        return checkInRepository.findConflicts(eventUuid);
+    }
+
+    private CheckInSyncResponse record(String eventUuid, CheckInSyncRequest request) {
+        List<ScannedTicket> scans = request.checkIns().stream()
+                .sorted(Comparator.comparing(ScannedTicket::scannedAt))
+                .toList();
+        Map<String, CheckIn> recorded = new HashMap<>(checkInRepository.findByAttendees(eventUuid,
+                scans.stream().map(ScannedTicket::attendeeUuid).toList()));
+
+        List<CheckIn> accepted = new ArrayList<>();
+        List<CheckInConflict> conflicts = new ArrayList<>();
+        for (ScannedTicket scan : scans) {
+            CheckIn first = recorded.get(scan.attendeeUuid());
+            if (first == null) {
+                CheckIn checkIn = new CheckIn(eventUuid, scan.attendeeUuid(), request.gateId(), scan.scannedAt());
+                accepted.add(checkIn);
+                recorded.put(scan.attendeeUuid(), checkIn);
+            } else if (!first.gateId().equals(request.gateId())) {
+                conflicts.add(new CheckInConflict(eventUuid, scan.attendeeUuid(), request.gateId(), scan.scannedAt(),
+                        first.gateId(), first.scannedAt()));
+            }
+            // Gleiches Gate: erneut gesendeter Batch, weil die letzte Antwort das Gate nicht erreicht hat
+        }
+
+        checkInRepository.insertAll(accepted);
+        checkInRepository.insertConflicts(conflicts);
+        List<RecordedCheckIn> elsewhere = checkInRepository.findAfter(eventUuid, request.afterSequence(), request.gateId(),
+                MAX_CHECKED_IN_ELSEWHERE);
+
+        acceptedCounter.increment(accepted.size());
+        conflictCounter.increment(conflicts.size());
+        if (!conflicts.isEmpty()) {
+            log.warn("Gate {} reported {} double entries for event {}", request.gateId(), conflicts.size(), eventUuid);
+        }
+        return new CheckInSyncResponse(accepted.size(), conflicts, elsewhere);
+    }
+}
@@ -0,0 +1,19 @@
+package com.th.eventmanagmentsystem.checkin.application;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Schreibt die gültigen Tickets einer Veranstaltung im Dateiformat der Gate-Scanner.
+ */
+public interface TicketSnapshotWriter {
+
+    /**
+     * Die ersten {@code count} Einträge der Arrays dürfen unsortiert sein, aber keine Attendee-UUID doppelt
+     * enthalten. Plätze, die das Format nicht abbilden kann, brechen den Export ab.
+     */
+    void write(OutputStream target, UUID eventUuid, Instant createdAt,
+               long[] msbs, long[] lsbs, int[] seats, int count) throws IOException;
+}
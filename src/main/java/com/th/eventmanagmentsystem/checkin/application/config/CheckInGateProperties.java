@@ -0,0 +1,31 @@
+package com.th.eventmanagmentsystem.checkin.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @param id              Kennung des Gates in {@code check_in.gate_id}
+ * @param dataDir         Ablage der Snapshots und Einlass-Bitmaps; muss Neustarts überdauern
+ * @param centralUrl      Basis-URL des zentralen Dienstes; leer, wenn Gate und Zentrale in einer Instanz laufen
+ * @param centralUsername Basic-Auth-Zugang des Gates zur Zentrale; leer, wenn ohne Anmeldung
+ * @param centralPassword Passwort zu {@code centralUsername}
+ * @param syncInterval    Abstand der Synchronisationsläufe
+ * @param syncBatchSize   Check-ins je Synchronisationsaufruf
+ * @param requestTimeout  Timeout für Aufrufe an die Zentrale; offline soll der Sync schnell aufgeben
+ */
+@ConfigurationProperties(prefix = "eventmanagement.checkin.gate")
+public record CheckInGateProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("gate-1") String id,
+        @DefaultValue("data/checkin") Path dataDir,
+        String centralUrl,
+        String centralUsername,
+        String centralPassword,
+        @DefaultValue("5s") Duration syncInterval,
+        @DefaultValue("1000") int syncBatchSize,
+        @DefaultValue("2s") Duration requestTimeout
+) {
+}
@@ -0,0 +1,19 @@
+package com.th.eventmanagmentsystem.checkin.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * @param afterSequence letzte bekannte Nummer aus {@code checkedInElsewhere}; Einlässe danach werden mitgeliefert
+ */
+public record CheckInSyncRequest(
+        @NotBlank @Size(max = 50) String gateId,
+        @PositiveOrZero long afterSequence,
+        @NotNull @Size(max = 10_000) List<@Valid ScannedTicket> checkIns
+) {
+}
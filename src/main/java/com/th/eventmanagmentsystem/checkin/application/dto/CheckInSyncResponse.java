@@ -0,0 +1,18 @@
+package com.th.eventmanagmentsystem.checkin.application.dto;
+
+import com.th.eventmanagmentsystem.checkin.domain.CheckInConflict;
+import com.th.eventmanagmentsystem.checkin.domain.RecordedCheckIn;
+
+import java.util.List;
+
+/**
+ * @param accepted           neu gespeicherte Check-ins
+ * @param conflicts          Tickets, die bereits an einem anderen Gate eingelöst waren
+ * @param checkedInElsewhere Einlässe anderer Gates seit {@code afterSequence}, damit das Gate sie lokal sperrt
+ */
+public record CheckInSyncResponse(
+        int accepted,
+        List<CheckInConflict> conflicts,
+        List<RecordedCheckIn> checkedInElsewhere
+) {
+}
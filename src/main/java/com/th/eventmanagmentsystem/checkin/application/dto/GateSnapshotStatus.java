@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.checkin.application.dto;
+
+import java.time.Instant;
+
+public record GateSnapshotStatus(
+        String eventUuid,
+        Instant snapshotCreatedAt,
+        int tickets,
+        int checkedIn,
+        int pendingSync
+) {
+}
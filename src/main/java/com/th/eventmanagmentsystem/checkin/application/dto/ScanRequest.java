@@ -0,0 +1,8 @@
+package com.th.eventmanagmentsystem.checkin.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ScanRequest(
+        @NotBlank String attendeeUuid
+) {
+}
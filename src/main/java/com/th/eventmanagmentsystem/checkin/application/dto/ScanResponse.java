@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.checkin.application.dto;
+
+import com.th.eventmanagmentsystem.checkin.domain.ScanOutcome;
+
+import java.time.Instant;
+
+/**
+ * @param checkedInAt Zeitpunkt des (ersten) Einlasses; {@code null} bei unbekanntem Ticket
+ */
+public record ScanResponse(
+        ScanOutcome outcome,
+        String attendeeUuid,
+        int seats,
+        Instant checkedInAt
+) {
+}
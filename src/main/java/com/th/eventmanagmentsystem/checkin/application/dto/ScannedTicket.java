@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.checkin.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+
+public record ScannedTicket(
+        @NotBlank String attendeeUuid,
+        @NotNull Instant scannedAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.th.eventmanagmentsystem.checkin.application.gate;
+
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncRequest;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Verbindung eines Gates zum zentralen Check-in-Dienst. Aufrufe schlagen fehl, solange das Netz weg ist.
+ */
+public interface CentralCheckInGateway {
+
+    void downloadSnapshot(String eventUuid, OutputStream target) throws IOException;
+
+    CheckInSyncResponse sync(String eventUuid, CheckInSyncRequest request);
+}
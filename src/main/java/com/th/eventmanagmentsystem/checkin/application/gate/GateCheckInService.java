@@ -0,0 +1,441 @@
+package com.th.eventmanagmentsystem.checkin.application.gate;
+
+import com.th.eventmanagmentsystem.checkin.application.config.CheckInGateProperties;
+import com.th.eventmanagmentsystem.checkin.application.dto.*;
+import com.th.eventmanagmentsystem.checkin.domain.RecordedCheckIn;
+import com.th.eventmanagmentsystem.checkin.domain.ScanOutcome;
+import com.th.eventmanagmentsystem.checkin.domain.exception.InvalidSnapshotException;
+import com.th.eventmanagmentsystem.checkin.domain.exception.SnapshotNotLoadedException;
+import com.th.eventmanagmentsystem.checkin.domain.exception.SnapshotUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Einlasskontrolle am Gate. Scans werden ausschließlich gegen die lokal geöffneten {@link GateTickets}
+ * geprüft und funktionieren daher auch ohne Verbindung zur Zentrale; ein Hintergrund-Thread meldet die
+ * Einlässe in Batches und übernimmt im Gegenzug die Einlässe der anderen Gates.
+ * <p>
+ * Dateien je Snapshot in {@code dataDir}: {@code <event>-<createdAt>.tickets} und {@code .state}, dazu je
+ * Veranstaltung {@code <event>.cursor} mit der zuletzt übernommenen Nummer fremder Einlässe. Nach einem Neustart
+ * wird je Veranstaltung der neueste Snapshot samt Einlassstatus und Cursor wieder geöffnet; ältere Snapshots
+ * werden gelöscht.
+ */
+@Service
+@ConditionalOnProperty(prefix = "eventmanagement.checkin.gate", name = "enabled", havingValue = "true")
+@Slf4j
+public class GateCheckInService implements SmartLifecycle {
+
+    private static final String TICKETS_SUFFIX = ".tickets";
+    private static final String STATE_SUFFIX = ".state";
+    private static final String CURSOR_SUFFIX = ".cursor";
+
+    private final CentralCheckInGateway gateway;
+    private final GateTicketStore ticketStore;
+    private final CheckInGateProperties properties;
+    private final Map<String, GateSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Map<ScanOutcome, Counter> scanCounters = new EnumMap<>(ScanOutcome.class);
+    private final Counter conflictCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public GateCheckInService(CentralCheckInGateway gateway, GateTicketStore ticketStore,
+                              CheckInGateProperties properties, MeterRegistry meterRegistry) {
+        this.gateway = gateway;
+        this.ticketStore = ticketStore;
+        this.properties = properties;
+        for (ScanOutcome outcome : ScanOutcome.values()) {
+            scanCounters.put(outcome, Counter.builder("checkin.gate.scans")
+                    .tag("outcome", outcome.name())
+                    .register(meterRegistry));
+        }
+        this.conflictCounter = Counter.builder("checkin.gate.conflicts")
+                .description("Check-ins of this gate the central service reported as double entry")
+                .register(meterRegistry);
+        Gauge.builder("checkin.gate.pending", snapshots, all -> all.values().stream()
+                        .mapToInt(snapshot -> snapshot.tickets().pendingSyncCount())
+                        .sum())
+                .description("Check-ins not yet reported to the central service")
+                .register(meterRegistry);
+    }
+
+    public ScanResponse scan(String eventUuid, String attendeeUuid) {
+        while (true) {
+            GateSnapshot snapshot = require(eventUuid);
+            Lock guard = snapshot.swapGuard().readLock();
+            guard.lock();
+            try {
+                // Während des Wartens ersetzt: der Scan gehört in den neuen Snapshot
+                if (!snapshot.isSuperseded()) {
+                    return scan(snapshot.tickets(), attendeeUuid);
+                }
+            } finally {
+                guard.unlock();
+            }
+        }
+    }
+
+    private ScanResponse scan(GateTickets tickets, String attendeeUuid) {
+        int index = indexOf(tickets, attendeeUuid);
+        if (index < 0) {
+            scanCounters.get(ScanOutcome.UNKNOWN_TICKET).increment();
+            return new ScanResponse(ScanOutcome.UNKNOWN_TICKET, attendeeUuid, 0, null);
+        }
+
+        long now = System.currentTimeMillis();
+        ScanOutcome outcome = tickets.markUsed(index, now) ? ScanOutcome.ADMITTED : ScanOutcome.ALREADY_USED;
+        scanCounters.get(outcome).increment();
+        long checkedInAt = outcome == ScanOutcome.ADMITTED ? now : tickets.usedAt(index);
+        return new ScanResponse(outcome, attendeeUuid, tickets.seatsAt(index),
+                checkedInAt == 0 ? null : Instant.ofEpochMilli(checkedInAt));
+    }
+
+    /**
+     * Lädt den aktuellen Snapshot von der Zentrale und ersetzt den bisherigen. Bereits erfolgte Einlässe
+     * werden per UUID in den neuen Snapshot übernommen; laufende Scans halten den Austausch so lange auf,
+     * danach werden die Dateien des bisherigen Snapshots gelöscht.
+     */
+    public GateSnapshotStatus load(String eventUuid) {
+        Path download = properties.dataDir().resolve(eventUuid + ".download");
+        try (OutputStream out = Files.newOutputStream(download)) {
+            gateway.downloadSnapshot(eventUuid, out);
+        } catch (IOException | RuntimeException e) {
+            throw new SnapshotUnavailableException(eventUuid, e);
+        }
+
+        syncLock.lock();
+        try {
+            GateSnapshot previous = snapshots.get(eventUuid);
+            if (previous != null) {
+                trySync(eventUuid, previous);
+            }
+            GateTickets tickets = open(download, eventUuid);
+            GateSnapshot current = new GateSnapshot(tickets, previous == null ? 0 : previous.cursor());
+            if (previous == null) {
+                snapshots.put(eventUuid, current);
+            } else {
+                swap(eventUuid, previous, current);
+            }
+            log.info("Loaded check-in snapshot for event {} with {} tickets", eventUuid, tickets.size());
+            return status(eventUuid, current);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public List<GateSnapshotStatus> status() {
+        return snapshots.entrySet().stream()
+                .map(entry -> status(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Synchronisiert alle Veranstaltungen einmal, unabhängig vom Intervall.
+     *
+     * @return Anzahl gemeldeter Check-ins
+     */
+    public int syncNow() {
+        syncLock.lock();
+        try {
+            int reported = 0;
+            for (String eventUuid : List.copyOf(snapshots.keySet())) {
+                reported += syncEvent(eventUuid, snapshots.get(eventUuid));
+            }
+            return reported;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(properties.dataDir());
+            reopenSnapshots();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("checkin-gate-sync")
+                .daemon(true)
+                .start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(properties.requestTimeout().multipliedBy(2).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        snapshots.values().forEach(snapshot -> snapshot.tickets().force());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                Thread.sleep(properties.syncInterval().toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            syncLock.lock();
+            try {
+                snapshots.forEach(this::trySync);
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+
+    private void trySync(String eventUuid, GateSnapshot snapshot) {
+        try {
+            // Solange ein Batch voll ist, liegen weitere Check-ins an
+            while (syncEvent(eventUuid, snapshot) == properties.syncBatchSize()) {
+                log.debug("Continuing check-in sync for event {}", eventUuid);
+            }
+        } catch (RuntimeException e) {
+            log.debug("Check-in sync for event {} failed, retrying in {}", eventUuid, properties.syncInterval(), e);
+        }
+    }
+
+    private int syncEvent(String eventUuid, GateSnapshot snapshot) {
+        GateTickets tickets = snapshot.tickets();
+        List<Integer> indices = new ArrayList<>();
+        tickets.forEachUnsynced(properties.syncBatchSize(), indices::add);
+        List<ScannedTicket> scans = indices.stream()
+                .map(index -> new ScannedTicket(tickets.attendeeAt(index).toString(),
+                        Instant.ofEpochMilli(tickets.usedAt(index))))
+                .toList();
+
+        long cursor = snapshot.cursor();
+        CheckInSyncResponse response = gateway.sync(eventUuid,
+                new CheckInSyncRequest(properties.id(), cursor, scans));
+
+        indices.forEach(tickets::markSynced);
+        for (RecordedCheckIn elsewhere : response.checkedInElsewhere()) {
+            int index = indexOf(tickets, elsewhere.attendeeUuid());
+            // Bereits lokal eingelöst: der eigene Check-in wird zentral als Konflikt erkannt
+            if (index >= 0 && tickets.markUsed(index, elsewhere.scannedAt().toEpochMilli())) {
+                tickets.markSynced(index);
+            }
+            snapshot.advanceCursor(elsewhere.sequence());
+        }
+        if (!response.conflicts().isEmpty()) {
+            conflictCounter.increment(response.conflicts().size());
+            log.warn("{} tickets admitted at gate {} for event {} were already used at another gate",
+                    response.conflicts().size(), properties.id(), eventUuid);
+        }
+        tickets.force();
+        // Erst nach dem Einlassstatus, sonst fehlten nach einem Absturz übernommene Einlässe hinter dem Cursor
+        if (snapshot.cursor() != cursor) {
+            writeCursor(eventUuid, snapshot.cursor());
+        }
+        return scans.size();
+    }
+
+    private void swap(String eventUuid, GateSnapshot previous, GateSnapshot current) {
+        Lock guard = previous.swapGuard().writeLock();
+        guard.lock();
+        try {
+            carryOver(previous.tickets(), current.tickets());
+            snapshots.put(eventUuid, current);
+            previous.supersede();
+        } finally {
+            guard.unlock();
+        }
+        current.tickets().force();
+        // Derselbe Snapshot erneut geladen: beide teilen sich die Dateien
+        if (previous.tickets().createdAtMillis() != current.tickets().createdAtMillis()) {
+            delete(eventUuid, previous.tickets().createdAtMillis());
+        }
+    }
+
+    private void carryOver(GateTickets from, GateTickets to) {
+        from.forEachUsed(index -> {
+            int target = to.indexOf(from.attendeeAt(index));
+            if (target < 0) {
+                log.warn("Checked-in ticket {} is no longer valid in the new snapshot", from.attendeeAt(index));
+                return;
+            }
+            long usedAt = from.usedAt(index);
+            to.markUsed(target, usedAt == 0 ? System.currentTimeMillis() : usedAt);
+            if (from.isSynced(index)) {
+                to.markSynced(target);
+            }
+        });
+    }
+
+    private GateTickets open(Path download, String eventUuid) throws IOException {
+        GateTicketStore.Header header = ticketStore.readHeader(download);
+        if (!header.eventUuid().toString().equals(eventUuid)) {
+            throw new InvalidSnapshotException("Snapshot belongs to event " + header.eventUuid());
+        }
+        String baseName = eventUuid + "-" + header.createdAtMillis();
+        Path ticketsFile = properties.dataDir().resolve(baseName + TICKETS_SUFFIX);
+        Files.move(download, ticketsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return ticketStore.open(ticketsFile, properties.dataDir().resolve(baseName + STATE_SUFFIX));
+    }
+
+    private void reopenSnapshots() throws IOException {
+        Map<String, Path> latest = new HashMap<>();
+        try (Stream<Path> files = Files.list(properties.dataDir())) {
+            files.filter(file -> file.getFileName().toString().endsWith(TICKETS_SUFFIX))
+                    .sorted(Comparator.comparingLong(GateCheckInService::createdAtOf))
+                    .forEach(file -> {
+                        Path older = latest.put(eventUuidOf(file), file);
+                        // Übrig, wenn der Gate-Prozess zwischen Austausch und Löschen abbrach
+                        if (older != null) {
+                            delete(eventUuidOf(older), createdAtOf(older));
+                        }
+                    });
+        }
+        for (Map.Entry<String, Path> entry : latest.entrySet()) {
+            Path ticketsFile = entry.getValue();
+            String name = ticketsFile.getFileName().toString();
+            Path stateFile = ticketsFile.resolveSibling(name.replace(TICKETS_SUFFIX, STATE_SUFFIX));
+            GateTickets tickets = ticketStore.open(ticketsFile, stateFile);
+            snapshots.put(entry.getKey(), new GateSnapshot(tickets, readCursor(entry.getKey())));
+            log.info("Reopened check-in snapshot for event {}: {} of {} tickets used, {} not yet synced",
+                    entry.getKey(), tickets.usedCount(), tickets.size(), tickets.pendingSyncCount());
+        }
+    }
+
+    private void delete(String eventUuid, long createdAtMillis) {
+        String baseName = eventUuid + "-" + createdAtMillis;
+        for (String suffix : List.of(TICKETS_SUFFIX, STATE_SUFFIX)) {
+            Path file = properties.dataDir().resolve(baseName + suffix);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete superseded check-in snapshot file {}", file, e);
+            }
+        }
+    }
+
+    private void writeCursor(String eventUuid, long cursor) {
+        Path file = properties.dataDir().resolve(eventUuid + CURSOR_SUFFIX);
+        Path temp = properties.dataDir().resolve(eventUuid + CURSOR_SUFFIX + ".tmp");
+        try {
+            Files.writeString(temp, Long.toString(cursor));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Ein veralteter Cursor holt nur bereits übernommene Einlässe erneut ab
+            log.warn("Could not persist check-in cursor {} for event {}", cursor, eventUuid, e);
+        }
+    }
+
+    private long readCursor(String eventUuid) {
+        Path file = properties.dataDir().resolve(eventUuid + CURSOR_SUFFIX);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(file).strip());
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Could not read check-in cursor of event {}, fetching all check-ins again", eventUuid, e);
+            return 0;
+        }
+    }
+
+    private GateSnapshot require(String eventUuid) {
+        GateSnapshot snapshot = snapshots.get(eventUuid);
+        if (snapshot == null) {
+            throw new SnapshotNotLoadedException(eventUuid);
+        }
+        return snapshot;
+    }
+
+    private static int indexOf(GateTickets tickets, String attendeeUuid) {
+        try {
+            return tickets.indexOf(UUID.fromString(attendeeUuid));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static GateSnapshotStatus status(String eventUuid, GateSnapshot snapshot) {
+        GateTickets tickets = snapshot.tickets();
+        return new GateSnapshotStatus(eventUuid, Instant.ofEpochMilli(tickets.createdAtMillis()), tickets.size(),
+                tickets.usedCount(), tickets.pendingSyncCount());
+    }
+
+    // <event-uuid>-<createdAt>.tickets; die UUID enthält selbst Bindestriche
+    private static String eventUuidOf(Path ticketsFile) {
+        String name = ticketsFile.getFileName().toString();
+        return name.substring(0, name.lastIndexOf('-'));
+    }
+
+    private static long createdAtOf(Path ticketsFile) {
+        String name = ticketsFile.getFileName().toString();
+        return Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.length() - TICKETS_SUFFIX.length()));
+    }
+
+    private static final class GateSnapshot {
+
+        private final GateTickets tickets;
+        private final ReentrantReadWriteLock swapGuard = new ReentrantReadWriteLock();
+        private volatile long cursor;
+        private volatile boolean superseded;
+
+        GateSnapshot(GateTickets tickets, long cursor) {
+            this.tickets = tickets;
+            this.cursor = cursor;
+        }
+
+        GateTickets tickets() {
+            return tickets;
+        }
+
+        long cursor() {
+            return cursor;
+        }
+
+        ReentrantReadWriteLock swapGuard() {
+            return swapGuard;
+        }
+
+        boolean isSuperseded() {
+            return superseded;
+        }
+
+        void supersede() {
+            superseded = true;
+        }
+
+        void advanceCursor(long id) {
+            cursor = Math.max(cursor, id);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.th.eventmanagmentsystem.checkin.application.gate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Öffnet die von der Zentrale geladenen Ticketdateien samt lokalem Einlassstatus.
+ */
+public interface GateTicketStore {
+
+    /**
+     * Liest nur den Kopf einer Ticketdatei, etwa um sie vor dem Öffnen einer Veranstaltung zuzuordnen.
+     */
+    Header readHeader(Path ticketsFile) throws IOException;
+
+    /**
+     * Eine Zustandsdatei zu einem anderen Snapshot wird zurückgesetzt.
+     */
+    GateTickets open(Path ticketsFile, Path stateFile) throws IOException;
+
+    record Header(UUID eventUuid, long createdAtMillis, int count) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.th.eventmanagmentsystem.checkin.application.gate;
+
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Gültige Tickets einer Veranstaltung mit ihrem Einlassstatus am Gate, adressiert über einen Index.
+ */
+public interface GateTickets {
+
+    /**
+     * @return Index des Tickets oder {@code -1}
+     */
+    int indexOf(UUID attendeeUuid);
+
+    /**
+     * Setzt den Einlass atomar. Scannen zwei Geräte-Threads dasselbe Ticket, gewinnt genau einer.
+     *
+     * @return {@code false}, wenn das Ticket bereits eingelöst war
+     */
+    boolean markUsed(int index, long atMillis);
+
+    void markSynced(int index);
+
+    boolean isUsed(int index);
+
+    boolean isSynced(int index);
+
+    /**
+     * @return Einlasszeitpunkt in Epoch-Millis oder 0
+     */
+    long usedAt(int index);
+
+    /**
+     * Liefert bis zu {@code max} eingelöste, noch nicht synchronisierte Tickets.
+     */
+    int forEachUnsynced(int max, IntConsumer consumer);
+
+    void forEachUsed(IntConsumer consumer);
+
+    int pendingSyncCount();
+
+    int usedCount();
+
+    UUID attendeeAt(int index);
+
+    int seatsAt(int index);
+
+    UUID eventUuid();
+
+    long createdAtMillis();
+
+    int size();
+
+    /**
+     * Schreibt den Einlassstatus dauerhaft fest.
+     */
+    void force();
+}
@@ -0,0 +1,14 @@
+package com.th.eventmanagmentsystem.checkin.domain;
+
+import java.time.Instant;
+
+/**
+ * Ein am Gate eingelöstes Ticket, wie es zentral gespeichert wird.
+ */
+public record CheckIn(
+        String eventUuid,
+        String attendeeUuid,
+        String gateId,
+        Instant scannedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.checkin.domain;
+
+import java.time.Instant;
+
+/**
+ * Doppelter Einlass: dasselbe Ticket wurde offline an einem weiteren Gate (oder erneut) eingelöst.
+ */
+public record CheckInConflict(
+        String eventUuid,
+        String attendeeUuid,
+        String gateId,
+        Instant scannedAt,
+        String firstGateId,
+        Instant firstScannedAt
+) {
+}
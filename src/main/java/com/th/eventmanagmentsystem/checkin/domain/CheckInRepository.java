@@ -0,0 +1,25 @@
+package com.th.eventmanagmentsystem.checkin.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface CheckInRepository {
+
+    /**
+     * @return bereits gespeicherte Check-ins je Attendee-UUID
+     */
+    Map<String, CheckIn> findByAttendees(String eventUuid, Collection<String> attendeeUuids);
+
+    /**
+     * Vergibt die Nummern für {@link RecordedCheckIn#sequence()} unter einer Sperre je Veranstaltung, die bis zum
+     * Commit gehalten wird. Muss daher in einer Transaktion laufen.
+     */
+    void insertAll(List<CheckIn> checkIns);
+
+    void insertConflicts(List<CheckInConflict> conflicts);
+
+    List<RecordedCheckIn> findAfter(String eventUuid, long afterSequence, String excludedGateId, int limit);
+
+    List<CheckInConflict> findConflicts(String eventUuid);
+}
@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.checkin.domain;
+
+import java.time.Instant;
+
+/**
+ * Zentral gespeicherter Check-in mit je Veranstaltung fortlaufender Nummer, über die Gates die Einlässe anderer
+ * Gates abholen. Die Nummern werden in Commit-Reihenfolge vergeben; ein Gate, das bis {@code sequence} gelesen hat,
+ * kann keinen früheren Einlass mehr verpassen.
+ */
+public record RecordedCheckIn(
+        long sequence,
+        String attendeeUuid,
+        String gateId,
+        Instant scannedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.th.eventmanagmentsystem.checkin.domain;
+
+public enum ScanOutcome {
+    ADMITTED,
+    ALREADY_USED,
+    UNKNOWN_TICKET
+}
@@ -0,0 +1,10 @@
+package com.th.eventmanagmentsystem.checkin.domain;
+
+/**
+ * Bestätigte Plätze eines Teilnehmers für eine Veranstaltung; ein Scan lässt alle Plätze gemeinsam ein.
+ */
+public record ValidTicket(
+        String attendeeUuid,
+        int seats
+) {
+}
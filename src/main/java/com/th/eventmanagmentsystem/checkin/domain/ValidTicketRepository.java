@@ -0,0 +1,8 @@
+package com.th.eventmanagmentsystem.checkin.domain;
+
+import java.util.function.Consumer;
+
+public interface ValidTicketRepository {
+
+    void forEachConfirmed(String eventUuid, Consumer<ValidTicket> consumer);
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.checkin.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class InvalidSnapshotException extends RuntimeException {
+
+    public InvalidSnapshotException(String message) {
+        super(message);
+    }
+}
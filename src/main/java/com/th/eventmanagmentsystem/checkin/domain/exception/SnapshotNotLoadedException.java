@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.checkin.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class SnapshotNotLoadedException extends RuntimeException {
+
+    public SnapshotNotLoadedException(String eventUuid) {
+        super("No ticket snapshot loaded for event: " + eventUuid);
+    }
+}
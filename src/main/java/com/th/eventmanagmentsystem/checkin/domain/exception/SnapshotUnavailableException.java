@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.checkin.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SnapshotUnavailableException extends RuntimeException {
+
+    public SnapshotUnavailableException(String eventUuid, Throwable cause) {
+        super("Ticket snapshot for event " + eventUuid + " could not be fetched", cause);
+    }
+}
@@ -0,0 +1,37 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.client;
+
+import com.th.eventmanagmentsystem.checkin.application.CheckInSnapshotService;
+import com.th.eventmanagmentsystem.checkin.application.CheckInSyncService;
+import com.th.eventmanagmentsystem.checkin.application.config.CheckInGateProperties;
+import com.th.eventmanagmentsystem.checkin.application.gate.CentralCheckInGateway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+@ConditionalOnProperty(prefix = "eventmanagement.checkin.gate", name = "enabled", havingValue = "true")
+public class CentralCheckInGatewayConfig {
+
+    @Bean
+    public CentralCheckInGateway centralCheckInGateway(CheckInGateProperties properties,
+                                                       CheckInSnapshotService snapshotService,
+                                                       CheckInSyncService syncService) {
+        if (!StringUtils.hasText(properties.centralUrl())) {
+            return new LocalCentralCheckInGateway(snapshotService, syncService);
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.requestTimeout());
+        requestFactory.setReadTimeout(properties.requestTimeout());
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl(properties.centralUrl())
+                .requestFactory(requestFactory);
+        if (StringUtils.hasText(properties.centralUsername())) {
+            builder.defaultHeaders(headers ->
+                    headers.setBasicAuth(properties.centralUsername(), properties.centralPassword()));
+        }
+        return new HttpCentralCheckInGateway(builder.build());
+    }
+}
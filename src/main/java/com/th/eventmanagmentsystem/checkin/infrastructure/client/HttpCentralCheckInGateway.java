@@ -0,0 +1,46 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.client;
+
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncRequest;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncResponse;
+import com.th.eventmanagmentsystem.checkin.application.gate.CentralCheckInGateway;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Spricht die Endpunkte des {@code CheckInController} der zentralen Instanz an.
+ */
+public class HttpCentralCheckInGateway implements CentralCheckInGateway {
+
+    private final RestClient restClient;
+
+    public HttpCentralCheckInGateway(RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    @Override
+    public void downloadSnapshot(String eventUuid, OutputStream target) throws IOException {
+        restClient.get()
+                .uri("/api/checkin/events/{eventUuid}/snapshot", eventUuid)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new IOException("Snapshot download failed with " + response.getStatusCode());
+                    }
+                    response.getBody().transferTo(target);
+                    return null;
+                });
+    }
+
+    @Override
+    public CheckInSyncResponse sync(String eventUuid, CheckInSyncRequest request) {
+        return restClient.post()
+                .uri("/api/checkin/events/{eventUuid}/sync", eventUuid)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(CheckInSyncResponse.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.client;
+
+import com.th.eventmanagmentsystem.checkin.application.CheckInSnapshotService;
+import com.th.eventmanagmentsystem.checkin.application.CheckInSyncService;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncRequest;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncResponse;
+import com.th.eventmanagmentsystem.checkin.application.gate.CentralCheckInGateway;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Gate und Zentrale in derselben Instanz, etwa für Tests oder eine einzelne Veranstaltung im lokalen Netz.
+ */
+@RequiredArgsConstructor
+public class LocalCentralCheckInGateway implements CentralCheckInGateway {
+
+    private final CheckInSnapshotService snapshotService;
+    private final CheckInSyncService syncService;
+
+    @Override
+    public void downloadSnapshot(String eventUuid, OutputStream target) throws IOException {
+        snapshotService.export(eventUuid, target);
+    }
+
+    @Override
+    public CheckInSyncResponse sync(String eventUuid, CheckInSyncRequest request) {
+        return syncService.sync(eventUuid, request);
+    }
+}
@@ -0,0 +1,176 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.checkin.domain.CheckIn;
+import com.th.eventmanagmentsystem.checkin.domain.CheckInConflict;
+import com.th.eventmanagmentsystem.checkin.domain.CheckInRepository;
+import com.th.eventmanagmentsystem.checkin.domain.RecordedCheckIn;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * {@code check_in} hat einen Unique-Key auf {@code (event_uuid, attendee_uuid)}; die Datenbank ist damit die
+ * letzte Instanz gegen doppelten Einlass. Konflikte landen append-only in {@code check_in_conflict}.
+ * <p>
+ * {@code seq} kommt aus {@code check_in_sequence}: Das UPDATE sperrt die Zeile der Veranstaltung bis zum Commit,
+ * sodass eine höhere Nummer erst sichtbar wird, nachdem alle niedrigeren committet sind.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcCheckInRepository implements CheckInRepository {
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+
+    private static final String SELECT_BY_ATTENDEES_SQL = """
+            SELECT event_uuid, attendee_uuid, gate_id, scanned_at
+            FROM check_in
+            WHERE event_uuid = :eventUuid AND attendee_uuid IN (:attendeeUuids)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO check_in (event_uuid, attendee_uuid, gate_id, scanned_at, received_at, seq)
+            VALUES (:eventUuid, :attendeeUuid, :gateId, :scannedAt, CURRENT_TIMESTAMP, :seq)
+            """;
+
+    private static final String ADVANCE_SEQUENCE_SQL = """
+            UPDATE check_in_sequence SET last_seq = last_seq + :count WHERE event_uuid = :eventUuid
+            """;
+
+    private static final String INSERT_SEQUENCE_SQL = """
+            INSERT INTO check_in_sequence (event_uuid, last_seq) VALUES (:eventUuid, :count)
+            """;
+
+    private static final String INSERT_CONFLICT_SQL = """
+            INSERT INTO check_in_conflict (event_uuid, attendee_uuid, gate_id, scanned_at, first_gate_id, first_scanned_at, detected_at)
+            VALUES (:eventUuid, :attendeeUuid, :gateId, :scannedAt, :firstGateId, :firstScannedAt, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String SELECT_AFTER_SQL = """
+            SELECT seq, attendee_uuid, gate_id, scanned_at
+            FROM check_in
+            WHERE event_uuid = :eventUuid AND seq > :afterSequence AND gate_id <> :excludedGateId
+            ORDER BY seq
+            FETCH FIRST :limit ROWS ONLY
+            """;
+
+    private static final String SELECT_CONFLICTS_SQL = """
+            SELECT event_uuid, attendee_uuid, gate_id, scanned_at, first_gate_id, first_scanned_at
+            FROM check_in_conflict
+            WHERE event_uuid = :eventUuid
+            ORDER BY id
+            """;
+
+    private static final RowMapper<CheckIn> CHECK_IN_ROW_MAPPER = (rs, rowNum) -> new CheckIn(
+            rs.getString("event_uuid"),
+            rs.getString("attendee_uuid"),
+            rs.getString("gate_id"),
+            rs.getTimestamp("scanned_at").toInstant()
+    );
+
+    private static final RowMapper<RecordedCheckIn> RECORDED_ROW_MAPPER = (rs, rowNum) -> new RecordedCheckIn(
+            rs.getLong("seq"),
+            rs.getString("attendee_uuid"),
+            rs.getString("gate_id"),
+            rs.getTimestamp("scanned_at").toInstant()
+    );
+
+    private static final RowMapper<CheckInConflict> CONFLICT_ROW_MAPPER = (rs, rowNum) -> new CheckInConflict(
+            rs.getString("event_uuid"),
+            rs.getString("attendee_uuid"),
+            rs.getString("gate_id"),
+            rs.getTimestamp("scanned_at").toInstant(),
+            rs.getString("first_gate_id"),
+            rs.getTimestamp("first_scanned_at").toInstant()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, CheckIn> findByAttendees(String eventUuid, Collection<String> attendeeUuids) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(attendeeUuids));
+        Map<String, CheckIn> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("eventUuid", eventUuid)
+                    .addValue("attendeeUuids", distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size())));
+            jdbcTemplate.query(SELECT_BY_ATTENDEES_SQL, params, CHECK_IN_ROW_MAPPER)
+                    .forEach(checkIn -> found.put(checkIn.attendeeUuid(), checkIn));
+        }
+        return found;
+    }
+
+    @Override
+    public void insertAll(List<CheckIn> checkIns) {
+        if (checkIns.isEmpty()) {
+            return;
+        }
+        Map<String, List<CheckIn>> byEvent = new TreeMap<>();
+        checkIns.forEach(checkIn -> byEvent.computeIfAbsent(checkIn.eventUuid(), uuid -> new ArrayList<>()).add(checkIn));
+        List<MapSqlParameterSource> batch = new ArrayList<>(checkIns.size());
+        byEvent.forEach((eventUuid, ofEvent) -> {
+            long seq = reserveSequence(eventUuid, ofEvent.size());
+            for (CheckIn checkIn : ofEvent) {
+                batch.add(new MapSqlParameterSource()
+                        .addValue("eventUuid", checkIn.eventUuid())
+                        .addValue("attendeeUuid", checkIn.attendeeUuid())
+                        .addValue("gateId", checkIn.gateId())
+                        .addValue("scannedAt", Timestamp.from(checkIn.scannedAt()))
+                        .addValue("seq", ++seq));
+            }
+        });
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch.toArray(MapSqlParameterSource[]::new));
+    }
+
+    @Override
+    public void insertConflicts(List<CheckInConflict> conflicts) {
+        if (conflicts.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] batch = conflicts.stream()
+                .map(conflict -> new MapSqlParameterSource()
+                        .addValue("eventUuid", conflict.eventUuid())
+                        .addValue("attendeeUuid", conflict.attendeeUuid())
+                        .addValue("gateId", conflict.gateId())
+                        .addValue("scannedAt", Timestamp.from(conflict.scannedAt()))
+                        .addValue("firstGateId", conflict.firstGateId())
+                        .addValue("firstScannedAt", Timestamp.from(conflict.firstScannedAt())))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_CONFLICT_SQL, batch);
+    }
+
+    @Override
+    public List<RecordedCheckIn> findAfter(String eventUuid, long afterSequence, String excludedGateId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("eventUuid", eventUuid)
+                .addValue("afterSequence", afterSequence)
+                .addValue("excludedGateId", excludedGateId)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_AFTER_SQL, params, RECORDED_ROW_MAPPER);
+    }
+
+    /**
+     * @return letzte bereits vergebene Nummer vor diesem Block
+     */
+    private long reserveSequence(String eventUuid, int count) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("eventUuid", eventUuid)
+                .addValue("count", count);
+        // Der erste Check-in einer Veranstaltung legt die Zeile an; ein gleichzeitiger zweiter Versuch scheitert
+        // mit DuplicateKeyException und wird vom CheckInSyncService wiederholt
+        if (jdbcTemplate.update(ADVANCE_SEQUENCE_SQL, params) == 0) {
+            jdbcTemplate.update(INSERT_SEQUENCE_SQL, params);
+        }
+        return jdbcTemplate.queryForObject("SELECT last_seq FROM check_in_sequence WHERE event_uuid = :eventUuid",
+                params, Long.class) - count;
+    }
+
+    @Override
+    public List<CheckInConflict> findConflicts(String eventUuid) {
+        return jdbcTemplate.query(SELECT_CONFLICTS_SQL, new MapSqlParameterSource("eventUuid", eventUuid), CONFLICT_ROW_MAPPER);
+    }
+}
@@ -0,0 +1,40 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.checkin.domain.ValidTicket;
+import com.th.eventmanagmentsystem.checkin.domain.ValidTicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.function.Consumer;
+
+/**
+ * Liest die bestätigten Plätze je Teilnehmer gruppiert aus {@code reservation}; die Zeilen werden gestreamt,
+ * damit der Export großer Veranstaltungen keine Zwischenliste aufbaut.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcValidTicketRepository implements ValidTicketRepository {
+
+    private static final int FETCH_SIZE = 5_000;
+
+    private static final String CONFIRMED_SQL = """
+            SELECT attendee_uuid, SUM(seats) AS seats
+            FROM reservation
+            WHERE event_uuid = ? AND reservation_status = 'CONFIRMED'
+            GROUP BY attendee_uuid
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void forEachConfirmed(String eventUuid, Consumer<ValidTicket> consumer) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(CONFIRMED_SQL);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setString(1, eventUuid);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ValidTicket(rs.getString("attendee_uuid"), rs.getInt("seats"))));
+    }
+}
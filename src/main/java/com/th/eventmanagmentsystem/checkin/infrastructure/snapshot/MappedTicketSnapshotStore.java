@@ -0,0 +1,48 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.snapshot;
+
+import com.th.eventmanagmentsystem.checkin.application.TicketSnapshotWriter;
+import com.th.eventmanagmentsystem.checkin.application.gate.GateTicketStore;
+import com.th.eventmanagmentsystem.checkin.application.gate.GateTickets;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Export und Öffnen von Snapshots im speicherabgebildeten Format von {@link TicketSnapshot}.
+ */
+@Component
+public class MappedTicketSnapshotStore implements TicketSnapshotWriter, GateTicketStore {
+
+    @Override
+    public void write(OutputStream target, UUID eventUuid, Instant createdAt,
+                      long[] msbs, long[] lsbs, int[] seats, int count) throws IOException {
+        Integer[] order = new Integer[count];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> TicketSnapshot.compare(msbs[a], lsbs[a], msbs[b], lsbs[b]));
+
+        long[] sortedMsbs = new long[count];
+        long[] sortedLsbs = new long[count];
+        int[] sortedSeats = new int[count];
+        for (int i = 0; i < count; i++) {
+            sortedMsbs[i] = msbs[order[i]];
+            sortedLsbs[i] = lsbs[order[i]];
+            sortedSeats[i] = seats[order[i]];
+        }
+        TicketSnapshot.write(target, eventUuid, createdAt, sortedMsbs, sortedLsbs, sortedSeats);
+    }
+
+    @Override
+    public Header readHeader(Path ticketsFile) throws IOException {
+        return TicketSnapshot.readHeader(ticketsFile);
+    }
+
+    @Override
+    public GateTickets open(Path ticketsFile, Path stateFile) throws IOException {
+        return TicketSnapshot.open(ticketsFile, stateFile);
+    }
+}
@@ -0,0 +1,350 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.snapshot;
+
+import com.th.eventmanagmentsystem.checkin.application.gate.GateTicketStore.Header;
+import com.th.eventmanagmentsystem.checkin.application.gate.GateTickets;
+import com.th.eventmanagmentsystem.checkin.domain.exception.InvalidSnapshotException;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Gültige Tickets einer Veranstaltung für den Offline-Einlass, als zwei speicherabgebildete Dateien.
+ * <p>
+ * Ticketdatei (vom Server exportiert, unveränderlich, Big Endian):
+ * <pre>
+ * int magic 'EMCK' | int version | long eventMsb | long eventLsb | long createdAtMillis | int count | int reserved
+ * count × (long msb, long lsb)   Attendee-UUIDs, vorzeichenlos aufsteigend sortiert
+ * count × int                    Plätze je Attendee (Version 1: count × byte, vorzeichenlos)
+ * </pre>
+ * Zustandsdatei (lokal je Gate, native Byte-Reihenfolge):
+ * <pre>
+ * long createdAtMillis | int count | int reserved
+ * used-Bitmap | synced-Bitmap    je ceil(count / 64) longs
+ * count × long                   Einlasszeitpunkt in Epoch-Millis, 0 = nicht eingelassen
+ * </pre>
+ * Ein Scan ist eine Binärsuche plus ein Compare-and-Set auf ein Bitmap-Wort; es gibt keine Locks und keine
+ * Allokation. Da die Zustandsdatei gemappt ist, überlebt der Einlassstatus einen Neustart des Scanners.
+ */
+public final class TicketSnapshot implements GateTickets {
+
+    static final int MAGIC = 0x454D434B;
+    static final int VERSION = 2;
+    static final int LEGACY_VERSION = 1;
+    static final int HEADER_BYTES = 40;
+    static final int STATE_HEADER_BYTES = 16;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final UUID eventUuid;
+    private final long createdAtMillis;
+    private final int count;
+    private final int seatBytes;
+    private final ByteBuffer tickets;
+    private final MappedByteBuffer state;
+    private final int usedOffset;
+    private final int syncedOffset;
+    private final int timestampOffset;
+
+    private TicketSnapshot(ByteBuffer tickets, MappedByteBuffer state, UUID eventUuid, long createdAtMillis, int count,
+                           int seatBytes) {
+        this.tickets = tickets;
+        this.seatBytes = seatBytes;
+        this.state = state;
+        this.eventUuid = eventUuid;
+        this.createdAtMillis = createdAtMillis;
+        this.count = count;
+        int bitmapBytes = bitmapBytes(count);
+        this.usedOffset = STATE_HEADER_BYTES;
+        this.syncedOffset = usedOffset + bitmapBytes;
+        this.timestampOffset = syncedOffset + bitmapBytes;
+    }
+
+    /**
+     * Schreibt eine Ticketdatei. Die Arrays müssen nach {@link #compare} aufsteigend sortiert und duplikatfrei sein.
+     *
+     * @throws IllegalArgumentException wenn ein Ticket eine negative Platzzahl hat
+     */
+    public static void write(OutputStream target, UUID eventUuid, Instant createdAt,
+                             long[] msbs, long[] lsbs, int[] seats) throws IOException {
+        int count = msbs.length;
+        for (int i = 0; i < count; i++) {
+            if (seats[i] < 0) {
+                throw new IllegalArgumentException("Ticket of attendee " + new UUID(msbs[i], lsbs[i]) + " has "
+                        + seats[i] + " seats");
+            }
+        }
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(eventUuid.getMostSignificantBits());
+        out.writeLong(eventUuid.getLeastSignificantBits());
+        out.writeLong(createdAt.toEpochMilli());
+        out.writeInt(count);
+        out.writeInt(0);
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && compare(msbs[i - 1], lsbs[i - 1], msbs[i], lsbs[i]) >= 0) {
+                throw new IllegalArgumentException("Tickets must be sorted and unique");
+            }
+            out.writeLong(msbs[i]);
+            out.writeLong(lsbs[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeInt(seats[i]);
+        }
+        out.flush();
+    }
+
+    /**
+     * Mappt Ticket- und Zustandsdatei. Eine Zustandsdatei zu einem anderen Snapshot wird zurückgesetzt.
+     */
+    public static TicketSnapshot open(Path ticketsFile, Path stateFile) throws IOException {
+        ByteBuffer tickets;
+        try (FileChannel channel = FileChannel.open(ticketsFile, StandardOpenOption.READ)) {
+            tickets = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.BIG_ENDIAN);
+        }
+        if (tickets.capacity() < HEADER_BYTES || tickets.getInt(0) != MAGIC || !isSupported(tickets.getInt(4))) {
+            throw new InvalidSnapshotException(ticketsFile + " is not a ticket snapshot");
+        }
+        UUID eventUuid = new UUID(tickets.getLong(8), tickets.getLong(16));
+        long createdAtMillis = tickets.getLong(24);
+        int count = tickets.getInt(32);
+        int seatBytes = tickets.getInt(4) == LEGACY_VERSION ? Byte.BYTES : Integer.BYTES;
+        if (tickets.capacity() != HEADER_BYTES + (16L + seatBytes) * count) {
+            throw new InvalidSnapshotException(ticketsFile + " is truncated");
+        }
+
+        long stateBytes = STATE_HEADER_BYTES + 2L * bitmapBytes(count) + 8L * count;
+        MappedByteBuffer state;
+        try (FileChannel channel = FileChannel.open(stateFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean matches = channel.size() == stateBytes;
+            state = channel.map(FileChannel.MapMode.READ_WRITE, 0, stateBytes);
+            state.order(ByteOrder.nativeOrder());
+            if (!matches || state.getLong(0) != createdAtMillis || state.getInt(8) != count) {
+                for (int i = 0; i < stateBytes; i++) {
+                    state.put(i, (byte) 0);
+                }
+                state.putLong(0, createdAtMillis);
+                state.putInt(8, count);
+                state.force();
+            }
+        }
+        return new TicketSnapshot(tickets, state, eventUuid, createdAtMillis, count, seatBytes);
+    }
+
+    /**
+     * Liest nur den Kopf einer Ticketdatei, etwa um sie vor dem Mappen einer Veranstaltung zuzuordnen.
+     */
+    public static Header readHeader(Path ticketsFile) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+        try (FileChannel channel = FileChannel.open(ticketsFile, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // bis der Kopf vollständig gelesen ist
+            }
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC || !isSupported(header.getInt(4))) {
+            throw new InvalidSnapshotException(ticketsFile + " is not a ticket snapshot");
+        }
+        return new Header(new UUID(header.getLong(8), header.getLong(16)), header.getLong(24), header.getInt(32));
+    }
+
+    /**
+     * Vorzeichenloser 128-Bit-Vergleich; entspricht der lexikografischen Ordnung der UUID-Strings.
+     */
+    public static int compare(long msbA, long lsbA, long msbB, long lsbB) {
+        int byMsb = Long.compareUnsigned(msbA, msbB);
+        return byMsb != 0 ? byMsb : Long.compareUnsigned(lsbA, lsbB);
+    }
+
+    /**
+     * @return Index des Tickets oder {@code -1}
+     */
+    @Override
+    public int indexOf(UUID attendeeUuid) {
+        long msb = attendeeUuid.getMostSignificantBits();
+        long lsb = attendeeUuid.getLeastSignificantBits();
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int offset = HEADER_BYTES + 16 * mid;
+            int cmp = compare(tickets.getLong(offset), tickets.getLong(offset + 8), msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Setzt das Einlass-Bit atomar. Scannen zwei Geräte-Threads dasselbe Ticket, gewinnt genau einer.
+     *
+     * @return {@code false}, wenn das Ticket bereits eingelöst war
+     */
+    @Override
+    public boolean markUsed(int index, long atMillis) {
+        if (!setBit(usedOffset, index)) {
+            return false;
+        }
+        LONGS.setRelease(state, timestampOffset + 8 * index, atMillis);
+        return true;
+    }
+
+    @Override
+    public void markSynced(int index) {
+        setBit(syncedOffset, index);
+    }
+
+    @Override
+    public boolean isUsed(int index) {
+        return isSet(usedOffset, index);
+    }
+
+    @Override
+    public boolean isSynced(int index) {
+        return isSet(syncedOffset, index);
+    }
+
+    /**
+     * @return Einlasszeitpunkt in Epoch-Millis oder 0
+     */
+    @Override
+    public long usedAt(int index) {
+        return (long) LONGS.getAcquire(state, timestampOffset + 8 * index);
+    }
+
+    /**
+     * Liefert bis zu {@code max} eingelöste, noch nicht synchronisierte Tickets. Wortweise, damit bei
+     * wenigen Einlässen nicht jedes Ticket einzeln geprüft wird.
+     */
+    @Override
+    public int forEachUnsynced(int max, IntConsumer consumer) {
+        int found = 0;
+        int words = bitmapBytes(count) / 8;
+        for (int word = 0; word < words && found < max; word++) {
+            long pending = (long) LONGS.getAcquire(state, usedOffset + 8 * word)
+                    & ~(long) LONGS.getAcquire(state, syncedOffset + 8 * word);
+            while (pending != 0 && found < max) {
+                int index = word * 64 + Long.numberOfTrailingZeros(pending);
+                pending &= pending - 1;
+                // Zeitstempel wird nach dem Bit geschrieben; fehlt er noch, kommt das Ticket im nächsten Lauf
+                if (usedAt(index) != 0) {
+                    consumer.accept(index);
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void forEachUsed(IntConsumer consumer) {
+        int words = bitmapBytes(count) / 8;
+        for (int word = 0; word < words; word++) {
+            long used = (long) LONGS.getAcquire(state, usedOffset + 8 * word);
+            while (used != 0) {
+                consumer.accept(word * 64 + Long.numberOfTrailingZeros(used));
+                used &= used - 1;
+            }
+        }
+    }
+
+    @Override
+    public int pendingSyncCount() {
+        int pending = 0;
+        int words = bitmapBytes(count) / 8;
+        for (int word = 0; word < words; word++) {
+            pending += Long.bitCount((long) LONGS.getAcquire(state, usedOffset + 8 * word)
+                    & ~(long) LONGS.getAcquire(state, syncedOffset + 8 * word));
+        }
+        return pending;
+    }
+
+    @Override
+    public int usedCount() {
+        int used = 0;
+        int words = bitmapBytes(count) / 8;
+        for (int word = 0; word < words; word++) {
+            used += Long.bitCount((long) LONGS.getAcquire(state, usedOffset + 8 * word));
+        }
+        return used;
+    }
+
+    @Override
+    public UUID attendeeAt(int index) {
+        int offset = HEADER_BYTES + 16 * index;
+        return new UUID(tickets.getLong(offset), tickets.getLong(offset + 8));
+    }
+
+    @Override
+    public int seatsAt(int index) {
+        int offset = HEADER_BYTES + 16 * count + seatBytes * index;
+        return seatBytes == Byte.BYTES ? Byte.toUnsignedInt(tickets.get(offset)) : tickets.getInt(offset);
+    }
+
+    @Override
+    public UUID eventUuid() {
+        return eventUuid;
+    }
+
+    @Override
+    public long createdAtMillis() {
+        return createdAtMillis;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Schreibt den Zustand auf die Platte. Ohne Aufruf übernimmt das der Page Cache des Betriebssystems.
+     */
+    @Override
+    public void force() {
+        state.force();
+    }
+
+    private boolean setBit(int regionOffset, int index) {
+        int offset = regionOffset + 8 * (index >>> 6);
+        long mask = 1L << (index & 63);
+        long current;
+        do {
+            current = (long) LONGS.getVolatile(state, offset);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!LONGS.compareAndSet(state, offset, current, current | mask));
+        return true;
+    }
+
+    private boolean isSet(int regionOffset, int index) {
+        long word = (long) LONGS.getAcquire(state, regionOffset + 8 * (index >>> 6));
+        return (word & (1L << (index & 63))) != 0;
+    }
+
+    // Von Version 1 exportierte Dateien liegen noch auf den Gates und bleiben lesbar
+    private static boolean isSupported(int version) {
+        return version == VERSION || version == LEGACY_VERSION;
+    }
+
+    private static int bitmapBytes(int count) {
+        return ((count + 63) >>> 6) * 8;
+    }
+}
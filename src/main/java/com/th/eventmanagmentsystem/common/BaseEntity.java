@@ -7,8 +7,6 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedBy;
-import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.io.Serial;
@@ -32,16 +30,6 @@ public abstract class BaseEntity implements Serializable {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
-    @LastModifiedDate
-    @Column(name = "updated_at")
-    private Instant updatedAt;
-
-    @LastModifiedBy
-    @NotBlank
-    @Size(max = 50)
-    @Column(name = "modified_by", nullable = false, length = 50)
-    private String modifiedBy;
-
     @CreatedBy
     @NotBlank
     @Size(max = 50)
@@ -64,8 +52,14 @@ public abstract class BaseEntity implements Serializable {
         this.isActive = false;
     }
 
+    // Änderungen werden nicht mehr in der Zeile selbst nachgehalten (updated_at/modified_by),
+    // sondern append-only im Audit-Log (siehe com.th.eventmanagmentsystem.audit).
     @PrePersist
     protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = Instant.now();
+        }
+
         if (this.createdBy == null || this.createdBy.isEmpty()) {
             this.createdBy = "system";
         }
@@ -75,28 +69,9 @@ public abstract class BaseEntity implements Serializable {
         }
     }
 
-    @PreUpdate
-    protected void onUpdate() {
-        if (this.modifiedBy == null || this.modifiedBy.isEmpty()) {
-            this.modifiedBy = "system";
-        }
-    }
-
     protected BaseEntity() {
     }
 
-    public void setUpdatedAt(Instant updatedAt) {
-        if (updatedAt == null) {
-            updatedAt = Instant.now();
-        }
-        this.updatedAt = updatedAt;
-    }
-
-
-    public void setModifiedBy(@NotBlank @Size(max = 50) String modifiedBy) {
-        this.modifiedBy = modifiedBy;
-    }
-
     public void setActive(@NotNull Boolean active) {
         isActive = active;
     }
@@ -109,14 +84,6 @@ public abstract class BaseEntity implements Serializable {
         return createdAt;
     }
 
-    public Instant getUpdatedAt() {
-        return updatedAt;
-    }
-
-    public @NotBlank @Size(max = 50) String getModifiedBy() {
-        return modifiedBy;
-    }
-
     public @NotBlank @Size(max = 50) String getCreatedBy() {
         return createdBy;
     }
@@ -150,8 +117,6 @@ public abstract class BaseEntity implements Serializable {
         return "BasicEntity{" +
                 "id=" + id +
                 ", createdAt=" + createdAt +
-                ", updatedAt=" + updatedAt +
-                ", modifiedBy='" + modifiedBy + '\'' +
                 ", createdBy='" + createdBy + '\'' +
                 ", isActive=" + isActive +
                 ", uuid='" + uuid + '\'' +
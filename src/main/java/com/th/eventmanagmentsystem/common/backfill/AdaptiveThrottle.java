@@ -0,0 +1,50 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import java.time.Duration;
+
+/**
+ * AIMD-Regelung für Chunkgröße und Pause zwischen Chunks.
+ * <p>
+ * Liegt die beobachtete Chunk-Latenz deutlich unter dem Ziel, wächst der Chunk additiv
+ * und die Pause schrumpft; liegt sie darüber (Datenbank unter Last, Lock-Wartezeiten),
+ * wird der Chunk halbiert und die Pause verdoppelt.
+ */
+final class AdaptiveThrottle {
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetNanos;
+    private final long minPauseNanos;
+    private final long maxPauseNanos;
+
+    private int chunkSize;
+    private long pauseNanos;
+
+    AdaptiveThrottle(BackfillProperties properties) {
+        this.minChunkSize = properties.minChunkSize();
+        this.maxChunkSize = properties.maxChunkSize();
+        this.targetNanos = properties.targetChunkLatency().toNanos();
+        this.minPauseNanos = properties.minPause().toNanos();
+        this.maxPauseNanos = properties.maxPause().toNanos();
+        this.chunkSize = Math.clamp(properties.initialChunkSize(), minChunkSize, maxChunkSize);
+        this.pauseNanos = minPauseNanos;
+    }
+
+    void observe(long chunkLatencyNanos) {
+        if (chunkLatencyNanos > targetNanos) {
+            chunkSize = Math.max(minChunkSize, chunkSize / 2);
+            pauseNanos = Math.min(maxPauseNanos, Math.max(pauseNanos * 2, minPauseNanos));
+        } else if (chunkLatencyNanos < targetNanos * 3 / 4) {
+            chunkSize = Math.min(maxChunkSize, chunkSize + Math.max(minChunkSize, chunkSize / 4));
+            pauseNanos = Math.max(minPauseNanos, pauseNanos / 2);
+        }
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    Duration pause() {
+        return Duration.ofNanos(pauseNanos);
+    }
+}
@@ -0,0 +1,54 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Deklaration einer Datenmigration, die online neben dem laufenden Betrieb ausgeführt wird.
+ * <p>
+ * Schema-Änderungen (DDL) kommen weiterhin über Liquibase; eine {@code Backfill}-Bean
+ * verschiebt nur Daten. Der {@link BackfillRunner} ruft {@link #migrateChunk} für
+ * aufeinanderfolgende Schlüsselbereiche auf, jeweils in einer eigenen Transaktion.
+ * Implementierungen müssen idempotent sein, da ein Chunk nach einem Absturz erneut laufen kann.
+ */
+public interface Backfill {
+
+    /**
+     * Eindeutiger, stabiler Name; dient als Schlüssel für den Checkpoint.
+     */
+    String name();
+
+    String table();
+
+    /**
+     * Monoton steigende numerische Spalte für die Keyset-Iteration.
+     */
+    default String keyColumn() {
+        return "id";
+    }
+
+    /**
+     * Datenbanken mit {@link #table()}; standardmäßig nur die Primärdatenbank. Mehrere Quellen (z.B. Shards)
+     * brauchen disjunkte Schlüssel. Nur Schreibzugriffe auf die Primärdatenbank committen zusammen mit dem
+     * Checkpoint; Änderungen in anderen Quellen werden nach einem Absturz wiederholt.
+     */
+    default List<JdbcTemplate> sources(JdbcTemplate primary) {
+        return List.of(primary);
+    }
+
+    /**
+     * SQL-Prädikat für Zeilen, die noch migriert werden müssen, z.B. {@code "geohash IS NULL"}.
+     * Wird nur für Schätzungen im Dry-Run verwendet; {@code null} heißt "alle Zeilen".
+     */
+    default String pendingPredicate() {
+        return null;
+    }
+
+    /**
+     * Migriert alle Zeilen mit {@code fromExclusive < key <= toInclusive} in der Quelle {@code jdbcTemplate}.
+     *
+     * @return Anzahl tatsächlich geänderter Zeilen
+     */
+    int migrateChunk(JdbcTemplate jdbcTemplate, long fromExclusive, long toInclusive);
+}
@@ -0,0 +1,14 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import java.time.Instant;
+
+public record BackfillCheckpoint(
+        String name,
+        BackfillStatus status,
+        long lastKey,
+        long rowsMigrated,
+        String message,
+        Instant startedAt,
+        Instant updatedAt
+) {
+}
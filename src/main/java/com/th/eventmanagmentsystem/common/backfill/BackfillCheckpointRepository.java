@@ -0,0 +1,78 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fortschritt je Backfill in {@code backfill_checkpoint}. {@link #advance} läuft in derselben
+ * Transaktion wie der migrierte Chunk, damit Checkpoint und Daten nie auseinanderlaufen.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BackfillCheckpointRepository {
+
+    private static final String COLUMNS = "name, status, last_key, rows_migrated, message, started_at, updated_at";
+
+    private static final RowMapper<BackfillCheckpoint> ROW_MAPPER = (rs, rowNum) -> new BackfillCheckpoint(
+            rs.getString("name"),
+            BackfillStatus.valueOf(rs.getString("status")),
+            rs.getLong("last_key"),
+            rs.getLong("rows_migrated"),
+            rs.getString("message"),
+            rs.getTimestamp("started_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<BackfillCheckpoint> find(String name) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM backfill_checkpoint WHERE name = ?", ROW_MAPPER, name)
+                .stream()
+                .findFirst();
+    }
+
+    public List<BackfillCheckpoint> findAll() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM backfill_checkpoint ORDER BY name", ROW_MAPPER);
+    }
+
+    public List<BackfillCheckpoint> findByStatus(BackfillStatus status) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM backfill_checkpoint WHERE status = ?",
+                ROW_MAPPER, status.name());
+    }
+
+    /**
+     * Legt den Checkpoint an oder setzt einen bestehenden wieder auf RUNNING, ohne den Fortschritt zu verlieren.
+     */
+    public BackfillCheckpoint markRunning(String name) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE backfill_checkpoint SET status = ?, message = NULL, updated_at = ? WHERE name = ?",
+                BackfillStatus.RUNNING.name(), now, name);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO backfill_checkpoint (" + COLUMNS + ") VALUES (?, ?, 0, 0, NULL, ?, ?)",
+                    name, BackfillStatus.RUNNING.name(), now, now);
+        }
+        return find(name).orElseThrow();
+    }
+
+    public void advance(String name, long lastKey, long rowsMigrated) {
+        jdbcTemplate.update("""
+                        UPDATE backfill_checkpoint
+                        SET last_key = ?, rows_migrated = rows_migrated + ?, updated_at = ?
+                        WHERE name = ? AND last_key < ?
+                        """,
+                lastKey, rowsMigrated, Timestamp.from(Instant.now()), name, lastKey);
+    }
+
+    public void updateStatus(String name, BackfillStatus status, String message) {
+        jdbcTemplate.update("UPDATE backfill_checkpoint SET status = ?, message = ?, updated_at = ? WHERE name = ?",
+                status.name(), message, Timestamp.from(Instant.now()), name);
+    }
+}
@@ -0,0 +1,40 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/backfills")
+@RequiredArgsConstructor
+public class BackfillController {
+
+    private final BackfillService backfillService;
+
+    @GetMapping
+    public ResponseEntity<List<BackfillCheckpoint>> checkpoints() {
+        return ResponseEntity.ok(backfillService.checkpoints());
+    }
+
+    @GetMapping("/{name}/estimate")
+    public ResponseEntity<BackfillEstimate> estimate(@PathVariable String name) {
+        return ResponseEntity.ok(backfillService.estimate(name));
+    }
+
+    @PostMapping("/{name}/start")
+    public ResponseEntity<Void> start(@PathVariable String name) {
+        if (!backfillService.start(name)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/{name}/stop")
+    public ResponseEntity<Void> stop(@PathVariable String name) {
+        backfillService.stop(name);
+        return ResponseEntity.accepted().build();
+    }
+}
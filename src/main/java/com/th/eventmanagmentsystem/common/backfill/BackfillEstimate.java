@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import java.time.Duration;
+
+/**
+ * Ergebnis eines Dry-Runs: was ein Start ab dem aktuellen Checkpoint ungefähr bedeuten würde.
+ */
+public record BackfillEstimate(
+        String name,
+        long lastKey,
+        long rowsInRemainingRange,
+        long rowsPending,
+        long estimatedChunks,
+        Duration estimatedDuration
+) {
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class BackfillNotFoundException extends RuntimeException {
+
+    public BackfillNotFoundException(String name) {
+        super("Unknown backfill: " + name);
+    }
+}
@@ -0,0 +1,18 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "eventmanagement.backfill")
+public record BackfillProperties(
+        @DefaultValue("1000") int initialChunkSize,
+        @DefaultValue("50") int minChunkSize,
+        @DefaultValue("20000") int maxChunkSize,
+        @DefaultValue("250ms") Duration targetChunkLatency,
+        @DefaultValue("20ms") Duration minPause,
+        @DefaultValue("5s") Duration maxPause,
+        @DefaultValue("true") boolean resumeOnStartup
+) {
+}
@@ -0,0 +1,153 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Führt einen {@link Backfill} in Keyset-geordneten Chunks aus: ein Commit pro Chunk,
+ * Checkpoint im selben Commit, adaptive Drosselung zwischen den Chunks.
+ */
+@Component
+@Slf4j
+public class BackfillRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final BackfillProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public BackfillRunner(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          BackfillCheckpointRepository checkpointRepository,
+                          BackfillProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Läuft bis alle Schlüssel verarbeitet sind oder {@code stopRequested} greift.
+     * Setzt nach einem Absturz automatisch hinter dem letzten committeten Chunk fort.
+     */
+    public BackfillStatus run(Backfill backfill, BooleanSupplier stopRequested) {
+        BackfillCheckpoint checkpoint = checkpointRepository.markRunning(backfill.name());
+        long lastKey = checkpoint.lastKey();
+        AdaptiveThrottle throttle = new AdaptiveThrottle(properties);
+        Timer chunkTimer = Timer.builder("backfill.chunk.latency").tag("backfill", backfill.name()).register(meterRegistry);
+        Counter rowsCounter = Counter.builder("backfill.rows.migrated").tag("backfill", backfill.name()).register(meterRegistry);
+
+        log.info("Backfill {} starting after key {}", backfill.name(), lastKey);
+        try {
+            while (!stopRequested.getAsBoolean()) {
+                Long upperKey = nextUpperKey(backfill, lastKey, throttle.chunkSize());
+                if (upperKey == null) {
+                    checkpointRepository.updateStatus(backfill.name(), BackfillStatus.COMPLETED, null);
+                    log.info("Backfill {} completed", backfill.name());
+                    return BackfillStatus.COMPLETED;
+                }
+
+                long fromKey = lastKey;
+                long started = System.nanoTime();
+                Integer rows = transactionTemplate.execute(status -> {
+                    int migrated = 0;
+                    for (JdbcTemplate source : backfill.sources(jdbcTemplate)) {
+                        migrated += backfill.migrateChunk(source, fromKey, upperKey);
+                    }
+                    checkpointRepository.advance(backfill.name(), upperKey, migrated);
+                    return migrated;
+                });
+                long latency = System.nanoTime() - started;
+
+                chunkTimer.record(latency, TimeUnit.NANOSECONDS);
+                rowsCounter.increment(rows == null ? 0 : rows);
+                throttle.observe(latency);
+                lastKey = upperKey;
+
+                sleep(throttle.pause());
+            }
+            checkpointRepository.updateStatus(backfill.name(), BackfillStatus.PAUSED, null);
+            log.info("Backfill {} paused at key {}", backfill.name(), lastKey);
+            return BackfillStatus.PAUSED;
+        } catch (RuntimeException e) {
+            log.error("Backfill {} failed after key {}", backfill.name(), lastKey, e);
+            checkpointRepository.updateStatus(backfill.name(), BackfillStatus.FAILED, abbreviate(e.getMessage()));
+            return BackfillStatus.FAILED;
+        }
+    }
+
+    /**
+     * Dry-Run: zählt nur, ändert nichts.
+     */
+    public BackfillEstimate estimate(Backfill backfill) {
+        long lastKey = checkpointRepository.find(backfill.name())
+                .map(BackfillCheckpoint::lastKey)
+                .orElse(0L);
+
+        String rangeFilter = " WHERE " + backfill.keyColumn() + " > ?";
+        long rows = 0;
+        long pending = 0;
+        for (JdbcTemplate source : backfill.sources(jdbcTemplate)) {
+            Long inRange = source.queryForObject(
+                    "SELECT COUNT(*) FROM " + backfill.table() + rangeFilter, Long.class, lastKey);
+            Long pendingInRange = backfill.pendingPredicate() == null
+                    ? inRange
+                    : source.queryForObject("SELECT COUNT(*) FROM " + backfill.table() + rangeFilter
+                    + " AND (" + backfill.pendingPredicate() + ")", Long.class, lastKey);
+            rows += inRange == null ? 0 : inRange;
+            pending += pendingInRange == null ? 0 : pendingInRange;
+        }
+
+        long chunks = (rows + properties.initialChunkSize() - 1) / properties.initialChunkSize();
+        Duration perChunk = properties.targetChunkLatency().plus(properties.minPause());
+        return new BackfillEstimate(backfill.name(), lastKey, rows, pending,
+                chunks, perChunk.multipliedBy(chunks));
+    }
+
+    /**
+     * Bei mehreren Quellen gilt die kleinste Obergrenze, damit keine Quelle einen Schlüssel überspringt.
+     */
+    private Long nextUpperKey(Backfill backfill, long afterKey, int chunkSize) {
+        String key = backfill.keyColumn();
+        Long upperKey = null;
+        for (JdbcTemplate source : backfill.sources(jdbcTemplate)) {
+            Long candidate = source.queryForObject(
+                    "SELECT MAX(" + key + ") FROM (SELECT " + key + " FROM " + backfill.table()
+                            + " WHERE " + key + " > ? ORDER BY " + key + " LIMIT ?) chunk",
+                    Long.class, afterKey, chunkSize);
+            if (candidate != null && (upperKey == null || candidate < upperKey)) {
+                upperKey = candidate;
+            }
+        }
+        return upperKey;
+    }
+
+    private static void sleep(Duration pause) {
+        try {
+            Thread.sleep(pause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Backfill interrupted", e);
+        }
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
@@ -0,0 +1,99 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Startet, stoppt und schätzt registrierte {@link Backfill}s. Jeder Backfill läuft in einem
+ * eigenen Hintergrund-Thread; nach einem Neustart werden unterbrochene Läufe (RUNNING) fortgesetzt.
+ */
+@Service
+@Slf4j
+public class BackfillService {
+
+    private final Map<String, Backfill> backfills;
+    private final BackfillRunner runner;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final BackfillProperties properties;
+    private final Map<String, AtomicBoolean> stopFlags = new ConcurrentHashMap<>();
+
+    public BackfillService(List<Backfill> backfills,
+                           BackfillRunner runner,
+                           BackfillCheckpointRepository checkpointRepository,
+                           BackfillProperties properties) {
+        this.backfills = backfills.stream().collect(Collectors.toMap(Backfill::name, Function.identity()));
+        this.runner = runner;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * @return {@code false}, wenn der Backfill bereits läuft
+     */
+    public boolean start(String name) {
+        Backfill backfill = require(name);
+        AtomicBoolean stopFlag = new AtomicBoolean();
+        if (stopFlags.putIfAbsent(name, stopFlag) != null) {
+            return false;
+        }
+        Thread.ofPlatform()
+                .name("backfill-" + name)
+                .daemon(true)
+                .start(() -> {
+                    try {
+                        runner.run(backfill, stopFlag::get);
+                    } finally {
+                        stopFlags.remove(name, stopFlag);
+                    }
+                });
+        return true;
+    }
+
+    public void stop(String name) {
+        require(name);
+        AtomicBoolean stopFlag = stopFlags.get(name);
+        if (stopFlag != null) {
+            stopFlag.set(true);
+        }
+    }
+
+    public BackfillEstimate estimate(String name) {
+        return runner.estimate(require(name));
+    }
+
+    public List<BackfillCheckpoint> checkpoints() {
+        return checkpointRepository.findAll();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        if (!properties.resumeOnStartup()) {
+            return;
+        }
+        for (BackfillCheckpoint checkpoint : checkpointRepository.findByStatus(BackfillStatus.RUNNING)) {
+            if (backfills.containsKey(checkpoint.name())) {
+                log.info("Resuming interrupted backfill {} after key {}", checkpoint.name(), checkpoint.lastKey());
+                start(checkpoint.name());
+            } else {
+                log.warn("Checkpoint for unknown backfill {} is still RUNNING", checkpoint.name());
+            }
+        }
+    }
+
+    private Backfill require(String name) {
+        Backfill backfill = backfills.get(name);
+        if (backfill == null) {
+            throw new BackfillNotFoundException(name);
+        }
+        return backfill;
+    }
+}
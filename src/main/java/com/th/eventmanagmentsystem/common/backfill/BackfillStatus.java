@@ -0,0 +1,8 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+public enum BackfillStatus {
+    RUNNING,
+    PAUSED,
+    COMPLETED,
+    FAILED
+}
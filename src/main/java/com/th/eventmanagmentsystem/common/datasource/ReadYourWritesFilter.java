@@ -0,0 +1,55 @@
+package com.th.eventmanagmentsystem.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Ordnet den Request einem Client zu: über den konfigurierten Header, sonst über den angemeldeten Benutzer.
+ * Anonyme Requests ohne Header bekommen keine Read-your-writes-Garantie und lesen gegebenenfalls veraltete
+ * Daten von einer Replica. Die Remote-Adresse taugt nicht als Client, weil hinter einem NAT oder Proxy alle
+ * Nutzer dieselbe teilen und ein einziger Schreibzugriff sie alle auf den Primary legen würde.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesGuard guard;
+    private final String clientIdHeader;
+
+    public ReadYourWritesFilter(ReadYourWritesGuard guard, String clientIdHeader) {
+        this.guard = guard;
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientId = request.getHeader(clientIdHeader);
+        if (clientId != null && !clientId.isBlank()) {
+            guard.bind(clientId);
+        } else {
+            // Der Filter läuft vor Spring Security; der Benutzer steht erst beim Datenbankzugriff fest
+            guard.bind(ReadYourWritesFilter::authenticatedUser);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            guard.clear();
+        }
+    }
+
+    private static String authenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return "user:" + authentication.getName();
+    }
+}
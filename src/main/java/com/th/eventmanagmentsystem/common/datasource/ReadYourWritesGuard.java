@@ -0,0 +1,73 @@
+package com.th.eventmanagmentsystem.common.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Merkt sich je Client den Zeitpunkt seines letzten Schreibzugriffs. Innerhalb des Fensters
+ * lesen seine Requests vom Primary, damit er seine eigenen Änderungen trotz Replikationsverzögerung sieht.
+ * <p>
+ * Der Zustand ist lokal pro Instanz; Clients, die zwischen Instanzen wechseln, sollten
+ * sticky geroutet werden oder eine eigene Client-ID mitsenden. Requests ohne Client (siehe
+ * {@link ReadYourWritesFilter}) werden nie auf den Primary gelegt.
+ */
+public class ReadYourWritesGuard {
+
+    private static final ThreadLocal<Supplier<String>> CURRENT_CLIENT = new ThreadLocal<>();
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Instant> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public void bind(String clientId) {
+        bind(() -> clientId);
+    }
+
+    /**
+     * Bindet einen erst beim Zugriff aufgelösten Client, etwa den später angemeldeten Benutzer.
+     * {@code null} aus dem Supplier heißt: kein Client.
+     */
+    public void bind(Supplier<String> clientId) {
+        CURRENT_CLIENT.set(clientId);
+    }
+
+    public void clear() {
+        CURRENT_CLIENT.remove();
+    }
+
+    public void markWrite() {
+        String clientId = currentClient();
+        if (clientId == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        pinnedUntil.put(clientId, now.plus(window));
+        if (pinnedUntil.size() > CLEANUP_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until.isBefore(now));
+        }
+    }
+
+    public boolean requiresPrimary() {
+        String clientId = currentClient();
+        if (clientId == null) {
+            return false;
+        }
+        Instant until = pinnedUntil.get(clientId);
+        return until != null && clock.instant().isBefore(until);
+    }
+
+    private static String currentClient() {
+        Supplier<String> clientId = CURRENT_CLIENT.get();
+        return clientId == null ? null : clientId.get();
+    }
+}
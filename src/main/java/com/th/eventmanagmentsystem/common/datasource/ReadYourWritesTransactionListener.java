@@ -0,0 +1,23 @@
+package com.th.eventmanagmentsystem.common.datasource;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Markiert den aktuellen Client nach jeder erfolgreich committeten Schreib-Transaktion.
+ */
+public class ReadYourWritesTransactionListener implements TransactionExecutionListener {
+
+    private final ReadYourWritesGuard guard;
+
+    public ReadYourWritesTransactionListener(ReadYourWritesGuard guard) {
+        this.guard = guard;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            guard.markWrite();
+        }
+    }
+}
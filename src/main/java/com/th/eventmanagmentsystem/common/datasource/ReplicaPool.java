@@ -0,0 +1,181 @@
+package com.th.eventmanagmentsystem.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Datasource für read-only Transaktionen: verteilt Verbindungen reihum auf gesunde Replicas.
+ * <p>
+ * Replicas, die keine Verbindung liefern, die Validierung nicht bestehen oder zu weit hinter dem
+ * Primary liegen, werden bis zum nächsten erfolgreichen Health-Check ausgeklammert. Ist keine
+ * Replica verfügbar oder hat der aktuelle Client gerade geschrieben ({@link ReadYourWritesGuard}),
+ * wird vom Primary gelesen.
+ */
+@Slf4j
+public class ReplicaPool extends AbstractDataSource implements AutoCloseable {
+
+    private static final String ROUTING_METRIC = "datasource.routing.connections";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWritesGuard guard;
+    private final ReplicaRoutingProperties properties;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter readYourWritesCounter;
+    private final Counter noHealthyReplicaCounter;
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(DataSource primary, Map<String, DataSource> replicas, ReadYourWritesGuard guard,
+                       ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.guard = guard;
+        this.properties = properties;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource, Counter.builder(ROUTING_METRIC)
+                    .tag("target", name)
+                    .tag("reason", "replica")
+                    .register(meterRegistry));
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            this.replicas.add(replica);
+        });
+        this.readYourWritesCounter = Counter.builder(ROUTING_METRIC)
+                .tag("target", "primary")
+                .tag("reason", "read-your-writes")
+                .register(meterRegistry);
+        this.noHealthyReplicaCounter = Counter.builder(ROUTING_METRIC)
+                .tag("target", "primary")
+                .tag("reason", "no-healthy-replica")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health-check").daemon(true).factory());
+        long interval = properties.healthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (guard.requiresPrimary()) {
+            readYourWritesCounter.increment();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.routed.increment();
+                return connection;
+            } catch (SQLException e) {
+                eject(replica, e.getMessage());
+            }
+        }
+        noHealthyReplicaCounter.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    void checkHealth() {
+        int timeoutSeconds = (int) Math.max(1, properties.healthCheckTimeout().toSeconds());
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(timeoutSeconds)) {
+                    eject(replica, "connection validation failed");
+                    continue;
+                }
+                if (properties.lagQuery() != null && !properties.lagQuery().isBlank()) {
+                    replica.lagSeconds = queryLag(connection, timeoutSeconds);
+                    if (replica.lagSeconds > properties.maxReplicationLag().toSeconds()) {
+                        eject(replica, "replication lag " + replica.lagSeconds + "s");
+                        continue;
+                    }
+                }
+                if (!replica.healthy) {
+                    log.info("Replica {} is healthy again", replica.name);
+                    replica.healthy = true;
+                }
+            } catch (SQLException | RuntimeException e) {
+                eject(replica, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Closing replica {} failed", replica.name, e);
+                }
+            }
+        }
+    }
+
+    private double queryLag(Connection connection, int timeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(properties.lagQuery())) {
+                return resultSet.next() ? resultSet.getDouble(1) : 0;
+            }
+        }
+    }
+
+    private void eject(Replica replica, String reason) {
+        if (replica.healthy) {
+            log.warn("Ejecting replica {}: {}", replica.name, reason);
+            replica.healthy = false;
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter routed;
+        private volatile boolean healthy = true;
+        private volatile double lagSeconds;
+
+        private Replica(String name, DataSource dataSource, Counter routed) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routed = routed;
+        }
+    }
+}
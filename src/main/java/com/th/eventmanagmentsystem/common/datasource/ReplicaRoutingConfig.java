@@ -0,0 +1,89 @@
+package com.th.eventmanagmentsystem.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Leitet {@code @Transactional(readOnly = true)} auf Read-Replicas um
+ * ({@code eventmanagement.datasource.routing.enabled=true}).
+ * <p>
+ * Der {@link LazyConnectionDataSourceProxy} holt die physische Verbindung erst beim ersten Statement;
+ * zu diesem Zeitpunkt ist das Read-only-Flag der Transaktion gesetzt und er wählt zwischen Primary
+ * und {@link ReplicaPool}. Schreibende Transaktionen und Zugriffe ohne Transaktion bleiben auf dem Primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eventmanagement.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(ReplicaRoutingProperties properties) {
+        return new ReadYourWritesGuard(properties.readYourWritesWindow(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ReadYourWritesTransactionListener readYourWritesTransactionListener(ReadYourWritesGuard guard) {
+        return new ReadYourWritesTransactionListener(guard);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWritesGuard guard,
+                                                                            ReplicaRoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(guard, properties.clientIdHeader()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(HikariDataSource primaryDataSource, ReplicaRoutingProperties properties,
+                                   ReadYourWritesGuard guard, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaRoutingProperties.ReplicaProperties replica : properties.replicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(replica.name());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username());
+            dataSource.setPassword(replica.password());
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.name(), dataSource);
+        }
+        ReplicaPool pool = new ReplicaPool(primaryDataSource, replicas, guard, properties, meterRegistry);
+        pool.start();
+        return pool;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaPool);
+        return proxy;
+    }
+}
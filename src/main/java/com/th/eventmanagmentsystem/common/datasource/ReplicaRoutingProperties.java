@@ -0,0 +1,32 @@
+package com.th.eventmanagmentsystem.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param lagQuery liefert die Replikationsverzögerung in Sekunden; leer = keine Lag-Prüfung
+ */
+@ConfigurationProperties(prefix = "eventmanagement.datasource.routing")
+public record ReplicaRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<ReplicaProperties> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("2s") Duration healthCheckTimeout,
+        String lagQuery,
+        @DefaultValue("10s") Duration maxReplicationLag,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("X-Client-Id") String clientIdHeader
+) {
+
+    public record ReplicaProperties(
+            String name,
+            String url,
+            @DefaultValue("sa") String username,
+            @DefaultValue("") String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
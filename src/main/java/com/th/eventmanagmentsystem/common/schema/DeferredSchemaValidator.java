@@ -0,0 +1,113 @@
+package com.th.eventmanagmentsystem.common.schema;
+
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ersetzt im Profil {@code startup} die Liquibase-Migration beim Start. Migriert wird im Deploy-Job; jede
+ * Instanz prüft erst nach dem Start im Hintergrund, ob Checksummen und Changelog zum Primary und zu allen
+ * {@link SchemaTargets} passen.
+ * Bis dahin meldet der Health-Check {@code UNKNOWN}, bei offenen Changesets oder Fehlern {@code DOWN}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eventmanagement.schema.deferred-validation", name = "enabled", havingValue = "true")
+@Slf4j
+public class DeferredSchemaValidator implements HealthIndicator {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final DataSource dataSource;
+    private final ObjectProvider<SchemaTargets> schemaTargets;
+    private final String changeLog;
+
+    private volatile Health health = Health.unknown().withDetail("state", "pending").build();
+
+    public DeferredSchemaValidator(DataSource dataSource, ObjectProvider<SchemaTargets> schemaTargets,
+                                   @Value("${spring.liquibase.change-log:classpath:/db/changelog/db.changelog-master.yaml}")
+                                   String changeLog) {
+        this.dataSource = dataSource;
+        this.schemaTargets = schemaTargets;
+        this.changeLog = changeLog.startsWith(CLASSPATH_PREFIX)
+                ? changeLog.substring(CLASSPATH_PREFIX.length()).replaceFirst("^/", "")
+                : changeLog;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void validateInBackground() {
+        Thread.ofPlatform()
+                .name("schema-validation")
+                .daemon(true)
+                .start(this::validate);
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    void validate() {
+        Map<String, DataSource> targets = new LinkedHashMap<>();
+        targets.put("primary", dataSource);
+        schemaTargets.orderedStream().forEach(additional -> targets.putAll(additional.schemaTargets()));
+
+        Map<String, List<String>> pendingByTarget = new LinkedHashMap<>();
+        for (Map.Entry<String, DataSource> target : targets.entrySet()) {
+            try {
+                List<String> pending = pendingChangeSets(target.getValue());
+                if (!pending.isEmpty()) {
+                    pendingByTarget.put(target.getKey(), pending);
+                }
+            } catch (Exception e) {
+                health = Health.down(e).withDetail("database", target.getKey()).build();
+                log.error("Validating the schema of {} against {} failed", target.getKey(), changeLog, e);
+                return;
+            }
+        }
+        if (pendingByTarget.isEmpty()) {
+            health = Health.up().withDetail("changeLog", changeLog).withDetail("databases", targets.keySet()).build();
+            log.info("Database schema of {} matches {}", targets.keySet(), changeLog);
+        } else {
+            health = Health.down().withDetail("pendingChangeSets", pendingByTarget).build();
+            log.error("Database schema is missing change sets {}; run the migration job", pendingByTarget);
+        }
+    }
+
+    private List<String> pendingChangeSets(DataSource target) throws Exception {
+        Connection connection = target.getConnection();
+        Database database;
+        try {
+            database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+        } catch (Exception e) {
+            // Ohne Database schließt niemand sonst die Verbindung
+            connection.close();
+            throw e;
+        }
+        try (Liquibase liquibase = new Liquibase(changeLog, new ClassLoaderResourceAccessor(), database)) {
+            liquibase.validate();
+            return liquibase.listUnrunChangeSets(new Contexts(), new LabelExpression()).stream()
+                    .map(ChangeSet::getId)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.common.schema;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Datenbanken neben dem Primary, die mit demselben Changelog migriert werden, etwa die User-Shards.
+ * Der {@link DeferredSchemaValidator} prüft sie mit.
+ */
+public interface SchemaTargets {
+
+    /**
+     * @return Datasources nach einem im Health-Check angezeigten Namen
+     */
+    Map<String, DataSource> schemaTargets();
+}
@@ -0,0 +1,13 @@
+package com.th.eventmanagmentsystem.common.startup;
+
+import java.lang.annotation.*;
+
+/**
+ * Nimmt eine Bean von {@code spring.main.lazy-initialization} aus, etwa weil sie auf dem Pfad der ersten
+ * Requests liegt und deren Latenz sonst den Aufbau des ganzen Abhängigkeitsgraphen enthält.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EagerInit {
+}
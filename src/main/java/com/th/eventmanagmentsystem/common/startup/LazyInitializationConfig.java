@@ -0,0 +1,36 @@
+package com.th.eventmanagmentsystem.common.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Greift nur bei {@code spring.main.lazy-initialization=true} (Profil {@code startup}). Eager bleiben
+ * {@link EagerInit}-Beans und Kafka-Listener, deren Container nur für bereits erzeugte Beans angelegt werden.
+ * Lifecycle-Beans und Event-Listener brauchen keine Ausnahme, Spring erzeugt sie bei Bedarf selbst.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerInitExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (AnnotatedElementUtils.hasAnnotation(beanType, EagerInit.class) || hasKafkaListener(beanType));
+    }
+
+    private static boolean hasKafkaListener(Class<?> beanType) {
+        if (AnnotatedElementUtils.hasAnnotation(beanType, KafkaListener.class)) {
+            return true;
+        }
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType,
+                method -> found.set(true),
+                method -> !found.get() && AnnotatedElementUtils.hasAnnotation(method, KafkaListener.class));
+        return found.get();
+    }
+}
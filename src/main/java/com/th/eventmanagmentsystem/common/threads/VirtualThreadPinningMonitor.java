@@ -0,0 +1,110 @@
+package com.th.eventmanagmentsystem.common.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Meldet virtuelle Threads, die blockieren, während sie an ihren Carrier gebunden sind (JFR-Event
+ * {@code jdk.VirtualThreadPinned}), typischerweise JDBC-I/O innerhalb von {@code synchronized}. Jede Stelle
+ * wird einmal mit Stacktrace geloggt und im Timer {@code jvm.threads.virtual.pinned} (Tag {@code site}) gezählt.
+ * <p>
+ * Ohne laufende Anwendung liefert {@code -Djdk.tracePinnedThreads=short} dieselbe Information auf stdout.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eventmanagement.virtual-threads.pinning-monitor", name = "enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.th.eventmanagmentsystem.";
+    private static final List<String> PLATFORM_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final VirtualThreadPinningProperties properties;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, VirtualThreadPinningProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT_NAME).withThreshold(properties.threshold()).withStackTrace();
+        recording.onEvent(EVENT_NAME, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Reporting virtual threads pinned for longer than {}", properties.threshold());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.<RecordedFrame>of();
+        String site = site(frames);
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads blocked while pinned to their carrier")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n\t{}", event.getDuration().toMillis(), site,
+                    frames.stream()
+                            .limit(properties.loggedFrames())
+                            .map(VirtualThreadPinningMonitor::describe)
+                            .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    /**
+     * Erste Stelle im eigenen Code, sonst der erste Frame außerhalb des JDK (z. B. im JDBC-Treiber).
+     */
+    static String site(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> typeName(frame).startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream()
+                        .filter(frame -> PLATFORM_PACKAGES.stream().noneMatch(typeName(frame)::startsWith))
+                        .findFirst())
+                .map(frame -> typeName(frame) + "." + frame.getMethod().getName())
+                .orElse("unknown");
+    }
+
+    private static String typeName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return typeName(frame) + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,13 @@
+package com.th.eventmanagmentsystem.common.threads;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "eventmanagement.virtual-threads.pinning-monitor")
+public record VirtualThreadPinningProperties(
+        @DefaultValue("20ms") Duration threshold,
+        @DefaultValue("12") int loggedFrames
+) {
+}
@@ -0,0 +1,129 @@
+package com.th.eventmanagmentsystem.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Hält je Format (JSON, CBOR, Smile) einen {@link ObjectMapper} sowie vorab aufgelöste
+ * {@link ObjectWriter}/{@link ObjectReader} für die registrierten DTO-Typen.
+ * <p>
+ * Die Writer/Reader selbst nutzen nur Aufrufer, die sie explizit holen, z.B. {@link #streamCollection}.
+ * Die Spring-Message-Converter bekommen lediglich denselben Mapper; sie profitieren also nur davon, dass
+ * dessen Serializer-Cache beim Start bereits gefüllt wurde, und lösen den Writer je Request weiterhin selbst auf.
+ */
+public class DtoCodecs {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+    public static final List<MediaType> SUPPORTED_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private static final int FLUSH_EVERY = 256;
+    private static final Comparator<MediaType> BY_QUALITY_AND_SPECIFICITY =
+            Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                    .thenComparing(MediaType::isWildcardType)
+                    .thenComparing(MediaType::isWildcardSubtype);
+
+    private final Map<MediaType, ObjectMapper> mappers;
+    private final Map<MediaType, Map<Class<?>, ObjectWriter>> writers = new HashMap<>();
+    private final Map<MediaType, Map<Class<?>, ObjectReader>> readers = new HashMap<>();
+
+    public DtoCodecs(ObjectMapper jsonMapper, ObjectMapper cborMapper, ObjectMapper smileMapper,
+                     Collection<Class<?>> dtoTypes) {
+        this.mappers = Map.of(
+                MediaType.APPLICATION_JSON, jsonMapper,
+                MediaType.APPLICATION_CBOR, cborMapper,
+                APPLICATION_SMILE, smileMapper
+        );
+        mappers.forEach((mediaType, mapper) -> {
+            Map<Class<?>, ObjectWriter> typeWriters = new HashMap<>();
+            Map<Class<?>, ObjectReader> typeReaders = new HashMap<>();
+            for (Class<?> type : dtoTypes) {
+                // forType() löst den Root-Serializer sofort auf und legt ihn im Mapper-Cache ab.
+                typeWriters.put(type, mapper.writerFor(type));
+                typeReaders.put(type, mapper.readerFor(type));
+            }
+            writers.put(mediaType, Map.copyOf(typeWriters));
+            readers.put(mediaType, Map.copyOf(typeReaders));
+        });
+    }
+
+    public ObjectMapper mapper(MediaType mediaType) {
+        return mappers.get(supported(mediaType));
+    }
+
+    public ObjectWriter writer(MediaType mediaType, Class<?> type) {
+        ObjectWriter writer = writers.get(supported(mediaType)).get(type);
+        return writer != null ? writer : mapper(mediaType).writerFor(type);
+    }
+
+    public ObjectReader reader(MediaType mediaType, Class<?> type) {
+        ObjectReader reader = readers.get(supported(mediaType)).get(type);
+        return reader != null ? reader : mapper(mediaType).readerFor(type);
+    }
+
+    /**
+     * Wählt das erste unterstützte Format aus dem Accept-Header (nach Qualität, dann Spezifität), sonst JSON.
+     */
+    public MediaType negotiate(List<MediaType> acceptedMediaTypes) {
+        List<MediaType> sorted = new ArrayList<>(acceptedMediaTypes);
+        sorted.sort(BY_QUALITY_AND_SPECIFICITY);
+        for (MediaType accepted : sorted) {
+            for (MediaType candidate : SUPPORTED_MEDIA_TYPES) {
+                if (accepted.isCompatibleWith(candidate) && !accepted.isWildcardType()) {
+                    return candidate;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Schreibt eine Collection als ein einziges Array-Dokument, Element für Element.
+     * Bei CBOR ist das ein Array unbestimmter Länge, d.h. die Anzahl muss vorab nicht bekannt sein
+     * und es wird nie die komplette Liste im Speicher gehalten.
+     *
+     * @param source ruft den übergebenen Consumer für jedes Element auf
+     */
+    public <T> StreamingResponseBody streamCollection(MediaType mediaType, Class<T> type,
+                                                      Consumer<Consumer<T>> source) {
+        ObjectMapper mapper = mapper(mediaType);
+        ObjectWriter writer = writer(mediaType, type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return outputStream -> {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                int[] written = {0};
+                source.accept(element -> {
+                    try {
+                        writer.writeValue(generator, element);
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    private static MediaType supported(MediaType mediaType) {
+        for (MediaType candidate : SUPPORTED_MEDIA_TYPES) {
+            if (candidate.isCompatibleWith(mediaType)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported media type: " + mediaType);
+    }
+}
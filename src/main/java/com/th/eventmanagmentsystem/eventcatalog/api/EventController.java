@@ -0,0 +1,58 @@
+package com.th.eventmanagmentsystem.eventcatalog.api;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.EventCatalogService;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.CreateEventRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.EventResponse;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.UpdateEventRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    private final EventCatalogService eventCatalogService;
+
+    @PostMapping
+    public ResponseEntity<EventResponse> create(@Valid @RequestBody CreateEventRequest request) {
+        EventResponse response = eventCatalogService.create(request);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{uuid}")
+                .buildAndExpand(response.uuid())
+                .toUri();
+
+        return ResponseEntity.created(location).body(response);
+    }
+
+    @PutMapping("/{uuid}")
+    public ResponseEntity<EventResponse> update(@PathVariable String uuid,
+                                                @Valid @RequestBody UpdateEventRequest request) {
+        return ResponseEntity.ok(eventCatalogService.update(uuid, request));
+    }
+
+    @PostMapping("/{uuid}/publish")
+    public ResponseEntity<EventResponse> publish(@PathVariable String uuid) {
+        return ResponseEntity.ok(eventCatalogService.publish(uuid));
+    }
+
+    @GetMapping("/{uuid}")
+    public ResponseEntity<EventResponse> get(@PathVariable String uuid) {
+        return ResponseEntity.ok(eventCatalogService.get(uuid));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EventResponse>> listPublished(@PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(eventCatalogService.listPublished(pageable));
+    }
+}
@@ -0,0 +1,49 @@
+package com.th.eventmanagmentsystem.eventcatalog.api;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationResponse;
+import com.th.eventmanagmentsystem.eventcatalog.application.reservation.ReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    @PostMapping("/events/{eventUuid}/reservations")
+    public ResponseEntity<ReservationResponse> reserve(@PathVariable String eventUuid,
+                                                       @Valid @RequestBody ReservationRequest request) {
+        ReservationResponse response = reservationService.reserve(eventUuid, request);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/api/reservations/{uuid}")
+                .buildAndExpand(response.uuid())
+                .toUri();
+
+        return ResponseEntity.created(location).body(response);
+    }
+
+    @GetMapping("/reservations/{uuid}")
+    public ResponseEntity<ReservationResponse> get(@PathVariable String uuid) {
+        return ResponseEntity.ok(reservationService.get(uuid));
+    }
+
+    @PostMapping("/reservations/{uuid}/confirm")
+    public ResponseEntity<ReservationResponse> confirm(@PathVariable String uuid) {
+        return ResponseEntity.ok(reservationService.confirm(uuid));
+    }
+
+    @DeleteMapping("/reservations/{uuid}")
+    public ResponseEntity<ReservationResponse> cancel(@PathVariable String uuid) {
+        return ResponseEntity.ok(reservationService.cancel(uuid));
+    }
+}
@@ -0,0 +1,104 @@
+package com.th.eventmanagmentsystem.eventcatalog.application;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.CreateEventRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.EventResponse;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.UpdateEventRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.mapper.EventMapper;
+import com.th.eventmanagmentsystem.eventcatalog.application.reservation.InventoryReconciler;
+import com.th.eventmanagmentsystem.eventcatalog.application.reservation.ReservationEngine;
+import com.th.eventmanagmentsystem.eventcatalog.domain.Event;
+import com.th.eventmanagmentsystem.eventcatalog.domain.EventRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.EventStatus;
+import com.th.eventmanagmentsystem.eventcatalog.domain.event.EventChangedEvent;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.EventNotFoundException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.NotAnOrganizerException;
+import com.th.eventmanagmentsystem.usermanagement.domain.OrganizerProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class EventCatalogService {
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final ReservationEngine reservationEngine;
+    private final InventoryReconciler inventoryReconciler;
+    private final EventMapper eventMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public EventResponse create(CreateEventRequest request) {
+        userRepository.findByUuid(request.organizerUuid())
+                .filter(user -> user.getProfile() instanceof OrganizerProfile)
+                .orElseThrow(() -> new NotAnOrganizerException(request.organizerUuid()));
+
+        Event event = eventRepository.save(new Event(request.organizerUuid(), request.title(),
+                request.description(), request.venue(), request.startsAt(), request.capacity()));
+        return toResponse(event);
+    }
+
+    /**
+     * Änderungen an veröffentlichten Veranstaltungen lösen nach dem Commit die Benachrichtigung der Teilnehmer aus.
+     */
+    @Transactional
+    public EventResponse update(String uuid, UpdateEventRequest request) {
+        Event event = find(uuid);
+        List<String> changed = event.update(request.title(), request.description(), request.venue(), request.startsAt());
+        if (!changed.isEmpty()) {
+            eventRepository.save(event);
+            if (event.isPublished()) {
+                eventPublisher.publishEvent(new EventChangedEvent(event.getUuid(), event.getTitle(), changed, Instant.now()));
+            }
+        }
+        return toResponse(event);
+    }
+
+    /**
+     * Veröffentlicht die Veranstaltung; die Reservierungs-Engine öffnet ihr Kontingent erst nach dem Commit.
+     * Die Instanz, die den Lease erhält, vergibt danach alle Plätze; andere Instanzen zeigen keine freien Plätze an.
+     */
+    @Transactional
+    public EventResponse publish(String uuid) {
+        Event event = find(uuid);
+        event.publish();
+        eventRepository.save(event);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inventoryReconciler.claimPublished(event.getUuid(), event.getCapacity());
+            }
+        });
+        return eventMapper.eventToResponse(event, event.getCapacity());
+    }
+
+    @Transactional(readOnly = true)
+    public EventResponse get(String uuid) {
+        return toResponse(find(uuid));
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventResponse> listPublished(Pageable pageable) {
+        return eventRepository.findByStatusOrderByStartsAt(EventStatus.PUBLISHED, pageable).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private Event find(String uuid) {
+        return eventRepository.findByUuid(uuid).orElseThrow(() -> new EventNotFoundException(uuid));
+    }
+
+    private EventResponse toResponse(Event event) {
+        return eventMapper.eventToResponse(event, reservationEngine.availableSeats(event.getUuid()).orElse(null));
+    }
+}
@@ -0,0 +1,31 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @param stripes            Anzahl unabhängiger Platzzähler je Veranstaltung, Ablauf-Queues und Teilpuffer
+ * @param bufferCapacity     Gesamtgröße des Schreibpuffers, gleichmäßig auf die Teilpuffer verteilt
+ * @param holdTtl            wie lange ein unbestätigter Hold Plätze blockiert
+ * @param enqueueTimeout     maximale Wartezeit auf einen Platz im Schreibpuffer, danach wird die Reservierung abgelehnt
+ * @param reconcileInterval  Abstand der Abgleiche zwischen Speicher und Datenbank
+ * @param leaseTtl           Laufzeit des Leases, mit dem eine Instanz das Kontingent einer Veranstaltung vergibt
+ * @param deadLetterFile     Ablage für Änderungen, die auch einzeln nicht geschrieben werden konnten
+ */
+@ConfigurationProperties(prefix = "eventmanagement.reservations")
+public record ReservationProperties(
+        @DefaultValue("16") int stripes,
+        @DefaultValue("10m") Duration holdTtl,
+        @DefaultValue("65536") int bufferCapacity,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("100ms") Duration flushInterval,
+        @DefaultValue("50ms") Duration enqueueTimeout,
+        @DefaultValue("5") int maxWriteAttempts,
+        @DefaultValue("30s") Duration reconcileInterval,
+        @DefaultValue("30s") Duration leaseTtl,
+        @DefaultValue("data/reservations/dead-letters.tsv") Path deadLetterFile
+) {
+}
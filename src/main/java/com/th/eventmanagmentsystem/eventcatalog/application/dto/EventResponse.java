@@ -0,0 +1,21 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.dto;
+
+import com.th.eventmanagmentsystem.eventcatalog.domain.EventStatus;
+
+import java.time.Instant;
+
+/**
+ * @param availableSeats freie Plätze laut Reservierungs-Engine; {@code null}, solange nicht veröffentlicht
+ */
+public record EventResponse(
+        String uuid,
+        String organizerUuid,
+        String title,
+        String description,
+        String venue,
+        Instant startsAt,
+        int capacity,
+        EventStatus status,
+        Instant publishedAt,
+        Integer availableSeats
+) {}
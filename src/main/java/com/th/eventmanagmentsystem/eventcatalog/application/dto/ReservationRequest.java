@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+public record ReservationRequest(
+
+        @NotBlank(message = "Der Teilnehmer muss angegeben werden.")
+        String attendeeUuid,
+
+        @Min(value = 1, message = "Es muss mindestens ein Platz reserviert werden.")
+        @Max(value = 10, message = "Es können höchstens 10 Plätze auf einmal reserviert werden.")
+        int seats
+
+) {}
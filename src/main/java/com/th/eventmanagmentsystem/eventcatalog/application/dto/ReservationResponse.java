@@ -0,0 +1,14 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.dto;
+
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+
+import java.time.Instant;
+
+public record ReservationResponse(
+        String uuid,
+        String eventUuid,
+        String attendeeUuid,
+        int seats,
+        ReservationStatus status,
+        Instant expiresAt
+) {}
@@ -0,0 +1,26 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+public record UpdateEventRequest(
+
+        @NotBlank(message = "Der Titel darf nicht leer sein.")
+        @Size(max = 200, message = "Der Titel darf höchstens 200 Zeichen lang sein.")
+        String title,
+
+        @Size(max = 2000, message = "Die Beschreibung darf höchstens 2000 Zeichen lang sein.")
+        String description,
+
+        @NotBlank(message = "Der Veranstaltungsort darf nicht leer sein.")
+        String venue,
+
+        @NotNull(message = "Der Beginn muss angegeben werden.")
+        @Future(message = "Der Beginn muss in der Zukunft liegen.")
+        Instant startsAt
+
+) {}
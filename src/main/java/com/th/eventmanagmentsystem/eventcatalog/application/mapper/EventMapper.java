@@ -0,0 +1,15 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.mapper;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.EventResponse;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationResponse;
+import com.th.eventmanagmentsystem.eventcatalog.domain.Event;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface EventMapper {
+
+    EventResponse eventToResponse(Event event, Integer availableSeats);
+
+    ReservationResponse reservationToResponse(Reservation reservation);
+}
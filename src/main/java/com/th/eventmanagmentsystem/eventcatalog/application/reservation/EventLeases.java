@@ -0,0 +1,112 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.config.ReservationProperties;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.EventNotOpenForReservationException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.EventLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Welche Veranstaltungen diese Instanz vergeben darf. Ein Lease gilt {@code leaseTtl} und wird vom
+ * {@link InventoryReconciler} nach einem Drittel davon verlängert. Vergeben wird nur bis zur Hälfte der
+ * Laufzeit seit der letzten Verlängerung; die zweite Hälfte bleibt dem {@link ReservationWriter}, um die
+ * gepufferten Änderungen zu schreiben, bevor eine andere Instanz den Lease übernehmen und den Stand laden kann.
+ * <p>
+ * Freigegeben werden die Leases erst nach dem letzten Flush des Writers, damit ein Nachfolger alles vorfindet.
+ */
+@Component
+@Slf4j
+public class EventLeases implements SmartLifecycle {
+
+    private final EventLeaseRepository leaseRepository;
+    private final ReservationProperties properties;
+    private final String ownerId = UUID.randomUUID().toString();
+    private final Map<String, Long> servingDeadlines = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    public EventLeases(EventLeaseRepository leaseRepository, ReservationProperties properties) {
+        this.leaseRepository = leaseRepository;
+        this.properties = properties;
+    }
+
+    public boolean owns(String eventUuid) {
+        Long deadline = servingDeadlines.get(eventUuid);
+        return deadline != null && System.nanoTime() - deadline < 0;
+    }
+
+    public void requireOwned(String eventUuid) {
+        if (!owns(eventUuid)) {
+            throw new EventNotOpenForReservationException(eventUuid);
+        }
+    }
+
+    boolean tryClaim(String eventUuid) {
+        long renewedAt = System.nanoTime();
+        Instant now = Instant.now();
+        if (!leaseRepository.tryAcquire(eventUuid, ownerId, now, now.plus(properties.leaseTtl()))) {
+            return false;
+        }
+        servingDeadlines.put(eventUuid, renewedAt + properties.leaseTtl().toNanos() / 2);
+        return true;
+    }
+
+    /**
+     * @return die Veranstaltungen, deren Lease verloren gegangen ist
+     */
+    Set<String> renew() {
+        long renewedAt = System.nanoTime();
+        Instant now = Instant.now();
+        Set<String> owned = leaseRepository.renew(ownerId, now, now.plus(properties.leaseTtl()));
+        Set<String> lost = new HashSet<>();
+        for (String eventUuid : Set.copyOf(servingDeadlines.keySet())) {
+            if (owned.contains(eventUuid)) {
+                servingDeadlines.put(eventUuid, renewedAt + properties.leaseTtl().toNanos() / 2);
+            } else {
+                servingDeadlines.remove(eventUuid);
+                lost.add(eventUuid);
+            }
+        }
+        return lost;
+    }
+
+    /**
+     * Abstand der Verlängerungen.
+     */
+    long renewIntervalMillis() {
+        return properties.leaseTtl().toMillis() / 3;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        servingDeadlines.clear();
+        try {
+            leaseRepository.releaseAll(ownerId);
+        } catch (RuntimeException e) {
+            log.warn("Could not release event leases of {}, they expire after {}", ownerId, properties.leaseTtl(), e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return ReservationEngine.PHASE - 3;
+    }
+}
@@ -0,0 +1,179 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.config.ReservationProperties;
+import com.th.eventmanagmentsystem.eventcatalog.domain.Event;
+import com.th.eventmanagmentsystem.eventcatalog.domain.EventRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.EventStatus;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Lädt beim Start das Kontingent aller veröffentlichten Veranstaltungen, deren Lease diese Instanz
+ * erhält, aus der Datenbank und vergleicht danach periodisch die bestätigten Plätze im Speicher mit den
+ * persistierten. Zwischen den Abgleichen verlängert er die Leases, gibt verlorene Veranstaltungen ab und
+ * übernimmt solche, deren Besitzer ausgefallen ist.
+ * <p>
+ * Noch gepufferte Bestätigungen zählen als persistiert. Eine Abweichung wird erst korrigiert, wenn sie
+ * in zwei aufeinanderfolgenden Läufen gleich bleibt, da zwischen Platzvergabe und Pufferung kurz eine
+ * scheinbare Differenz entsteht. Die Datenbank gilt dann als maßgeblich.
+ */
+@Component
+@Slf4j
+public class InventoryReconciler implements SmartLifecycle {
+
+    private final ReservationEngine engine;
+    private final EventLeases leases;
+    private final ReservationWriteBuffer writeBuffer;
+    private final ReservationRepository reservationRepository;
+    private final EventRepository eventRepository;
+    private final ReservationProperties properties;
+    private final Map<String, Integer> suspectedDrift = new ConcurrentHashMap<>();
+    private final Counter correctionsCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public InventoryReconciler(ReservationEngine engine, EventLeases leases, ReservationWriteBuffer writeBuffer,
+                               ReservationRepository reservationRepository, EventRepository eventRepository,
+                               ReservationProperties properties, MeterRegistry meterRegistry) {
+        this.engine = engine;
+        this.leases = leases;
+        this.writeBuffer = writeBuffer;
+        this.reservationRepository = reservationRepository;
+        this.eventRepository = eventRepository;
+        this.properties = properties;
+        this.correctionsCounter = Counter.builder("reservation.reconcile.corrections")
+                .description("Events whose in-memory inventory was corrected to the persisted state")
+                .register(meterRegistry);
+    }
+
+    synchronized void recover() {
+        int expired = reservationRepository.expireHeldBefore(Instant.now());
+        List<Event> claimed = eventRepository.findByStatus(EventStatus.PUBLISHED).stream()
+                .filter(event -> leases.tryClaim(event.getUuid()))
+                .toList();
+        load(claimed);
+        log.info("Loaded inventory of {} published events ({} stale holds expired)", claimed.size(), expired);
+    }
+
+    /**
+     * Öffnet eine frisch veröffentlichte Veranstaltung, sofern keine andere Instanz sie bereits übernommen hat.
+     */
+    public synchronized void claimPublished(String eventUuid, int capacity) {
+        if (leases.tryClaim(eventUuid)) {
+            engine.open(eventUuid, capacity, 0);
+        }
+    }
+
+    synchronized void maintainLeases() {
+        for (String lost : leases.renew()) {
+            log.warn("Lost the reservation lease of event {}, handing it over", lost);
+            engine.close(lost);
+            suspectedDrift.remove(lost);
+        }
+        List<Event> orphaned = eventRepository.findByStatus(EventStatus.PUBLISHED).stream()
+                .filter(event -> !engine.isOpen(event.getUuid()))
+                .filter(event -> leases.tryClaim(event.getUuid()))
+                .toList();
+        if (!orphaned.isEmpty()) {
+            load(orphaned);
+            log.info("Took over the inventory of {} events", orphaned.size());
+        }
+    }
+
+    private void load(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> confirmed = reservationRepository.sumSeatsByEvent(ReservationStatus.CONFIRMED);
+        Map<String, List<Reservation>> held = reservationRepository.findByStatus(ReservationStatus.HELD).stream()
+                .collect(Collectors.groupingBy(Reservation::eventUuid));
+        for (Event event : events) {
+            List<Reservation> eventHolds = held.getOrDefault(event.getUuid(), List.of());
+            int reserved = confirmed.getOrDefault(event.getUuid(), 0)
+                    + eventHolds.stream().mapToInt(Reservation::seats).sum();
+            engine.open(event.getUuid(), event.getCapacity(), reserved);
+            eventHolds.forEach(engine::restoreHold);
+        }
+    }
+
+    synchronized void reconcile() {
+        reservationRepository.expireHeldBefore(Instant.now().minus(properties.reconcileInterval()));
+        Map<String, Integer> persisted = reservationRepository.sumSeatsByEvent(ReservationStatus.CONFIRMED);
+
+        for (String eventUuid : engine.openEvents()) {
+            int expected = persisted.getOrDefault(eventUuid, 0) + writeBuffer.pendingConfirmedSeats(eventUuid);
+            int drift = engine.confirmedSeats(eventUuid) - expected;
+            if (drift == 0) {
+                suspectedDrift.remove(eventUuid);
+                continue;
+            }
+            Integer previous = suspectedDrift.put(eventUuid, drift);
+            if (previous != null && previous == drift) {
+                log.warn("Correcting inventory of event {} by {} seats to match the database", eventUuid, drift);
+                engine.correct(eventUuid, drift);
+                suspectedDrift.remove(eventUuid);
+                correctionsCounter.increment();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        recover();
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("reservation-reconciler")
+                .daemon(true)
+                .start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return ReservationEngine.PHASE - 1;
+    }
+
+    private void runLoop() {
+        long nextReconcile = System.nanoTime() + properties.reconcileInterval().toNanos();
+        while (running) {
+            try {
+                Thread.sleep(Math.min(leases.renewIntervalMillis(), properties.reconcileInterval().toMillis()));
+                maintainLeases();
+                if (System.nanoTime() - nextReconcile >= 0) {
+                    nextReconcile = System.nanoTime() + properties.reconcileInterval().toNanos();
+                    reconcile();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Reconciling reservation inventory failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.config.ReservationProperties;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Hängt Reservierungsänderungen, die der {@link ReservationWriter} endgültig nicht schreiben konnte, an eine
+ * Datei an. Eine Zeile je Änderung, Felder durch Tabulator getrennt: Operation ({@code INSERT}/{@code UPDATE}),
+ * danach die Spalten von {@code reservation} und zuletzt der Fehler. Die Datei liegt bewusst außerhalb der
+ * Datenbank, damit sie auch bei deren Ausfall geschrieben werden kann; nachgespielt wird sie von Hand.
+ */
+@Component
+@Slf4j
+public class ReservationDeadLetters {
+
+    private final Path file;
+
+    public ReservationDeadLetters(ReservationProperties properties) {
+        this.file = properties.deadLetterFile();
+    }
+
+    synchronized void append(Reservation reservation, boolean insert, Exception cause) {
+        String line = String.join("\t",
+                insert ? "INSERT" : "UPDATE",
+                reservation.uuid(),
+                reservation.eventUuid(),
+                reservation.attendeeUuid(),
+                String.valueOf(reservation.seats()),
+                reservation.status().name(),
+                reservation.expiresAt().toString(),
+                reservation.createdAt().toString(),
+                reservation.updatedAt().toString(),
+                String.valueOf(cause.getMessage()).replaceAll("\\s+", " ")) + "\n";
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)));
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            log.error("Could not dead-letter reservation change, it is lost: {}", line.strip(), e);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.config.ReservationProperties;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.EventNotOpenForReservationException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.ReservationBackpressureException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.SoldOutException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Vergibt Plätze vollständig im Speicher: ein {@link StripedInventory} je veröffentlichter Veranstaltung,
+ * offene Holds mit TTL in einer Map. Persistiert wird asynchron über den {@link ReservationWriteBuffer};
+ * der {@link InventoryReconciler} lädt den Stand beim Start und gleicht ihn laufend mit der Datenbank ab.
+ * <p>
+ * Gezählt wird ohne gemeinsame Hotspots: offene Hold-Plätze je Veranstaltung in einem {@link LongAdder}, Abläufe
+ * in {@code stripes} getrennten Queues, verteilt nach Reservierungs-UUID.
+ * <p>
+ * Die Engine geht davon aus, dass genau eine Instanz das Kontingent einer Veranstaltung verwaltet;
+ * geöffnet werden deshalb nur Veranstaltungen, deren Lease diese Instanz hält (siehe {@link EventLeases}).
+ */
+@Component
+@Slf4j
+public class ReservationEngine implements SmartLifecycle {
+
+    /**
+     * Vor dem Webserver starten und nach ihm stoppen, damit keine Anfrage auf eine ungeladene Engine trifft.
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ReservationWriteBuffer writeBuffer;
+    private final ReservationProperties properties;
+    private final Map<String, StripedInventory> inventories = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> heldSeats = new ConcurrentHashMap<>();
+    private final Map<String, Reservation> holds = new ConcurrentHashMap<>();
+    private final DelayQueue<HoldExpiry>[] expiries;
+    private final Counter reservedCounter;
+    private final Counter soldOutCounter;
+    private final Counter rejectedCounter;
+    private final Counter expiredCounter;
+
+    private volatile boolean running;
+    private Thread sweeper;
+
+    public ReservationEngine(ReservationWriteBuffer writeBuffer, ReservationProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.writeBuffer = writeBuffer;
+        this.properties = properties;
+        this.expiries = stripedExpiries(Math.max(1, properties.stripes()));
+        this.reservedCounter = attempts(meterRegistry, "reserved");
+        this.soldOutCounter = attempts(meterRegistry, "sold_out");
+        this.rejectedCounter = attempts(meterRegistry, "rejected");
+        this.expiredCounter = Counter.builder("reservation.holds.expired").register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DelayQueue<HoldExpiry>[] stripedExpiries(int stripes) {
+        DelayQueue<HoldExpiry>[] queues = new DelayQueue[stripes];
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            queues[stripe] = new DelayQueue<>();
+        }
+        return queues;
+    }
+
+    private static Counter attempts(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("reservation.attempts").tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /**
+     * Nimmt eine Veranstaltung in die Vergabe auf; ist sie schon offen, passiert nichts.
+     */
+    public void open(String eventUuid, int capacity, int reservedSeats) {
+        int available = Math.max(0, capacity - reservedSeats);
+        if (reservedSeats > capacity) {
+            log.warn("Event {} has {} reserved seats but a capacity of {}", eventUuid, reservedSeats, capacity);
+        }
+        inventories.putIfAbsent(eventUuid, new StripedInventory(capacity, available, properties.stripes()));
+    }
+
+    /**
+     * Gibt eine Veranstaltung ab, ohne etwas zu schreiben; ihr Stand wird vom neuen Besitzer aus der Datenbank geladen.
+     */
+    void close(String eventUuid) {
+        inventories.remove(eventUuid);
+        holds.values().removeIf(hold -> hold.eventUuid().equals(eventUuid));
+        heldSeats.remove(eventUuid);
+    }
+
+    public boolean isOpen(String eventUuid) {
+        return inventories.containsKey(eventUuid);
+    }
+
+    public Set<String> openEvents() {
+        return Set.copyOf(inventories.keySet());
+    }
+
+    public Optional<Integer> availableSeats(String eventUuid) {
+        return Optional.ofNullable(inventories.get(eventUuid)).map(StripedInventory::available);
+    }
+
+    public Reservation reserve(String eventUuid, String attendeeUuid, int seats) {
+        StripedInventory inventory = inventories.get(eventUuid);
+        if (inventory == null) {
+            throw new EventNotOpenForReservationException(eventUuid);
+        }
+        if (!inventory.tryAcquire(seats)) {
+            soldOutCounter.increment();
+            throw new SoldOutException(eventUuid);
+        }
+
+        Reservation hold = Reservation.hold(eventUuid, attendeeUuid, seats, Instant.now(), properties.holdTtl());
+        trackHold(hold);
+        if (!writeBuffer.offer(hold)) {
+            untrackHold(hold);
+            inventory.release(seats);
+            rejectedCounter.increment();
+            throw new ReservationBackpressureException(eventUuid);
+        }
+        reservedCounter.increment();
+        return hold;
+    }
+
+    /**
+     * @return die bestätigte Reservierung; leer, wenn kein offener Hold existiert
+     */
+    public Optional<Reservation> confirm(String reservationUuid) {
+        Reservation hold = holds.get(reservationUuid);
+        if (hold == null) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        if (hold.isExpiredAt(now)) {
+            expire(hold);
+            return Optional.empty();
+        }
+        if (!untrackHold(hold)) {
+            return Optional.empty();
+        }
+
+        Reservation confirmed = hold.withStatus(ReservationStatus.CONFIRMED, now);
+        if (!writeBuffer.offer(confirmed)) {
+            // Hold bleibt bestehen, der Client kann die Bestätigung wiederholen.
+            trackHold(hold);
+            rejectedCounter.increment();
+            throw new ReservationBackpressureException(hold.eventUuid());
+        }
+        return Optional.of(confirmed);
+    }
+
+    /**
+     * @return die stornierte Reservierung; leer, wenn kein offener Hold existiert
+     */
+    public Optional<Reservation> cancel(String reservationUuid) {
+        Reservation hold = holds.get(reservationUuid);
+        if (hold == null || !untrackHold(hold)) {
+            return Optional.empty();
+        }
+        releaseSeats(hold);
+        Reservation cancelled = hold.withStatus(ReservationStatus.CANCELLED, Instant.now());
+        if (!writeBuffer.offer(cancelled)) {
+            log.warn("Cancellation of reservation {} not buffered, the reconciler will expire it", hold.uuid());
+        }
+        return Optional.of(cancelled);
+    }
+
+    public Optional<Reservation> findHold(String reservationUuid) {
+        return Optional.ofNullable(holds.get(reservationUuid));
+    }
+
+    /**
+     * Übernimmt einen bereits persistierten Hold beim Start; seine Plätze sind im Kontingent schon abgezogen.
+     */
+    void restoreHold(Reservation hold) {
+        trackHold(hold);
+    }
+
+    /**
+     * Bestätigte Plätze laut Speicher: alles Reservierte außer offenen Holds.
+     */
+    int confirmedSeats(String eventUuid) {
+        LongAdder held = heldSeats.get(eventUuid);
+        return inventories.get(eventUuid).reserved() - (held == null ? 0 : held.intValue());
+    }
+
+    /**
+     * Gleicht eine Abweichung aus: positiv gibt Plätze frei, negativ entzieht sie.
+     */
+    void correct(String eventUuid, int drift) {
+        StripedInventory inventory = inventories.get(eventUuid);
+        if (drift > 0) {
+            inventory.release(drift);
+        } else if (drift < 0 && inventory.drain(-drift) < -drift) {
+            log.error("Event {} is oversold by the in-memory inventory, could not withdraw {} seats", eventUuid, -drift);
+        }
+    }
+
+    void expireDue() {
+        for (DelayQueue<HoldExpiry> stripe : expiries) {
+            HoldExpiry expiry;
+            while ((expiry = stripe.poll()) != null) {
+                expire(expiry.hold());
+            }
+        }
+    }
+
+    private void expire(Reservation hold) {
+        if (!untrackHold(hold)) {
+            return;
+        }
+        releaseSeats(hold);
+        expiredCounter.increment();
+        if (!writeBuffer.offer(hold.withStatus(ReservationStatus.EXPIRED, Instant.now()))) {
+            log.warn("Expiry of reservation {} not buffered, the reconciler will expire it", hold.uuid());
+        }
+    }
+
+    private void trackHold(Reservation hold) {
+        holds.put(hold.uuid(), hold);
+        heldSeats.computeIfAbsent(hold.eventUuid(), key -> new LongAdder()).add(hold.seats());
+        expiries[Math.floorMod(hold.uuid().hashCode(), expiries.length)].add(new HoldExpiry(hold));
+    }
+
+    // Genau einer von Bestätigen, Stornieren und Ablaufen gewinnt das Entfernen.
+    private boolean untrackHold(Reservation hold) {
+        if (!holds.remove(hold.uuid(), hold)) {
+            return false;
+        }
+        LongAdder held = heldSeats.get(hold.eventUuid());
+        if (held != null) {
+            held.add(-hold.seats());
+        }
+        return true;
+    }
+
+    // Nach close() ist das Kontingent bereits abgegeben.
+    private void releaseSeats(Reservation hold) {
+        StripedInventory inventory = inventories.get(hold.eventUuid());
+        if (inventory != null) {
+            inventory.release(hold.seats());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        sweeper = Thread.ofPlatform()
+                .name("reservation-hold-expiry")
+                .daemon(true)
+                .start(this::sweepLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (sweeper != null) {
+            sweeper.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // Die TTL ist für alle Holds gleich; ein neuer Hold läuft also nie vor dem frühesten wartenden ab und der
+    // Sweeper kann bis zu diesem schlafen, ohne von neuen Holds geweckt werden zu müssen.
+    private void sweepLoop() {
+        while (running) {
+            try {
+                expireDue();
+                long sleepMillis = 1_000;
+                for (DelayQueue<HoldExpiry> stripe : expiries) {
+                    HoldExpiry next = stripe.peek();
+                    if (next != null) {
+                        sleepMillis = Math.min(sleepMillis, Math.max(1, next.getDelay(TimeUnit.MILLISECONDS)));
+                    }
+                }
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Expiring a reservation hold failed", e);
+            }
+        }
+    }
+
+    private record HoldExpiry(Reservation hold) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(hold.expiresAt().toEpochMilli() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return hold.expiresAt().compareTo(((HoldExpiry) other).hold.expiresAt());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationResponse;
+import com.th.eventmanagmentsystem.eventcatalog.application.mapper.EventMapper;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.EventNotOpenForReservationException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.NotAnAttendeeException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.ReservationNotFoundException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.ReservationNotHeldException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.AttendeeProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Offene Holds beantwortet die {@link ReservationEngine}; abgeschlossene Reservierungen werden
+ * aus der Datenbank gelesen, womit Bestätigen und Stornieren idempotent sind.
+ * <p>
+ * Hält eine andere Instanz den Lease der Veranstaltung, wird mit {@link EventNotOpenForReservationException}
+ * abgelehnt; der Client wiederholt die Anfrage dann über eine andere Instanz.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationService {
+
+    private final ReservationEngine reservationEngine;
+    private final EventLeases eventLeases;
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final EventMapper eventMapper;
+
+    public ReservationResponse reserve(String eventUuid, ReservationRequest request) {
+        userRepository.findByUuid(request.attendeeUuid())
+                .filter(user -> user.getProfile() instanceof AttendeeProfile)
+                .orElseThrow(() -> new NotAnAttendeeException(request.attendeeUuid()));
+
+        eventLeases.requireOwned(eventUuid);
+        return eventMapper.reservationToResponse(
+                reservationEngine.reserve(eventUuid, request.attendeeUuid(), request.seats()));
+    }
+
+    public ReservationResponse confirm(String uuid) {
+        reservationEngine.findHold(uuid).ifPresent(hold -> eventLeases.requireOwned(hold.eventUuid()));
+        return eventMapper.reservationToResponse(reservationEngine.confirm(uuid)
+                .orElseGet(() -> settled(uuid, ReservationStatus.CONFIRMED)));
+    }
+
+    public ReservationResponse cancel(String uuid) {
+        reservationEngine.findHold(uuid).ifPresent(hold -> eventLeases.requireOwned(hold.eventUuid()));
+        return eventMapper.reservationToResponse(reservationEngine.cancel(uuid)
+                .orElseGet(() -> settled(uuid, ReservationStatus.CANCELLED)));
+    }
+
+    public ReservationResponse get(String uuid) {
+        return eventMapper.reservationToResponse(reservationEngine.findHold(uuid)
+                .or(() -> reservationRepository.findByUuid(uuid))
+                .orElseThrow(() -> new ReservationNotFoundException(uuid)));
+    }
+
+    private Reservation settled(String uuid, ReservationStatus expected) {
+        Reservation persisted = reservationRepository.findByUuid(uuid)
+                .orElseThrow(() -> new ReservationNotFoundException(uuid));
+        if (persisted.status() == ReservationStatus.HELD && !reservationEngine.isOpen(persisted.eventUuid())) {
+            throw new EventNotOpenForReservationException(persisted.eventUuid());
+        }
+        if (persisted.status() != expected) {
+            throw new ReservationNotHeldException(uuid);
+        }
+        return persisted;
+    }
+}
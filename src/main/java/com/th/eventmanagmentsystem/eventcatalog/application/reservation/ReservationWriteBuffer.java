@@ -0,0 +1,157 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.config.ReservationProperties;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Begrenzter Puffer zwischen der {@link ReservationEngine} und dem {@link ReservationWriter}.
+ * Anders als beim Audit-Log wird nie verworfen: ist der Puffer voll, lehnt die Engine die Reservierung ab.
+ * <p>
+ * Der Puffer besteht aus {@code stripes} Queues, damit sich die Request-Threads nicht um ein Lock streiten.
+ * Alle Änderungen einer Reservierung landen über ihre UUID in derselben Queue und bleiben so in Reihenfolge;
+ * {@code bufferCapacity} wird auf die Queues aufgeteilt.
+ * <p>
+ * Bestätigte, aber noch nicht geschriebene Plätze werden je Veranstaltung mitgezählt, damit der
+ * {@link InventoryReconciler} sie von echten Abweichungen unterscheiden kann.
+ */
+@Component
+public class ReservationWriteBuffer {
+
+    private final ArrayBlockingQueue<Reservation>[] queues;
+    private final long enqueueTimeoutNanos;
+    private final Map<String, LongAdder> pendingConfirmedSeats = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+
+    private volatile Thread waitingConsumer;
+    private int nextQueue;
+
+    @SuppressWarnings("unchecked")
+    public ReservationWriteBuffer(ReservationProperties properties, MeterRegistry meterRegistry) {
+        int stripes = Math.clamp(properties.stripes(), 1, properties.bufferCapacity());
+        this.queues = new ArrayBlockingQueue[stripes];
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            queues[stripe] = new ArrayBlockingQueue<>(Math.ceilDiv(properties.bufferCapacity(), stripes));
+        }
+        this.enqueueTimeoutNanos = properties.enqueueTimeout().toNanos();
+        this.rejectedCounter = Counter.builder("reservation.buffer.rejected")
+                .description("Reservation writes refused because the buffer stayed full")
+                .register(meterRegistry);
+        Gauge.builder("reservation.buffer.size", this, ReservationWriteBuffer::size)
+                .description("Reservation changes waiting to be persisted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code false}, wenn der Puffer auch nach {@code enqueueTimeout} voll war
+     */
+    public boolean offer(Reservation reservation) {
+        boolean confirmed = reservation.status() == ReservationStatus.CONFIRMED;
+        if (confirmed) {
+            pendingConfirmed(reservation.eventUuid()).add(reservation.seats());
+        }
+
+        ArrayBlockingQueue<Reservation> queue = queues[Math.floorMod(reservation.uuid().hashCode(), queues.length)];
+        boolean accepted = queue.offer(reservation);
+        if (!accepted) {
+            try {
+                accepted = queue.offer(reservation, enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!accepted) {
+            if (confirmed) {
+                pendingConfirmed(reservation.eventUuid()).add(-reservation.seats());
+            }
+            rejectedCounter.increment();
+            return false;
+        }
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    public int pendingConfirmedSeats(String eventUuid) {
+        LongAdder pending = pendingConfirmedSeats.get(eventUuid);
+        return pending == null ? 0 : pending.intValue();
+    }
+
+    /**
+     * Nur vom einen Writer-Thread aufgerufen. Leert die Queues reihum, damit keine bei vollem Batch verhungert.
+     */
+    int drainTo(List<Reservation> target, int maxReservations, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (true) {
+            int drained = drainAvailable(target, maxReservations);
+            if (drained > 0) {
+                return drained;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return 0;
+            }
+            waitingConsumer = Thread.currentThread();
+            try {
+                // Erneut prüfen: ein offer() zwischen dem Leeren und dem Setzen hätte niemanden geweckt
+                drained = drainAvailable(target, maxReservations);
+                if (drained > 0) {
+                    return drained;
+                }
+                LockSupport.parkNanos(this, remaining);
+            } finally {
+                waitingConsumer = null;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * Vom Writer nach dem Schreibversuch eines Batches aufgerufen, unabhängig vom Erfolg.
+     */
+    void completed(List<Reservation> batch) {
+        for (Reservation reservation : batch) {
+            if (reservation.status() == ReservationStatus.CONFIRMED) {
+                pendingConfirmed(reservation.eventUuid()).add(-reservation.seats());
+            }
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (ArrayBlockingQueue<Reservation> queue : queues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    private int drainAvailable(List<Reservation> target, int maxReservations) {
+        int drained = 0;
+        for (int i = 0; i < queues.length && drained < maxReservations; i++) {
+            drained += queues[(nextQueue + i) % queues.length].drainTo(target, maxReservations - drained);
+        }
+        nextQueue = (nextQueue + 1) % queues.length;
+        return drained;
+    }
+
+    private LongAdder pendingConfirmed(String eventUuid) {
+        return pendingConfirmedSeats.computeIfAbsent(eventUuid, key -> new LongAdder());
+    }
+}
@@ -0,0 +1,165 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.config.ReservationProperties;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Einziger Konsument des {@link ReservationWriteBuffer}. Fasst je Batch alle Änderungen einer
+ * Reservierung zusammen und schreibt neue Reservierungen und Statuswechsel in einer Transaktion.
+ * <p>
+ * Scheitert ein Batch auch nach {@code maxWriteAttempts}, wird er halbiert, bis die fehlerhaften Änderungen
+ * isoliert sind; nur diese landen in den {@link ReservationDeadLetters}, der Rest wird geschrieben.
+ */
+@Component
+@Slf4j
+public class ReservationWriter implements SmartLifecycle {
+
+    private final ReservationWriteBuffer buffer;
+    private final ReservationRepository reservationRepository;
+    private final ReservationDeadLetters deadLetters;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationProperties properties;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ReservationWriter(ReservationWriteBuffer buffer, ReservationRepository reservationRepository,
+                             ReservationDeadLetters deadLetters, TransactionTemplate transactionTemplate,
+                             ReservationProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.reservationRepository = reservationRepository;
+        this.deadLetters = deadLetters;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.writtenCounter = Counter.builder("reservation.writes").register(meterRegistry);
+        this.failedCounter = Counter.builder("reservation.writes.failed")
+                .description("Reservation changes moved to the dead-letter file; the reconciler corrects the inventory")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("reservation.batch.write").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("reservation-writer")
+                .daemon(true)
+                .start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(properties.flushInterval().multipliedBy(50).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Startet vor und stoppt nach der Engine, damit deren letzte Änderungen noch geschrieben werden.
+    @Override
+    public int getPhase() {
+        return ReservationEngine.PHASE - 2;
+    }
+
+    private void runLoop() {
+        List<Reservation> batch = new ArrayList<>(properties.batchSize());
+        long timeoutNanos = properties.flushInterval().toNanos();
+
+        while (running || buffer.size() > 0) {
+            try {
+                if (buffer.drainTo(batch, properties.batchSize(), timeoutNanos) > 0) {
+                    write(batch);
+                    buffer.completed(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<Reservation> batch) throws InterruptedException {
+        Map<String, Reservation> latest = new LinkedHashMap<>();
+        Set<String> created = new HashSet<>();
+        for (Reservation reservation : batch) {
+            latest.put(reservation.uuid(), reservation);
+            if (reservation.status() == ReservationStatus.HELD) {
+                created.add(reservation.uuid());
+            }
+        }
+        List<PendingWrite> writes = new ArrayList<>(latest.size());
+        latest.forEach((uuid, reservation) -> writes.add(new PendingWrite(reservation, created.contains(uuid))));
+
+        RuntimeException failure = null;
+        for (int attempt = 1; attempt <= properties.maxWriteAttempts(); attempt++) {
+            try {
+                persist(writes);
+                return;
+            } catch (RuntimeException e) {
+                failure = e;
+                log.warn("Writing {} reservation changes failed (attempt {}/{})",
+                        writes.size(), attempt, properties.maxWriteAttempts(), e);
+                Thread.sleep(properties.flushInterval().multipliedBy(attempt).toMillis());
+            }
+        }
+        isolate(writes, failure);
+    }
+
+    private void isolate(List<PendingWrite> writes, RuntimeException failure) {
+        if (writes.size() == 1) {
+            PendingWrite write = writes.getFirst();
+            log.error("Moving reservation change {} ({}) to the dead letters",
+                    write.reservation().uuid(), write.reservation().status(), failure);
+            deadLetters.append(write.reservation(), write.insert(), failure);
+            failedCounter.increment();
+            return;
+        }
+        int middle = writes.size() / 2;
+        for (List<PendingWrite> half : List.of(writes.subList(0, middle), writes.subList(middle, writes.size()))) {
+            try {
+                persist(half);
+            } catch (RuntimeException e) {
+                isolate(half, e);
+            }
+        }
+    }
+
+    private void persist(List<PendingWrite> writes) {
+        List<Reservation> inserts = new ArrayList<>(writes.size());
+        List<Reservation> updates = new ArrayList<>(writes.size());
+        writes.forEach(write -> (write.insert() ? inserts : updates).add(write.reservation()));
+        batchTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            reservationRepository.insertAll(inserts);
+            reservationRepository.updateAll(updates);
+        }));
+        writtenCounter.increment(writes.size());
+    }
+
+    private record PendingWrite(Reservation reservation, boolean insert) {
+    }
+}
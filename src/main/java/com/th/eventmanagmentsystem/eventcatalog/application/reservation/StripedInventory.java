@@ -0,0 +1,119 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Freie Plätze einer Veranstaltung, verteilt auf mehrere Zähler. Jeder Thread beginnt bei "seinem"
+ * Stripe, sodass bei einem populären Drop nicht alle Anfragen um dieselbe Cache-Line konkurrieren.
+ * Ein Zähler wird nur per CAS und nie unter 0 verringert; überbuchen ist damit ausgeschlossen.
+ */
+final class StripedInventory {
+
+    // 16 ints = 64 Byte Abstand, damit benachbarte Stripes nicht in einer Cache-Line liegen
+    private static final int PADDING = 16;
+
+    private final int capacity;
+    private final int stripes;
+    private final AtomicIntegerArray slots;
+
+    StripedInventory(int capacity, int available, int requestedStripes) {
+        this.capacity = capacity;
+        this.stripes = Math.max(1, Math.min(requestedStripes, available));
+        this.slots = new AtomicIntegerArray(stripes * PADDING);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            slots.set(slot(stripe), available / stripes + (stripe < available % stripes ? 1 : 0));
+        }
+    }
+
+    boolean tryAcquire(int seats) {
+        int home = homeStripe();
+        for (int i = 0; i < stripes; i++) {
+            if (tryTake(slot((home + i) % stripes), seats)) {
+                return true;
+            }
+        }
+        return seats > 1 && gather(home, seats);
+    }
+
+    void release(int seats) {
+        slots.addAndGet(slot(homeStripe()), seats);
+    }
+
+    /**
+     * Entnimmt bis zu {@code seats} Plätze, auch wenn nicht alle verfügbar sind.
+     *
+     * @return die tatsächlich entnommene Anzahl
+     */
+    int drain(int seats) {
+        int missing = seats;
+        for (int stripe = 0; stripe < stripes && missing > 0; stripe++) {
+            missing -= takeUpTo(slot(stripe), missing);
+        }
+        return seats - missing;
+    }
+
+    int available() {
+        int available = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            available += slots.get(slot(stripe));
+        }
+        return available;
+    }
+
+    int reserved() {
+        return capacity - available();
+    }
+
+    private boolean tryTake(int slot, int seats) {
+        int current;
+        do {
+            current = slots.get(slot);
+            if (current < seats) {
+                return false;
+            }
+        } while (!slots.compareAndSet(slot, current, current - seats));
+        return true;
+    }
+
+    private int takeUpTo(int slot, int seats) {
+        int current;
+        int taken;
+        do {
+            current = slots.get(slot);
+            taken = Math.min(current, seats);
+            if (taken == 0) {
+                return 0;
+            }
+        } while (!slots.compareAndSet(slot, current, current - taken));
+        return taken;
+    }
+
+    // Kein einzelner Stripe reicht: über alle einsammeln und bei Misserfolg zurücklegen.
+    private boolean gather(int home, int seats) {
+        int[] taken = new int[stripes];
+        int missing = seats;
+        for (int i = 0; i < stripes && missing > 0; i++) {
+            int stripe = (home + i) % stripes;
+            int got = takeUpTo(slot(stripe), missing);
+            taken[stripe] = got;
+            missing -= got;
+        }
+        if (missing == 0) {
+            return true;
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (taken[stripe] > 0) {
+                slots.addAndGet(slot(stripe), taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    private int homeStripe() {
+        return (int) (Thread.currentThread().threadId() % stripes);
+    }
+
+    private static int slot(int stripe) {
+        return stripe * PADDING;
+    }
+}
@@ -0,0 +1,114 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain;
+
+import com.th.eventmanagmentsystem.common.BaseEntity;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.EventAlreadyPublishedException;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Veranstaltung eines Organisators. Der Organisator wird nur über seine User-UUID referenziert,
+ * da Benutzer auf Shards liegen können.
+ */
+@Entity
+@Table(name = "events")
+@NoArgsConstructor
+@Getter
+public class Event extends BaseEntity {
+
+    @NotBlank
+    @Column(name = "organizer_uuid", nullable = false, updatable = false, length = 36)
+    private String organizerUuid;
+
+    @NotBlank
+    @Size(max = 200)
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Size(max = 2000)
+    @Column(name = "description", length = 2000)
+    private String description;
+
+    @NotBlank
+    @Column(name = "venue", nullable = false)
+    private String venue;
+
+    @NotNull
+    @Column(name = "starts_at", nullable = false)
+    private Instant startsAt;
+
+    @Min(1)
+    @Column(name = "capacity", nullable = false)
+    private int capacity;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_status", nullable = false, length = 20)
+    private EventStatus status = EventStatus.DRAFT;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    public Event(String organizerUuid, String title, String description,
+                 String venue, Instant startsAt, int capacity) {
+        this.organizerUuid = Objects.requireNonNull(organizerUuid, "Organizer cannot be null");
+        this.title = Objects.requireNonNull(title, "Title cannot be null");
+        this.description = description;
+        this.venue = Objects.requireNonNull(venue, "Venue cannot be null");
+        this.startsAt = Objects.requireNonNull(startsAt, "Start cannot be null");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Übernimmt die Angaben; die Kapazität kann nach dem Anlegen nicht geändert werden.
+     *
+     * @return die Namen der tatsächlich geänderten Eigenschaften
+     */
+    public List<String> update(String title, String description, String venue, Instant startsAt) {
+        List<String> changed = new ArrayList<>();
+        if (!Objects.equals(this.title, title)) {
+            this.title = Objects.requireNonNull(title, "Title cannot be null");
+            changed.add("title");
+        }
+        if (!Objects.equals(this.description, description)) {
+            this.description = description;
+            changed.add("description");
+        }
+        if (!Objects.equals(this.venue, venue)) {
+            this.venue = Objects.requireNonNull(venue, "Venue cannot be null");
+            changed.add("venue");
+        }
+        if (!Objects.equals(this.startsAt, startsAt)) {
+            this.startsAt = Objects.requireNonNull(startsAt, "Start cannot be null");
+            changed.add("startsAt");
+        }
+        return changed;
+    }
+
+    /**
+     * Gibt die Veranstaltung zur Reservierung frei. Die Kapazität ist danach fest.
+     */
+    public void publish() {
+        if (isPublished()) {
+            throw new EventAlreadyPublishedException(getUuid());
+        }
+        this.status = EventStatus.PUBLISHED;
+        this.publishedAt = Instant.now();
+    }
+
+    public boolean isPublished() {
+        return this.status == EventStatus.PUBLISHED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EventRepository {
+
+    Event save(Event event);
+
+    Optional<Event> findByUuid(String uuid);
+
+    List<Event> findByStatus(EventStatus status);
+
+    List<Event> findByStatusOrderByStartsAt(EventStatus status, Pageable pageable);
+}
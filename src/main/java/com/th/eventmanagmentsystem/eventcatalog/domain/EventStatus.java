@@ -0,0 +1,6 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain;
+
+public enum EventStatus {
+    DRAFT,
+    PUBLISHED
+}
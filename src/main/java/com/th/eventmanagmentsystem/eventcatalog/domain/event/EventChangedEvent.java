@@ -0,0 +1,15 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.event;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Eine veröffentlichte Veranstaltung wurde geändert; Teilnehmer mit Reservierung sollen davon erfahren.
+ */
+public record EventChangedEvent(
+        String eventUuid,
+        String title,
+        List<String> changedProperties,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EventAlreadyPublishedException extends RuntimeException {
+
+    public EventAlreadyPublishedException(String uuid) {
+        super("Event already published: " + uuid);
+    }
+}
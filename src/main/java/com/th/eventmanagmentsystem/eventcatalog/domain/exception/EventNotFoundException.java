@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class EventNotFoundException extends RuntimeException {
+
+    public EventNotFoundException(String uuid) {
+        super("Unknown event: " + uuid);
+    }
+}
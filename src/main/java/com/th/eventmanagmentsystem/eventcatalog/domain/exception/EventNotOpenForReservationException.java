@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EventNotOpenForReservationException extends RuntimeException {
+
+    public EventNotOpenForReservationException(String uuid) {
+        super("Event is not open for reservations: " + uuid);
+    }
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class NotAnOrganizerException extends RuntimeException {
+
+    public NotAnOrganizerException(String userUuid) {
+        super("User is not an organizer: " + userUuid);
+    }
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ReservationBackpressureException extends RuntimeException {
+
+    public ReservationBackpressureException(String eventUuid) {
+        super("Reservations are being persisted too slowly, retry later for event: " + eventUuid);
+    }
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ReservationNotFoundException extends RuntimeException {
+
+    public ReservationNotFoundException(String uuid) {
+        super("Unknown reservation: " + uuid);
+    }
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ReservationNotHeldException extends RuntimeException {
+
+    public ReservationNotHeldException(String uuid) {
+        super("Reservation is no longer held: " + uuid);
+    }
+}
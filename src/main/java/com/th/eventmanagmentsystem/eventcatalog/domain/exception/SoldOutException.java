@@ -0,0 +1,13 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class SoldOutException extends RuntimeException {
+
+    // Bei ausverkauften Drops der Normalfall für fast alle Anfragen, daher ohne Stacktrace.
+    public SoldOutException(String eventUuid) {
+        super("Not enough seats left for event: " + eventUuid, null, false, false);
+    }
+}
@@ -0,0 +1,24 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.reservation;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Leases auf das Kontingent einzelner Veranstaltungen; ein Lease gehört höchstens einer Instanz.
+ */
+public interface EventLeaseRepository {
+
+    /**
+     * Übernimmt den Lease, wenn er frei, abgelaufen oder bereits im Besitz von {@code ownerId} ist.
+     */
+    boolean tryAcquire(String eventUuid, String ownerId, Instant now, Instant expiresAt);
+
+    /**
+     * Verlängert alle noch gültigen Leases von {@code ownerId}.
+     *
+     * @return die Veranstaltungen, deren Lease {@code ownerId} danach hält
+     */
+    Set<String> renew(String ownerId, Instant now, Instant expiresAt);
+
+    void releaseAll(String ownerId);
+}
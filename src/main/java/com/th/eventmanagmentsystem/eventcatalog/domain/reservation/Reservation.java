@@ -0,0 +1,34 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.reservation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Reservierung von {@code seats} Plätzen. Sie beginnt als befristeter Hold und wird bestätigt,
+ * storniert oder läuft nach {@code expiresAt} ab.
+ */
+public record Reservation(
+        String uuid,
+        String eventUuid,
+        String attendeeUuid,
+        int seats,
+        ReservationStatus status,
+        Instant expiresAt,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static Reservation hold(String eventUuid, String attendeeUuid, int seats, Instant now, Duration ttl) {
+        return new Reservation(UUID.randomUUID().toString(), eventUuid, attendeeUuid, seats,
+                ReservationStatus.HELD, now.plus(ttl), now, now);
+    }
+
+    public Reservation withStatus(ReservationStatus status, Instant now) {
+        return new Reservation(uuid, eventUuid, attendeeUuid, seats, status, expiresAt, createdAt, now);
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return status == ReservationStatus.HELD && !now.isBefore(expiresAt);
+    }
+}
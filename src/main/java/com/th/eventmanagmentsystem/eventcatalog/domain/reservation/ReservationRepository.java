@@ -0,0 +1,29 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.reservation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ReservationRepository {
+
+    void insertAll(List<Reservation> reservations);
+
+    /**
+     * Überträgt Status und Zeitstempel; die übrigen Felder ändern sich nach dem Anlegen nicht.
+     */
+    void updateAll(List<Reservation> reservations);
+
+    Optional<Reservation> findByUuid(String uuid);
+
+    List<Reservation> findByStatus(ReservationStatus status);
+
+    Map<String, Integer> sumSeatsByEvent(ReservationStatus status);
+
+    /**
+     * Setzt Holds, die vor {@code cutoff} abgelaufen sind, auf {@link ReservationStatus#EXPIRED}.
+     *
+     * @return Anzahl der geänderten Reservierungen
+     */
+    int expireHeldBefore(Instant cutoff);
+}
@@ -0,0 +1,8 @@
+package com.th.eventmanagmentsystem.eventcatalog.domain.reservation;
+
+public enum ReservationStatus {
+    HELD,
+    CONFIRMED,
+    EXPIRED,
+    CANCELLED
+}
@@ -0,0 +1,63 @@
+package com.th.eventmanagmentsystem.eventcatalog.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.EventLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Jeder Besitzwechsel läuft über ein bedingtes UPDATE, damit zwei Instanzen nie gleichzeitig gewinnen.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcEventLeaseRepository implements EventLeaseRepository {
+
+    private static final String TAKE_OVER_SQL = """
+            UPDATE reservation_event_lease SET owner_id = ?, expires_at = ?
+            WHERE event_uuid = ? AND (owner_id = ? OR expires_at < ?)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reservation_event_lease (event_uuid, owner_id, expires_at) VALUES (?, ?, ?)
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE reservation_event_lease SET expires_at = ?
+            WHERE owner_id = ? AND expires_at >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryAcquire(String eventUuid, String ownerId, Instant now, Instant expiresAt) {
+        Timestamp expiry = Timestamp.from(expiresAt);
+        if (jdbcTemplate.update(TAKE_OVER_SQL, ownerId, expiry, eventUuid, ownerId, Timestamp.from(now)) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, eventUuid, ownerId, expiry) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Set<String> renew(String ownerId, Instant now, Instant expiresAt) {
+        Timestamp validAt = Timestamp.from(now);
+        jdbcTemplate.update(RENEW_SQL, Timestamp.from(expiresAt), ownerId, validAt);
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT event_uuid FROM reservation_event_lease WHERE owner_id = ? AND expires_at >= ?",
+                String.class, ownerId, validAt));
+    }
+
+    @Override
+    public void releaseAll(String ownerId) {
+        jdbcTemplate.update("DELETE FROM reservation_event_lease WHERE owner_id = ?", ownerId);
+    }
+}
@@ -0,0 +1,111 @@
+package com.th.eventmanagmentsystem.eventcatalog.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wird ausschließlich vom {@code ReservationWriter} beschrieben; gelesen wird beim Start,
+ * beim Abgleich und für bereits abgeschlossene Reservierungen.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcReservationRepository implements ReservationRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reservation (uuid, event_uuid, attendee_uuid, seats, reservation_status, expires_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE reservation SET reservation_status = ?, updated_at = ? WHERE uuid = ?
+            """;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT uuid, event_uuid, attendee_uuid, seats, reservation_status, expires_at, created_at, updated_at
+            FROM reservation
+            """;
+
+    private static final String SUM_SEATS_SQL = """
+            SELECT event_uuid, SUM(seats) AS seats
+            FROM reservation
+            WHERE reservation_status = ?
+            GROUP BY event_uuid
+            """;
+
+    private static final String EXPIRE_HELD_SQL = """
+            UPDATE reservation SET reservation_status = 'EXPIRED', updated_at = ?
+            WHERE reservation_status = 'HELD' AND expires_at < ?
+            """;
+
+    private static final RowMapper<Reservation> ROW_MAPPER = (rs, rowNum) -> new Reservation(
+            rs.getString("uuid"),
+            rs.getString("event_uuid"),
+            rs.getString("attendee_uuid"),
+            rs.getInt("seats"),
+            ReservationStatus.valueOf(rs.getString("reservation_status")),
+            rs.getTimestamp("expires_at").toInstant(),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Reservation> reservations) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, reservations, reservations.size(), (ps, reservation) -> {
+            ps.setString(1, reservation.uuid());
+            ps.setString(2, reservation.eventUuid());
+            ps.setString(3, reservation.attendeeUuid());
+            ps.setInt(4, reservation.seats());
+            ps.setString(5, reservation.status().name());
+            ps.setTimestamp(6, Timestamp.from(reservation.expiresAt()));
+            ps.setTimestamp(7, Timestamp.from(reservation.createdAt()));
+            ps.setTimestamp(8, Timestamp.from(reservation.updatedAt()));
+        });
+    }
+
+    @Override
+    public void updateAll(List<Reservation> reservations) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, reservations, reservations.size(), (ps, reservation) -> {
+            ps.setString(1, reservation.status().name());
+            ps.setTimestamp(2, Timestamp.from(reservation.updatedAt()));
+            ps.setString(3, reservation.uuid());
+        });
+    }
+
+    @Override
+    public Optional<Reservation> findByUuid(String uuid) {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE uuid = ?", ROW_MAPPER, uuid).stream().findFirst();
+    }
+
+    @Override
+    public List<Reservation> findByStatus(ReservationStatus status) {
+        return jdbcTemplate.query(SELECT_COLUMNS + " WHERE reservation_status = ?", ROW_MAPPER, status.name());
+    }
+
+    @Override
+    public Map<String, Integer> sumSeatsByEvent(ReservationStatus status) {
+        Map<String, Integer> seats = new HashMap<>();
+        jdbcTemplate.query(SUM_SEATS_SQL, rs -> {
+            seats.put(rs.getString("event_uuid"), rs.getInt("seats"));
+        }, status.name());
+        return seats;
+    }
+
+    @Override
+    public int expireHeldBefore(Instant cutoff) {
+        return jdbcTemplate.update(EXPIRE_HELD_SQL, Timestamp.from(Instant.now()), Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,10 @@
+package com.th.eventmanagmentsystem.eventcatalog.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.eventcatalog.domain.Event;
+import com.th.eventmanagmentsystem.eventcatalog.domain.EventRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaEventPersistenceAdapter extends EventRepository, JpaRepository<Event, Long> {
+}
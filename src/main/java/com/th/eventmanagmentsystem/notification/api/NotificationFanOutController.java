@@ -0,0 +1,39 @@
+package com.th.eventmanagmentsystem.notification.api;
+
+import com.th.eventmanagmentsystem.notification.application.FanOutStatus;
+import com.th.eventmanagmentsystem.notification.application.NotificationFanOutService;
+import com.th.eventmanagmentsystem.notification.application.dto.FanOutRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/notifications/fan-outs")
+@RequiredArgsConstructor
+public class NotificationFanOutController {
+
+    private final NotificationFanOutService fanOutService;
+
+    /**
+     * Startet einen Fan-out und kehrt sofort zurück; der Fortschritt ist über die zurückgegebene ID abrufbar.
+     */
+    @PostMapping
+    public ResponseEntity<FanOutStatus> start(@Valid @RequestBody FanOutRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(fanOutService.start(request.eventUuid(), request.subject(), request.body()));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<FanOutStatus>> list() {
+        return ResponseEntity.ok(fanOutService.list());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<FanOutStatus> get(@PathVariable String id) {
+        return ResponseEntity.ok(fanOutService.get(id));
+    }
+}
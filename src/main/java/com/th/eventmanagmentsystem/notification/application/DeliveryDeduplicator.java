@@ -0,0 +1,41 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Merkt sich die zuletzt übernommenen Zustellungen, damit erneut zugestellte Batches
+ * (Kafka-Redelivery, manueller Neustart) niemanden doppelt benachrichtigen.
+ */
+@Component
+public class DeliveryDeduplicator {
+
+    private final Map<String, Boolean> seen;
+
+    public DeliveryDeduplicator(NotificationProperties properties) {
+        int capacity = properties.dedupCapacity();
+        this.seen = new LinkedHashMap<>(1024, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @return {@code true}, wenn die Zustellung neu ist und übernommen werden darf
+     */
+    synchronized boolean claim(String dedupKey) {
+        return seen.putIfAbsent(dedupKey, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Gibt eine endgültig gescheiterte Zustellung wieder frei, damit ein späterer Versuch sie erneut versenden darf.
+     */
+    synchronized void release(String dedupKey) {
+        seen.remove(dedupKey);
+    }
+}
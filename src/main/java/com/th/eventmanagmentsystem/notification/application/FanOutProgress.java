@@ -0,0 +1,107 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fortschritt eines Fan-outs. Wird vom Streaming-Thread und von beliebig vielen Versand-Threads fortgeschrieben.
+ */
+public final class FanOutProgress {
+
+    private final String id;
+    private final String eventUuid;
+    private final Instant startedAt;
+
+    private final AtomicLong recipients = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+
+    private volatile FanOutState state = FanOutState.QUEUED;
+    private volatile String error;
+    private volatile Instant finishedAt;
+
+    FanOutProgress(String eventUuid) {
+        this.id = UUID.randomUUID().toString();
+        this.eventUuid = eventUuid;
+        this.startedAt = Instant.now();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    synchronized void streamingStarted() {
+        if (state == FanOutState.QUEUED) {
+            state = FanOutState.STREAMING;
+        }
+    }
+
+    void recipientsStreamed(int count) {
+        recipients.addAndGet(count);
+    }
+
+    void batchPublished() {
+        batches.incrementAndGet();
+    }
+
+    void streamingFinished() {
+        if (state == FanOutState.STREAMING) {
+            state = FanOutState.DISPATCHING;
+        }
+        completeIfDone();
+    }
+
+    synchronized void fail(String reason) {
+        if (isActive()) {
+            error = reason;
+            state = FanOutState.FAILED;
+            finishedAt = Instant.now();
+        }
+    }
+
+    void recipientProcessed() {
+        processed.incrementAndGet();
+        completeIfDone();
+    }
+
+    void delivered() {
+        delivered.incrementAndGet();
+    }
+
+    void failed() {
+        failed.incrementAndGet();
+    }
+
+    void duplicate() {
+        duplicates.incrementAndGet();
+    }
+
+    public boolean isActive() {
+        return state == FanOutState.QUEUED || state == FanOutState.STREAMING || state == FanOutState.DISPATCHING;
+    }
+
+    private void completeIfDone() {
+        if (state == FanOutState.DISPATCHING && processed.get() >= recipients.get()) {
+            synchronized (this) {
+                if (state == FanOutState.DISPATCHING) {
+                    state = FanOutState.COMPLETED;
+                    finishedAt = Instant.now();
+                }
+            }
+        }
+    }
+
+    public FanOutStatus snapshot() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long elapsedMillis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        long processedNow = processed.get();
+        return new FanOutStatus(id, eventUuid, state, recipients.get(), batches.get(), processedNow,
+                delivered.get(), failed.get(), duplicates.get(), processedNow * 1000.0 / elapsedMillis,
+                error, startedAt, finishedAt);
+    }
+}
@@ -0,0 +1,18 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+public enum FanOutState {
+    /**
+     * Wartet auf einen freien Fan-out-Thread.
+     */
+    QUEUED,
+    /**
+     * Empfänger werden noch gelesen und in Batches verteilt.
+     */
+    STREAMING,
+    /**
+     * Alle Batches sind verteilt, die Zustellung läuft noch.
+     */
+    DISPATCHING,
+    COMPLETED,
+    FAILED
+}
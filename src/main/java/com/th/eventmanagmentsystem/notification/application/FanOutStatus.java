@@ -0,0 +1,24 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import java.time.Instant;
+
+/**
+ * @param recipients  bisher gelesene Empfänger; endgültig erst ab {@link FanOutState#DISPATCHING}
+ * @param processed   Empfänger, deren Zustellungen abgeschlossen sind, erfolgreich oder nicht
+ */
+public record FanOutStatus(
+        String id,
+        String eventUuid,
+        FanOutState state,
+        long recipients,
+        long batches,
+        long processed,
+        long delivered,
+        long failed,
+        long duplicates,
+        double recipientsPerSecond,
+        String error,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
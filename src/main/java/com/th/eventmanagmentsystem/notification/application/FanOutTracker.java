@@ -0,0 +1,55 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hält den Fortschritt der letzten Fan-outs dieser Instanz. Ältere Einträge fallen heraus,
+ * damit der Speicherbedarf unabhängig von der Anzahl der Fan-outs bleibt.
+ */
+@Component
+public class FanOutTracker {
+
+    private final Map<String, FanOutProgress> fanOuts;
+
+    public FanOutTracker(NotificationProperties properties, MeterRegistry meterRegistry) {
+        int retained = properties.retainedFanOuts();
+        this.fanOuts = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FanOutProgress> eldest) {
+                return size() > retained;
+            }
+        };
+        Gauge.builder("notification.fanouts.active", this, FanOutTracker::activeCount)
+                .description("Notification fan-outs still queued, streaming or dispatching")
+                .register(meterRegistry);
+    }
+
+    synchronized FanOutProgress register(String eventUuid) {
+        FanOutProgress progress = new FanOutProgress(eventUuid);
+        fanOuts.put(progress.id(), progress);
+        return progress;
+    }
+
+    public synchronized Optional<FanOutProgress> find(String id) {
+        return Optional.ofNullable(fanOuts.get(id));
+    }
+
+    public synchronized List<FanOutStatus> all() {
+        List<FanOutStatus> statuses = new ArrayList<>(fanOuts.size());
+        fanOuts.values().forEach(progress -> statuses.add(progress.snapshot()));
+        return statuses.reversed();
+    }
+
+    private synchronized long activeCount() {
+        return fanOuts.values().stream().filter(FanOutProgress::isActive).count();
+    }
+}
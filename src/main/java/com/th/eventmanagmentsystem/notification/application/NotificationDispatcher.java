@@ -0,0 +1,125 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import com.th.eventmanagmentsystem.notification.domain.Notification;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatch;
+import com.th.eventmanagmentsystem.notification.domain.NotificationChannel;
+import com.th.eventmanagmentsystem.notification.domain.NotificationRecipient;
+import com.th.eventmanagmentsystem.notification.domain.NotificationSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Versendet einen Batch über alle Kanäle, für die ein {@link NotificationSender} registriert ist:
+ * erst Duplikatprüfung, dann Ratenbegrenzung je Kanal, dann Zustellung mit exponentiellem Backoff.
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private final Map<NotificationChannel, NotificationSender> senders = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, TokenBucket> rateLimits = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, Counter> deliveredCounters = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, Counter> failedCounters = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, Timer> sendTimers = new EnumMap<>(NotificationChannel.class);
+    private final Counter duplicateCounter;
+    private final DeliveryDeduplicator deduplicator;
+    private final FanOutTracker tracker;
+    private final int maxAttempts;
+    private final long initialRetryMillis;
+
+    public NotificationDispatcher(List<NotificationSender> senders,
+                                  DeliveryDeduplicator deduplicator,
+                                  FanOutTracker tracker,
+                                  NotificationProperties properties,
+                                  MeterRegistry meterRegistry) {
+        for (NotificationSender sender : senders) {
+            NotificationChannel channel = sender.channel();
+            if (this.senders.putIfAbsent(channel, sender) != null) {
+                throw new IllegalStateException("More than one notification sender for channel " + channel);
+            }
+            rateLimits.put(channel, new TokenBucket(properties.rateFor(channel)));
+            deliveredCounters.put(channel, Counter.builder("notification.delivered")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry));
+            failedCounters.put(channel, Counter.builder("notification.failed")
+                    .description("Notifications given up after all retries")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry));
+            sendTimers.put(channel, Timer.builder("notification.send")
+                    .tag("channel", channel.name())
+                    .register(meterRegistry));
+        }
+        this.duplicateCounter = Counter.builder("notification.duplicates")
+                .description("Notifications skipped because they were already delivered")
+                .register(meterRegistry);
+        this.deduplicator = deduplicator;
+        this.tracker = tracker;
+        this.maxAttempts = Math.max(1, properties.maxAttempts());
+        this.initialRetryMillis = properties.initialRetryInterval().toMillis();
+    }
+
+    public void dispatch(NotificationBatch batch) throws InterruptedException {
+        Optional<FanOutProgress> progress = tracker.find(batch.fanOutId());
+        for (NotificationRecipient recipient : batch.recipients()) {
+            boolean attempted = false;
+            boolean claimed = false;
+            for (NotificationSender sender : senders.values()) {
+                Notification notification = Notification.of(batch, recipient, sender.channel());
+                if (notification.address() != null) {
+                    attempted = true;
+                    claimed |= deliver(sender, notification, progress);
+                }
+            }
+            // Nur reine Duplikate zählen nicht, sonst überholt eine Redelivery den Empfängerzähler
+            if (!attempted || claimed) {
+                progress.ifPresent(FanOutProgress::recipientProcessed);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false}, wenn die Zustellung bereits von einem früheren Versuch übernommen wurde
+     */
+    private boolean deliver(NotificationSender sender, Notification notification,
+                            Optional<FanOutProgress> progress) throws InterruptedException {
+        NotificationChannel channel = notification.channel();
+        if (!deduplicator.claim(notification.dedupKey())) {
+            duplicateCounter.increment();
+            progress.ifPresent(FanOutProgress::duplicate);
+            return false;
+        }
+
+        long backoffMillis = initialRetryMillis;
+        for (int attempt = 1; ; attempt++) {
+            rateLimits.get(channel).acquire();
+            try {
+                sendTimers.get(channel).record(() -> sender.send(notification));
+                deliveredCounters.get(channel).increment();
+                progress.ifPresent(FanOutProgress::delivered);
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Giving up on {} notification {} after {} attempts", channel,
+                            notification.dedupKey(), attempt, e);
+                    deduplicator.release(notification.dedupKey());
+                    failedCounters.get(channel).increment();
+                    progress.ifPresent(FanOutProgress::failed);
+                    return true;
+                }
+                log.debug("{} notification {} failed (attempt {}), retrying in {} ms", channel,
+                        notification.dedupKey(), attempt, backoffMillis, e);
+                Thread.sleep(backoffMillis);
+                backoffMillis *= 2;
+            }
+        }
+    }
+}
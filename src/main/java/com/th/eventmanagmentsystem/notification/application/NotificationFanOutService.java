@@ -0,0 +1,147 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import com.th.eventmanagmentsystem.eventcatalog.domain.event.EventChangedEvent;
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatch;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatchPublisher;
+import com.th.eventmanagmentsystem.notification.domain.NotificationRecipient;
+import com.th.eventmanagmentsystem.notification.domain.NotificationRecipientRepository;
+import com.th.eventmanagmentsystem.notification.domain.exception.FanOutNotFoundException;
+import com.th.eventmanagmentsystem.notification.domain.exception.FanOutRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benachrichtigt alle Teilnehmer einer Veranstaltung, die Benachrichtigungen wünschen.
+ * <p>
+ * Die Empfänger werden per Keyset-Pagination gelesen und in Batches an den {@link NotificationBatchPublisher}
+ * übergeben. Da dieser bei Rückstau blockiert, hält ein Fan-out höchstens eine Seite und einen Batch im Speicher,
+ * egal ob die Veranstaltung hundert oder hunderttausend Teilnehmer hat.
+ */
+@Service
+@Slf4j
+public class NotificationFanOutService {
+
+    private final NotificationRecipientRepository recipientRepository;
+    private final NotificationBatchPublisher batchPublisher;
+    private final FanOutTracker tracker;
+    private final ThreadPoolTaskExecutor executor;
+    private final int pageSize;
+    private final int batchSize;
+    private final Counter recipientCounter;
+    private final Counter rejectedCounter;
+    private final Timer fanOutTimer;
+
+    public NotificationFanOutService(NotificationRecipientRepository recipientRepository,
+                                     NotificationBatchPublisher batchPublisher,
+                                     FanOutTracker tracker,
+                                     @Qualifier("notificationFanOutExecutor") ThreadPoolTaskExecutor executor,
+                                     NotificationProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.recipientRepository = recipientRepository;
+        this.batchPublisher = batchPublisher;
+        this.tracker = tracker;
+        this.executor = executor;
+        this.pageSize = properties.pageSize();
+        this.batchSize = properties.batchSize();
+        this.recipientCounter = Counter.builder("notification.fanout.recipients")
+                .description("Recipients streamed into notification batches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("notification.fanout.rejected")
+                .description("Fan-outs rejected because all threads were busy and the queue was full")
+                .register(meterRegistry);
+        this.fanOutTimer = Timer.builder("notification.fanout.streaming")
+                .description("Time to stream all recipients of a fan-out into batches")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent event) {
+        String subject = "Update: " + event.title();
+        String body = "The event \"" + event.title() + "\" has changed: " + String.join(", ", event.changedProperties());
+        try {
+            start(event.eventUuid(), subject, body);
+        } catch (FanOutRejectedException e) {
+            log.error("Attendees of event {} are not notified about the change of {}: {}",
+                    event.eventUuid(), event.changedProperties(), e.getMessage());
+        }
+    }
+
+    public FanOutStatus start(String eventUuid, String subject, String body) {
+        FanOutProgress progress = tracker.register(eventUuid);
+        try {
+            executor.execute(() -> stream(progress, eventUuid, subject, body));
+        } catch (TaskRejectedException e) {
+            progress.fail("rejected: fan-out queue is full");
+            rejectedCounter.increment();
+            throw new FanOutRejectedException(eventUuid);
+        }
+        return progress.snapshot();
+    }
+
+    public FanOutStatus get(String id) {
+        return tracker.find(id)
+                .map(FanOutProgress::snapshot)
+                .orElseThrow(() -> new FanOutNotFoundException(id));
+    }
+
+    public List<FanOutStatus> list() {
+        return tracker.all();
+    }
+
+    void stream(FanOutProgress progress, String eventUuid, String subject, String body) {
+        progress.streamingStarted();
+        Timer.Sample sample = Timer.start();
+        String afterUserUuid = "";
+        int sequence = 0;
+        List<NotificationRecipient> batch = new ArrayList<>(batchSize);
+        try {
+            List<NotificationRecipient> page;
+            do {
+                page = recipientRepository.findEventRecipientsAfter(eventUuid, afterUserUuid, pageSize);
+                progress.recipientsStreamed(page.size());
+                recipientCounter.increment(page.size());
+                for (NotificationRecipient recipient : page) {
+                    batch.add(recipient);
+                    if (batch.size() == batchSize) {
+                        publish(progress, new NotificationBatch(progress.id(), sequence++, eventUuid, subject, body, batch));
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!page.isEmpty()) {
+                    afterUserUuid = page.getLast().userUuid();
+                }
+            } while (page.size() == pageSize);
+
+            if (!batch.isEmpty()) {
+                publish(progress, new NotificationBatch(progress.id(), sequence, eventUuid, subject, body, batch));
+            }
+            progress.streamingFinished();
+            log.info("Fan-out {} for event {} streamed {} recipients", progress.id(), eventUuid,
+                    progress.snapshot().recipients());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.fail("interrupted");
+        } catch (RuntimeException e) {
+            log.error("Fan-out {} for event {} failed", progress.id(), eventUuid, e);
+            progress.fail(e.getMessage());
+        } finally {
+            sample.stop(fanOutTimer);
+        }
+    }
+
+    private void publish(FanOutProgress progress, NotificationBatch batch) throws InterruptedException {
+        batchPublisher.publish(batch);
+        progress.batchPublished();
+    }
+}
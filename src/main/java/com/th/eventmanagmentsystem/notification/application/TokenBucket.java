@@ -0,0 +1,39 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ratenbegrenzung für einen Kanal. Erlaubt einen Burst von einer Sekunde; wer darüber hinaus zieht,
+ * reserviert den nächsten freien Zeitpunkt und schläft außerhalb des Locks bis dahin.
+ */
+final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive");
+        }
+        this.tokensPerNano = ratePerSecond / 1_000_000_000.0;
+        this.capacity = ratePerSecond;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / tokensPerNano);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.th.eventmanagmentsystem.notification.application.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class NotificationConfig {
+
+    /**
+     * Kleine Queue: ein Fan-out, der keinen freien Thread findet, wartet sichtbar als {@code QUEUED};
+     * erst wenn auch die Queue voll ist, wird er abgelehnt.
+     */
+    @Bean("notificationFanOutExecutor")
+    public ThreadPoolTaskExecutor notificationFanOutExecutor(NotificationProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.maxConcurrentFanOuts());
+        executor.setMaxPoolSize(properties.maxConcurrentFanOuts());
+        executor.setQueueCapacity(properties.queuedFanOuts());
+        executor.setThreadNamePrefix("notification-fanout-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package com.th.eventmanagmentsystem.notification.application.config;
+
+import com.th.eventmanagmentsystem.notification.domain.NotificationChannel;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param pageSize              Empfänger je Keyset-Abfrage
+ * @param batchSize             Empfänger je Batch-Nachricht
+ * @param maxConcurrentFanOuts  gleichzeitig laufende Fan-outs
+ * @param queuedFanOuts         Fan-outs, die auf einen freien Thread warten dürfen, weitere werden abgelehnt
+ * @param dispatcherThreads     Versand-Threads bzw. Kafka-Consumer je Instanz
+ * @param ratePerSecond         Zustellungen pro Sekunde je Kanal, sonst {@code defaultRatePerSecond}
+ * @param dedupCapacity         Anzahl gemerkter Zustellungen für die Duplikaterkennung
+ * @param retainedFanOuts       Anzahl Fan-outs, deren Fortschritt abfragbar bleibt
+ */
+@ConfigurationProperties(prefix = "eventmanagement.notifications")
+public record NotificationProperties(
+        @DefaultValue("IN_MEMORY") NotificationTransport transport,
+        @DefaultValue("1000") int pageSize,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("2") int maxConcurrentFanOuts,
+        @DefaultValue("8") int queuedFanOuts,
+        @DefaultValue("4") int dispatcherThreads,
+        @DefaultValue("16") int inMemoryQueueCapacity,
+        @DefaultValue("notification-batches") String topic,
+        @DefaultValue("notification-dispatcher") String groupId,
+        @DefaultValue("100") int defaultRatePerSecond,
+        Map<NotificationChannel, Integer> ratePerSecond,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("200ms") Duration initialRetryInterval,
+        @DefaultValue("500000") int dedupCapacity,
+        @DefaultValue("100") int retainedFanOuts
+) {
+
+    public int rateFor(NotificationChannel channel) {
+        if (ratePerSecond == null) {
+            return defaultRatePerSecond;
+        }
+        return ratePerSecond.getOrDefault(channel, defaultRatePerSecond);
+    }
+}
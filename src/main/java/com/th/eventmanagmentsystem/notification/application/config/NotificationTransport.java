@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.notification.application.config;
+
+public enum NotificationTransport {
+    /**
+     * Batches bleiben im Prozess und werden aus einer begrenzten Queue versendet.
+     */
+    IN_MEMORY,
+    /**
+     * Batches werden als Kafka-Nachrichten verteilt und von jeder Instanz der Consumer-Gruppe versendet.
+     */
+    KAFKA
+}
@@ -0,0 +1,11 @@
+package com.th.eventmanagmentsystem.notification.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record FanOutRequest(
+        @NotBlank String eventUuid,
+        @NotBlank @Size(max = 200) String subject,
+        @NotBlank @Size(max = 2000) String body
+) {
+}
@@ -0,0 +1,19 @@
+package com.th.eventmanagmentsystem.notification.domain;
+
+/**
+ * Eine einzelne Zustellung. {@code dedupKey} ist je Fan-out, Empfänger und Kanal eindeutig.
+ */
+public record Notification(
+        String dedupKey,
+        NotificationChannel channel,
+        String recipientUuid,
+        String address,
+        String subject,
+        String body
+) {
+
+    public static Notification of(NotificationBatch batch, NotificationRecipient recipient, NotificationChannel channel) {
+        return new Notification(batch.fanOutId() + ":" + recipient.userUuid() + ":" + channel, channel,
+                recipient.userUuid(), channel.addressOf(recipient), batch.subject(), batch.body());
+    }
+}
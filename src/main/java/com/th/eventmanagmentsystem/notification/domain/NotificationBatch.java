@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.notification.domain;
+
+import java.util.List;
+
+/**
+ * Nachricht zwischen Fan-out und Versand: ein Ausschnitt der Empfänger mit dem gemeinsamen Inhalt.
+ */
+public record NotificationBatch(
+        String fanOutId,
+        int sequence,
+        String eventUuid,
+        String subject,
+        String body,
+        List<NotificationRecipient> recipients
+) {
+}
@@ -0,0 +1,10 @@
+package com.th.eventmanagmentsystem.notification.domain;
+
+/**
+ * Übergibt Batches an den Versand. Blockiert, solange der Transport keine weiteren Batches aufnehmen kann,
+ * damit der Fan-out nie mehr als einen Batch im Speicher hält.
+ */
+public interface NotificationBatchPublisher {
+
+    void publish(NotificationBatch batch) throws InterruptedException;
+}
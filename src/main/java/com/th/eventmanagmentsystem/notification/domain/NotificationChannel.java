@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.notification.domain;
+
+public enum NotificationChannel {
+    EMAIL,
+    SMS;
+
+    /**
+     * @return die Adresse des Empfängers in diesem Kanal oder {@code null}, wenn er darüber nicht erreichbar ist
+     */
+    public String addressOf(NotificationRecipient recipient) {
+        return switch (this) {
+            case EMAIL -> recipient.email();
+            case SMS -> recipient.phoneNumber();
+        };
+    }
+}
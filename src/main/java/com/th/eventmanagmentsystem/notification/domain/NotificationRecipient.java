@@ -0,0 +1,8 @@
+package com.th.eventmanagmentsystem.notification.domain;
+
+public record NotificationRecipient(
+        String userUuid,
+        String email,
+        String phoneNumber
+) {
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.notification.domain;
+
+import java.util.List;
+
+public interface NotificationRecipientRepository {
+
+    /**
+     * Keyset-Pagination über die Teilnehmer mit aktiver Reservierung für die Veranstaltung, die
+     * Benachrichtigungen erhalten wollen; aufsteigend nach User-UUID, jeder Teilnehmer genau einmal.
+     */
+    List<NotificationRecipient> findEventRecipientsAfter(String eventUuid, String afterUserUuid, int limit);
+}
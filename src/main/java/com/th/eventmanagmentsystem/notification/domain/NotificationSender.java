@@ -0,0 +1,11 @@
+package com.th.eventmanagmentsystem.notification.domain;
+
+/**
+ * Zustellung über genau einen Kanal. Fehler werden als RuntimeException gemeldet und vom Dispatcher wiederholt.
+ */
+public interface NotificationSender {
+
+    NotificationChannel channel();
+
+    void send(Notification notification);
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.notification.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class FanOutNotFoundException extends RuntimeException {
+
+    public FanOutNotFoundException(String id) {
+        super("Unknown fan-out: " + id);
+    }
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.notification.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class FanOutRejectedException extends RuntimeException {
+
+    public FanOutRejectedException(String eventUuid) {
+        super("Fan-out queue is full, notification for event " + eventUuid + " not started");
+    }
+}
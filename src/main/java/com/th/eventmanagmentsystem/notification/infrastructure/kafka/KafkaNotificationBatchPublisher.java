@@ -0,0 +1,39 @@
+package com.th.eventmanagmentsystem.notification.infrastructure.kafka;
+
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatch;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatchPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Wartet auf die Bestätigung des Brokers, bevor der nächste Batch gelesen wird. So gibt der Broker das Tempo
+ * vor und ein abgebrochener Fan-out hat keine unbestätigten Batches verloren.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eventmanagement.notifications", name = "transport", havingValue = "KAFKA")
+public class KafkaNotificationBatchPublisher implements NotificationBatchPublisher {
+
+    private final KafkaTemplate<String, NotificationBatch> kafkaTemplate;
+    private final String topic;
+
+    public KafkaNotificationBatchPublisher(KafkaTemplate<String, NotificationBatch> notificationBatchKafkaTemplate,
+                                           NotificationProperties properties) {
+        this.kafkaTemplate = notificationBatchKafkaTemplate;
+        this.topic = properties.topic();
+    }
+
+    @Override
+    public void publish(NotificationBatch batch) throws InterruptedException {
+        String key = batch.fanOutId() + ":" + batch.sequence();
+        try {
+            kafkaTemplate.send(topic, key, batch).get();
+        } catch (ExecutionException e) {
+            throw new KafkaException("Publishing notification batch " + key + " failed", e.getCause());
+        }
+    }
+}
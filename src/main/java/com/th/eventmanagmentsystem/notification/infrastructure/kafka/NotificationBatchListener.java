@@ -0,0 +1,28 @@
+package com.th.eventmanagmentsystem.notification.infrastructure.kafka;
+
+import com.th.eventmanagmentsystem.notification.application.NotificationDispatcher;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fortschritt wird nur auf der Instanz gezählt, die den Fan-out gestartet hat; andere Instanzen versenden nur.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eventmanagement.notifications", name = "transport", havingValue = "KAFKA")
+@RequiredArgsConstructor
+public class NotificationBatchListener {
+
+    private final NotificationDispatcher dispatcher;
+
+    @KafkaListener(
+            id = "notification-dispatcher",
+            topics = "${eventmanagement.notifications.topic:notification-batches}",
+            containerFactory = NotificationKafkaConfig.CONTAINER_FACTORY
+    )
+    public void onBatch(NotificationBatch batch) throws InterruptedException {
+        dispatcher.dispatch(batch);
+    }
+}
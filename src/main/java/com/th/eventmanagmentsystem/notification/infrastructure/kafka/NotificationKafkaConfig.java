@@ -0,0 +1,85 @@
+package com.th.eventmanagmentsystem.notification.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Producer und Consumer für die Notification-Batches. Ein Record ist ein ganzer Batch, damit
+ * hunderttausend Empfänger nur einige hundert Nachrichten erzeugen.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eventmanagement.notifications", name = "transport", havingValue = "KAFKA")
+@Slf4j
+public class NotificationKafkaConfig {
+
+    static final String CONTAINER_FACTORY = "notificationBatchContainerFactory";
+
+    @Bean
+    public KafkaTemplate<String, NotificationBatch> notificationBatchKafkaTemplate(KafkaProperties kafkaProperties,
+                                                                                   ObjectMapper objectMapper,
+                                                                                   MeterRegistry meterRegistry) {
+        Map<String, Object> producerProperties = new LinkedHashMap<>(kafkaProperties.buildProducerProperties(null));
+        producerProperties.put(ProducerConfig.ACKS_CONFIG, "all");
+        producerProperties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        DefaultKafkaProducerFactory<String, NotificationBatch> producerFactory = new DefaultKafkaProducerFactory<>(
+                producerProperties, new StringSerializer(), new JsonSerializer<>(objectMapper));
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean(CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, NotificationBatch> notificationBatchContainerFactory(
+            KafkaProperties kafkaProperties,
+            NotificationProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        Map<String, Object> consumerProperties = new LinkedHashMap<>(kafkaProperties.buildConsumerProperties(null));
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, properties.groupId());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // Ein Batch kann durch die Ratenbegrenzung lange dauern, daher wenige Records je Poll
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
+
+        JsonDeserializer<NotificationBatch> valueDeserializer =
+                new JsonDeserializer<>(NotificationBatch.class, objectMapper, false);
+        DefaultKafkaConsumerFactory<String, NotificationBatch> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                consumerProperties, new StringDeserializer(), new ErrorHandlingDeserializer<>(valueDeserializer));
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+        ExponentialBackOff backOff = new ExponentialBackOff(properties.initialRetryInterval().toMillis(), 2.0);
+        backOff.setMaxAttempts(properties.maxAttempts());
+
+        ConcurrentKafkaListenerContainerFactory<String, NotificationBatch> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(properties.dispatcherThreads());
+        // Bereits zugestellte Empfänger überspringt der Dispatcher bei der Wiederholung
+        factory.setCommonErrorHandler(new DefaultErrorHandler((record, exception) ->
+                log.error("Giving up on notification batch {}", record.key(), exception), backOff));
+        return factory;
+    }
+}
@@ -0,0 +1,88 @@
+package com.th.eventmanagmentsystem.notification.infrastructure.messaging;
+
+import com.th.eventmanagmentsystem.notification.application.NotificationDispatcher;
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatch;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatchPublisher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Transport für eine einzelne Instanz: Batches laufen über eine begrenzte Queue zu den Versand-Threads.
+ * Ist die Queue voll, wartet der Fan-out.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eventmanagement.notifications", name = "transport", havingValue = "IN_MEMORY", matchIfMissing = true)
+@Slf4j
+public class InMemoryNotificationBatchPublisher implements NotificationBatchPublisher, SmartLifecycle {
+
+    private final BlockingQueue<NotificationBatch> queue;
+    private final NotificationDispatcher dispatcher;
+    private final int workerCount;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public InMemoryNotificationBatchPublisher(NotificationDispatcher dispatcher,
+                                              NotificationProperties properties,
+                                              MeterRegistry meterRegistry) {
+        this.dispatcher = dispatcher;
+        this.queue = new ArrayBlockingQueue<>(properties.inMemoryQueueCapacity());
+        this.workerCount = properties.dispatcherThreads();
+        Gauge.builder("notification.dispatch.queue", queue, BlockingQueue::size)
+                .description("Notification batches waiting for a dispatcher thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(NotificationBatch batch) throws InterruptedException {
+        queue.put(batch);
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofPlatform()
+                    .name("notification-dispatcher-" + i)
+                    .daemon(true)
+                    .start(this::work));
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+        if (!queue.isEmpty()) {
+            log.warn("Dropping {} undispatched notification batches on shutdown", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                dispatcher.dispatch(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Dispatching notification batch failed", e);
+            }
+        }
+    }
+}
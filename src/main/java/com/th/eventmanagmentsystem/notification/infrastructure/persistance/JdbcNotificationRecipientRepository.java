@@ -0,0 +1,45 @@
+package com.th.eventmanagmentsystem.notification.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.notification.domain.NotificationRecipient;
+import com.th.eventmanagmentsystem.notification.domain.NotificationRecipientRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Liest die Empfänger direkt aus {@code reservation} und dem Read-Model {@code user_summary}, ohne Entities
+ * zu laden. Der Index auf {@code (event_uuid, attendee_uuid)} liefert die Keyset-Reihenfolge ohne Sortierung.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcNotificationRecipientRepository implements NotificationRecipientRepository {
+
+    private static final String RECIPIENTS_SQL = """
+            SELECT DISTINCT r.attendee_uuid, s.email, s.phone_number
+            FROM reservation r
+            JOIN user_summary s ON s.user_uuid = r.attendee_uuid
+            WHERE r.event_uuid = ?
+              AND r.reservation_status IN ('HELD', 'CONFIRMED')
+              AND r.attendee_uuid > ?
+              AND s.receive_notifications = TRUE
+              AND s.user_status <> 'DELETED'
+            ORDER BY r.attendee_uuid
+            FETCH FIRST ? ROWS ONLY
+            """;
+
+    private static final RowMapper<NotificationRecipient> ROW_MAPPER = (rs, rowNum) -> new NotificationRecipient(
+            rs.getString("attendee_uuid"),
+            rs.getString("email"),
+            rs.getString("phone_number")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<NotificationRecipient> findEventRecipientsAfter(String eventUuid, String afterUserUuid, int limit) {
+        return jdbcTemplate.query(RECIPIENTS_SQL, ROW_MAPPER, eventUuid, afterUserUuid, limit);
+    }
+}
@@ -0,0 +1,37 @@
+package com.th.eventmanagmentsystem.notification.infrastructure.sender;
+
+import com.th.eventmanagmentsystem.notification.domain.Notification;
+import com.th.eventmanagmentsystem.notification.domain.NotificationChannel;
+import com.th.eventmanagmentsystem.notification.domain.NotificationSender;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lokaler Platzhalter für einen echten Provider: protokolliert die Zustellung nur.
+ */
+@Slf4j
+public class LoggingNotificationSender implements NotificationSender {
+
+    private final NotificationChannel channel;
+    private final AtomicLong sent = new AtomicLong();
+
+    public LoggingNotificationSender(NotificationChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public void send(Notification notification) {
+        sent.incrementAndGet();
+        log.debug("[{}] to {}: {}", channel, notification.address(), notification.subject());
+    }
+
+    public long sentCount() {
+        return sent.get();
+    }
+}
@@ -0,0 +1,25 @@
+package com.th.eventmanagmentsystem.notification.infrastructure.sender;
+
+import com.th.eventmanagmentsystem.notification.domain.NotificationChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ein Sender je Kanal. Echte Provider ersetzen diese Beans, indem sie die Stubs abschalten
+ * und eigene {@code NotificationSender} registrieren.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eventmanagement.notifications", name = "stub-senders", havingValue = "true", matchIfMissing = true)
+public class StubNotificationSenderConfig {
+
+    @Bean
+    public LoggingNotificationSender emailNotificationSender() {
+        return new LoggingNotificationSender(NotificationChannel.EMAIL);
+    }
+
+    @Bean
+    public LoggingNotificationSender smsNotificationSender() {
+        return new LoggingNotificationSender(NotificationChannel.SMS);
+    }
+}
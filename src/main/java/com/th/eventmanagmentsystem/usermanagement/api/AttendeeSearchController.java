@@ -0,0 +1,25 @@
+package com.th.eventmanagmentsystem.usermanagement.api;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.AttendeeSearchResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/attendees/search")
+@RequiredArgsConstructor
+public class AttendeeSearchController {
+
+    private final AttendeeSearchService attendeeSearchService;
+
+    @GetMapping
+    public ResponseEntity<AttendeeSearchResponse> search(@RequestParam("q") String query,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(attendeeSearchService.search(query, page, size));
+    }
+}
@@ -0,0 +1,55 @@
+package com.th.eventmanagmentsystem.usermanagement.api;
+
+import com.th.eventmanagmentsystem.common.web.DtoCodecs;
+import com.th.eventmanagmentsystem.usermanagement.application.availability.EmailAvailability;
+import com.th.eventmanagmentsystem.usermanagement.application.availability.EmailAvailabilityService;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.EmailAvailabilityRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/emails/availability")
+@RequiredArgsConstructor
+public class EmailAvailabilityController {
+
+    private final EmailAvailabilityService emailAvailabilityService;
+    private final DtoCodecs dtoCodecs;
+
+    /**
+     * Streamt die bereits vergebenen Adressen als Array (JSON, CBOR oder Smile je nach {@code Accept}).
+     * Ohne {@code Accept}-Header oder mit Wildcard wird JSON geliefert.
+     */
+    @PostMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, DtoCodecs.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, DtoCodecs.APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<StreamingResponseBody> taken(@Valid @RequestBody EmailAvailabilityRequest request,
+                                                       @RequestHeader HttpHeaders headers) {
+        EmailAvailability availability = emailAvailabilityService.check(request.emails());
+        MediaType mediaType = dtoCodecs.negotiate(headers.getAccept());
+        StreamingResponseBody body = dtoCodecs.streamCollection(
+                mediaType, String.class, consumer -> availability.takenInRequestOrder().forEach(consumer));
+        return ResponseEntity.ok().contentType(mediaType).body(body);
+    }
+
+    /**
+     * Antwortet mit einer Bitmap: Bit {@code i} gesetzt = {@code emails[i]} ist vergeben.
+     * Eigener Pfad, damit Anfragen ohne spezifischen {@code Accept}-Header eindeutig bei {@link #taken} landen.
+     */
+    @PostMapping(
+            path = "/bitmap",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, DtoCodecs.APPLICATION_SMILE_VALUE},
+            produces = MediaType.APPLICATION_OCTET_STREAM_VALUE
+    )
+    public ResponseEntity<byte[]> bitmap(@Valid @RequestBody EmailAvailabilityRequest request) {
+        EmailAvailability availability = emailAvailabilityService.check(request.emails());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(availability.bitmap());
+    }
+}
@@ -0,0 +1,43 @@
+package com.th.eventmanagmentsystem.usermanagement.api;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.ProximitySearchResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.geo.ProximitySearchService;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/proximity")
+@RequiredArgsConstructor
+public class ProximitySearchController {
+
+    private final ProximitySearchService proximitySearchService;
+
+    @GetMapping("/radius")
+    public ResponseEntity<ProximitySearchResponse> withinRadius(@RequestParam(required = false) Double latitude,
+                                                                @RequestParam(required = false) Double longitude,
+                                                                @RequestParam(required = false) String country,
+                                                                @RequestParam(required = false) String zipCode,
+                                                                @RequestParam double radiusKm,
+                                                                @RequestParam(required = false) ProfileType type,
+                                                                @RequestParam(defaultValue = "100") int limit) {
+        GeoPoint center = proximitySearchService.resolveCenter(latitude, longitude, country, zipCode);
+        return ResponseEntity.ok(proximitySearchService.withinRadius(center, radiusKm, type, limit));
+    }
+
+    @GetMapping("/nearest")
+    public ResponseEntity<ProximitySearchResponse> nearest(@RequestParam(required = false) Double latitude,
+                                                           @RequestParam(required = false) Double longitude,
+                                                           @RequestParam(required = false) String country,
+                                                           @RequestParam(required = false) String zipCode,
+                                                           @RequestParam(defaultValue = "10") int k,
+                                                           @RequestParam(required = false) ProfileType type) {
+        GeoPoint center = proximitySearchService.resolveCenter(latitude, longitude, country, zipCode);
+        return ResponseEntity.ok(proximitySearchService.nearest(center, k, type));
+    }
+}
@@ -1,12 +1,16 @@
 package com.th.eventmanagmentsystem.usermanagement.api;
 
+import com.th.eventmanagmentsystem.common.startup.EagerInit;
+import com.th.eventmanagmentsystem.common.web.DtoCodecs;
 import com.th.eventmanagmentsystem.usermanagement.application.registration.RegisterUserUseCase;
 import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationRequest;
 import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -15,18 +19,22 @@ import java.net.URI;
 
 @RestController
 @RequestMapping("/api/register")
+@EagerInit
 @RequiredArgsConstructor
 public class RegistrationController {
 
-    private RegisterUserUseCase registrationService;
+    private final RegisterUserUseCase registrationService;
 
-    @PostMapping()
-    public ResponseEntity<UserRegistrationResponse> register(@Valid UserRegistrationRequest request) {
+    @PostMapping(
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, DtoCodecs.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, DtoCodecs.APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<UserRegistrationResponse> register(@Valid @RequestBody UserRegistrationRequest request) {
         UserRegistrationResponse response = registrationService.register(request);
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
-                .path("{uuid}")
+                .path("/{uuid}")
                 .buildAndExpand(response.uuid())
                 .toUri();
 
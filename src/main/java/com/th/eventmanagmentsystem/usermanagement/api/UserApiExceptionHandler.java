@@ -0,0 +1,19 @@
+package com.th.eventmanagmentsystem.usermanagement.api;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.exception.EmailAlreadyExistsException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Übersetzt fachliche Ausnahmen der Benutzerverwaltung in HTTP-Status, damit die Domäne frei von Spring Web bleibt.
+ */
+@RestControllerAdvice(basePackageClasses = UserApiExceptionHandler.class)
+public class UserApiExceptionHandler {
+
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    ProblemDetail emailAlreadyExists(EmailAlreadyExistsException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+}
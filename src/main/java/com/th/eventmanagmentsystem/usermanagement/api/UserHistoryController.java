@@ -0,0 +1,61 @@
+package com.th.eventmanagmentsystem.usermanagement.api;
+
+import com.th.eventmanagmentsystem.usermanagement.application.history.UserHistoryService;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.StatusPeriod;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/users/{uuid}/history")
+@RequiredArgsConstructor
+public class UserHistoryController {
+
+    private final UserHistoryService userHistoryService;
+
+    @GetMapping
+    public ResponseEntity<List<UserHistoryEvent>> events(@PathVariable String uuid,
+                                                         @RequestParam(required = false) Instant from,
+                                                         @RequestParam(required = false) Instant to) {
+        return ResponseEntity.ok(userHistoryService.events(uuid, fromOrEpoch(from), toOrNow(to)));
+    }
+
+    @GetMapping("/state")
+    public ResponseEntity<UserState> state(@PathVariable String uuid,
+                                           @RequestParam(required = false) Instant at) {
+        return ResponseEntity.ok(at == null ? userHistoryService.currentState(uuid) : userHistoryService.stateAt(uuid, at));
+    }
+
+    @GetMapping("/status-periods")
+    public ResponseEntity<List<StatusPeriod>> statusPeriods(@PathVariable String uuid,
+                                                            @RequestParam(required = false) Instant from,
+                                                            @RequestParam(required = false) Instant to) {
+        return ResponseEntity.ok(userHistoryService.statusPeriods(uuid, fromOrEpoch(from), toOrNow(to)));
+    }
+
+    /**
+     * Gesamtdauer je Status im Zeitraum, z.B. wie lange ein Konto gesperrt war.
+     */
+    @GetMapping("/status-durations")
+    public ResponseEntity<Map<UserStatus, Duration>> statusDurations(@PathVariable String uuid,
+                                                                     @RequestParam(required = false) Instant from,
+                                                                     @RequestParam(required = false) Instant to) {
+        return ResponseEntity.ok(userHistoryService.timeInStatus(uuid, fromOrEpoch(from), toOrNow(to)));
+    }
+
+    private static Instant fromOrEpoch(Instant from) {
+        return from == null ? Instant.EPOCH : from;
+    }
+
+    private static Instant toOrNow(Instant to) {
+        return to == null ? Instant.now() : to;
+    }
+}
@@ -0,0 +1,59 @@
+package com.th.eventmanagmentsystem.usermanagement.api;
+
+import com.th.eventmanagmentsystem.common.web.DtoCodecs;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryFilter;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryPageResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.summary.UserSummaryProjector;
+import com.th.eventmanagmentsystem.usermanagement.application.summary.UserSummaryQueryService;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class UserSummaryController {
+
+    private final UserSummaryQueryService userSummaryQueryService;
+    private final UserSummaryProjector userSummaryProjector;
+    private final DtoCodecs dtoCodecs;
+
+    @GetMapping
+    public ResponseEntity<UserSummaryPageResponse> list(@RequestParam(required = false) UserStatus status,
+                                                        @RequestParam(required = false) UserRole role,
+                                                        @RequestParam(required = false) String city,
+                                                        @RequestParam(required = false) String email,
+                                                        @PageableDefault(size = 50, sort = "email") Pageable pageable) {
+        UserSummaryFilter filter = new UserSummaryFilter(status, role, city, email);
+        return ResponseEntity.ok(userSummaryQueryService.list(filter, pageable));
+    }
+
+    /**
+     * Streamt alle Benutzer als ein Array (JSON, CBOR oder Smile je nach {@code Accept}).
+     */
+    @GetMapping(value = "/export",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, DtoCodecs.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader HttpHeaders headers) {
+        MediaType mediaType = dtoCodecs.negotiate(headers.getAccept());
+        StreamingResponseBody body = dtoCodecs.streamCollection(
+                mediaType, UserSummaryResponse.class, userSummaryQueryService::forEach);
+        return ResponseEntity.ok().contentType(mediaType).body(body);
+    }
+
+    @PostMapping("/summaries/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        if (!userSummaryProjector.rebuildAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.th.eventmanagmentsystem.usermanagement.application.availability;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ergebnis einer Verfügbarkeitsprüfung.
+ *
+ * @param requested die angefragten Adressen in Originalreihenfolge, normalisiert
+ * @param taken     die davon bereits vergebenen Adressen
+ */
+public record EmailAvailability(List<String> requested, Set<String> taken) {
+
+    /**
+     * Vergebene Adressen, jede einmal, in der Reihenfolge ihres ersten Auftretens.
+     */
+    public List<String> takenInRequestOrder() {
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String email : requested) {
+            if (email != null && taken.contains(email)) {
+                ordered.add(email);
+            }
+        }
+        return List.copyOf(ordered);
+    }
+
+    /**
+     * Bit {@code i} ist gesetzt, wenn die {@code i}-te angefragte Adresse vergeben ist
+     * (Byte {@code i / 8}, Bit {@code i % 8}, niederwertigstes Bit zuerst). Länge: {@code ceil(n / 8)} Bytes.
+     */
+    public byte[] bitmap() {
+        BitSet bits = new BitSet(requested.size());
+        for (int i = 0; i < requested.size(); i++) {
+            String email = requested.get(i);
+            if (email != null && taken.contains(email)) {
+                bits.set(i);
+            }
+        }
+        return Arrays.copyOf(bits.toByteArray(), (requested.size() + 7) / 8);
+    }
+}
@@ -0,0 +1,35 @@
+package com.th.eventmanagmentsystem.usermanagement.application.availability;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.EmailNormalizer;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Prüft viele E-Mail-Adressen auf einmal, z.B. vor einem Partner-Import, ohne für jede
+ * Adresse eine Registrierung anzustoßen.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailAvailabilityService {
+
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
+    public EmailAvailability check(List<String> emails) {
+        List<String> normalized = emails.stream()
+                .map(EmailNormalizer::normalize)
+                .map(email -> email == null || email.isEmpty() ? null : email)
+                .toList();
+        Set<String> distinct = new LinkedHashSet<>(normalized);
+        distinct.remove(null);
+
+        Set<String> taken = distinct.isEmpty() ? Set.of() : userRepository.findExistingEmails(distinct);
+        return new EmailAvailability(normalized, taken);
+    }
+}
@@ -0,0 +1,27 @@
+package com.th.eventmanagmentsystem.usermanagement.application.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class UserSummaryConfig {
+
+    static final int QUEUE_CAPACITY = 10_000;
+
+    /**
+     * Eigener Pool für die Projektion, damit Admin-Read-Models nie Request-Threads belegen.
+     * Die Queue ist begrenzt; abgelehnte Benutzer behält der Projector vor und plant sie nach der nächsten
+     * Projektion erneut ein. Die Queue-Tiefe meldet Spring Boot als {@code executor.queued}.
+     */
+    @Bean("userSummaryExecutor")
+    public ThreadPoolTaskExecutor userSummaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("user-summary-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,9 @@
+package com.th.eventmanagmentsystem.usermanagement.application.dto;
+
+public record AttendeeSearchHit(
+        String uuid,
+        String fullName,
+        String city,
+        String zipCode,
+        int score
+) {}
@@ -0,0 +1,10 @@
+package com.th.eventmanagmentsystem.usermanagement.application.dto;
+
+import java.util.List;
+
+public record AttendeeSearchResponse(
+        List<AttendeeSearchHit> hits,
+        int page,
+        int size,
+        long totalHits
+) {}
@@ -0,0 +1,14 @@
+package com.th.eventmanagmentsystem.usermanagement.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record EmailAvailabilityRequest(
+
+        @NotNull(message = "Die Liste der E-Mail-Adressen darf nicht fehlen.")
+        @Size(max = 10_000, message = "Es können höchstens 10000 E-Mail-Adressen pro Anfrage geprüft werden.")
+        List<String> emails
+
+) {}
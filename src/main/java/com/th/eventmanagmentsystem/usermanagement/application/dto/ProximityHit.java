@@ -0,0 +1,9 @@
+package com.th.eventmanagmentsystem.usermanagement.application.dto;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+
+public record ProximityHit(
+        String userUuid,
+        ProfileType profileType,
+        double distanceKm
+) {}
@@ -0,0 +1,10 @@
+package com.th.eventmanagmentsystem.usermanagement.application.dto;
+
+import java.util.List;
+
+public record ProximitySearchResponse(
+        double latitude,
+        double longitude,
+        long totalMatches,
+        List<ProximityHit> hits
+) {}
@@ -0,0 +1,14 @@
+package com.th.eventmanagmentsystem.usermanagement.application.dto;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+
+/**
+ * Alle Felder sind optional; {@code null} bedeutet "nicht filtern".
+ */
+public record UserSummaryFilter(
+        UserStatus status,
+        UserRole role,
+        String city,
+        String emailPrefix
+) {}
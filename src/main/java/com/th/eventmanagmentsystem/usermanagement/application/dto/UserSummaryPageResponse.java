@@ -0,0 +1,10 @@
+package com.th.eventmanagmentsystem.usermanagement.application.dto;
+
+import java.util.List;
+
+public record UserSummaryPageResponse(
+        List<UserSummaryResponse> content,
+        int page,
+        int size,
+        long totalElements
+) {}
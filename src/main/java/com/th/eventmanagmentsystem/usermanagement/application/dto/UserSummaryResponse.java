@@ -0,0 +1,17 @@
+package com.th.eventmanagmentsystem.usermanagement.application.dto;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary;
+
+import java.util.List;
+
+public record UserSummaryResponse(
+        String uuid,
+        String email,
+        UserStatus status,
+        List<UserRole> roles,
+        UserSummary.ProfileType profileType,
+        String displayName,
+        String city
+) {}
@@ -0,0 +1,29 @@
+package com.th.eventmanagmentsystem.usermanagement.application.geo;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+
+import java.util.List;
+
+/**
+ * Umkreis- und Nächste-Nachbarn-Suche über die geokodierten Profiladressen.
+ */
+public interface ProximityIndex {
+
+    /**
+     * @param type  {@code null} für alle Profiltypen
+     * @param limit maximale Anzahl zurückgegebener Treffer, die nächsten zuerst; gezählt werden alle
+     */
+    Result withinRadius(GeoPoint center, double radiusKm, ProfileType type, int limit);
+
+    /**
+     * @param type {@code null} für alle Profiltypen
+     */
+    List<Hit> nearest(GeoPoint center, int k, ProfileType type);
+
+    record Hit(String userUuid, ProfileType type, double distanceKm) {
+    }
+
+    record Result(long totalMatches, List<Hit> hits) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.th.eventmanagmentsystem.usermanagement.application.geo;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.ProximityHit;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.ProximitySearchResponse;
+import com.th.eventmanagmentsystem.usermanagement.domain.exception.InvalidLocationException;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.Geocoder;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Umkreis- und Nächste-Nachbarn-Suche über Profiladressen, z.B. "Attendees im Umkreis von 30 km um den Veranstaltungsort".
+ * Der Mittelpunkt wird entweder als Koordinate oder als Postleitzahl angegeben.
+ */
+@Service
+public class ProximitySearchService {
+
+    static final double MAX_RADIUS_KM = 1000;
+    static final int MAX_LIMIT = 10_000;
+    static final int MAX_NEAREST = 1000;
+
+    private final ProximityIndex index;
+    private final Geocoder geocoder;
+    private final Timer radiusTimer;
+    private final Timer nearestTimer;
+
+    public ProximitySearchService(ProximityIndex index, Geocoder geocoder, MeterRegistry meterRegistry) {
+        this.index = index;
+        this.geocoder = geocoder;
+        this.radiusTimer = Timer.builder("proximity.search.latency").tag("query", "radius").register(meterRegistry);
+        this.nearestTimer = Timer.builder("proximity.search.latency").tag("query", "nearest").register(meterRegistry);
+    }
+
+    public ProximitySearchResponse withinRadius(GeoPoint center, double radiusKm, ProfileType type, int limit) {
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            throw new InvalidLocationException("Der Radius muss zwischen 0 und " + (int) MAX_RADIUS_KM + " km liegen.");
+        }
+        int safeLimit = Math.clamp(limit, 0, MAX_LIMIT);
+        ProximityIndex.Result result = radiusTimer.record(() -> index.withinRadius(center, radiusKm, type, safeLimit));
+        return new ProximitySearchResponse(center.latitude(), center.longitude(), result.totalMatches(), toHits(result.hits()));
+    }
+
+    public ProximitySearchResponse nearest(GeoPoint center, int k, ProfileType type) {
+        int safeK = Math.clamp(k, 1, MAX_NEAREST);
+        List<ProximityIndex.Hit> hits = nearestTimer.record(() -> index.nearest(center, safeK, type));
+        return new ProximitySearchResponse(center.latitude(), center.longitude(), hits.size(), toHits(hits));
+    }
+
+    public GeoPoint resolveCenter(Double latitude, Double longitude, String country, String zipCode) {
+        if (latitude != null && longitude != null) {
+            try {
+                return new GeoPoint(latitude, longitude);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidLocationException(e.getMessage());
+            }
+        }
+        if (country != null && zipCode != null) {
+            return geocoder.locate(country, zipCode, null)
+                    .orElseThrow(() -> new InvalidLocationException("Unbekannte Postleitzahl: " + country + " " + zipCode));
+        }
+        throw new InvalidLocationException("Es muss latitude/longitude oder country/zipCode angegeben werden.");
+    }
+
+    private static List<ProximityHit> toHits(List<ProximityIndex.Hit> hits) {
+        return hits.stream()
+                .map(hit -> new ProximityHit(hit.userUuid(), hit.type(), Math.round(hit.distanceKm() * 1000) / 1000.0))
+                .toList();
+    }
+}
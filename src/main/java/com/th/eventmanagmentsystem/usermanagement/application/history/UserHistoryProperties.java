@@ -0,0 +1,13 @@
+package com.th.eventmanagmentsystem.usermanagement.application.history;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param snapshotEvery Anzahl Events seit dem letzten Snapshot, ab der ein neuer Snapshot geschrieben wird
+ */
+@ConfigurationProperties(prefix = "eventmanagement.user-history")
+public record UserHistoryProperties(
+        @DefaultValue("50") int snapshotEvery
+) {
+}
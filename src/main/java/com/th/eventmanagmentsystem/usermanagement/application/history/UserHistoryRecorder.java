@@ -0,0 +1,132 @@
+package com.th.eventmanagmentsystem.usermanagement.application.history;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Sammelt die History-Events einer Transaktion und hängt sie nach deren Commit als ein JDBC-Batch
+ * in einer eigenen Transaktion an; zurückgerollte Änderungen hinterlassen so keine Events.
+ * <p>
+ * Die Benutzeränderung kann auf einem Shard committen, die History liegt in der Primärdatenbank;
+ * atomar ist das Anhängen deshalb nicht. Scheitert es, wird es wiederholt. Die Schlüssel der Events
+ * verhindern dabei doppelte Einträge. Fällige Snapshots folgen nach dem Anhängen.
+ */
+@Component
+@Slf4j
+public class UserHistoryRecorder {
+
+    private static final int APPEND_ATTEMPTS = 3;
+
+    private final UserHistoryRepository repository;
+    private final UserHistoryService historyService;
+    private final TransactionTemplate appendTransaction;
+    private final Counter appendedCounter;
+    private final Counter failedCounter;
+
+    public UserHistoryRecorder(UserHistoryRepository repository,
+                               UserHistoryService historyService,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.historyService = historyService;
+        this.appendTransaction = new TransactionTemplate(transactionManager);
+        // afterCommit läuft noch mit den Ressourcen der abgeschlossenen Transaktion.
+        this.appendTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.appendedCounter = Counter.builder("user.history.events.appended").register(meterRegistry);
+        this.failedCounter = Counter.builder("user.history.events.failed")
+                .description("History events that could not be appended after a committed user change")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void on(UserHistoryEvent event) {
+        record(List.of(event));
+    }
+
+    public void record(Collection<UserHistoryEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            appendAndSnapshot(List.copyOf(events));
+            return;
+        }
+        pendingEvents().events.addAll(events);
+    }
+
+    // Über die Synchronisationen statt bindResource, damit eine suspendierte äußere Transaktion ihren Puffer behält.
+    private PendingEvents pendingEvents() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEvents pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingEvents pending = new PendingEvents();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void appendAndSnapshot(List<UserHistoryEvent> batch) {
+        if (append(batch)) {
+            snapshotIfDue(batch);
+        }
+    }
+
+    private boolean append(List<UserHistoryEvent> batch) {
+        for (int attempt = 1; attempt <= APPEND_ATTEMPTS; attempt++) {
+            try {
+                appendTransaction.executeWithoutResult(status -> repository.appendAll(batch));
+                appendedCounter.increment(batch.size());
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt == APPEND_ATTEMPTS) {
+                    log.error("Appending {} user history events failed, the history misses these changes",
+                            batch.size(), e);
+                    failedCounter.increment(batch.size());
+                } else {
+                    log.warn("Appending {} user history events failed (attempt {}/{})",
+                            batch.size(), attempt, APPEND_ATTEMPTS, e);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void snapshotIfDue(List<UserHistoryEvent> batch) {
+        Set<String> userUuids = new HashSet<>();
+        batch.forEach(event -> userUuids.add(event.userUuid()));
+        try {
+            historyService.snapshotIfDue(userUuids);
+        } catch (RuntimeException e) {
+            log.warn("Taking user history snapshots failed, replays stay longer until the next attempt", e);
+        }
+    }
+
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final List<UserHistoryEvent> events = new ArrayList<>();
+
+        UserHistoryRecorder owner() {
+            return UserHistoryRecorder.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!events.isEmpty()) {
+                appendAndSnapshot(List.copyOf(events));
+            }
+        }
+    }
+}
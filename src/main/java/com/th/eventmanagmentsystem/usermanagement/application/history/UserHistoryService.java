@@ -0,0 +1,123 @@
+package com.th.eventmanagmentsystem.usermanagement.application.history;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.exception.UserHistoryNotFoundException;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.StatusPeriod;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEventType;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryRepository;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserState;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Liest den Änderungsstrom: Zustände werden aus dem jüngsten passenden Snapshot und den
+ * wenigen Events danach rekonstruiert, Zeitraumabfragen laufen direkt über das Event-Log.
+ */
+@Service
+@Slf4j
+public class UserHistoryService {
+
+    private static final Instant END_OF_TIME = Instant.parse("9999-12-31T23:59:59Z");
+
+    private final UserHistoryRepository repository;
+    private final UserHistoryProperties properties;
+    private final DistributionSummary replayedEvents;
+
+    public UserHistoryService(UserHistoryRepository repository,
+                              UserHistoryProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.replayedEvents = DistributionSummary.builder("user.history.replayed.events")
+                .description("Events applied on top of the snapshot to rebuild a user state")
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public UserState currentState(String userUuid) {
+        return stateAt(userUuid, Instant.now());
+    }
+
+    @Transactional(readOnly = true)
+    public UserState stateAt(String userUuid, Instant at) {
+        UserState state = replay(userUuid, at);
+        if (state.isEmpty()) {
+            throw new UserHistoryNotFoundException(userUuid);
+        }
+        return state;
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserHistoryEvent> events(String userUuid, Instant from, Instant to) {
+        return repository.findEventsBetween(userUuid, from, to);
+    }
+
+    /**
+     * Lückenlose Statusphasen im Zeitraum {@code [from, to)}; Zeit vor dem ersten Status-Event bleibt außen vor.
+     */
+    @Transactional(readOnly = true)
+    public List<StatusPeriod> statusPeriods(String userUuid, Instant from, Instant to) {
+        UserStatus current = replay(userUuid, from).status();
+        Instant start = from;
+        List<StatusPeriod> periods = new ArrayList<>();
+
+        for (UserHistoryEvent event : repository.findEventsBetween(userUuid, from, to)) {
+            if (event.type() != UserHistoryEventType.STATUS_CHANGED) {
+                continue;
+            }
+            UserStatus next = UserStatus.valueOf(event.value());
+            if (next == current) {
+                continue;
+            }
+            if (current != null && start.isBefore(event.occurredAt())) {
+                periods.add(new StatusPeriod(current, start, event.occurredAt()));
+            }
+            current = next;
+            start = event.occurredAt();
+        }
+        if (current != null && start.isBefore(to)) {
+            periods.add(new StatusPeriod(current, start, to));
+        }
+        return periods;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UserStatus, Duration> timeInStatus(String userUuid, Instant from, Instant to) {
+        Map<UserStatus, Duration> durations = new EnumMap<>(UserStatus.class);
+        for (StatusPeriod period : statusPeriods(userUuid, from, to)) {
+            durations.merge(period.status(), period.duration(), Duration::plus);
+        }
+        return durations;
+    }
+
+    /**
+     * Schreibt für Benutzer mit mindestens {@code snapshotEvery} Events seit ihrem letzten Snapshot einen neuen.
+     * Läuft nach dem Commit der Änderungen; ein parallel geschriebener Snapshot desselben Stands wird ignoriert.
+     */
+    public void snapshotIfDue(Collection<String> userUuids) {
+        for (String userUuid : repository.findUsersDueForSnapshot(userUuids, properties.snapshotEvery())) {
+            UserState state = replay(userUuid, END_OF_TIME);
+            try {
+                repository.saveSnapshot(state);
+            } catch (DuplicateKeyException e) {
+                log.debug("Snapshot for user {} at event {} already exists", userUuid, state.lastEventId());
+            }
+        }
+    }
+
+    private UserState replay(String userUuid, Instant at) {
+        UserState snapshot = repository.findLatestSnapshot(userUuid, at).orElseGet(() -> UserState.empty(userUuid));
+        List<UserHistoryEvent> events = repository.findEventsAfter(userUuid, snapshot.lastEventId(), at);
+        replayedEvents.record(events.size());
+        return snapshot.applyAll(events);
+    }
+}
@@ -13,24 +13,23 @@ import org.mapstruct.factory.Mappers;
 
 import java.util.Set;
 
-@Mapper
+@Mapper(componentModel = "spring")
 public interface UserMapper {
     UserMapper INSTANCE = Mappers.getMapper(UserMapper.class);
 
-    @Mappings({
-            @Mapping(source = "request.email", target = "email"),
-
-            @Mapping(source = "password", target = "password"),
-            @Mapping(source = "status", target = "status"),
-            @Mapping(source = "roles", target = "roles")
-    })
-    User requestToUser(
+    /**
+     * Über den Konstruktor statt generiert: {@link User#getRoles()} ist nicht veränderbar und nur der
+     * Konstruktor erzeugt die History-Events für die Anfangsrollen.
+     */
+    default User requestToUser(
             UserRegistrationRequest request,
             String password,
             UserProfile userProfile,
             UserStatus status,
             Set<UserRole> roles
-    );
+    ) {
+        return new User(request.email(), password, status, roles, userProfile);
+    }
 
     @Mappings({
             @Mapping(source = "user.uuid", target = "uuid"),
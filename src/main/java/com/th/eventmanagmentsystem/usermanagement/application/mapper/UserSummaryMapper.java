@@ -0,0 +1,24 @@
+package com.th.eventmanagmentsystem.usermanagement.application.mapper;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryResponse;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface UserSummaryMapper {
+
+    @Mapping(source = "userUuid", target = "uuid")
+    UserSummaryResponse summaryToResponse(UserSummary summary);
+
+    default List<UserRole> rolesToList(String roles) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(",")).map(UserRole::valueOf).toList();
+    }
+}
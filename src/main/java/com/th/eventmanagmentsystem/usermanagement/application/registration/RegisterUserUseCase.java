@@ -9,7 +9,6 @@ import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
 import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
 import com.th.eventmanagmentsystem.usermanagement.domain.exception.EmailAlreadyExistsException;
 import com.th.eventmanagmentsystem.usermanagement.domain.policy.RegistrationPolicy;
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -37,7 +36,11 @@ public class RegisterUserUseCase {
         this.passwordEncoder = passwordEncoder;
     }
 
-    @Transactional
+    /**
+     * Bewusst ohne umschließende Transaktion: Das BCrypt-Hashing kostet pro Aufruf spürbar CPU-Zeit und soll
+     * keine Verbindung aus dem Pool belegen. Prüfungen und {@code save} laufen jeweils in eigenen, kurzen
+     * Transaktionen des Repositories; die Unique-Constraint auf der E-Mail fängt parallele Registrierungen ab.
+     */
     public UserRegistrationResponse register(UserRegistrationRequest request) {
         log.info("Creating new user for email: {}", request.email());
 
@@ -0,0 +1,30 @@
+package com.th.eventmanagmentsystem.usermanagement.application.search;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.Address;
+import com.th.eventmanagmentsystem.usermanagement.domain.AttendeeProfile;
+
+/**
+ * Flache Projektion eines {@code AttendeeProfile} mit den durchsuchbaren Feldern.
+ * Wird per JPQL-Konstruktor-Ausdruck direkt aus der Datenbank gestreamt.
+ */
+public record AttendeeSearchDocument(
+        String uuid,
+        Long version,
+        String firstName,
+        String lastName,
+        String city,
+        String zipCode
+) {
+
+    public static AttendeeSearchDocument from(AttendeeProfile profile) {
+        Address address = profile.getAddress();
+        return new AttendeeSearchDocument(
+                profile.getUuid(),
+                profile.getVersion(),
+                profile.getFirstName(),
+                profile.getLastName(),
+                address == null ? null : address.getCity(),
+                address == null ? null : address.getZipCode()
+        );
+    }
+}
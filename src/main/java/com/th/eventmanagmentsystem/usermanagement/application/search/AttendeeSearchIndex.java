@@ -0,0 +1,20 @@
+package com.th.eventmanagmentsystem.usermanagement.application.search;
+
+import java.util.List;
+
+/**
+ * Volltextsuche über Attendee-Profile (Name, Stadt, PLZ) mit Präfix- und Fuzzy-Treffern.
+ */
+public interface AttendeeSearchIndex {
+
+    /**
+     * @return Treffer nach Score absteigend; {@link Result#totalHits()} zählt alle Treffer, nicht nur die Seite
+     */
+    Result search(String query, int offset, int limit);
+
+    record Hit(AttendeeSearchDocument document, int score) {
+    }
+
+    record Result(int totalHits, List<Hit> hits) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.th.eventmanagmentsystem.usermanagement.application.search;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.AttendeeSearchHit;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.AttendeeSearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AttendeeSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final AttendeeSearchIndex index;
+    private final Timer searchTimer;
+
+    public AttendeeSearchService(AttendeeSearchIndex index, MeterRegistry meterRegistry) {
+        this.index = index;
+        this.searchTimer = Timer.builder("attendee.search.latency").register(meterRegistry);
+    }
+
+    public AttendeeSearchResponse search(String query, int page, int size) {
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // Als long gerechnet, sonst wird der Offset für große Seitenzahlen negativ; jenseits von
+        // Integer.MAX_VALUE gibt es ohnehin keine Treffer mehr
+        int offset = (int) Math.min((long) safePage * safeSize, Integer.MAX_VALUE);
+
+        AttendeeSearchIndex.Result result = searchTimer.record(() -> index.search(query, offset, safeSize));
+
+        return new AttendeeSearchResponse(
+                result.hits().stream().map(AttendeeSearchService::toHit).toList(),
+                safePage,
+                safeSize,
+                result.totalHits()
+        );
+    }
+
+    private static AttendeeSearchHit toHit(AttendeeSearchIndex.Hit hit) {
+        AttendeeSearchDocument document = hit.document();
+        return new AttendeeSearchHit(
+                document.uuid(),
+                document.firstName() + " " + document.lastName(),
+                document.city(),
+                document.zipCode(),
+                hit.score()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.th.eventmanagmentsystem.usermanagement.application.statussync;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+
+import java.time.Instant;
+
+/**
+ * Statusänderung aus einem Fremdsystem (HR, Ticketing).
+ *
+ * @param source Kennung des liefernden Systems, landet als Actor im Audit-Log
+ */
+public record UserStatusChange(String userUuid, UserStatus status, Instant occurredAt, String source) {
+}
@@ -0,0 +1,9 @@
+package com.th.eventmanagmentsystem.usermanagement.application.statussync;
+
+/**
+ * @param received  Änderungen im Batch
+ * @param collapsed verschiedene Benutzer nach Last-Write-Wins
+ * @param updated   Benutzer, deren Status sich tatsächlich geändert hat
+ */
+public record UserStatusSyncResult(int received, int collapsed, int updated) {
+}
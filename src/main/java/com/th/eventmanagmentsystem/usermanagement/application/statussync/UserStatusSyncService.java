@@ -0,0 +1,85 @@
+package com.th.eventmanagmentsystem.usermanagement.application.statussync;
+
+import com.th.eventmanagmentsystem.audit.application.AuditEventBuffer;
+import com.th.eventmanagmentsystem.audit.domain.AuditAction;
+import com.th.eventmanagmentsystem.audit.domain.AuditEvent;
+import com.th.eventmanagmentsystem.usermanagement.application.history.UserHistoryRecorder;
+import com.th.eventmanagmentsystem.usermanagement.domain.User;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.ChangeType;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.UserChangedEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Übernimmt Statusänderungen aus Fremdsystemen in großen Mengen. Statt jeden Benutzer zu laden und
+ * über {@code User.setStatus} zu speichern, wird je Batch pro Benutzer nur die jüngste Änderung
+ * (Last-Write-Wins) per Bulk-Update geschrieben.
+ * <p>
+ * Da dabei keine Entity-Listener und keine Domain-Events laufen, werden {@link UserChangedEvent}s,
+ * History-Events und Audit-Einträge für die geänderten Benutzer hier selbst erzeugt.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatusSyncService {
+
+    private static final List<String> CHANGED_PROPERTIES = List.of("status", "version");
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditEventBuffer auditEventBuffer;
+    private final UserHistoryRecorder historyRecorder;
+
+    @Transactional
+    public UserStatusSyncResult apply(List<UserStatusChange> changes) {
+        Map<String, UserStatusChange> latest = collapse(changes);
+        Map<String, UserStatus> statusByUuid = new HashMap<>();
+        latest.forEach((uuid, change) -> statusByUuid.put(uuid, change.status()));
+
+        Set<String> updated = statusByUuid.isEmpty() ? Set.of() : userRepository.updateStatuses(statusByUuid);
+
+        Instant now = Instant.now();
+        updated.forEach(uuid -> eventPublisher.publishEvent(new UserChangedEvent(uuid, ChangeType.SAVED, now)));
+        historyRecorder.record(updated.stream()
+                .map(uuid -> UserHistoryEvent.statusChanged(uuid, statusByUuid.get(uuid), now))
+                .toList());
+        auditAfterCommit(updated, latest, now);
+        return new UserStatusSyncResult(changes.size(), latest.size(), updated.size());
+    }
+
+    /**
+     * Pro Benutzer gewinnt die Änderung mit dem jüngsten Zeitpunkt; bei Gleichstand die spätere im Batch.
+     */
+    static Map<String, UserStatusChange> collapse(List<UserStatusChange> changes) {
+        Map<String, UserStatusChange> latest = new LinkedHashMap<>();
+        for (UserStatusChange change : changes) {
+            latest.merge(change.userUuid(), change,
+                    (current, candidate) -> candidate.occurredAt().isBefore(current.occurredAt()) ? current : candidate);
+        }
+        return latest;
+    }
+
+    private void auditAfterCommit(Set<String> updated, Map<String, UserStatusChange> latest, Instant now) {
+        if (updated.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (String uuid : updated) {
+                    auditEventBuffer.publish(new AuditEvent(User.class.getSimpleName(), uuid, AuditAction.UPDATED,
+                            null, CHANGED_PROPERTIES, latest.get(uuid).source(), now));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,217 @@
+package com.th.eventmanagmentsystem.usermanagement.application.summary;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.User;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserKey;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.UserChangedEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.UserProfileChangedEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hält die Tabelle {@code user_summary} asynchron aktuell.
+ * <p>
+ * Jede Projektion liest den aktuellen Stand aus {@code users} und Profil neu, statt Deltas
+ * anzuwenden. Dadurch ist sie idempotent, Reihenfolge und Duplikate von Events sind egal,
+ * und mehrere Änderungen desselben Benutzers werden zu einer Projektion zusammengefasst.
+ * <p>
+ * Lehnt der Executor eine Projektion ab, weil seine Queue voll ist, bleibt der Benutzer vorgemerkt und wird
+ * eingeplant, sobald eine laufende Projektion fertig ist.
+ */
+@Component
+@Slf4j
+public class UserSummaryProjector {
+
+    static final int REBUILD_PAGE_SIZE = 500;
+    private static final int PROJECTION_STRIPES = 64;
+
+    private final UserRepository userRepository;
+    private final UserSummaryRepository userSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final Timer freshnessLagTimer;
+    private final Set<String> pendingUserUuids = ConcurrentHashMap.newKeySet();
+    private final Map<String, Instant> deferred = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ReentrantLock[] projectionLocks = new ReentrantLock[PROJECTION_STRIPES];
+
+    public UserSummaryProjector(UserRepository userRepository,
+                                UserSummaryRepository userSummaryRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("userSummaryExecutor") Executor executor,
+                                MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userSummaryRepository = userSummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.freshnessLagTimer = Timer.builder("user.summary.freshness.lag")
+                .description("Time between a user/profile change and its projection into user_summary")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("user.summary.pending", pendingUserUuids, Set::size)
+                .register(meterRegistry);
+        Gauge.builder("user.summary.deferred", deferred, Map::size)
+                .description("Users waiting for room in the projection queue")
+                .register(meterRegistry);
+        for (int i = 0; i < projectionLocks.length; i++) {
+            projectionLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        schedule(event.userUuid(), event.occurredAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        User user = event.profile().getUser();
+        if (user != null) {
+            schedule(user.getUuid(), event.occurredAt());
+        }
+    }
+
+    /**
+     * Baut das komplette Read-Model neu auf. Mehrfaches Ausführen liefert dasselbe Ergebnis.
+     *
+     * @return {@code false}, wenn bereits ein Rebuild läuft
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    void rebuild() {
+        Instant started = Instant.now();
+        long afterId = 0;
+        long projected = 0;
+
+        List<UserKey> keys;
+        while (!(keys = userRepository.findKeysAfter(afterId, REBUILD_PAGE_SIZE)).isEmpty()) {
+            List<UserKey> page = keys;
+            transactionTemplate.executeWithoutResult(status -> page.forEach(key -> projectInTransaction(key.uuid())));
+            afterId = page.getLast().id();
+            projected += page.size();
+        }
+
+        int removed = userSummaryRepository.deleteProjectedBefore(started);
+        log.info("Rebuilt user_summary: {} users projected, {} orphaned rows removed in {} ms",
+                projected, removed, Duration.between(started, Instant.now()).toMillis());
+    }
+
+    void project(String userUuid) {
+        transactionTemplate.executeWithoutResult(status -> projectInTransaction(userUuid));
+    }
+
+    private void schedule(String userUuid, Instant occurredAt) {
+        if (!pendingUserUuids.add(userUuid)) {
+            return;
+        }
+        submit(userUuid, occurredAt);
+    }
+
+    private boolean submit(String userUuid, Instant occurredAt) {
+        try {
+            executor.execute(() -> {
+                // Vor dem Lesen entfernen, damit spätere Änderungen erneut eingeplant werden.
+                pendingUserUuids.remove(userUuid);
+                try {
+                    projectWithRetry(userUuid);
+                    freshnessLagTimer.record(Duration.between(occurredAt, Instant.now()));
+                } catch (RuntimeException e) {
+                    log.error("Projecting user summary for {} failed", userUuid, e);
+                } finally {
+                    submitDeferred();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // Bleibt in pendingUserUuids, weitere Änderungen fallen also weiterhin zusammen
+            deferred.putIfAbsent(userUuid, occurredAt);
+            return false;
+        }
+    }
+
+    // Eine Ablehnung setzt eine volle Queue voraus; deren Tasks kommen hier vorbei, bevor der Pool leer läuft.
+    private void submitDeferred() {
+        for (String userUuid : deferred.keySet()) {
+            Instant occurredAt = deferred.remove(userUuid);
+            if (occurredAt != null && !submit(userUuid, occurredAt)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Projektionen desselben Benutzers (z.B. User- und Profil-Event desselben Commits) laufen innerhalb der
+     * Instanz nacheinander, damit sie nicht um das INSERT konkurrieren. Zwischen Instanzen bleibt das Rennen
+     * möglich; dann findet der zweite Versuch die Zeile vor und aktualisiert sie.
+     */
+    private void projectWithRetry(String userUuid) {
+        ReentrantLock lock = projectionLocks[Math.floorMod(userUuid.hashCode(), projectionLocks.length)];
+        lock.lock();
+        try {
+            project(userUuid);
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+            log.debug("Projection of user summary {} raced with another instance, retrying", userUuid);
+            project(userUuid);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void projectInTransaction(String userUuid) {
+        Instant now = Instant.now();
+        userRepository.findByUuid(userUuid).ifPresentOrElse(
+                user -> {
+                    UserProfile profile = (UserProfile) Hibernate.unproxy(user.getProfile());
+                    UserSummary summary = userSummaryRepository.findById(userUuid)
+                            .map(existing -> {
+                                existing.apply(user, profile, now);
+                                return existing;
+                            })
+                            .orElseGet(() -> UserSummary.of(user, profile, now));
+                    userSummaryRepository.save(summary);
+                },
+                () -> userSummaryRepository.deleteById(userUuid)
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.th.eventmanagmentsystem.usermanagement.application.summary;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryFilter;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryPageResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.mapper.UserSummaryMapper;
+import com.th.eventmanagmentsystem.usermanagement.domain.EmailNormalizer;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryPage;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryQuery;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Admin-Listen lesen ausschließlich aus dem Read-Model {@code user_summary},
+ * nie aus {@code users} oder den Profiltabellen.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserSummaryQueryService {
+
+    static final int MAX_PAGE_SIZE = 200;
+    static final int EXPORT_PAGE_SIZE = 1_000;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("email", "status", "displayName", "city", "projectedAt");
+    private static final List<UserSummaryQuery.Order> DEFAULT_SORT = List.of(new UserSummaryQuery.Order("email", false));
+
+    private final UserSummaryRepository userSummaryRepository;
+    private final UserSummaryMapper userSummaryMapper;
+
+    @Transactional(readOnly = true)
+    public UserSummaryPageResponse list(UserSummaryFilter filter, Pageable pageable) {
+        UserSummaryPage page = userSummaryRepository.search(toQuery(filter, pageable));
+
+        return new UserSummaryPageResponse(
+                page.content().stream().map(userSummaryMapper::summaryToResponse).toList(),
+                page.page(),
+                page.size(),
+                page.totalElements()
+        );
+    }
+
+    /**
+     * Liefert alle Einträge seitenweise (Keyset) an {@code consumer}, ohne die Gesamtliste zu halten.
+     */
+    public void forEach(Consumer<UserSummaryResponse> consumer) {
+        String afterUuid = "";
+        List<UserSummary> page;
+        while (!(page = userSummaryRepository.findPageAfter(afterUuid, EXPORT_PAGE_SIZE)).isEmpty()) {
+            page.forEach(summary -> consumer.accept(userSummaryMapper.summaryToResponse(summary)));
+            afterUuid = page.getLast().getUserUuid();
+        }
+    }
+
+    static UserSummaryQuery toQuery(UserSummaryFilter filter, Pageable pageable) {
+        List<UserSummaryQuery.Order> sort = pageable.getSort().stream()
+                .filter(order -> SORTABLE_PROPERTIES.contains(order.getProperty()))
+                .map(order -> new UserSummaryQuery.Order(order.getProperty(), order.isDescending()))
+                .toList();
+        return new UserSummaryQuery(
+                filter.status(),
+                filter.role(),
+                filter.city() != null && !filter.city().isBlank() ? filter.city().trim() : null,
+                filter.emailPrefix() != null && !filter.emailPrefix().isBlank()
+                        ? EmailNormalizer.normalize(filter.emailPrefix())
+                        : null,
+                pageable.getPageNumber(),
+                Math.min(pageable.getPageSize(), MAX_PAGE_SIZE),
+                sort.isEmpty() ? DEFAULT_SORT : sort
+        );
+    }
+}
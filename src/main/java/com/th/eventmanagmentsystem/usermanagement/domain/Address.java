@@ -1,17 +1,18 @@
 package com.th.eventmanagmentsystem.usermanagement.domain;
 
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.Geohash;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.validation.constraints.NotBlank;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Embeddable
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
+@Getter
 @ToString
 public class Address {
 
@@ -31,8 +32,43 @@ public class Address {
     @Column(name = "country", nullable = false)
     private String country;
 
+    /**
+     * Koordinaten aus dem Offline-Geocoding (Postleitzahl-Zentroid); {@code null}, solange die Adresse
+     * nicht aufgelöst werden konnte.
+     */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "geohash", length = 12)
+    private String geohash;
+
+    @Builder
+    public Address(String street, String zipCode, String city, String country) {
+        this.street = street;
+        this.zipCode = zipCode;
+        this.city = city;
+        this.country = country;
+    }
+
     public String getFormatedAddress() {
         return String.format("%s, %s, %s, %s", street, city, country, zipCode);
     }
 
+    public boolean isLocated() {
+        return latitude != null && longitude != null;
+    }
+
+    public GeoPoint getLocation() {
+        return isLocated() ? new GeoPoint(latitude, longitude) : null;
+    }
+
+    public void locate(GeoPoint location) {
+        this.latitude = location.latitude();
+        this.longitude = location.longitude();
+        this.geohash = Geohash.encode(location);
+    }
+
 }
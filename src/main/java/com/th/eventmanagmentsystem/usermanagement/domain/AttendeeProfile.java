@@ -67,6 +67,10 @@ public class AttendeeProfile extends UserProfile {
                 address, null, null);
     }
 
+    public void setReceiveNotifications(boolean receiveNotifications) {
+        this.receiveNotifications = receiveNotifications;
+    }
+
     public String getFullName() {
         return firstName + " " + lastName;
     }
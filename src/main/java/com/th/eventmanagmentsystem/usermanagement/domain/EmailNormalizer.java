@@ -0,0 +1,18 @@
+package com.th.eventmanagmentsystem.usermanagement.domain;
+
+import java.util.Locale;
+
+/**
+ * Einheitliche Schreibweise für E-Mail-Adressen. Gespeichert, verglichen und geroutet
+ * wird immer die normalisierte Form, damit {@code Anna@Example.com} und
+ * {@code anna@example.com} derselbe Benutzer sind.
+ */
+public final class EmailNormalizer {
+
+    private EmailNormalizer() {
+    }
+
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -39,5 +39,36 @@ public class OrganizerProfile extends UserProfile {
     @Column(name = "logo_url")
     private String logoUrl;
 
+    /**
+     * Geschäftsadresse; optional, da sie für bestehende Veranstalter nicht erfasst wurde.
+     */
+    @Embedded
+    private Address address;
 
+    public OrganizerProfile(String organizationName, String description,
+                            String contactPhone, String website, String logoUrl,
+                            String companyRegistrationNumber, String bankAccountInfo,
+                            Address address) {
+        this.organizationName = organizationName;
+        this.description = description;
+        this.contactPhone = contactPhone;
+        this.website = website;
+        this.logoUrl = logoUrl;
+        this.companyRegistrationNumber = companyRegistrationNumber;
+        this.bankAccountInfo = bankAccountInfo;
+        this.address = address;
+    }
+
+    public OrganizerProfile(String organizationName, String description,
+                            String contactPhone, String website, String logoUrl,
+                            String companyRegistrationNumber, String bankAccountInfo) {
+        this(organizationName, description, contactPhone, website, logoUrl,
+                companyRegistrationNumber, bankAccountInfo, null);
+    }
+
+    public OrganizerProfile(String organizationName, String description,
+                            String companyRegistrationNumber, String bankAccountInfo) {
+        this(organizationName, description, null, null, null,
+                companyRegistrationNumber, bankAccountInfo);
+    }
 }
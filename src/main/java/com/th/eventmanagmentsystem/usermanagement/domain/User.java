@@ -1,16 +1,21 @@
 package com.th.eventmanagmentsystem.usermanagement.domain;
 
 import com.th.eventmanagmentsystem.common.BaseEntity;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEvent;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
+import java.time.Instant;
 import java.util.*;
 
 @Entity
@@ -18,7 +23,7 @@ import java.util.*;
 @NoArgsConstructor
 @Getter
 @EqualsAndHashCode(callSuper = true, of = {"email"})
-@ToString(exclude = {"password", "userRoles"})
+@ToString(exclude = {"password", "userRoles", "historyEvents"})
 public class User extends BaseEntity {
 
     @Email(message = "Das E-Mail-Format ist ungültig.")
@@ -47,16 +52,25 @@ public class User extends BaseEntity {
     @Column(name = "role")
     private Set<UserRole> roles = new HashSet<>();
 
+    /**
+     * {@code null} für Konten aus {@code POST /api/register}. Bekannte Einschränkung: Ein Profil lässt sich
+     * bisher nur im Konstruktor setzen, die Spalte ist nicht aktualisierbar. Solche Konten können daher weder
+     * reservieren noch Veranstaltungen anlegen, bis es einen Onboarding-Schritt gibt.
+     */
     @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(
             name = "user_profile_id",
             referencedColumnName = "id",
-            nullable = false,
             updatable = false,
             foreignKey = @ForeignKey(name = "fk_user_profile")
     )
     private UserProfile profile;
 
+    // Status- und Rollenänderungen seit dem letzten save(); Spring Data veröffentlicht sie beim Speichern.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<UserHistoryEvent> historyEvents = new ArrayList<>();
+
     /**
      * Konstruktor mit allen erforderlichen Feldern.
      * UserStatus wird standardmäßig auf ACTIVE gesetzt.
@@ -90,7 +104,27 @@ public class User extends BaseEntity {
         setPassword(password);
         setStatus(status);
         setRoles(roles);
-        setProfile(profile);
+        if (profile != null) {
+            setProfile(profile);
+        }
+        recordInitialState();
+    }
+
+    private void recordInitialState() {
+        Instant now = Instant.now();
+        this.historyEvents.clear();
+        this.historyEvents.add(UserHistoryEvent.statusChanged(getUuid(), this.status, now));
+        this.roles.forEach(role -> this.historyEvents.add(UserHistoryEvent.roleAdded(getUuid(), role, now)));
+    }
+
+    @DomainEvents
+    Collection<UserHistoryEvent> historyEvents() {
+        return List.copyOf(this.historyEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearHistoryEvents() {
+        this.historyEvents.clear();
     }
 
     private void setProfile(UserProfile userProfile) {
@@ -118,12 +152,18 @@ public class User extends BaseEntity {
 
     public void addRole(UserRole userRole) {
         Objects.requireNonNull(userRole, "User Role cannot be null");
-        this.roles.add(userRole);
+        if (this.roles.add(userRole)) {
+            this.historyEvents.add(UserHistoryEvent.roleAdded(getUuid(), userRole, Instant.now()));
+        }
     }
 
     public boolean removeRole(UserRole userRole) {
         Objects.requireNonNull(userRole, "User Role cannot be null");
-        return this.roles.remove(userRole);
+        boolean removed = this.roles.remove(userRole);
+        if (removed) {
+            this.historyEvents.add(UserHistoryEvent.roleRemoved(getUuid(), userRole, Instant.now()));
+        }
+        return removed;
     }
 
     private void setRoles(Set<UserRole> userRoles) {
@@ -156,11 +196,14 @@ public class User extends BaseEntity {
         if (email.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be empty");
         }
-        this.email = email;
+        this.email = EmailNormalizer.normalize(email);
     }
 
     public void setStatus(UserStatus userStatus) {
         Objects.requireNonNull(userStatus, "User Status cannot be null");
+        if (this.status != userStatus) {
+            this.historyEvents.add(UserHistoryEvent.statusChanged(getUuid(), userStatus, Instant.now()));
+        }
         this.status = userStatus;
     }
 }
@@ -0,0 +1,7 @@
+package com.th.eventmanagmentsystem.usermanagement.domain;
+
+/**
+ * Technische ID und fachliche UUID eines Benutzers, z.B. für Keyset-Pagination.
+ */
+public record UserKey(Long id, String uuid) {
+}
@@ -1,8 +1,7 @@
 package com.th.eventmanagmentsystem.usermanagement.domain;
 
 import com.th.eventmanagmentsystem.common.BaseEntity;
-import jakarta.persistence.Entity;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,6 +9,8 @@ import lombok.NoArgsConstructor;
 import java.util.Objects;
 
 @Entity
+@Table(name = "user_profile")
+@Inheritance(strategy = InheritanceType.JOINED)
 @NoArgsConstructor
 @Getter
 public abstract class UserProfile extends BaseEntity {
@@ -1,10 +1,36 @@
 package com.th.eventmanagmentsystem.usermanagement.domain;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    /**
+     * Liefert die Teilmenge der übergebenen (normalisierten) E-Mail-Adressen, die bereits vergeben ist.
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    Optional<User> findByUuid(String uuid);
+
+    /**
+     * Keyset-Pagination über alle Benutzer, aufsteigend nach technischer ID.
+     */
+    List<UserKey> findKeysAfter(long afterId, int limit);
+
     User save(User user);
+
+    /**
+     * Setzt den Status vieler Benutzer per Bulk-Update, ohne sie als Entities zu laden.
+     * Nur tatsächlich geänderte Zeilen werden geschrieben; ihre Version wird erhöht,
+     * damit parallele Entity-Änderungen am Optimistic Locking scheitern.
+     *
+     * @return die UUIDs der geänderten Benutzer
+     */
+    Set<String> updateStatuses(Map<String, UserStatus> statusByUuid);
 }
@@ -0,0 +1,4 @@
+package com.th.eventmanagmentsystem.usermanagement.domain;
+
+public record UserStatusCount(UserStatus status, long count) {
+}
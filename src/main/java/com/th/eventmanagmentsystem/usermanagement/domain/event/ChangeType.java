@@ -0,0 +1,6 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.event;
+
+public enum ChangeType {
+    SAVED,
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.event;
+
+import java.time.Instant;
+
+/**
+ * Wird nach jedem Insert, Update oder Delete eines {@code User} veröffentlicht.
+ */
+public record UserChangedEvent(String userUuid, ChangeType changeType, Instant occurredAt) {
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.event;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserProfile;
+
+import java.time.Instant;
+
+/**
+ * Wird nach jedem Insert, Update oder Delete eines {@link UserProfile} veröffentlicht.
+ * Listener sollten erst nach dem Commit reagieren ({@code @TransactionalEventListener}).
+ */
+public record UserProfileChangedEvent(UserProfile profile, ChangeType changeType, Instant occurredAt) {
+}
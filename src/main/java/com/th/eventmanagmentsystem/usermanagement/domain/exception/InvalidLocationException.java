@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidLocationException extends RuntimeException {
+
+    public InvalidLocationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class UserHistoryNotFoundException extends RuntimeException {
+
+    public UserHistoryNotFoundException(String userUuid) {
+        super("No history for user: " + userUuid);
+    }
+}
@@ -0,0 +1,33 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.geo;
+
+/**
+ * WGS84-Koordinate in Grad.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public GeoPoint {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90: " + latitude);
+        }
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180: " + longitude);
+        }
+    }
+
+    public double distanceKm(GeoPoint other) {
+        return distanceKm(latitude, longitude, other.latitude, other.longitude);
+    }
+
+    /**
+     * Großkreisentfernung (Haversine).
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
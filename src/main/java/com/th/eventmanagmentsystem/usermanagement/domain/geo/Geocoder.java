@@ -0,0 +1,14 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.geo;
+
+import java.util.Optional;
+
+/**
+ * Ermittelt Koordinaten zu einer Adresse, ohne externe Dienste aufzurufen.
+ */
+public interface Geocoder {
+
+    /**
+     * @param country ISO-3166-1 Alpha-2, z.B. {@code DE}
+     */
+    Optional<GeoPoint> locate(String country, String zipCode, String city);
+}
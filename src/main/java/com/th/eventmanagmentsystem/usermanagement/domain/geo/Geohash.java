@@ -0,0 +1,101 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.geo;
+
+/**
+ * Geohash-Kodierung (Base32). Präfixe beschreiben umschließende Zellen, dadurch lässt sich die Spalte
+ * auch in der Datenbank per {@code LIKE 'u33d%'} nach Gebieten filtern.
+ */
+public final class Geohash {
+
+    /**
+     * Zellen von ca. 4,8 m × 4,8 m; genauer als jede Postleitzahl-Koordinate.
+     */
+    public static final int DEFAULT_PRECISION = 9;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private Geohash() {
+    }
+
+    public static String encode(GeoPoint point) {
+        return encode(point.latitude(), point.longitude(), DEFAULT_PRECISION);
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("Precision must be between 1 and 12");
+        }
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean lonBit = true;
+        int bits = 0;
+        int value = 0;
+        while (hash.length() < precision) {
+            if (lonBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLon = mid;
+                } else {
+                    value <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    value = (value << 1) | 1;
+                    minLat = mid;
+                } else {
+                    value <<= 1;
+                    maxLat = mid;
+                }
+            }
+            lonBit = !lonBit;
+            if (++bits == 5) {
+                hash.append(BASE32[value]);
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * @return der Mittelpunkt der Zelle
+     */
+    public static GeoPoint decode(String geohash) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        boolean lonBit = true;
+        for (int i = 0; i < geohash.length(); i++) {
+            int value = indexOf(geohash.charAt(i));
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean set = ((value >> bit) & 1) == 1;
+                if (lonBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (set) {
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                lonBit = !lonBit;
+            }
+        }
+        return new GeoPoint((minLat + maxLat) / 2, (minLon + maxLon) / 2);
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < BASE32.length; i++) {
+            if (BASE32[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid geohash character: " + c);
+    }
+}
@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.history;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Zeitraum {@code [from, to)}, in dem ein Benutzer ununterbrochen {@code status} hatte.
+ */
+public record StatusPeriod(UserStatus status, Instant from, Instant to) {
+
+    public Duration duration() {
+        return Duration.between(from, to);
+    }
+}
@@ -0,0 +1,38 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.history;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Unveränderlicher Eintrag im Änderungsstrom eines Benutzers. {@code id} ist erst nach dem
+ * Speichern gesetzt und legt die Reihenfolge beim Abspielen fest; {@code key} wird beim Erzeugen
+ * vergeben, damit ein wiederholtes Anhängen keinen zweiten Eintrag erzeugt.
+ */
+public record UserHistoryEvent(
+        Long id,
+        String key,
+        String userUuid,
+        UserHistoryEventType type,
+        String value,
+        Instant occurredAt
+) {
+
+    public static UserHistoryEvent statusChanged(String userUuid, UserStatus status, Instant occurredAt) {
+        return new UserHistoryEvent(null, newKey(), userUuid, UserHistoryEventType.STATUS_CHANGED, status.name(), occurredAt);
+    }
+
+    public static UserHistoryEvent roleAdded(String userUuid, UserRole role, Instant occurredAt) {
+        return new UserHistoryEvent(null, newKey(), userUuid, UserHistoryEventType.ROLE_ADDED, role.name(), occurredAt);
+    }
+
+    public static UserHistoryEvent roleRemoved(String userUuid, UserRole role, Instant occurredAt) {
+        return new UserHistoryEvent(null, newKey(), userUuid, UserHistoryEventType.ROLE_REMOVED, role.name(), occurredAt);
+    }
+
+    private static String newKey() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,7 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.history;
+
+public enum UserHistoryEventType {
+    STATUS_CHANGED,
+    ROLE_ADDED,
+    ROLE_REMOVED
+}
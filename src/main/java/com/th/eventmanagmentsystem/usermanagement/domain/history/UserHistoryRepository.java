@@ -0,0 +1,37 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.history;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Append-only Ablage des Änderungsstroms samt Snapshots.
+ */
+public interface UserHistoryRepository {
+
+    void appendAll(List<UserHistoryEvent> events);
+
+    /**
+     * Jüngster Snapshot, dessen Stand nicht nach {@code atOrBefore} liegt.
+     */
+    Optional<UserState> findLatestSnapshot(String userUuid, Instant atOrBefore);
+
+    /**
+     * Events nach {@code afterEventId} bis einschließlich {@code until}, in Schreibreihenfolge.
+     */
+    List<UserHistoryEvent> findEventsAfter(String userUuid, long afterEventId, Instant until);
+
+    /**
+     * Events mit {@code from <= occurredAt < to}, in Schreibreihenfolge.
+     */
+    List<UserHistoryEvent> findEventsBetween(String userUuid, Instant from, Instant to);
+
+    /**
+     * Benutzer, für die seit ihrem letzten Snapshot mindestens {@code threshold} Events angefallen sind.
+     */
+    Set<String> findUsersDueForSnapshot(Collection<String> userUuids, int threshold);
+
+    void saveSnapshot(UserState snapshot);
+}
@@ -0,0 +1,56 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.history;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Aus dem Änderungsstrom rekonstruierter Zustand eines Benutzers. Als Snapshot gespeichert
+ * deckt er alle Events bis einschließlich {@code lastEventId} ab.
+ *
+ * @param status {@code null}, solange noch kein Status-Event abgespielt wurde
+ */
+public record UserState(
+        String userUuid,
+        UserStatus status,
+        Set<UserRole> roles,
+        long lastEventId,
+        Instant asOf
+) {
+
+    public UserState {
+        roles = roles.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(roles));
+    }
+
+    public static UserState empty(String userUuid) {
+        return new UserState(userUuid, null, Set.of(), 0L, null);
+    }
+
+    public boolean isEmpty() {
+        return lastEventId == 0L && status == null;
+    }
+
+    public UserState apply(UserHistoryEvent event) {
+        UserStatus nextStatus = status;
+        Set<UserRole> nextRoles = roles.isEmpty() ? EnumSet.noneOf(UserRole.class) : EnumSet.copyOf(roles);
+        switch (event.type()) {
+            case STATUS_CHANGED -> nextStatus = UserStatus.valueOf(event.value());
+            case ROLE_ADDED -> nextRoles.add(UserRole.valueOf(event.value()));
+            case ROLE_REMOVED -> nextRoles.remove(UserRole.valueOf(event.value()));
+        }
+        long nextEventId = event.id() == null ? lastEventId : event.id();
+        Instant nextAsOf = asOf == null || event.occurredAt().isAfter(asOf) ? event.occurredAt() : asOf;
+        return new UserState(userUuid, nextStatus, nextRoles, nextEventId, nextAsOf);
+    }
+
+    public UserState applyAll(Iterable<UserHistoryEvent> events) {
+        UserState state = this;
+        for (UserHistoryEvent event : events) {
+            state = state.apply(event);
+        }
+        return state;
+    }
+}
@@ -13,7 +13,7 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class StrongPasswordPolicy implements RegistrationPolicy<UserRegistrationRequest> {
 
-    private Validator validator;
+    private final Validator validator;
 
     @Override
     public void check(UserRegistrationRequest request) {
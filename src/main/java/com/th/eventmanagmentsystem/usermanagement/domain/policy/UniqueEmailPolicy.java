@@ -1,6 +1,7 @@
 package com.th.eventmanagmentsystem.usermanagement.domain.policy;
 
 import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationRequest;
+import com.th.eventmanagmentsystem.usermanagement.domain.EmailNormalizer;
 import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
 import com.th.eventmanagmentsystem.usermanagement.domain.exception.EmailAlreadyExistsException;
 import lombok.RequiredArgsConstructor;
@@ -10,11 +11,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class UniqueEmailPolicy implements RegistrationPolicy<UserRegistrationRequest> {
 
-    private UserRepository userRepository;
+    private final UserRepository userRepository;
 
     @Override
     public void check(UserRegistrationRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
+        if (userRepository.existsByEmail(EmailNormalizer.normalize(request.email()))) {
             throw new EmailAlreadyExistsException();
         }
     }
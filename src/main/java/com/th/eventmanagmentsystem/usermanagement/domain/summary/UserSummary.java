@@ -0,0 +1,113 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.summary;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalisiertes Read-Model für Admin-Listen. Wird ausschließlich vom
+ * {@code UserSummaryProjector} geschrieben und kann jederzeit aus
+ * {@code users} und den Profiltabellen neu aufgebaut werden.
+ */
+@Entity
+@Table(name = "user_summary")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+public class UserSummary {
+
+    @Id
+    @Column(name = "user_uuid", nullable = false, updatable = false, length = 36)
+    private String userUuid;
+
+    @Column(name = "email", nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_status", nullable = false)
+    private UserStatus status;
+
+    /**
+     * Sortierte, kommaseparierte Rollen, z.B. {@code ROLE_ADMIN,ROLE_USER}.
+     */
+    @Column(name = "roles", nullable = false)
+    private String roles;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "profile_type")
+    private ProfileType profileType;
+
+    @Column(name = "display_name")
+    private String displayName;
+
+    @Column(name = "city")
+    private String city;
+
+    @Column(name = "phone_number", length = 20)
+    private String phoneNumber;
+
+    @Column(name = "receive_notifications", nullable = false)
+    private boolean receiveNotifications;
+
+    @Column(name = "source_version")
+    private Long sourceVersion;
+
+    @Column(name = "projected_at", nullable = false)
+    private Instant projectedAt;
+
+    public static UserSummary of(User user, UserProfile profile, Instant projectedAt) {
+        UserSummary summary = new UserSummary();
+        summary.userUuid = user.getUuid();
+        summary.apply(user, profile, projectedAt);
+        return summary;
+    }
+
+    /**
+     * @param profile das bereits entproxte Profil des Benutzers
+     */
+    public void apply(User user, UserProfile profile, Instant projectedAt) {
+        this.email = user.getEmail();
+        this.status = user.getStatus();
+        this.roles = user.getRoles().stream()
+                .map(UserRole::name)
+                .sorted()
+                .collect(Collectors.joining(","));
+        this.sourceVersion = user.getVersion();
+        this.projectedAt = projectedAt;
+
+        switch (profile) {
+            case AttendeeProfile attendee -> {
+                this.profileType = ProfileType.ATTENDEE;
+                this.displayName = attendee.getFullName();
+                this.city = attendee.getAddress() == null ? null : attendee.getAddress().getCity();
+                this.phoneNumber = attendee.getPhoneNumber();
+                this.receiveNotifications = Boolean.TRUE.equals(attendee.getReceiveNotifications());
+            }
+            case OrganizerProfile organizer -> {
+                this.profileType = ProfileType.ORGANIZER;
+                this.displayName = organizer.getOrganizationName();
+                this.city = organizer.getAddress() == null ? null : organizer.getAddress().getCity();
+                this.phoneNumber = organizer.getContactPhone();
+                this.receiveNotifications = false;
+            }
+            case null, default -> {
+                this.profileType = null;
+                this.displayName = null;
+                this.city = null;
+                this.phoneNumber = null;
+                this.receiveNotifications = false;
+            }
+        }
+    }
+
+    public enum ProfileType {
+        ATTENDEE,
+        ORGANIZER
+    }
+}
@@ -0,0 +1,11 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.summary;
+
+import java.util.List;
+
+public record UserSummaryPage(
+        List<UserSummary> content,
+        int page,
+        int size,
+        long totalElements
+) {
+}
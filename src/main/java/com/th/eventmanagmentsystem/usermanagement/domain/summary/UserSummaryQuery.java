@@ -0,0 +1,26 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.summary;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+
+import java.util.List;
+
+/**
+ * Filter, Seite und Sortierung für Admin-Listen über {@code user_summary}.
+ * Filterfelder sind optional; {@code null} bedeutet "nicht filtern".
+ *
+ * @param emailPrefix bereits normalisiert
+ */
+public record UserSummaryQuery(
+        UserStatus status,
+        UserRole role,
+        String city,
+        String emailPrefix,
+        int page,
+        int size,
+        List<Order> sort
+) {
+
+    public record Order(String property, boolean descending) {
+    }
+}
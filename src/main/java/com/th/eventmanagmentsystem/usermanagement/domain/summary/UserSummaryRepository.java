@@ -0,0 +1,27 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.summary;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserSummaryRepository {
+
+    Optional<UserSummary> findById(String userUuid);
+
+    UserSummary save(UserSummary summary);
+
+    void deleteById(String userUuid);
+
+    /**
+     * Keyset-Pagination nach {@code userUuid} für Exporte, ohne OFFSET.
+     */
+    List<UserSummary> findPageAfter(String afterUserUuid, int limit);
+
+    UserSummaryPage search(UserSummaryQuery query);
+
+    /**
+     * Entfernt Einträge, die seit {@code cutoff} nicht mehr projiziert wurden
+     * (z.B. nach einem vollständigen Rebuild verwaiste Benutzer).
+     */
+    int deleteProjectedBefore(Instant cutoff);
+}
@@ -0,0 +1,81 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import com.th.eventmanagmentsystem.common.backfill.Backfill;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.Geocoder;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.Geohash;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Trägt Koordinaten und Geohash für Adressen nach, die vor dem Geocoding angelegt wurden.
+ * Idempotent: Es werden nur Zeilen ohne Geohash angefasst. Bei aktivem Sharding läuft er über die Shards.
+ */
+public class AddressGeocodingBackfill implements Backfill {
+
+    private final String table;
+    private final Geocoder geocoder;
+    private final List<JdbcTemplate> shards;
+
+    public AddressGeocodingBackfill(String table, Geocoder geocoder, List<JdbcTemplate> shards) {
+        this.table = table;
+        this.geocoder = geocoder;
+        this.shards = List.copyOf(shards);
+    }
+
+    @Override
+    public String name() {
+        return "address-geocoding-" + table.replace('_', '-');
+    }
+
+    @Override
+    public String table() {
+        return table;
+    }
+
+    @Override
+    public List<JdbcTemplate> sources(JdbcTemplate primary) {
+        return shards.isEmpty() ? List.of(primary) : shards;
+    }
+
+    @Override
+    public String pendingPredicate() {
+        return "geohash IS NULL AND zip_code IS NOT NULL";
+    }
+
+    @Override
+    public int migrateChunk(JdbcTemplate jdbcTemplate, long fromExclusive, long toInclusive) {
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, zip_code, city, country FROM " + table
+                        + " WHERE id > ? AND id <= ? AND " + pendingPredicate(),
+                rs -> {
+                    long id = rs.getLong("id");
+                    Optional<GeoPoint> location = geocoder.locate(
+                            rs.getString("country"), rs.getString("zip_code"), rs.getString("city"));
+                    location.ifPresent(point -> updates.add(new Object[]{
+                            point.latitude(), point.longitude(), Geohash.encode(point), id}));
+                },
+                fromExclusive, toInclusive);
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate("UPDATE " + table
+                + " SET latitude = ?, longitude = ?, geohash = ? WHERE id = ? AND geohash IS NULL", updates, updates.size(),
+                (ps, row) -> {
+                    ps.setDouble(1, (Double) row[0]);
+                    ps.setDouble(2, (Double) row[1]);
+                    ps.setString(3, (String) row[2]);
+                    ps.setLong(4, (Long) row[3]);
+                });
+        int changed = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                changed += Math.max(count, 0);
+            }
+        }
+        return changed;
+    }
+}
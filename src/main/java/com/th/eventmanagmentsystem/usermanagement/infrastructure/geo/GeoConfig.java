@@ -0,0 +1,31 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import com.th.eventmanagmentsystem.common.backfill.Backfill;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.Geocoder;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding.Shard;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding.ShardRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@Configuration
+public class GeoConfig {
+
+    @Bean
+    public Backfill attendeeAddressGeocodingBackfill(Geocoder geocoder, ObjectProvider<ShardRegistry> shardRegistry) {
+        return new AddressGeocodingBackfill("attendee_profile", geocoder, shards(shardRegistry));
+    }
+
+    @Bean
+    public Backfill organizerAddressGeocodingBackfill(Geocoder geocoder, ObjectProvider<ShardRegistry> shardRegistry) {
+        return new AddressGeocodingBackfill("organizer_profile", geocoder, shards(shardRegistry));
+    }
+
+    private static List<JdbcTemplate> shards(ObjectProvider<ShardRegistry> shardRegistry) {
+        ShardRegistry registry = shardRegistry.getIfAvailable();
+        return registry == null ? List.of() : registry.all().stream().map(Shard::jdbcTemplate).toList();
+    }
+}
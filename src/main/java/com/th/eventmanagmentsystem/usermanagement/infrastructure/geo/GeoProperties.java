@@ -0,0 +1,16 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
+
+/**
+ * @param postalCodes Postleitzahl-Zentroide im GeoNames-Format (Tab-getrennt: Land, PLZ, Ort, 6 Verwaltungsspalten,
+ *                    Breite, Länge, Genauigkeit). Mitgeliefert ist nur ein Auszug; für den Betrieb
+ *                    {@code allCountries.txt} bzw. die Länderdateien von download.geonames.org/export/zip einbinden.
+ */
+@ConfigurationProperties(prefix = "eventmanagement.geo")
+public record GeoProperties(
+        @DefaultValue("classpath:geo/postal-code-centroids.tsv") Resource postalCodes
+) {
+}
@@ -0,0 +1,447 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import com.th.eventmanagmentsystem.usermanagement.application.geo.ProximityIndex;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-Process Umkreisindex über die Adressen aller Attendees und Organizer.
+ * <p>
+ * Die Erde ist in ein festes Raster aus {@value #CELL_DEGREES}°-Zellen (ca. 5,5 km Nord-Süd) geteilt.
+ * Jede Zelle hält die Slots ihrer Profile; Koordinaten liegen in primitiven Arrays, damit auch Millionen
+ * Profile ohne ein Objekt pro Eintrag auskommen.
+ * <ul>
+ *     <li>Umkreis: alle Zellen im Begrenzungsrechteck, danach exakte Haversine-Distanz</li>
+ *     <li>k nächste: Zellringe um den Mittelpunkt, bis keine unbesuchte Zelle mehr näher als der k-te Treffer sein kann</li>
+ * </ul>
+ * Deckt eine Anfrage mehr Zellen ab als belegt sind, werden stattdessen nur die belegten Zellen geprüft.
+ */
+@Component
+public class GridProximityIndex implements ProximityIndex {
+
+    static final double CELL_DEGREES = 0.05;
+    static final int LAT_CELLS = (int) Math.round(180 / CELL_DEGREES);
+    static final int LON_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private static final double KM_PER_DEGREE = Math.PI * GeoPoint.EARTH_RADIUS_KM / 180;
+    private static final ProfileType[] TYPES = ProfileType.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> slotByUuid = new HashMap<>();
+    // Version entfernter Profile, solange der Start-Import noch ältere Stände liefern kann
+    private final Map<String, Long> tombstones = new HashMap<>();
+    private boolean loading = true;
+    private final Map<Integer, Cell> cells = new HashMap<>();
+    private String[] uuids = new String[1024];
+    private long[] versions = new long[1024];
+    private double[] latitudes = new double[1024];
+    private double[] longitudes = new double[1024];
+    private byte[] types = new byte[1024];
+    private int[] cellKeys = new int[1024];
+    private int[] cellPositions = new int[1024];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+
+    public GridProximityIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("proximity.index.profiles", this, GridProximityIndex::size)
+                .register(meterRegistry);
+        Gauge.builder("proximity.index.cells", this, GridProximityIndex::cellCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fügt ein Profil hinzu oder verschiebt es. Ältere Versionen als die bereits indizierte oder entfernte werden
+     * ignoriert, damit der Start-Import keine frischeren Updates überschreibt.
+     */
+    public void upsert(String userUuid, long version, ProfileType type, GeoPoint location) {
+        int cellKey = cellKey(location.latitude(), location.longitude());
+        lock.writeLock().lock();
+        try {
+            Long removed = tombstones.get(userUuid);
+            if (removed != null) {
+                if (version <= removed) {
+                    return;
+                }
+                tombstones.remove(userUuid);
+            }
+            Integer existing = slotByUuid.get(userUuid);
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                if (version < versions[slot]) {
+                    return;
+                }
+                if (cellKeys[slot] != cellKey) {
+                    removeFromCell(slot);
+                    addToCell(slot, cellKey);
+                }
+            } else {
+                slot = allocateSlot();
+                slotByUuid.put(userUuid, slot);
+                uuids[slot] = userUuid;
+                addToCell(slot, cellKey);
+            }
+            versions[slot] = version;
+            latitudes[slot] = location.latitude();
+            longitudes[slot] = location.longitude();
+            types[slot] = (byte) type.ordinal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Entfernt ein Profil. Bis {@link #loadFinished()} bleibt {@code version} als Tombstone erhalten,
+     * damit der Start-Import das Profil nicht mit einem älteren Stand wieder einfügt.
+     */
+    public void remove(String userUuid, long version) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                tombstones.merge(userUuid, version, Math::max);
+            }
+            Integer slot = slotByUuid.remove(userUuid);
+            if (slot == null) {
+                return;
+            }
+            removeFromCell(slot);
+            uuids[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void loadFinished() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            tombstones.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Result withinRadius(GeoPoint center, double radiusKm, ProfileType type, int limit) {
+        double lat = center.latitude();
+        double lon = center.longitude();
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        int minLatCell = latCell(Math.max(-90, lat - latDelta));
+        int maxLatCell = latCell(Math.min(90, lat + latDelta));
+
+        double maxAbsLat = Math.min(90, Math.abs(lat) + latDelta);
+        double cos = Math.cos(Math.toRadians(maxAbsLat));
+        double lonDelta = cos <= 1e-9 ? 360 : radiusKm / (KM_PER_DEGREE * cos);
+        int minLonCell;
+        int lonCellCount;
+        if (lonDelta >= 180) {
+            minLonCell = 0;
+            lonCellCount = LON_CELLS;
+        } else {
+            minLonCell = lonCellUnwrapped(lon - lonDelta);
+            lonCellCount = Math.min(LON_CELLS, lonCellUnwrapped(lon + lonDelta) - minLonCell + 1);
+        }
+
+        Collector collector = new Collector(limit, radiusKm);
+        lock.readLock().lock();
+        try {
+            long rectangleCells = (long) (maxLatCell - minLatCell + 1) * lonCellCount;
+            if (rectangleCells > cells.size()) {
+                for (Cell cell : cells.values()) {
+                    scan(cell, lat, lon, type, collector);
+                }
+            } else {
+                for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (int i = 0; i < lonCellCount; i++) {
+                        Cell cell = cells.get(latCell * LON_CELLS + Math.floorMod(minLonCell + i, LON_CELLS));
+                        if (cell != null) {
+                            scan(cell, lat, lon, type, collector);
+                        }
+                    }
+                }
+            }
+            return collector.result();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Hit> nearest(GeoPoint center, int k, ProfileType type) {
+        if (k <= 0) {
+            return List.of();
+        }
+        double lat = center.latitude();
+        double lon = center.longitude();
+        int centerLat = latCell(lat);
+        int centerLon = lonCellUnwrapped(lon);
+        Collector collector = new Collector(k, Double.POSITIVE_INFINITY);
+
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ; ring++) {
+                long side = 2L * ring + 1;
+                if (side * side > 4L * cells.size() || side > LON_CELLS) {
+                    // Dünn besetzter Index: alle belegten Zellen zu prüfen ist billiger als weitere Ringe
+                    collector = new Collector(k, Double.POSITIVE_INFINITY);
+                    for (Cell cell : cells.values()) {
+                        scan(cell, lat, lon, type, collector);
+                    }
+                    return collector.result().hits();
+                }
+                scanRing(centerLat, centerLon, ring, lat, lon, type, collector);
+                if (collector.isFull() && collector.worstDistance() <= unvisitedLowerBoundKm(lat, ring)) {
+                    return collector.result().hits();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByUuid.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int cellCount() {
+        lock.readLock().lock();
+        try {
+            return cells.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void scanRing(int centerLat, int centerLon, int ring, double lat, double lon,
+                          ProfileType type, Collector collector) {
+        for (int dLat = -ring; dLat <= ring; dLat++) {
+            int latCell = centerLat + dLat;
+            if (latCell < 0 || latCell >= LAT_CELLS) {
+                continue;
+            }
+            boolean edgeRow = dLat == -ring || dLat == ring;
+            int step = edgeRow ? 1 : 2 * ring;
+            for (int dLon = -ring; dLon <= ring; dLon += Math.max(step, 1)) {
+                Cell cell = cells.get(latCell * LON_CELLS + Math.floorMod(centerLon + dLon, LON_CELLS));
+                if (cell != null) {
+                    scan(cell, lat, lon, type, collector);
+                }
+            }
+        }
+    }
+
+    /**
+     * Untere Schranke für die Entfernung jedes Punktes außerhalb der Ringe {@code 0..ring}: Er liegt mehr als
+     * {@code ring} Zellen in Breiten- oder in Längenrichtung entfernt.
+     */
+    private static double unvisitedLowerBoundKm(double lat, int ring) {
+        double degrees = ring * CELL_DEGREES;
+        double latBound = degrees * KM_PER_DEGREE;
+        double maxAbsLat = Math.min(90, Math.abs(lat) + (ring + 1) * CELL_DEGREES);
+        double halfLon = Math.toRadians(Math.min(180, degrees)) / 2;
+        double lonBound = 2 * GeoPoint.EARTH_RADIUS_KM
+                * Math.asin(Math.min(1, Math.cos(Math.toRadians(maxAbsLat)) * Math.sin(halfLon)));
+        return Math.min(latBound, lonBound);
+    }
+
+    private void scan(Cell cell, double lat, double lon, ProfileType type, Collector collector) {
+        for (int i = 0; i < cell.size; i++) {
+            int slot = cell.slots[i];
+            if (type != null && types[slot] != type.ordinal()) {
+                continue;
+            }
+            collector.offer(slot, GeoPoint.distanceKm(lat, lon, latitudes[slot], longitudes[slot]));
+        }
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == uuids.length) {
+            int capacity = slotCount + (slotCount >> 1);
+            uuids = Arrays.copyOf(uuids, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            types = Arrays.copyOf(types, capacity);
+            cellKeys = Arrays.copyOf(cellKeys, capacity);
+            cellPositions = Arrays.copyOf(cellPositions, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void addToCell(int slot, int cellKey) {
+        Cell cell = cells.computeIfAbsent(cellKey, key -> new Cell());
+        cellKeys[slot] = cellKey;
+        cellPositions[slot] = cell.add(slot);
+    }
+
+    private void removeFromCell(int slot) {
+        Cell cell = cells.get(cellKeys[slot]);
+        int moved = cell.removeAt(cellPositions[slot]);
+        if (moved >= 0) {
+            cellPositions[moved] = cellPositions[slot];
+        }
+        if (cell.size == 0) {
+            cells.remove(cellKeys[slot]);
+        }
+    }
+
+    static int cellKey(double latitude, double longitude) {
+        return latCell(latitude) * LON_CELLS + Math.floorMod(lonCellUnwrapped(longitude), LON_CELLS);
+    }
+
+    private static int latCell(double latitude) {
+        return Math.min(LAT_CELLS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    /**
+     * Ohne Modulo, damit Bereiche über die Datumsgrenze fortlaufend bleiben.
+     */
+    private static int lonCellUnwrapped(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    /**
+     * Slots einer Zelle; Entfernen tauscht mit dem letzten Eintrag.
+     */
+    private static final class Cell {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        int add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size] = slot;
+            return size++;
+        }
+
+        /**
+         * @return der Slot, der an {@code position} nachgerückt ist, oder {@code -1}
+         */
+        int removeAt(int position) {
+            int last = --size;
+            if (position == last) {
+                return -1;
+            }
+            slots[position] = slots[last];
+            return slots[position];
+        }
+    }
+
+    /**
+     * Hält die {@code limit} nächsten Treffer in einem Max-Heap und zählt alle innerhalb von {@code maxDistanceKm}.
+     */
+    private final class Collector {
+
+        private final int limit;
+        private final double maxDistanceKm;
+        private final int[] heapSlots;
+        private final double[] heapDistances;
+        private int heapSize;
+        private long matches;
+
+        Collector(int limit, double maxDistanceKm) {
+            this.limit = limit;
+            this.maxDistanceKm = maxDistanceKm;
+            this.heapSlots = new int[limit];
+            this.heapDistances = new double[limit];
+        }
+
+        void offer(int slot, double distanceKm) {
+            if (distanceKm > maxDistanceKm) {
+                return;
+            }
+            matches++;
+            if (limit == 0) {
+                return;
+            }
+            if (heapSize < limit) {
+                heapSlots[heapSize] = slot;
+                heapDistances[heapSize] = distanceKm;
+                siftUp(heapSize++);
+            } else if (distanceKm < heapDistances[0]) {
+                heapSlots[0] = slot;
+                heapDistances[0] = distanceKm;
+                siftDown(0);
+            }
+        }
+
+        boolean isFull() {
+            return heapSize == limit;
+        }
+
+        double worstDistance() {
+            return heapSize == 0 ? Double.POSITIVE_INFINITY : heapDistances[0];
+        }
+
+        Result result() {
+            Hit[] hits = new Hit[heapSize];
+            for (int i = 0; i < heapSize; i++) {
+                int slot = heapSlots[i];
+                hits[i] = new Hit(uuids[slot], TYPES[types[slot]], heapDistances[i]);
+            }
+            Arrays.sort(hits, Comparator.comparingDouble(Hit::distanceKm));
+            return new Result(matches, List.of(hits));
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (heapDistances[parent] >= heapDistances[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int largest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heapSize && heapDistances[left] > heapDistances[largest]) {
+                    largest = left;
+                }
+                if (right < heapSize && heapDistances[right] > heapDistances[largest]) {
+                    largest = right;
+                }
+                if (largest == index) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int slot = heapSlots[a];
+            heapSlots[a] = heapSlots[b];
+            heapSlots[b] = slot;
+            double distance = heapDistances[a];
+            heapDistances[a] = heapDistances[b];
+            heapDistances[b] = distance;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.Geocoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Offline-Geocoding über Postleitzahl-Zentroide. Passt die PLZ nicht, wird auf den Mittelpunkt aller
+ * bekannten Postleitzahlen des Ortes zurückgegriffen.
+ * <p>
+ * Koordinaten werden als {@code float} gehalten: Ein Zentroid ist ohnehin nur auf einige hundert Meter genau,
+ * und der vollständige GeoNames-Export bleibt so deutlich unter 100 MB Heap.
+ */
+@Component
+@Slf4j
+public class PostalCodeGeocoder implements Geocoder {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, float[]> byPostalCode = new HashMap<>();
+    private final Map<String, float[]> byCity = new HashMap<>();
+
+    public PostalCodeGeocoder(GeoProperties properties) {
+        long started = System.nanoTime();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(properties.postalCodes().getInputStream(), StandardCharsets.UTF_8))) {
+            Map<String, double[]> citySums = new HashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t", -1);
+                if (columns.length < 11 || columns[9].isEmpty() || columns[10].isEmpty()) {
+                    continue;
+                }
+                double latitude = Double.parseDouble(columns[9]);
+                double longitude = Double.parseDouble(columns[10]);
+                byPostalCode.put(postalKey(columns[0], columns[1]), new float[]{(float) latitude, (float) longitude});
+
+                double[] sum = citySums.computeIfAbsent(cityKey(columns[0], columns[2]), key -> new double[3]);
+                sum[0] += latitude;
+                sum[1] += longitude;
+                sum[2]++;
+            }
+            citySums.forEach((key, sum) -> byCity.put(key, new float[]{(float) (sum[0] / sum[2]), (float) (sum[1] / sum[2])}));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Reading postal code centroids failed", e);
+        }
+        log.info("Loaded {} postal code centroids for {} places in {} ms",
+                byPostalCode.size(), byCity.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public Optional<GeoPoint> locate(String country, String zipCode, String city) {
+        if (country == null) {
+            return Optional.empty();
+        }
+        float[] point = zipCode == null ? null : byPostalCode.get(postalKey(country, zipCode));
+        if (point == null && city != null) {
+            point = byCity.get(cityKey(country, city));
+        }
+        return point == null ? Optional.empty() : Optional.of(new GeoPoint(point[0], point[1]));
+    }
+
+    private static String postalKey(String country, String zipCode) {
+        return country.trim().toUpperCase(Locale.ROOT) + ':' + WHITESPACE.matcher(zipCode).replaceAll("").toUpperCase(Locale.ROOT);
+    }
+
+    private static String cityKey(String country, String city) {
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(city.trim(), Normalizer.Form.NFD)).replaceAll("");
+        return country.trim().toUpperCase(Locale.ROOT) + ':' + normalized.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,23 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.Address;
+
+/**
+ * Flache Projektion einer Profiladresse für den Aufbau des {@link GridProximityIndex}.
+ * Wird per JPQL-Konstruktor-Ausdruck direkt aus der Datenbank gestreamt.
+ */
+public record ProfileAddressRow(
+        String userUuid,
+        Long version,
+        Double latitude,
+        Double longitude,
+        String country,
+        String zipCode,
+        String city
+) {
+
+    public static ProfileAddressRow of(String userUuid, Long version, Address address) {
+        return new ProfileAddressRow(userUuid, version, address.getLatitude(), address.getLongitude(),
+                address.getCountry(), address.getZipCode(), address.getCity());
+    }
+}
@@ -0,0 +1,105 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.Address;
+import com.th.eventmanagmentsystem.usermanagement.domain.AttendeeProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.OrganizerProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.User;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.ChangeType;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.UserProfileChangedEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.Geocoder;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance.ProfileScan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Befüllt den {@link GridProximityIndex} beim Start per Streaming aus der Datenbank (bei aktivem Sharding
+ * aus allen Shards, siehe {@link ProfileScan}) und hält ihn danach über
+ * {@link UserProfileChangedEvent}s inkrementell aktuell. Adressen, die der Backfill noch nicht erreicht hat,
+ * werden beim Laden im Speicher geocodiert.
+ */
+@Component
+@Slf4j
+public class ProximityIndexLoader {
+
+    private final GridProximityIndex index;
+    private final Geocoder geocoder;
+    private final ProfileScan profileScan;
+
+    public ProximityIndexLoader(GridProximityIndex index, Geocoder geocoder, ProfileScan profileScan) {
+        this.index = index;
+        this.geocoder = geocoder;
+        this.profileScan = profileScan;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofPlatform()
+                .name("proximity-index-loader")
+                .daemon(true)
+                .start(this::load);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        User user = event.profile().getUser();
+        if (user == null) {
+            return;
+        }
+        switch (event.profile()) {
+            case AttendeeProfile attendee -> onAddressChanged(user, attendee.getVersion(), attendee.getAddress(),
+                    ProfileType.ATTENDEE, event.changeType());
+            case OrganizerProfile organizer -> onAddressChanged(user, organizer.getVersion(), organizer.getAddress(),
+                    ProfileType.ORGANIZER, event.changeType());
+            default -> {
+            }
+        }
+    }
+
+    void load() {
+        long started = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        try {
+            loadAll(ProfileType.ATTENDEE, loaded);
+            loadAll(ProfileType.ORGANIZER, loaded);
+            log.info("Proximity index loaded {} of {} profile addresses in {} ms",
+                    index.size(), loaded.get(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Loading proximity index failed after {} profiles", loaded.get(), e);
+        } finally {
+            index.loadFinished();
+        }
+    }
+
+    private void loadAll(ProfileType type, AtomicLong loaded) {
+        profileScan.forEachAddressRow(type, row -> {
+            apply(row, type);
+            loaded.incrementAndGet();
+        });
+    }
+
+    private void onAddressChanged(User user, Long version, Address address, ProfileType type, ChangeType changeType) {
+        if (changeType == ChangeType.DELETED || address == null) {
+            index.remove(user.getUuid(), version == null ? 0 : version);
+        } else {
+            apply(ProfileAddressRow.of(user.getUuid(), version, address), type);
+        }
+    }
+
+    private void apply(ProfileAddressRow row, ProfileType type) {
+        Optional<GeoPoint> location = row.latitude() != null && row.longitude() != null
+                ? Optional.of(new GeoPoint(row.latitude(), row.longitude()))
+                : geocoder.locate(row.country(), row.zipCode(), row.city());
+        long version = row.version() == null ? 0 : row.version();
+        location.ifPresentOrElse(
+                point -> index.upsert(row.userUuid(), version, type, point),
+                () -> index.remove(row.userUuid(), version));
+    }
+}
@@ -0,0 +1,11 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.kafka;
+
+/**
+ * Nicht verarbeitbarer Record; wird ohne Retry in das Dead-Letter-Topic verschoben.
+ */
+public class InvalidStatusChangeException extends RuntimeException {
+
+    public InvalidStatusChangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.kafka;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+
+import java.time.Instant;
+
+/**
+ * Payload auf {@code eventmanagement.status-sync.topic}. Produzenten verwenden die User-UUID als
+ * Record-Key, damit alle Änderungen eines Benutzers in derselben Partition und damit geordnet ankommen.
+ */
+public record UserStatusChangeMessage(String userUuid, UserStatus status, Instant occurredAt, String source) {
+}
@@ -0,0 +1,105 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Eigene Consumer-/Producer-Konfiguration für den Status-Sync, damit andere Kafka-Nutzer
+ * die globalen {@code spring.kafka.*}-Defaults behalten.
+ * <p>
+ * Consumer-Lag und die übrigen Client-Metriken (z.B. {@code kafka.consumer.fetch.manager.records.lag.max})
+ * werden über den {@link MicrometerConsumerListener} exportiert.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eventmanagement.status-sync", name = "enabled", havingValue = "true")
+public class UserStatusSyncKafkaConfig {
+
+    static final String CONTAINER_FACTORY = "userStatusSyncContainerFactory";
+
+    @Bean(CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, UserStatusChangeMessage> userStatusSyncContainerFactory(
+            KafkaProperties kafkaProperties,
+            UserStatusSyncProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        Map<String, Object> consumerProperties = new LinkedHashMap<>(kafkaProperties.buildConsumerProperties(null));
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, properties.groupId());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+
+        JsonDeserializer<UserStatusChangeMessage> valueDeserializer =
+                new JsonDeserializer<>(UserStatusChangeMessage.class, objectMapper, false);
+        DefaultKafkaConsumerFactory<String, UserStatusChangeMessage> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                consumerProperties, new StringDeserializer(), new ErrorHandlingDeserializer<>(valueDeserializer));
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+        ConcurrentKafkaListenerContainerFactory<String, UserStatusChangeMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.concurrency());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(userStatusSyncErrorHandler(kafkaProperties, properties, objectMapper, meterRegistry));
+        return factory;
+    }
+
+    /**
+     * Transiente Fehler (z.B. Datenbank weg) werden mit exponentiellem Backoff wiederholt,
+     * ungültige Records sofort ins Dead-Letter-Topic geschrieben. Nicht deserialisierbare Records
+     * landen dort mit ihren Original-Bytes.
+     */
+    private static DefaultErrorHandler userStatusSyncErrorHandler(KafkaProperties kafkaProperties,
+                                                                  UserStatusSyncProperties properties,
+                                                                  ObjectMapper objectMapper,
+                                                                  MeterRegistry meterRegistry) {
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(UserStatusChangeMessage.class, new JsonSerializer<>(objectMapper));
+        KafkaTemplate<String, Object> deadLetterTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(null), new StringSerializer(),
+                new DelegatingByTypeSerializer(valueSerializers)));
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterTemplate,
+                (record, exception) -> new TopicPartition(properties.deadLetterTopic(), -1));
+        Counter deadLetters = Counter.builder("user.status.sync.dead.letters")
+                .description("Status changes moved to the dead-letter topic")
+                .register(meterRegistry);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(properties.initialRetryInterval().toMillis(), 2.0);
+        backOff.setMaxAttempts(properties.maxRetries());
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler((record, exception) -> {
+            deadLetters.increment();
+            recoverer.accept(record, exception);
+        }, backOff);
+        errorHandler.addNotRetryableExceptions(InvalidStatusChangeException.class);
+        return errorHandler;
+    }
+}
@@ -0,0 +1,117 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.kafka;
+
+import com.th.eventmanagmentsystem.usermanagement.application.statussync.UserStatusChange;
+import com.th.eventmanagmentsystem.usermanagement.application.statussync.UserStatusSyncResult;
+import com.th.eventmanagmentsystem.usermanagement.application.statussync.UserStatusSyncService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Verarbeitet jeden Poll als einen Batch. Offsets werden erst bestätigt, nachdem
+ * {@link UserStatusSyncService#apply} committet hat; bei einem Absturz dazwischen wird der Batch
+ * erneut geliefert, was dank Last-Write-Wins und No-op-Erkennung unschädlich ist.
+ * <p>
+ * Ein ungültiger Record an Position {@code i} beendet den Batch: Die Records davor werden noch
+ * übernommen, dann verschiebt der Error-Handler Record {@code i} ins Dead-Letter-Topic und liefert
+ * den Rest erneut aus.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eventmanagement.status-sync", name = "enabled", havingValue = "true")
+public class UserStatusSyncListener {
+
+    private static final String DEFAULT_SOURCE = "status-sync";
+    private static final int MAX_SOURCE_LENGTH = 50;
+
+    private final UserStatusSyncService userStatusSyncService;
+    private final DistributionSummary batchSize;
+    private final DistributionSummary collapsedBatchSize;
+    private final Counter updatedCounter;
+    private final Timer eventAge;
+
+    public UserStatusSyncListener(UserStatusSyncService userStatusSyncService, MeterRegistry meterRegistry) {
+        this.userStatusSyncService = userStatusSyncService;
+        this.batchSize = DistributionSummary.builder("user.status.sync.batch.size")
+                .description("Records per poll")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.collapsedBatchSize = DistributionSummary.builder("user.status.sync.batch.users")
+                .description("Distinct users per poll after last-write-wins")
+                .register(meterRegistry);
+        this.updatedCounter = Counter.builder("user.status.sync.updated")
+                .description("Users whose status actually changed")
+                .register(meterRegistry);
+        this.eventAge = Timer.builder("user.status.sync.event.age")
+                .description("Time between producing a status change and applying it")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            id = "user-status-sync",
+            topics = "${eventmanagement.status-sync.topic:user-status-changes}",
+            containerFactory = UserStatusSyncKafkaConfig.CONTAINER_FACTORY
+    )
+    public void onBatch(List<ConsumerRecord<String, UserStatusChangeMessage>> records, Acknowledgment acknowledgment) {
+        batchSize.record(records.size());
+
+        List<UserStatusChange> changes = new ArrayList<>(records.size());
+        int invalidIndex = -1;
+        String invalidReason = null;
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, UserStatusChangeMessage> record = records.get(i);
+            invalidReason = validate(record.value());
+            if (invalidReason != null) {
+                invalidIndex = i;
+                break;
+            }
+            changes.add(toChange(record));
+        }
+
+        if (!changes.isEmpty()) {
+            UserStatusSyncResult result = userStatusSyncService.apply(changes);
+            collapsedBatchSize.record(result.collapsed());
+            updatedCounter.increment(result.updated());
+            Instant now = Instant.now();
+            changes.forEach(change -> eventAge.record(Duration.between(change.occurredAt(), now)));
+        }
+
+        if (invalidIndex >= 0) {
+            throw new BatchListenerFailedException(invalidReason, new InvalidStatusChangeException(invalidReason), invalidIndex);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private static String validate(UserStatusChangeMessage message) {
+        if (message == null) {
+            return "Record could not be deserialized";
+        }
+        if (message.userUuid() == null || message.userUuid().isBlank()) {
+            return "Status change without userUuid";
+        }
+        if (message.status() == null) {
+            return "Status change without status for user " + message.userUuid();
+        }
+        return null;
+    }
+
+    private static UserStatusChange toChange(ConsumerRecord<String, UserStatusChangeMessage> record) {
+        UserStatusChangeMessage message = record.value();
+        Instant occurredAt = message.occurredAt() != null ? message.occurredAt() : Instant.ofEpochMilli(record.timestamp());
+        String source = message.source() == null || message.source().isBlank() ? DEFAULT_SOURCE : message.source();
+        return new UserStatusChange(message.userUuid(), message.status(), occurredAt,
+                source.length() > MAX_SOURCE_LENGTH ? source.substring(0, MAX_SOURCE_LENGTH) : source);
+    }
+}
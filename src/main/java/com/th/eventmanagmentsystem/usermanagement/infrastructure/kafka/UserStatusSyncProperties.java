@@ -0,0 +1,19 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "eventmanagement.status-sync")
+public record UserStatusSyncProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("user-status-changes") String topic,
+        @DefaultValue("user-status-changes.DLT") String deadLetterTopic,
+        @DefaultValue("user-status-sync") String groupId,
+        @DefaultValue("1") int concurrency,
+        @DefaultValue("2000") int maxPollRecords,
+        @DefaultValue("5") int maxRetries,
+        @DefaultValue("500ms") Duration initialRetryInterval
+) {
+}
@@ -0,0 +1,35 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.Address;
+import com.th.eventmanagmentsystem.usermanagement.domain.AttendeeProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.OrganizerProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.Geocoder;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA Entity-Listener, der neue oder ersetzte Adressen vor dem Schreiben geocodiert.
+ * Adressen ohne Treffer bleiben ohne Koordinaten und werden vom Backfill erneut versucht.
+ */
+@Component
+@RequiredArgsConstructor
+public class AddressGeocodingListener {
+
+    private final Geocoder geocoder;
+
+    @PrePersist
+    @PreUpdate
+    void locate(UserProfile profile) {
+        Address address = switch (profile) {
+            case AttendeeProfile attendee -> attendee.getAddress();
+            case OrganizerProfile organizer -> organizer.getAddress();
+            default -> null;
+        };
+        if (address != null && !address.isLocated()) {
+            geocoder.locate(address.getCountry(), address.getZipCode(), address.getCity()).ifPresent(address::locate);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEventType;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryRepository;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only Ablage in {@code user_history_event}; Snapshots in {@code user_history_snapshot}
+ * werden nur ergänzt, nie überschrieben. Events mit bereits gespeichertem Schlüssel werden übersprungen.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcUserHistoryRepository implements UserHistoryRepository {
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+
+    private static final String INSERT_EVENT_SQL = """
+            INSERT INTO user_history_event (event_key, user_uuid, event_type, event_value, occurred_at)
+            SELECT :key, :userUuid, :type, :value, :occurredAt
+            WHERE NOT EXISTS (SELECT 1 FROM user_history_event WHERE event_key = :key)
+            """;
+
+    private static final String SELECT_LATEST_SNAPSHOT_SQL = """
+            SELECT user_uuid, user_status, roles, last_event_id, as_of
+            FROM user_history_snapshot
+            WHERE user_uuid = :userUuid AND as_of <= :atOrBefore
+            ORDER BY last_event_id DESC
+            FETCH FIRST 1 ROWS ONLY
+            """;
+
+    private static final String SELECT_EVENTS_AFTER_SQL = """
+            SELECT id, event_key, user_uuid, event_type, event_value, occurred_at
+            FROM user_history_event
+            WHERE user_uuid = :userUuid AND id > :afterEventId AND occurred_at <= :until
+            ORDER BY id
+            """;
+
+    private static final String SELECT_EVENTS_BETWEEN_SQL = """
+            SELECT id, event_key, user_uuid, event_type, event_value, occurred_at
+            FROM user_history_event
+            WHERE user_uuid = :userUuid AND occurred_at >= :from AND occurred_at < :to
+            ORDER BY id
+            """;
+
+    private static final String SELECT_DUE_FOR_SNAPSHOT_SQL = """
+            SELECT e.user_uuid
+            FROM user_history_event e
+            WHERE e.user_uuid IN (:userUuids)
+              AND e.id > COALESCE((SELECT MAX(s.last_event_id) FROM user_history_snapshot s
+                                   WHERE s.user_uuid = e.user_uuid), 0)
+            GROUP BY e.user_uuid
+            HAVING COUNT(*) >= :threshold
+            """;
+
+    private static final String INSERT_SNAPSHOT_SQL = """
+            INSERT INTO user_history_snapshot (user_uuid, last_event_id, user_status, roles, as_of)
+            VALUES (:userUuid, :lastEventId, :status, :roles, :asOf)
+            """;
+
+    private static final RowMapper<UserHistoryEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new UserHistoryEvent(
+            rs.getLong("id"),
+            rs.getString("event_key"),
+            rs.getString("user_uuid"),
+            UserHistoryEventType.valueOf(rs.getString("event_type")),
+            rs.getString("event_value"),
+            rs.getTimestamp("occurred_at").toInstant()
+    );
+
+    private static final RowMapper<UserState> SNAPSHOT_ROW_MAPPER = (rs, rowNum) -> new UserState(
+            rs.getString("user_uuid"),
+            rs.getString("user_status") == null ? null : UserStatus.valueOf(rs.getString("user_status")),
+            splitRoles(rs.getString("roles")),
+            rs.getLong("last_event_id"),
+            rs.getTimestamp("as_of").toInstant()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void appendAll(List<UserHistoryEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] batch = events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("key", event.key())
+                        .addValue("userUuid", event.userUuid())
+                        .addValue("type", event.type().name())
+                        .addValue("value", event.value())
+                        .addValue("occurredAt", Timestamp.from(event.occurredAt())))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, batch);
+    }
+
+    @Override
+    public Optional<UserState> findLatestSnapshot(String userUuid, Instant atOrBefore) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userUuid", userUuid)
+                .addValue("atOrBefore", Timestamp.from(atOrBefore));
+        return jdbcTemplate.query(SELECT_LATEST_SNAPSHOT_SQL, params, SNAPSHOT_ROW_MAPPER).stream().findFirst();
+    }
+
+    @Override
+    public List<UserHistoryEvent> findEventsAfter(String userUuid, long afterEventId, Instant until) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userUuid", userUuid)
+                .addValue("afterEventId", afterEventId)
+                .addValue("until", Timestamp.from(until));
+        return jdbcTemplate.query(SELECT_EVENTS_AFTER_SQL, params, EVENT_ROW_MAPPER);
+    }
+
+    @Override
+    public List<UserHistoryEvent> findEventsBetween(String userUuid, Instant from, Instant to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userUuid", userUuid)
+                .addValue("from", Timestamp.from(from))
+                .addValue("to", Timestamp.from(to));
+        return jdbcTemplate.query(SELECT_EVENTS_BETWEEN_SQL, params, EVENT_ROW_MAPPER);
+    }
+
+    @Override
+    public Set<String> findUsersDueForSnapshot(Collection<String> userUuids, int threshold) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(userUuids));
+        Set<String> due = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("userUuids", distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size())))
+                    .addValue("threshold", threshold);
+            due.addAll(jdbcTemplate.queryForList(SELECT_DUE_FOR_SNAPSHOT_SQL, params, String.class));
+        }
+        return due;
+    }
+
+    @Override
+    public void saveSnapshot(UserState snapshot) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userUuid", snapshot.userUuid())
+                .addValue("lastEventId", snapshot.lastEventId())
+                .addValue("status", snapshot.status() == null ? null : snapshot.status().name())
+                .addValue("roles", joinRoles(snapshot.roles()))
+                .addValue("asOf", Timestamp.from(snapshot.asOf()));
+        jdbcTemplate.update(INSERT_SNAPSHOT_SQL, params);
+    }
+
+    private static String joinRoles(Set<UserRole> roles) {
+        return roles.stream().map(UserRole::name).sorted().collect(Collectors.joining(","));
+    }
+
+    private static Set<UserRole> splitRoles(String value) {
+        if (value == null || value.isEmpty()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(",")).map(UserRole::valueOf).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,49 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.AttendeeProfile;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.geo.ProfileAddressRow;
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchDocument;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface JpaAttendeeProfileRepository extends JpaRepository<AttendeeProfile, Long> {
+
+    /**
+     * Streamt alle Attendees als flache Projektion, ohne Entities in den Persistence Context zu laden.
+     * Muss innerhalb einer (read-only) Transaktion konsumiert und geschlossen werden.
+     */
+    @Query("""
+            select new com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchDocument(
+                a.uuid, a.version, a.firstName, a.lastName, a.address.city, a.address.zipCode)
+            from AttendeeProfile a
+            """)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<AttendeeSearchDocument> streamSearchDocuments();
+
+    /**
+     * Streamt die Adressen aller Attendees samt User-UUID für den Umkreisindex.
+     */
+    @Query("""
+            select new com.th.eventmanagmentsystem.usermanagement.infrastructure.geo.ProfileAddressRow(
+                u.uuid, a.version, a.address.latitude, a.address.longitude,
+                a.address.country, a.address.zipCode, a.address.city)
+            from AttendeeProfile a join a.user u
+            """)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProfileAddressRow> streamAddressRows();
+}
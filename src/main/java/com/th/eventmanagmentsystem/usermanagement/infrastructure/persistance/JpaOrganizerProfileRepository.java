@@ -0,0 +1,35 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.OrganizerProfile;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.geo.ProfileAddressRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface JpaOrganizerProfileRepository extends JpaRepository<OrganizerProfile, Long> {
+
+    /**
+     * Streamt die Adressen aller Organizer mit Adresse. Muss innerhalb einer (read-only) Transaktion
+     * konsumiert und geschlossen werden.
+     */
+    @Query("""
+            select new com.th.eventmanagmentsystem.usermanagement.infrastructure.geo.ProfileAddressRow(
+                u.uuid, o.version, o.address.latitude, o.address.longitude,
+                o.address.country, o.address.zipCode, o.address.city)
+            from OrganizerProfile o join o.user u
+            where o.address.country is not null
+            """)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProfileAddressRow> streamAddressRows();
+}
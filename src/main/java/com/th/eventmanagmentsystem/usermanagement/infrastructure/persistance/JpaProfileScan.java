@@ -0,0 +1,52 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchDocument;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.geo.ProfileAddressRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Streamt die Profile der Primärdatenbank innerhalb einer read-only Transaktion.
+ */
+@Component
+public class JpaProfileScan implements ProfileScan {
+
+    private final JpaAttendeeProfileRepository attendeeProfileRepository;
+    private final JpaOrganizerProfileRepository organizerProfileRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JpaProfileScan(JpaAttendeeProfileRepository attendeeProfileRepository,
+                          JpaOrganizerProfileRepository organizerProfileRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.attendeeProfileRepository = attendeeProfileRepository;
+        this.organizerProfileRepository = organizerProfileRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void forEachAttendeeSearchDocument(Consumer<AttendeeSearchDocument> action) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<AttendeeSearchDocument> documents = attendeeProfileRepository.streamSearchDocuments()) {
+                documents.forEach(action);
+            }
+        });
+    }
+
+    @Override
+    public void forEachAddressRow(ProfileType type, Consumer<ProfileAddressRow> action) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ProfileAddressRow> rows = switch (type) {
+                case ATTENDEE -> attendeeProfileRepository.streamAddressRows();
+                case ORGANIZER -> organizerProfileRepository.streamAddressRows();
+            }) {
+                rows.forEach(action);
+            }
+        });
+    }
+}
@@ -1,11 +1,100 @@
 package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
 
 import com.th.eventmanagmentsystem.usermanagement.domain.User;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserKey;
 import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatusCount;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
 
 @Repository
 public interface JpaUserPersistenceAdapter extends UserRepository, JpaRepository<User, Long> {
 
+    int IN_CLAUSE_CHUNK_SIZE = 1_000;
+
+    // Lookups ohne umgebende Transaktion laufen read-only und können von einer Replica bedient werden.
+    @Override
+    @Transactional(readOnly = true)
+    boolean existsByEmail(String email);
+
+    @Override
+    @Transactional(readOnly = true)
+    Optional<User> findByEmail(String email);
+
+    @Override
+    @Transactional(readOnly = true)
+    Optional<User> findByUuid(String uuid);
+
+    /**
+     * Fragt den E-Mail-Index in Blöcken von {@value #IN_CLAUSE_CHUNK_SIZE} ab, alle Blöcke
+     * in derselben read-only Transaktion.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    default Set<String> findExistingEmails(Collection<String> emails) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(emails));
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            existing.addAll(findEmailsIn(distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()))));
+        }
+        return existing;
+    }
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Override
+    @Transactional(readOnly = true)
+    default List<UserKey> findKeysAfter(long afterId, int limit) {
+        return findKeysAfter(afterId, Limit.of(limit));
+    }
+
+    @Query("select new com.th.eventmanagmentsystem.usermanagement.domain.UserKey(u.id, u.uuid) "
+            + "from User u where u.id > :afterId order by u.id")
+    List<UserKey> findKeysAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("select new com.th.eventmanagmentsystem.usermanagement.domain.UserStatusCount(u.status, count(u)) "
+            + "from User u group by u.status")
+    List<UserStatusCount> countByStatus();
+
+    /**
+     * Sperrt je Zielstatus nur die Zeilen, die sich wirklich ändern (sortiert, um Deadlocks zwischen
+     * parallelen Batches zu vermeiden), und aktualisiert genau diese mit einem Statement pro Block.
+     */
+    @Override
+    @Transactional
+    default Set<String> updateStatuses(Map<String, UserStatus> statusByUuid) {
+        Map<UserStatus, List<String>> uuidsByStatus = new EnumMap<>(UserStatus.class);
+        statusByUuid.forEach((uuid, status) -> uuidsByStatus.computeIfAbsent(status, key -> new ArrayList<>()).add(uuid));
+
+        Set<String> changed = new HashSet<>();
+        uuidsByStatus.forEach((status, uuids) -> {
+            Collections.sort(uuids);
+            for (int from = 0; from < uuids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+                List<String> chunk = uuids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, uuids.size()));
+                List<String> stale = lockUuidsNotInStatus(chunk, status.name());
+                if (!stale.isEmpty()) {
+                    updateStatus(stale, status);
+                    changed.addAll(stale);
+                }
+            }
+        });
+        return changed;
+    }
+
+    @Query(value = "SELECT uuid FROM users WHERE uuid IN (:uuids) AND user_status <> :status ORDER BY uuid FOR UPDATE",
+            nativeQuery = true)
+    List<String> lockUuidsNotInStatus(@Param("uuids") Collection<String> uuids, @Param("status") String status);
+
+    @Modifying
+    @Query("update User u set u.status = :status, u.version = u.version + 1 where u.uuid in :uuids")
+    int updateStatus(@Param("uuids") Collection<String> uuids, @Param("status") UserStatus status);
 }
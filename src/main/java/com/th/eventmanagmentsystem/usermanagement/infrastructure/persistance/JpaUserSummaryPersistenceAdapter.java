@@ -0,0 +1,72 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryPage;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryQuery;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public interface JpaUserSummaryPersistenceAdapter extends UserSummaryRepository,
+        JpaRepository<UserSummary, String>, JpaSpecificationExecutor<UserSummary> {
+
+    @Override
+    default List<UserSummary> findPageAfter(String afterUserUuid, int limit) {
+        return findPageAfter(afterUserUuid, Limit.of(limit));
+    }
+
+    @Transactional(readOnly = true)
+    @Query("select s from UserSummary s where s.userUuid > :afterUserUuid order by s.userUuid")
+    List<UserSummary> findPageAfter(@Param("afterUserUuid") String afterUserUuid, Limit limit);
+
+    @Override
+    default UserSummaryPage search(UserSummaryQuery query) {
+        Sort sort = Sort.by(query.sort().stream()
+                .map(order -> order.descending() ? Sort.Order.desc(order.property()) : Sort.Order.asc(order.property()))
+                .toList());
+        Page<UserSummary> page = findAll(toSpecification(query), PageRequest.of(query.page(), query.size(), sort));
+        return new UserSummaryPage(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
+
+    private static Specification<UserSummary> toSpecification(UserSummaryQuery query) {
+        List<Specification<UserSummary>> filters = new ArrayList<>();
+        if (query.status() != null) {
+            filters.add((root, criteria, cb) -> cb.equal(root.get("status"), query.status()));
+        }
+        if (query.role() != null) {
+            // Rollen stehen kommasepariert in einer Spalte; mit Trennzeichen an beiden Enden trifft nur die ganze Rolle
+            String role = query.role().name().replace("_", "\\_");
+            filters.add((root, criteria, cb) -> cb.like(
+                    cb.concat(cb.concat(",", root.get("roles")), ","), "%," + role + ",%", '\\'));
+        }
+        if (query.city() != null) {
+            filters.add((root, criteria, cb) -> cb.equal(root.get("city"), query.city()));
+        }
+        if (query.emailPrefix() != null) {
+            String prefix = query.emailPrefix().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            filters.add((root, criteria, cb) -> cb.like(root.get("email"), prefix + "%", '\\'));
+        }
+        return Specification.allOf(filters);
+    }
+
+    @Override
+    @Modifying
+    @Transactional
+    @Query("delete from UserSummary s where s.projectedAt < :cutoff")
+    int deleteProjectedBefore(@Param("cutoff") Instant cutoff);
+}
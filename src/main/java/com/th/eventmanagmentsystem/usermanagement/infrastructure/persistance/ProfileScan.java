@@ -0,0 +1,21 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchDocument;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.geo.ProfileAddressRow;
+
+import java.util.function.Consumer;
+
+/**
+ * Liest alle Profile als flache Projektionen für den Aufbau der In-Memory-Indizes, unabhängig davon,
+ * in welcher Datenbank die Benutzer liegen.
+ */
+public interface ProfileScan {
+
+    void forEachAttendeeSearchDocument(Consumer<AttendeeSearchDocument> action);
+
+    /**
+     * Organizer ohne Adresse werden übersprungen.
+     */
+    void forEachAddressRow(ProfileType type, Consumer<ProfileAddressRow> action);
+}
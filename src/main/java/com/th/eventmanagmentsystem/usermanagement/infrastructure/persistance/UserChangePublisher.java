@@ -0,0 +1,34 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.User;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.ChangeType;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.UserChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * JPA Entity-Listener, der Änderungen an {@link User} als Spring-Events weiterreicht.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    void onSave(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUuid(), ChangeType.SAVED, Instant.now()));
+    }
+
+    @PostRemove
+    void onRemove(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUuid(), ChangeType.DELETED, Instant.now()));
+    }
+}
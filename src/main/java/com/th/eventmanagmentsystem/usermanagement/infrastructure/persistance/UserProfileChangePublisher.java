@@ -0,0 +1,35 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.ChangeType;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.UserProfileChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * JPA Entity-Listener, der Profiländerungen als Spring-Events weiterreicht.
+ * Wird von Hibernate über den SpringBeanContainer instanziiert.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    void onSave(UserProfile profile) {
+        eventPublisher.publishEvent(new UserProfileChangedEvent(profile, ChangeType.SAVED, Instant.now()));
+    }
+
+    @PostRemove
+    void onRemove(UserProfile profile) {
+        eventPublisher.publishEvent(new UserProfileChangedEvent(profile, ChangeType.DELETED, Instant.now()));
+    }
+}
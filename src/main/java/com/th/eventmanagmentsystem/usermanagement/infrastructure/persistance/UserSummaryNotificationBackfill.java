@@ -0,0 +1,96 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.common.backfill.Backfill;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding.Shard;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding.ShardRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Füllt {@code phone_number} und {@code receive_notifications} in {@code user_summary} für Zeilen, die vor
+ * Changeset 007 projiziert wurden (siehe {@code UserSummary#apply}). Iteriert über {@code users.id}, da die
+ * Summary keinen numerischen Schlüssel hat. Idempotent: Die Werte werden aus dem aktuellen Profil übernommen.
+ * <p>
+ * Bei aktivem Sharding werden die Profile auf den Shards gelesen; die Summary liegt weiter in der Primärdatenbank.
+ */
+@Component
+public class UserSummaryNotificationBackfill implements Backfill {
+
+    private static final String PROFILES_SQL = """
+            SELECT u.uuid, a.phone_number, a.receive_notifications, o.contact_phone
+            FROM users u
+            LEFT JOIN attendee_profile a ON a.id = u.user_profile_id
+            LEFT JOIN organizer_profile o ON o.id = u.user_profile_id
+            WHERE u.id > ? AND u.id <= ?
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE user_summary SET phone_number = ?, receive_notifications = ? WHERE user_uuid = ?
+            """;
+
+    private final JdbcTemplate primary;
+    private final List<JdbcTemplate> shards;
+
+    public UserSummaryNotificationBackfill(JdbcTemplate primary, ObjectProvider<ShardRegistry> shardRegistry) {
+        this.primary = primary;
+        ShardRegistry registry = shardRegistry.getIfAvailable();
+        this.shards = registry == null ? List.of() : registry.all().stream().map(Shard::jdbcTemplate).toList();
+    }
+
+    @Override
+    public String name() {
+        return "user-summary-notification-recipients";
+    }
+
+    @Override
+    public String table() {
+        return "users";
+    }
+
+    @Override
+    public List<JdbcTemplate> sources(JdbcTemplate primary) {
+        return shards.isEmpty() ? List.of(primary) : shards;
+    }
+
+    /**
+     * Auf den Shards fehlt die Summary, der Dry-Run zählt dort alle Benutzer als offen.
+     */
+    @Override
+    public String pendingPredicate() {
+        if (!shards.isEmpty()) {
+            return null;
+        }
+        return """
+                EXISTS (SELECT 1 FROM user_summary s JOIN attendee_profile a ON a.id = users.user_profile_id
+                        WHERE s.user_uuid = users.uuid
+                          AND (s.receive_notifications <> a.receive_notifications
+                               OR s.phone_number IS NULL AND a.phone_number IS NOT NULL))""";
+    }
+
+    @Override
+    public int migrateChunk(JdbcTemplate jdbcTemplate, long fromExclusive, long toInclusive) {
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query(PROFILES_SQL,
+                rs -> {
+                    String phone = rs.getString("phone_number");
+                    boolean receiveNotifications = rs.getBoolean("receive_notifications");
+                    updates.add(new Object[]{
+                            phone != null ? phone : rs.getString("contact_phone"),
+                            receiveNotifications,
+                            rs.getString("uuid")});
+                },
+                fromExclusive, toInclusive);
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int changed = 0;
+        for (int count : primary.batchUpdate(UPDATE_SQL, updates)) {
+            changed += Math.max(count, 0);
+        }
+        return changed;
+    }
+}
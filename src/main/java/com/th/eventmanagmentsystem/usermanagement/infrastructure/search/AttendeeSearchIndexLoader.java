@@ -0,0 +1,66 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.search;
+
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchDocument;
+import com.th.eventmanagmentsystem.usermanagement.domain.AttendeeProfile;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.ChangeType;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.UserProfileChangedEvent;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance.ProfileScan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Befüllt den {@link InMemoryAttendeeSearchIndex} beim Start per Streaming aus der Datenbank
+ * (bei aktivem Sharding aus allen Shards, siehe {@link ProfileScan}) und hält ihn danach über {@link UserProfileChangedEvent}s inkrementell aktuell.
+ */
+@Component
+@Slf4j
+public class AttendeeSearchIndexLoader {
+
+    private final InMemoryAttendeeSearchIndex index;
+    private final ProfileScan profileScan;
+
+    public AttendeeSearchIndexLoader(InMemoryAttendeeSearchIndex index, ProfileScan profileScan) {
+        this.index = index;
+        this.profileScan = profileScan;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofPlatform()
+                .name("attendee-search-index-loader")
+                .daemon(true)
+                .start(this::load);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        if (!(event.profile() instanceof AttendeeProfile attendee)) {
+            return;
+        }
+        if (event.changeType() == ChangeType.DELETED) {
+            index.remove(attendee.getUuid());
+        } else {
+            index.upsert(AttendeeSearchDocument.from(attendee));
+        }
+    }
+
+    void load() {
+        long started = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        try {
+            profileScan.forEachAttendeeSearchDocument(document -> {
+                index.upsert(document);
+                loaded.incrementAndGet();
+            });
+            log.info("Attendee search index loaded {} profiles in {} ms (~{} KiB)",
+                    loaded.get(), (System.nanoTime() - started) / 1_000_000, index.estimatedMemoryBytes() / 1024);
+        } catch (RuntimeException e) {
+            log.error("Loading attendee search index failed after {} profiles", loaded.get(), e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Append-only Postingliste aufsteigender Doc-IDs, gespeichert als Delta-VarInts.
+ * Neue Dokumente bekommen immer eine höhere ID, daher reicht Anhängen am Ende.
+ * Typische Deltas passen in ein bis zwei Bytes statt vier.
+ */
+final class CompressedIntPostings {
+
+    private byte[] bytes = new byte[4];
+    private int length;
+    private int count;
+    private int lastDocId = -1;
+
+    void add(int docId) {
+        if (docId <= lastDocId) {
+            if (docId == lastDocId) {
+                return;
+            }
+            throw new IllegalArgumentException("Doc ids must be appended in ascending order");
+        }
+        int delta = docId - lastDocId;
+        ensureCapacity(length + 5);
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+        lastDocId = docId;
+        count++;
+    }
+
+    /**
+     * Dekodiert alle Doc-IDs aufsteigend in {@code target} ab {@code offset}.
+     *
+     * @return die neue Position in {@code target}
+     */
+    int decodeInto(long[] target, int offset, int score) {
+        int docId = -1;
+        int position = 0;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            docId += delta;
+            target[offset++] = ((long) docId << 8) | score;
+        }
+        return offset;
+    }
+
+    int size() {
+        return count;
+    }
+
+    long sizeInBytes() {
+        // Objekt-Header + Felder + Array-Header + Array-Inhalt
+        return 32 + 16 + bytes.length;
+    }
+
+    void trim() {
+        bytes = Arrays.copyOf(bytes, length);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length + (bytes.length >> 1)));
+        }
+    }
+}
@@ -0,0 +1,484 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.search;
+
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchDocument;
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-Process Suchindex über Vor-/Nachname, Stadt und PLZ aller Attendees.
+ * <p>
+ * Aufbau:
+ * <ul>
+ *     <li>Invertierter Index: Term → {@link CompressedIntPostings} (Delta-VarInt Doc-IDs)</li>
+ *     <li>Sortiertes Termverzeichnis für Präfixsuche</li>
+ *     <li>Trigramm → Term-IDs für die Fuzzy-Suche (Levenshtein ≤ 1 bzw. 2)</li>
+ * </ul>
+ * Updates vergeben immer eine neue Doc-ID und markieren die alte als gelöscht, damit
+ * Postinglisten append-only bleiben. Sind zu viele Dokumente gelöscht, wird kompaktiert.
+ * <p>
+ * Pro Suchbegriff werden höchstens {@link #MAX_TOKEN_CANDIDATES} Postings dekodiert; sehr kurze Präfixe
+ * liefern dann nur die Treffer der ersten Termerweiterungen und eine entsprechend kleinere Trefferzahl.
+ * Für die Seite wird nur ein Heap der Größe {@code offset + limit} gehalten statt alle Treffer zu sortieren.
+ */
+@Component
+@Slf4j
+public class InMemoryAttendeeSearchIndex implements AttendeeSearchIndex {
+
+    static final int SCORE_EXACT = 3;
+    static final int SCORE_PREFIX = 2;
+    static final int SCORE_FUZZY = 1;
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_TERM_EXPANSIONS = 512;
+    static final int MAX_TOKEN_CANDIDATES = 100_000;
+    private static final int MIN_DELETED_FOR_COMPACTION = 10_000;
+    private static final long MEMORY_ESTIMATE_TTL_NANOS = 10_000_000_000L;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final ArrayList<AttendeeSearchDocument> documents = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private final Map<String, Integer> docIdByUuid = new HashMap<>();
+    private int deletedCount;
+
+    private final TreeMap<String, Integer> termIds = new TreeMap<>();
+    private final ArrayList<String> terms = new ArrayList<>();
+    private final ArrayList<CompressedIntPostings> postings = new ArrayList<>();
+    private final Map<String, IntList> termIdsByTrigram = new HashMap<>();
+
+    private volatile long memoryEstimate;
+    private volatile long memoryEstimatedAt;
+
+    public InMemoryAttendeeSearchIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("attendee.search.index.memory", this, InMemoryAttendeeSearchIndex::estimatedMemoryBytes)
+                .baseUnit("bytes")
+                .description("Estimated heap footprint of the attendee search index")
+                .register(meterRegistry);
+        Gauge.builder("attendee.search.index.documents", this, InMemoryAttendeeSearchIndex::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fügt ein Dokument hinzu oder ersetzt es. Ältere Versionen als die bereits
+     * indizierte werden ignoriert, damit der Start-Import keine frischeren Updates überschreibt.
+     */
+    public void upsert(AttendeeSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docIdByUuid.get(document.uuid());
+            if (existing != null) {
+                AttendeeSearchDocument current = documents.get(existing);
+                if (isStale(document, current) || current.equals(document)) {
+                    return;
+                }
+                markDeleted(existing);
+            }
+            addDocument(document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String uuid) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdByUuid.remove(uuid);
+            if (docId != null) {
+                markDeleted(docId);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Result search(String query, int offset, int limit) {
+        List<String> queryTokens = tokenize(query).stream().distinct().toList();
+        if (queryTokens.isEmpty()) {
+            return new Result(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            long[][] perToken = new long[queryTokens.size()][];
+            for (int i = 0; i < perToken.length; i++) {
+                perToken[i] = matchToken(queryTokens.get(i));
+            }
+            Arrays.sort(perToken, Comparator.comparingInt(matches -> matches.length));
+
+            long[] matches = perToken[0];
+            for (int i = 1; i < perToken.length && matches.length > 0; i++) {
+                matches = intersect(matches, perToken[i]);
+            }
+            return page(matches, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByUuid.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedMemoryBytes() {
+        long now = System.nanoTime();
+        if (now - memoryEstimatedAt > MEMORY_ESTIMATE_TTL_NANOS) {
+            memoryEstimate = computeMemoryEstimate();
+            memoryEstimatedAt = now;
+        }
+        return memoryEstimate;
+    }
+
+    // --- Indexierung ---
+
+    private void addDocument(AttendeeSearchDocument document) {
+        int docId = documents.size();
+        documents.add(document);
+        docIdByUuid.put(document.uuid(), docId);
+
+        Set<String> documentTokens = new HashSet<>();
+        documentTokens.addAll(tokenize(document.firstName()));
+        documentTokens.addAll(tokenize(document.lastName()));
+        documentTokens.addAll(tokenize(document.city()));
+        documentTokens.addAll(tokenize(document.zipCode()));
+
+        for (String token : documentTokens) {
+            postings.get(termIdFor(token)).add(docId);
+        }
+    }
+
+    private int termIdFor(String term) {
+        Integer termId = termIds.get(term);
+        if (termId != null) {
+            return termId;
+        }
+        int newTermId = terms.size();
+        termIds.put(term, newTermId);
+        terms.add(term);
+        postings.add(new CompressedIntPostings());
+        for (String trigram : trigrams(term)) {
+            termIdsByTrigram.computeIfAbsent(trigram, key -> new IntList()).add(newTermId);
+        }
+        return newTermId;
+    }
+
+    private void markDeleted(int docId) {
+        if (!deleted.get(docId)) {
+            deleted.set(docId);
+            deletedCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount < MIN_DELETED_FOR_COMPACTION || deletedCount < docIdByUuid.size()) {
+            return;
+        }
+        log.info("Compacting attendee search index ({} live, {} deleted documents)",
+                docIdByUuid.size(), deletedCount);
+
+        List<AttendeeSearchDocument> live = new ArrayList<>(docIdByUuid.size());
+        for (int docId = 0; docId < documents.size(); docId++) {
+            if (!deleted.get(docId)) {
+                live.add(documents.get(docId));
+            }
+        }
+        documents.clear();
+        deleted.clear();
+        deletedCount = 0;
+        docIdByUuid.clear();
+        termIds.clear();
+        terms.clear();
+        postings.clear();
+        termIdsByTrigram.clear();
+
+        live.forEach(this::addDocument);
+        documents.trimToSize();
+        postings.forEach(CompressedIntPostings::trim);
+    }
+
+    private static boolean isStale(AttendeeSearchDocument candidate, AttendeeSearchDocument current) {
+        return candidate.version() != null && current.version() != null
+                && candidate.version() < current.version();
+    }
+
+    // --- Suche ---
+
+    /**
+     * @return aufsteigend nach Doc-ID sortierte Treffer, kodiert als {@code docId << 8 | score}
+     */
+    private long[] matchToken(String token) {
+        Map<Integer, Integer> scoreByTermId = new LinkedHashMap<>();
+
+        int total = 0;
+        Integer exact = termIds.get(token);
+        if (exact != null) {
+            scoreByTermId.put(exact, SCORE_EXACT);
+            total += postings.get(exact).size();
+        }
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            for (Integer termId : termIds.subMap(token, false, token + Character.MAX_VALUE, false).values()) {
+                if (!canExpand(scoreByTermId, total, termId)) {
+                    break;
+                }
+                scoreByTermId.put(termId, SCORE_PREFIX);
+                total += postings.get(termId).size();
+            }
+        }
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            for (int termId : fuzzyTermIds(token)) {
+                if (scoreByTermId.containsKey(termId)) {
+                    continue;
+                }
+                if (!canExpand(scoreByTermId, total, termId)) {
+                    break;
+                }
+                scoreByTermId.put(termId, SCORE_FUZZY);
+                total += postings.get(termId).size();
+            }
+        }
+
+        long[] encoded = new long[total];
+        int position = 0;
+        for (Map.Entry<Integer, Integer> entry : scoreByTermId.entrySet()) {
+            position = postings.get(entry.getKey()).decodeInto(encoded, position, entry.getValue());
+        }
+        Arrays.sort(encoded);
+
+        // Gleiche Doc-ID liegt nach dem Sortieren nebeneinander, der höchste Score zuletzt.
+        int unique = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            int docId = (int) (encoded[i] >>> 8);
+            boolean lastOfDoc = i + 1 == encoded.length || (int) (encoded[i + 1] >>> 8) != docId;
+            if (lastOfDoc && !deleted.get(docId)) {
+                encoded[unique++] = encoded[i];
+            }
+        }
+        return Arrays.copyOf(encoded, unique);
+    }
+
+    private List<Integer> fuzzyTermIds(String token) {
+        int maxEdits = token.length() <= 6 ? 1 : 2;
+        List<String> queryTrigrams = trigrams(token);
+        int minShared = Math.max(1, queryTrigrams.size() - 3 * maxEdits);
+
+        Map<Integer, Integer> sharedByTermId = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            IntList candidates = termIdsByTrigram.get(trigram);
+            if (candidates == null) {
+                continue;
+            }
+            for (int i = 0; i < candidates.size(); i++) {
+                sharedByTermId.merge(candidates.get(i), 1, Integer::sum);
+            }
+        }
+
+        List<Integer> result = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : sharedByTermId.entrySet()) {
+            if (entry.getValue() < minShared) {
+                continue;
+            }
+            String term = terms.get(entry.getKey());
+            if (Math.abs(term.length() - token.length()) <= maxEdits
+                    && levenshtein(token, term, maxEdits) <= maxEdits) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            long leftDoc = left[i] >>> 8;
+            long rightDoc = right[j] >>> 8;
+            if (leftDoc < rightDoc) {
+                i++;
+            } else if (leftDoc > rightDoc) {
+                j++;
+            } else {
+                long score = (left[i] & 0xFF) + (right[j] & 0xFF);
+                result[size++] = (leftDoc << 8) | Math.min(score, 0xFF);
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private boolean canExpand(Map<Integer, Integer> scoreByTermId, int candidates, int termId) {
+        return scoreByTermId.size() < MAX_TERM_EXPANSIONS
+                && candidates + postings.get(termId).size() <= MAX_TOKEN_CANDIDATES;
+    }
+
+    private Result page(long[] matches, int offset, int limit) {
+        int from = Math.min(offset, matches.length);
+        long[] ranked = topRanked(matches, (int) Math.min((long) offset + limit, matches.length));
+
+        List<Hit> hits = new ArrayList<>(ranked.length - from);
+        for (int i = from; i < ranked.length; i++) {
+            int docId = (int) (ranked[i] & 0xFFFFFFFFL);
+            int score = (int) (0xFF - (ranked[i] >>> 32));
+            hits.add(new Hit(documents.get(docId), score));
+        }
+        return new Result(matches.length, hits);
+    }
+
+    /**
+     * Die {@code count} besten Treffer, sortiert nach Score absteigend, dann Doc-ID aufsteigend. Hält dafür
+     * einen Max-Heap über den Rangschlüssel ({@code (0xFF - score) << 32 | docId}, kleiner ist besser).
+     */
+    static long[] topRanked(long[] matches, int count) {
+        long[] heap = new long[count];
+        int size = 0;
+        for (long match : matches) {
+            long key = ((0xFF - (match & 0xFF)) << 32) | (match >>> 8);
+            if (size < count) {
+                heap[size] = key;
+                siftUp(heap, size++);
+            } else if (count > 0 && key < heap[0]) {
+                heap[0] = key;
+                siftDown(heap, count);
+            }
+        }
+        Arrays.sort(heap, 0, size);
+        return heap;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int largest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && heap[left] > heap[largest]) {
+                largest = left;
+            }
+            if (right < size && heap[right] > heap[largest]) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            swap(heap, index, largest);
+            index = largest;
+        }
+    }
+
+    private static void swap(long[] heap, int i, int j) {
+        long value = heap[i];
+        heap[i] = heap[j];
+        heap[j] = value;
+    }
+
+    private long computeMemoryEstimate() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (CompressedIntPostings posting : postings) {
+                bytes += posting.sizeInBytes();
+            }
+            for (String term : terms) {
+                // String + Array + TreeMap-Eintrag
+                bytes += 40 + term.length() + 40;
+            }
+            for (IntList termIdList : termIdsByTrigram.values()) {
+                bytes += termIdList.sizeInBytes() + 40 + 48;
+            }
+            for (AttendeeSearchDocument document : documents) {
+                bytes += 40 + stringBytes(document.uuid()) + stringBytes(document.firstName())
+                        + stringBytes(document.lastName()) + stringBytes(document.city())
+                        + stringBytes(document.zipCode());
+            }
+            bytes += docIdByUuid.size() * 48L + documents.size() / 8;
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    // --- Textaufbereitung ---
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(TOKEN_SEPARATOR.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    static List<String> trigrams(String term) {
+        String padded = "$" + term + "$";
+        List<String> result = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    /**
+     * Levenshtein-Distanz mit Abbruch, sobald {@code maxDistance} sicher überschritten ist.
+     */
+    static int levenshtein(String a, String b, int maxDistance) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,39 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Wachsende Liste primitiver ints ohne Boxing.
+ */
+final class IntList {
+
+    private int[] values;
+    private int size;
+
+    IntList() {
+        this(4);
+    }
+
+    IntList(int initialCapacity) {
+        this.values = new int[Math.max(1, initialCapacity)];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long sizeInBytes() {
+        return 24 + 16 + 4L * values.length;
+    }
+}
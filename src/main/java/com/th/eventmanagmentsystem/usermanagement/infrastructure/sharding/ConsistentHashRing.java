@@ -0,0 +1,69 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Unveränderlicher Consistent-Hash-Ring mit virtuellen Knoten. Kommt ein Shard hinzu,
+ * wechseln nur die Schlüssel der Hash-Bereiche den Besitzer, die der neue Shard übernimmt
+ * (im Mittel {@code 1/n} der Daten).
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final Set<String> nodes;
+    private final int virtualNodes;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("Hash ring needs at least one node");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        this.nodes = Collections.unmodifiableSet(new LinkedHashSet<>(nodes));
+        this.virtualNodes = virtualNodes;
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public String nodeFor(String key) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    public boolean contains(String node) {
+        return nodes.contains(node);
+    }
+
+    public ConsistentHashRing withNode(String node) {
+        Set<String> extended = new LinkedHashSet<>(nodes);
+        extended.add(node);
+        return new ConsistentHashRing(extended, virtualNodes);
+    }
+
+    /**
+     * 64-Bit FNV-1a mit Murmur3-Finalizer, damit auch ähnliche Schlüssel
+     * (z.B. {@code shard-1#1}, {@code shard-1#2}) gleichmäßig über den Ring streuen.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
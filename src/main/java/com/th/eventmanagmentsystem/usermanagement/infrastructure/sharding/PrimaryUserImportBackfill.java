@@ -0,0 +1,37 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.common.backfill.Backfill;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Kopiert alle Benutzer der Primärdatenbank auf ihre Shards (siehe {@link PrimaryUserImporter}).
+ * Idempotent: bereits importierte Benutzer werden am Verzeichniseintrag erkannt und übersprungen.
+ */
+public class PrimaryUserImportBackfill implements Backfill {
+
+    private final PrimaryUserImporter importer;
+
+    public PrimaryUserImportBackfill(PrimaryUserImporter importer) {
+        this.importer = importer;
+    }
+
+    @Override
+    public String name() {
+        return PrimaryUserImporter.BACKFILL_NAME;
+    }
+
+    @Override
+    public String table() {
+        return "users";
+    }
+
+    @Override
+    public String pendingPredicate() {
+        return "NOT EXISTS (SELECT 1 FROM user_shard_directory d WHERE d.user_uuid = users.uuid)";
+    }
+
+    @Override
+    public int migrateChunk(JdbcTemplate jdbcTemplate, long fromExclusive, long toInclusive) {
+        return importer.importRange(jdbcTemplate, fromExclusive, toInclusive);
+    }
+}
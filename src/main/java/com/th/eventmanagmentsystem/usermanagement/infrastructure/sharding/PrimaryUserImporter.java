@@ -0,0 +1,142 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.common.backfill.BackfillCheckpoint;
+import com.th.eventmanagmentsystem.common.backfill.BackfillCheckpointRepository;
+import com.th.eventmanagmentsystem.common.backfill.BackfillStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.EmailNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+/**
+ * Übernimmt Benutzer, die noch vor dem Sharding in den Tabellen der Primärdatenbank angelegt wurden,
+ * auf den Besitzer-Shard ihrer (normalisierten) E-Mail. Die Primärzeilen bleiben unverändert stehen.
+ * <p>
+ * Solange der Backfill {@value #BACKFILL_NAME} nicht abgeschlossen ist, fragt der
+ * {@link ShardedUserRepository} bei einem Fehlgriff auf den Shards zusätzlich hier nach und importiert
+ * den Benutzer sofort (Read-Through); vorhandene Benutzer werden so während der Umstellung nie unsichtbar.
+ * Bereits importierte Benutzer erkennt der Importer am Eintrag im {@link ShardDirectory}, damit eine
+ * spätere E-Mail-Änderung auf dem Shard nicht durch die veraltete Primärzeile überschrieben wird.
+ */
+@Slf4j
+public class PrimaryUserImporter {
+
+    public static final String BACKFILL_NAME = "user-shard-import";
+
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    private final JdbcTemplate primary;
+    private final ShardRegistry registry;
+    private final ShardRouter router;
+    private final ShardDirectory directory;
+    private final UserShardMover mover;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private volatile boolean completed;
+
+    public PrimaryUserImporter(JdbcTemplate primary, ShardRegistry registry, ShardRouter router,
+                               ShardDirectory directory, UserShardMover mover,
+                               BackfillCheckpointRepository checkpointRepository) {
+        this.primary = primary;
+        this.registry = registry;
+        this.router = router;
+        this.directory = directory;
+        this.mover = mover;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    /**
+     * {@code true}, bis der Import-Backfill abgeschlossen ist. Eine Primärdatenbank ohne Benutzer
+     * (Neuinstallation mit Sharding) gilt als importiert, wird aber weiter geprüft, bis der Backfill gelaufen ist.
+     */
+    public boolean pending() {
+        if (completed) {
+            return false;
+        }
+        completed = checkpointRepository.find(BACKFILL_NAME)
+                .map(BackfillCheckpoint::status)
+                .filter(BackfillStatus.COMPLETED::equals)
+                .isPresent();
+        return !completed && !primary.queryForList("SELECT id FROM users LIMIT 1", Long.class).isEmpty();
+    }
+
+    /**
+     * @return Shard, auf dem der Benutzer nach dem Import liegt; leer, wenn die Primärdatenbank ihn nicht kennt
+     */
+    public Optional<String> importByUuid(String uuid) {
+        return primary.queryForList("SELECT email FROM users WHERE uuid = ?", String.class, uuid).stream()
+                .findFirst()
+                .map(email -> importUser(uuid, email).shard());
+    }
+
+    public Optional<String> importByEmail(String normalizedEmail) {
+        return primary.queryForList("SELECT uuid FROM users WHERE email = ?", String.class, normalizedEmail).stream()
+                .findFirst()
+                .map(uuid -> importUser(uuid, normalizedEmail).shard());
+    }
+
+    /**
+     * Batch-Variante von {@link #importByEmail}.
+     *
+     * @return die Adressen, die in der Primärdatenbank existieren
+     */
+    public Set<String> importByEmails(Collection<String> normalizedEmails) {
+        List<String> emails = List.copyOf(new LinkedHashSet<>(normalizedEmails));
+        Map<String, String> uuidByEmail = new HashMap<>();
+        for (int from = 0; from < emails.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, emails.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            primary.query("SELECT uuid, email FROM users WHERE email IN (" + placeholders + ")",
+                    rs -> {
+                        uuidByEmail.put(rs.getString("email"), rs.getString("uuid"));
+                    },
+                    chunk.toArray());
+        }
+        uuidByEmail.forEach((email, uuid) -> importUser(uuid, email));
+        return uuidByEmail.keySet();
+    }
+
+    /**
+     * Importiert alle Primärbenutzer mit {@code fromExclusive < id <= toInclusive}.
+     *
+     * @return Anzahl tatsächlich kopierter Benutzer
+     */
+    public int importRange(JdbcTemplate source, long fromExclusive, long toInclusive) {
+        int copied = 0;
+        for (Map<String, Object> row : source.queryForList(
+                "SELECT uuid, email FROM users WHERE id > ? AND id <= ? ORDER BY id", fromExclusive, toInclusive)) {
+            if (importUser((String) row.get("uuid"), (String) row.get("email")).copied()) {
+                copied++;
+            }
+        }
+        return copied;
+    }
+
+    private Imported importUser(String uuid, String email) {
+        Optional<String> known = directory.shardOf(uuid);
+        if (known.isPresent()) {
+            return new Imported(known.get(), false);
+        }
+        String owner = router.writeShard(EmailNormalizer.normalize(email));
+        Shard target = registry.get(owner);
+        boolean copied;
+        try {
+            copied = mover.copy(uuid, primary, target);
+        } catch (DataIntegrityViolationException e) {
+            // Gleichzeitiger Import desselben Benutzers ist harmlos, eine fremde Zeile mit derselben E-Mail nicht.
+            if (target.jdbcTemplate().queryForList("SELECT id FROM users WHERE uuid = ?", Long.class, uuid).isEmpty()) {
+                throw e;
+            }
+            copied = false;
+        }
+        directory.assign(uuid, owner);
+        if (copied) {
+            log.debug("Imported user {} from the primary database onto {}", uuid, owner);
+        }
+        return new Imported(owner, copied);
+    }
+
+    private record Imported(String shard, boolean copied) {
+    }
+}
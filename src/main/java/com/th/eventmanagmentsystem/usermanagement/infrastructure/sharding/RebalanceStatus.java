@@ -0,0 +1,18 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.common.backfill.BackfillStatus;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record RebalanceStatus(
+        Set<String> targetShards,
+        BackfillStatus status,
+        long scanned,
+        long moved,
+        long conflicts,
+        Instant startedAt,
+        Instant finishedAt,
+        String message
+) {
+}
@@ -0,0 +1,39 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance.JpaUserPersistenceAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+
+/**
+ * Eine Shard-Datenbank mit eigener Persistence-Unit und eigenem Transaktionsmanager.
+ * Transaktionen eines Shards sind unabhängig von denen der Primärdatenbank und anderer Shards.
+ */
+public record Shard(
+        String name,
+        int ordinal,
+        HikariDataSource dataSource,
+        EntityManagerFactory entityManagerFactory,
+        JpaUserPersistenceAdapter users,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate writeTransaction,
+        TransactionTemplate readTransaction
+) implements AutoCloseable {
+
+    public <T> T write(Function<JpaUserPersistenceAdapter, T> work) {
+        return writeTransaction.execute(status -> work.apply(users));
+    }
+
+    public <T> T read(Function<JpaUserPersistenceAdapter, T> work) {
+        return readTransaction.execute(status -> work.apply(users));
+    }
+
+    @Override
+    public void close() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+}
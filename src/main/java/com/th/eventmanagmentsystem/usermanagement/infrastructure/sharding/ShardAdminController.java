@@ -0,0 +1,37 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/shards")
+@ConditionalOnProperty(prefix = "eventmanagement.sharding", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ShardAdminController {
+
+    private final ShardedUserRepository shardedUserRepository;
+    private final ShardRebalancer shardRebalancer;
+
+    @GetMapping
+    public ResponseEntity<List<ShardStats>> shards() {
+        return ResponseEntity.ok(shardedUserRepository.stats());
+    }
+
+    @GetMapping("/rebalance")
+    public ResponseEntity<RebalanceStatus> rebalanceStatus() {
+        return ResponseEntity.of(shardRebalancer.status());
+    }
+
+    @PostMapping("/{name}/rebalance")
+    public ResponseEntity<Void> rebalance(@PathVariable String name) {
+        if (!shardRebalancer.start(name)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
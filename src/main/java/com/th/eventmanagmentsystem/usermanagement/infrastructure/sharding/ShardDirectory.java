@@ -0,0 +1,96 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Verzeichnis {@code uuid -> Shard} in der Primärdatenbank ({@code user_shard_directory}).
+ * Lookups per UUID kennen die E-Mail nicht und können deshalb nicht über den Hash-Ring geroutet
+ * werden. Ein kleiner LRU-Cache fängt wiederholte Zugriffe ab; fehlt ein Eintrag, sucht
+ * {@link ShardedUserRepository} auf allen Shards und trägt den Fund nach.
+ */
+public class ShardDirectory {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, String> cache;
+
+    public ShardDirectory(JdbcTemplate jdbcTemplate, int cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public Optional<String> shardOf(String userUuid) {
+        String cached = cache.get(userUuid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<String> shard = jdbcTemplate.queryForList(
+                "SELECT shard_name FROM user_shard_directory WHERE user_uuid = ?", String.class, userUuid)
+                .stream()
+                .findFirst();
+        shard.ifPresent(name -> cache.put(userUuid, name));
+        return shard;
+    }
+
+    /**
+     * Batch-Variante von {@link #shardOf}; unbekannte UUIDs fehlen im Ergebnis.
+     */
+    public Map<String, String> shardsOf(Collection<String> userUuids) {
+        Map<String, String> shards = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String userUuid : userUuids) {
+            String cached = cache.get(userUuid);
+            if (cached != null) {
+                shards.put(userUuid, cached);
+            } else {
+                misses.add(userUuid);
+            }
+        }
+        for (int from = 0; from < misses.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = misses.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, misses.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT user_uuid, shard_name FROM user_shard_directory WHERE user_uuid IN (" + placeholders + ")",
+                    rs -> {
+                        shards.put(rs.getString("user_uuid"), rs.getString("shard_name"));
+                        cache.put(rs.getString("user_uuid"), rs.getString("shard_name"));
+                    },
+                    chunk.toArray());
+        }
+        return shards;
+    }
+
+    public void assign(String userUuid, String shard) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE user_shard_directory SET shard_name = ?, assigned_at = ? WHERE user_uuid = ?",
+                shard, now, userUuid);
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO user_shard_directory (user_uuid, shard_name, assigned_at) VALUES (?, ?, ?)",
+                        userUuid, shard, now);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(
+                        "UPDATE user_shard_directory SET shard_name = ?, assigned_at = ? WHERE user_uuid = ?",
+                        shard, now, userUuid);
+            }
+        }
+        cache.put(userUuid, shard);
+    }
+
+    public void remove(String userUuid) {
+        jdbcTemplate.update("DELETE FROM user_shard_directory WHERE user_uuid = ?", userUuid);
+        cache.remove(userUuid);
+    }
+}
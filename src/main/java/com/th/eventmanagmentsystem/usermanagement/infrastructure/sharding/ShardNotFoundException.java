@@ -0,0 +1,12 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ShardNotFoundException extends RuntimeException {
+
+    public ShardNotFoundException(String name) {
+        super("Unknown shard: " + name);
+    }
+}
@@ -0,0 +1,192 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.common.backfill.BackfillStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Online-Resharding: nimmt einen Shard in den Hash-Ring auf und verschiebt alle Benutzer, deren
+ * Hash-Bereich dabei den Besitzer wechselt. Jeder Shard wird per Keyset in Batches gescannt,
+ * zwischen den Batches wird pausiert, um die Produktivlast nicht zu verdrängen.
+ * <p>
+ * Der Ziel-Ring wird zuerst im {@link ShardRingStore} gespeichert; verschoben wird erst, wenn jede
+ * lebende Instanz ihn bestätigt hat und damit nach ihm routet (Dual Read). Ebenso gilt der Lauf erst als
+ * abgeschlossen, wenn alle Instanzen den neuen Ring bestätigt haben. Ein abgebrochener Lauf bleibt im
+ * Ring gespeichert und kann gefahrlos wiederholt werden; er verschiebt nur noch falsch platzierte Benutzer.
+ */
+@Slf4j
+public class ShardRebalancer {
+
+    private final ShardRegistry registry;
+    private final ShardRouter router;
+    private final ShardRingStore ringStore;
+    private final UserShardMover mover;
+    private final ShardingProperties properties;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<RebalanceStatus> lastStatus = new AtomicReference<>();
+
+    public ShardRebalancer(ShardRegistry registry, ShardRouter router, ShardRingStore ringStore, UserShardMover mover,
+                           ShardingProperties properties) {
+        this.registry = registry;
+        this.router = router;
+        this.ringStore = ringStore;
+        this.mover = mover;
+        this.properties = properties;
+    }
+
+    /**
+     * @return {@code false}, wenn bereits ein Rebalancing läuft
+     */
+    public boolean start(String joiningShard) {
+        registry.get(joiningShard);
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread.ofPlatform()
+                .name("shard-rebalance-" + joiningShard)
+                .daemon(true)
+                .start(() -> {
+                    try {
+                        rebalance(joiningShard);
+                    } finally {
+                        running.set(false);
+                    }
+                });
+        return true;
+    }
+
+    public Optional<RebalanceStatus> status() {
+        return Optional.ofNullable(lastStatus.get());
+    }
+
+    public RebalanceStatus rebalance(String joiningShard) {
+        registry.get(joiningShard);
+        Instant startedAt = Instant.now();
+        long scanned = 0;
+        long moved = 0;
+        long conflicts = 0;
+        Set<String> targetShards = Set.of(joiningShard);
+        try {
+            ShardRingState migrating = beginMigration(joiningShard);
+            targetShards = migrating.targetNodes();
+            ConsistentHashRing target = new ConsistentHashRing(targetShards, properties.virtualNodes());
+            publish(targetShards, BackfillStatus.RUNNING, scanned, moved, conflicts, startedAt, null,
+                    "waiting for all instances to route on ring v" + migrating.version());
+            awaitAcknowledged(migrating.version());
+            // Zugriffe, die noch kurz vor der Bestätigung nach dem alten Ring geroutet wurden, auslaufen lassen
+            Thread.sleep(properties.ringRefreshInterval());
+
+            publish(targetShards, BackfillStatus.RUNNING, scanned, moved, conflicts, startedAt, null, null);
+            for (Shard source : registry.all()) {
+                long afterId = 0;
+                while (true) {
+                    List<UserRoute> batch = source.jdbcTemplate().query(
+                            "SELECT id, uuid, email FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                            (rs, rowNum) -> new UserRoute(rs.getLong("id"), rs.getString("uuid"), rs.getString("email")),
+                            afterId, properties.rebalanceBatchSize());
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    for (UserRoute route : batch) {
+                        String owner = target.nodeFor(route.email());
+                        if (owner.equals(source.name())) {
+                            continue;
+                        }
+                        try {
+                            if (mover.move(route.uuid(), source, registry.get(owner))) {
+                                moved++;
+                            }
+                        } catch (DataIntegrityViolationException e) {
+                            conflicts++;
+                            log.warn("Could not move user {} from {} to {}: {}",
+                                    route.uuid(), source.name(), owner, e.getMostSpecificCause().getMessage());
+                        }
+                    }
+                    scanned += batch.size();
+                    afterId = batch.getLast().id();
+                    publish(targetShards, BackfillStatus.RUNNING, scanned, moved, conflicts, startedAt, null, null);
+                    Thread.sleep(properties.rebalancePause());
+                }
+            }
+            if (conflicts > 0) {
+                log.info("Rebalance onto {} finished with conflicts: scanned={}, moved={}, conflicts={}",
+                        joiningShard, scanned, moved, conflicts);
+                return publish(targetShards, BackfillStatus.FAILED, scanned, moved, conflicts, startedAt, Instant.now(),
+                        conflicts + " users could not be moved, dual reads stay enabled");
+            }
+            ShardRingState completed = migrating.completeMigration();
+            if (!ringStore.replace(migrating.version(), completed)) {
+                throw new IllegalStateException("Shard ring changed concurrently, expected version " + migrating.version());
+            }
+            publish(targetShards, BackfillStatus.RUNNING, scanned, moved, conflicts, startedAt, null,
+                    "waiting for all instances to route on ring v" + completed.version());
+            awaitAcknowledged(completed.version());
+            log.info("Rebalance onto {} finished: scanned={}, moved={}, conflicts={}", joiningShard, scanned, moved, conflicts);
+            return publish(targetShards, BackfillStatus.COMPLETED, scanned, moved, conflicts, startedAt, Instant.now(), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return publish(targetShards, BackfillStatus.PAUSED, scanned, moved, conflicts, startedAt, Instant.now(), "interrupted");
+        } catch (RuntimeException e) {
+            log.error("Rebalance onto {} failed", joiningShard, e);
+            return publish(targetShards, BackfillStatus.FAILED, scanned, moved, conflicts, startedAt, Instant.now(), e.getMessage());
+        }
+    }
+
+    /**
+     * Setzt den gespeicherten Ring auf {@code MIGRATING}; ein abgebrochener Lauf mit demselben Ziel wird fortgesetzt.
+     */
+    private ShardRingState beginMigration(String joiningShard) {
+        ShardRingState current = router.refresh();
+        if (current.phase() == ShardRingState.Phase.MIGRATING) {
+            if (!current.targetNodes().contains(joiningShard)) {
+                throw new IllegalStateException("Another rebalance towards " + current.targetNodes() + " is in progress");
+            }
+            return current;
+        }
+        if (current.nodes().contains(joiningShard)) {
+            throw new IllegalStateException("Shard " + joiningShard + " is already part of ring v" + current.version());
+        }
+        Set<String> target = new LinkedHashSet<>(current.nodes());
+        target.add(joiningShard);
+        ShardRingState migrating = current.beginMigration(target);
+        if (!ringStore.replace(current.version(), migrating)) {
+            throw new IllegalStateException("Shard ring changed concurrently, expected version " + current.version());
+        }
+        return migrating;
+    }
+
+    /**
+     * Wartet, bis keine lebende Instanz mehr nach einer älteren Ring-Version routet. Instanzen ohne Heartbeat
+     * seit {@code ringStaleAfter} zählen nicht; sie laden den Ring vor ihrem nächsten Zugriff ohnehin neu.
+     */
+    private void awaitAcknowledged(long version) throws InterruptedException {
+        router.refresh();
+        while (true) {
+            List<String> lagging = ringStore.lagging(version, Instant.now().minus(properties.ringStaleAfter()));
+            if (lagging.isEmpty()) {
+                return;
+            }
+            log.debug("Waiting for instances {} to acknowledge shard ring v{}", lagging, version);
+            Thread.sleep(properties.ringRefreshInterval());
+        }
+    }
+
+    private RebalanceStatus publish(Set<String> targetShards, BackfillStatus status, long scanned, long moved,
+                                    long conflicts, Instant startedAt, Instant finishedAt, String message) {
+        RebalanceStatus rebalanceStatus = new RebalanceStatus(targetShards, status, scanned, moved, conflicts,
+                startedAt, finishedAt, message);
+        lastStatus.set(rebalanceStatus);
+        return rebalanceStatus;
+    }
+
+    private record UserRoute(long id, String uuid, String email) {
+    }
+}
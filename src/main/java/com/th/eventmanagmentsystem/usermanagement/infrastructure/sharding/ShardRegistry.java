@@ -0,0 +1,202 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.audit.infrastructure.hibernate.AuditListenerRegistrar;
+import com.th.eventmanagmentsystem.common.schema.SchemaTargets;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance.JpaUserPersistenceAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.EventPublishingRepositoryProxyPostProcessor;
+import org.springframework.data.repository.core.support.PersistenceExceptionTranslationRepositoryProxyPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Baut für jeden konfigurierten Shard Datasource, Schema (Liquibase) und Persistence-Unit auf. Wie beim
+ * Primary migriert Liquibase nur bei {@code spring.liquibase.enabled=true}; sonst (Profil {@code startup})
+ * übernimmt das der Deploy-Job und der {@link com.th.eventmanagmentsystem.common.schema.DeferredSchemaValidator}
+ * prüft die Shards nach dem Start.
+ * <p>
+ * Die Identity-Spalten jedes Shards starten bei {@code ordinal << 40}, damit technische IDs
+ * shardübergreifend eindeutig und aufsteigend bleiben; Keyset-Pagination kann so die Ergebnisse
+ * aller Shards einfach nach ID zusammenführen.
+ */
+@Slf4j
+public class ShardRegistry implements SchemaTargets, AutoCloseable {
+
+    static final int ID_RANGE_BITS = 40;
+
+    private static final String DOMAIN_PACKAGE = "com.th.eventmanagmentsystem.usermanagement.domain";
+
+    private final Map<String, Shard> shards = new LinkedHashMap<>();
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ShardRegistry(ShardingProperties properties,
+                         ConfigurableListableBeanFactory beanFactory,
+                         ApplicationEventPublisher eventPublisher,
+                         ResourceLoader resourceLoader,
+                         JpaProperties jpaProperties,
+                         HibernateProperties hibernateProperties,
+                         LiquibaseProperties liquibaseProperties,
+                         ObjectProvider<AuditListenerRegistrar> auditListenerRegistrar) {
+        this.beanFactory = beanFactory;
+        this.eventPublisher = eventPublisher;
+        if (properties.shards().isEmpty()) {
+            throw new IllegalStateException("eventmanagement.sharding.enabled=true requires at least one shard");
+        }
+        Map<String, Object> jpaPropertyMap = new HashMap<>(hibernateProperties.determineHibernateProperties(
+                jpaProperties.getProperties(), new HibernateSettings().ddlAuto(() -> "none")));
+        jpaPropertyMap.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+
+        List<ShardingProperties.ShardProperties> configured = properties.shards();
+        for (int ordinal = 0; ordinal < configured.size(); ordinal++) {
+            ShardingProperties.ShardProperties shardProperties = configured.get(ordinal);
+            if (shards.containsKey(shardProperties.name())) {
+                throw new IllegalStateException("Duplicate shard name: " + shardProperties.name());
+            }
+            Shard shard = createShard(shardProperties, ordinal, resourceLoader, liquibaseProperties, jpaPropertyMap);
+            auditListenerRegistrar.ifAvailable(registrar -> registrar.register(shard.entityManagerFactory()));
+            shards.put(shard.name(), shard);
+        }
+    }
+
+    public Shard get(String name) {
+        Shard shard = shards.get(name);
+        if (shard == null) {
+            throw new ShardNotFoundException(name);
+        }
+        return shard;
+    }
+
+    public Collection<Shard> all() {
+        return Collections.unmodifiableCollection(shards.values());
+    }
+
+    @Override
+    public Map<String, DataSource> schemaTargets() {
+        Map<String, DataSource> targets = new LinkedHashMap<>();
+        shards.values().forEach(shard -> targets.put("shard-" + shard.name(), shard.dataSource()));
+        return targets;
+    }
+
+    /**
+     * Führt {@code work} parallel auf allen Shards aus und liefert die Ergebnisse in Shard-Reihenfolge.
+     */
+    public <T> List<T> scatter(Function<Shard, T> work) {
+        List<Future<T>> futures = shards.values().stream()
+                .map(shard -> scatterExecutor.submit(() -> work.apply(shard)))
+                .toList();
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while querying shards", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        scatterExecutor.shutdownNow();
+        shards.values().forEach(Shard::close);
+    }
+
+    private Shard createShard(ShardingProperties.ShardProperties properties, int ordinal,
+                              ResourceLoader resourceLoader, LiquibaseProperties liquibaseProperties,
+                              Map<String, Object> jpaPropertyMap) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + properties.name());
+        dataSource.setJdbcUrl(properties.url());
+        dataSource.setUsername(properties.username());
+        dataSource.setPassword(properties.password());
+        dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+
+        if (liquibaseProperties.isEnabled()) {
+            try {
+                SpringLiquibase liquibase = new SpringLiquibase();
+                liquibase.setDataSource(dataSource);
+                liquibase.setChangeLog(liquibaseProperties.getChangeLog());
+                liquibase.setResourceLoader(resourceLoader);
+                liquibase.afterPropertiesSet();
+            } catch (Exception e) {
+                dataSource.close();
+                throw new IllegalStateException("Schema migration failed for shard " + properties.name(), e);
+            }
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        reserveIdRange(jdbcTemplate, "users", ordinal);
+        reserveIdRange(jdbcTemplate, "user_profile", ordinal);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setPersistenceUnitName("shard-" + properties.name());
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(DOMAIN_PACKAGE);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(jpaPropertyMap);
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        EntityManager sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(sharedEntityManager);
+        repositoryFactory.addRepositoryProxyPostProcessor(
+                new PersistenceExceptionTranslationRepositoryProxyPostProcessor(beanFactory));
+        repositoryFactory.addRepositoryProxyPostProcessor(new EventPublishingRepositoryProxyPostProcessor(eventPublisher));
+        JpaUserPersistenceAdapter users = repositoryFactory.getRepository(JpaUserPersistenceAdapter.class);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        log.info("Shard {} ready ({}), active={}", properties.name(), properties.url(), properties.active());
+        return new Shard(properties.name(), ordinal, dataSource, entityManagerFactory, users, jdbcTemplate,
+                writeTransaction, readTransaction);
+    }
+
+    private static void reserveIdRange(JdbcTemplate jdbcTemplate, String table, int ordinal) {
+        if (ordinal == 0) {
+            return;
+        }
+        long start = ((long) ordinal << ID_RANGE_BITS) + 1;
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null || maxId < start) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + start);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Gemeinsamer Stand des Hash-Rings aller Instanzen. {@code targetNodes} ist nur während eines
+ * Rebalancings gesetzt; jede Änderung erhöht {@code version}.
+ */
+public record ShardRingState(long version, Set<String> nodes, Set<String> targetNodes) {
+
+    public enum Phase {
+        STABLE,
+        MIGRATING
+    }
+
+    public ShardRingState {
+        nodes = Collections.unmodifiableSet(new TreeSet<>(nodes));
+        targetNodes = targetNodes != null ? Collections.unmodifiableSet(new TreeSet<>(targetNodes)) : null;
+    }
+
+    public Phase phase() {
+        return targetNodes != null ? Phase.MIGRATING : Phase.STABLE;
+    }
+
+    public ShardRingState beginMigration(Set<String> target) {
+        return new ShardRingState(version + 1, nodes, target);
+    }
+
+    public ShardRingState completeMigration() {
+        if (targetNodes == null) {
+            throw new IllegalStateException("Shard ring version " + version + " is not migrating");
+        }
+        return new ShardRingState(version + 1, targetNodes, null);
+    }
+}
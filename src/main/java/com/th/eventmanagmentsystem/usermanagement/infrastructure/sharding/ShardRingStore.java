@@ -0,0 +1,108 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Hält den {@link ShardRingState} in der Primärdatenbank ({@code shard_ring_state}, genau eine Zeile)
+ * und die Bestätigungen der Instanzen ({@code shard_ring_ack}). Jede Instanz bestätigt bei jedem
+ * Refresh die Version, nach der sie routet; der Zeitstempel dient zugleich als Heartbeat.
+ */
+public class ShardRingStore {
+
+    private static final int STATE_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ShardRingStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<ShardRingState> load() {
+        return jdbcTemplate.query("SELECT ring_version, nodes, target_nodes FROM shard_ring_state WHERE id = ?",
+                        (rs, rowNum) -> mapState(rs), STATE_ID)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Legt den Ring an, falls noch keiner existiert. Starten mehrere Instanzen gleichzeitig,
+     * gilt der Ring der schnellsten.
+     */
+    public ShardRingState initialize(ShardRingState seed) {
+        try {
+            jdbcTemplate.update("""
+                            INSERT INTO shard_ring_state (id, ring_version, nodes, target_nodes, phase, updated_at)
+                            VALUES (?, ?, ?, ?, ?, ?)""",
+                    STATE_ID, seed.version(), join(seed.nodes()), join(seed.targetNodes()), seed.phase().name(),
+                    Timestamp.from(Instant.now()));
+            return seed;
+        } catch (DuplicateKeyException e) {
+            return load().orElseThrow();
+        }
+    }
+
+    /**
+     * @return {@code false}, wenn der Ring inzwischen nicht mehr die Version {@code expectedVersion} hat
+     */
+    public boolean replace(long expectedVersion, ShardRingState next) {
+        return jdbcTemplate.update("""
+                        UPDATE shard_ring_state
+                        SET ring_version = ?, nodes = ?, target_nodes = ?, phase = ?, updated_at = ?
+                        WHERE id = ? AND ring_version = ?""",
+                next.version(), join(next.nodes()), join(next.targetNodes()), next.phase().name(),
+                Timestamp.from(Instant.now()), STATE_ID, expectedVersion) == 1;
+    }
+
+    public void acknowledge(String instanceId, long version) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE shard_ring_ack SET ring_version = ?, acknowledged_at = ? WHERE instance_id = ?",
+                version, now, instanceId);
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO shard_ring_ack (instance_id, ring_version, acknowledged_at) VALUES (?, ?, ?)",
+                        instanceId, version, now);
+            } catch (DuplicateKeyException e) {
+                acknowledge(instanceId, version);
+            }
+        }
+    }
+
+    /**
+     * Instanzen, die sich seit {@code aliveSince} gemeldet haben, aber noch nach einer älteren Version routen.
+     */
+    public List<String> lagging(long version, Instant aliveSince) {
+        return jdbcTemplate.queryForList(
+                "SELECT instance_id FROM shard_ring_ack WHERE ring_version < ? AND acknowledged_at >= ? ORDER BY instance_id",
+                String.class, version, Timestamp.from(aliveSince));
+    }
+
+    public void leave(String instanceId) {
+        jdbcTemplate.update("DELETE FROM shard_ring_ack WHERE instance_id = ?", instanceId);
+    }
+
+    private static ShardRingState mapState(ResultSet rs) throws SQLException {
+        String targetNodes = rs.getString("target_nodes");
+        return new ShardRingState(rs.getLong("ring_version"), split(rs.getString("nodes")),
+                targetNodes != null ? split(targetNodes) : null);
+    }
+
+    private static String join(Set<String> nodes) {
+        return nodes != null ? String.join(",", nodes) : null;
+    }
+
+    private static Set<String> split(String nodes) {
+        return Set.copyOf(Arrays.asList(nodes.split(",")));
+    }
+}
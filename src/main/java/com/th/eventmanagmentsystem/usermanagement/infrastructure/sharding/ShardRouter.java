@@ -0,0 +1,171 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Ordnet normalisierte E-Mail-Adressen einem Shard zu.
+ * <p>
+ * Während eines Rebalancings existieren zwei Ringe: Schreibzugriffe gehen bereits an den Besitzer
+ * im Ziel-Ring, Lesezugriffe fragen zuerst den neuen und dann den bisherigen Besitzer (Dual Read).
+ * Da neue Benutzer und verschobene Benutzer auf demselben Shard landen, bleibt die Eindeutigkeit
+ * der E-Mail über dessen Unique-Constraint gesichert.
+ * <p>
+ * Die Ringe stammen aus dem {@link ShardRingStore}, damit alle Instanzen gleich routen. Der Router lädt
+ * den Stand periodisch nach und bestätigt die Version; ist sein Stand älter als {@code ringStaleAfter},
+ * lädt er vor dem nächsten Zugriff synchron nach und lehnt Zugriffe ab, solange das nicht gelingt.
+ */
+@Slf4j
+public class ShardRouter implements SmartLifecycle {
+
+    private final ShardRingStore store;
+    private final String instanceId;
+    private final int virtualNodes;
+    private final Duration refreshInterval;
+    private final Duration staleAfter;
+    private volatile Routing routing;
+    private volatile boolean running;
+    private Thread worker;
+
+    public ShardRouter(ShardRingStore store, ShardRingState initial, String instanceId, int virtualNodes,
+                       Duration refreshInterval, Duration staleAfter) {
+        this.store = store;
+        this.instanceId = instanceId;
+        this.virtualNodes = virtualNodes;
+        this.refreshInterval = refreshInterval;
+        this.staleAfter = staleAfter;
+        apply(initial);
+        store.acknowledge(instanceId, initial.version());
+    }
+
+    public String writeShard(String normalizedEmail) {
+        Routing current = current();
+        return (current.targetRing() != null ? current.targetRing() : current.ring()).nodeFor(normalizedEmail);
+    }
+
+    public Set<String> readShards(String normalizedEmail) {
+        Routing current = current();
+        Set<String> shards = new LinkedHashSet<>(2);
+        if (current.targetRing() != null) {
+            shards.add(current.targetRing().nodeFor(normalizedEmail));
+        }
+        shards.add(current.ring().nodeFor(normalizedEmail));
+        return shards;
+    }
+
+    public ConsistentHashRing ring() {
+        return current().ring();
+    }
+
+    public Optional<ConsistentHashRing> migrationTarget() {
+        return Optional.ofNullable(current().targetRing());
+    }
+
+    public boolean isActive(String shard) {
+        Routing current = current();
+        return current.ring().contains(shard) || (current.targetRing() != null && current.targetRing().contains(shard));
+    }
+
+    public long version() {
+        return routing.state().version();
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Lädt den Ring aus der Primärdatenbank und bestätigt danach die Version, nach der ab jetzt geroutet wird.
+     */
+    public synchronized ShardRingState refresh() {
+        ShardRingState state = store.load()
+                .orElseThrow(() -> new IllegalStateException("Shard ring state is missing"));
+        apply(state);
+        store.acknowledge(instanceId, state.version());
+        return state;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("shard-ring-refresh")
+                .daemon(true)
+                .start(this::runLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(refreshInterval.multipliedBy(2).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            store.leave(instanceId);
+        } catch (RuntimeException e) {
+            log.debug("Could not remove ring acknowledgement of {}", instanceId, e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Routing current() {
+        Routing current = routing;
+        if (System.nanoTime() - current.refreshedAt() > staleAfter.toNanos()) {
+            refresh();
+            return routing;
+        }
+        return current;
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                Thread.sleep(refreshInterval.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                log.warn("Could not refresh shard ring, retrying in {}", refreshInterval, e);
+            }
+        }
+    }
+
+    private void apply(ShardRingState state) {
+        Routing previous = routing;
+        if (previous != null && previous.state().equals(state)) {
+            routing = new Routing(previous.state(), previous.ring(), previous.targetRing(), System.nanoTime());
+            return;
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(state.nodes(), virtualNodes);
+        ConsistentHashRing targetRing = state.targetNodes() != null
+                ? new ConsistentHashRing(state.targetNodes(), virtualNodes)
+                : null;
+        routing = new Routing(state, ring, targetRing, System.nanoTime());
+        if (targetRing != null) {
+            log.info("Shard ring v{}: routing writes to {} while migrating from {}",
+                    state.version(), targetRing.nodes(), ring.nodes());
+        } else {
+            log.info("Shard ring v{}: routing on {}", state.version(), ring.nodes());
+        }
+    }
+
+    private record Routing(ShardRingState state, ConsistentHashRing ring, ConsistentHashRing targetRing,
+                           long refreshedAt) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+
+import java.util.Map;
+
+public record ShardStats(String name, boolean active, long users, Map<UserStatus, Long> usersByStatus) {
+}
@@ -0,0 +1,93 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchDocument;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.geo.ProfileAddressRow;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance.ProfileScan;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Liest die Profile nacheinander von allen Shards. Solange der Import aus der Primärdatenbank läuft
+ * ({@link PrimaryUserImporter#pending()}), kommen zuerst die dort noch nicht übernommenen Benutzer;
+ * wer währenddessen importiert wird, erscheint spätestens beim Lesen der Shards.
+ */
+public class ShardedProfileScan implements ProfileScan {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String SEARCH_DOCUMENTS_SQL = """
+            SELECT p.uuid, p.version, a.first_name, a.last_name, a.city, a.zip_code
+            FROM users u
+            JOIN user_profile p ON p.id = u.user_profile_id
+            JOIN attendee_profile a ON a.id = p.id
+            """;
+
+    private static final String ATTENDEE_ADDRESSES_SQL = """
+            SELECT u.uuid, p.version, a.latitude, a.longitude, a.country, a.zip_code, a.city
+            FROM users u
+            JOIN user_profile p ON p.id = u.user_profile_id
+            JOIN attendee_profile a ON a.id = p.id
+            """;
+
+    private static final String ORGANIZER_ADDRESSES_SQL = """
+            SELECT u.uuid, p.version, o.latitude, o.longitude, o.country, o.zip_code, o.city
+            FROM users u
+            JOIN user_profile p ON p.id = u.user_profile_id
+            JOIN organizer_profile o ON o.id = p.id
+            WHERE o.country IS NOT NULL
+            """;
+
+    private static final String NOT_IMPORTED = "NOT EXISTS (SELECT 1 FROM user_shard_directory d WHERE d.user_uuid = u.uuid)";
+
+    private final JdbcTemplate primary;
+    private final ShardRegistry registry;
+    private final PrimaryUserImporter importer;
+
+    public ShardedProfileScan(JdbcTemplate primary, ShardRegistry registry, PrimaryUserImporter importer) {
+        this.primary = primary;
+        this.registry = registry;
+        this.importer = importer;
+    }
+
+    @Override
+    public void forEachAttendeeSearchDocument(Consumer<AttendeeSearchDocument> action) {
+        scan(SEARCH_DOCUMENTS_SQL, rs -> action.accept(new AttendeeSearchDocument(rs.getString("uuid"),
+                version(rs), rs.getString("first_name"), rs.getString("last_name"),
+                rs.getString("city"), rs.getString("zip_code"))));
+    }
+
+    @Override
+    public void forEachAddressRow(ProfileType type, Consumer<ProfileAddressRow> action) {
+        String sql = switch (type) {
+            case ATTENDEE -> ATTENDEE_ADDRESSES_SQL;
+            case ORGANIZER -> ORGANIZER_ADDRESSES_SQL;
+        };
+        scan(sql, rs -> action.accept(new ProfileAddressRow(rs.getString("uuid"), version(rs),
+                rs.getObject("latitude", Double.class), rs.getObject("longitude", Double.class),
+                rs.getString("country"), rs.getString("zip_code"), rs.getString("city"))));
+    }
+
+    private void scan(String sql, RowCallbackHandler action) {
+        if (importer.pending()) {
+            streaming(primary).query(sql + (sql.contains("WHERE") ? "AND " : "WHERE ") + NOT_IMPORTED, action);
+        }
+        for (Shard shard : registry.all()) {
+            streaming(shard.jdbcTemplate()).query(sql, action);
+        }
+    }
+
+    private static JdbcTemplate streaming(JdbcTemplate jdbcTemplate) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        return streaming;
+    }
+
+    private static Long version(ResultSet rs) throws SQLException {
+        return rs.getObject("version", Long.class);
+    }
+}
@@ -0,0 +1,195 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+
+/**
+ * {@link UserRepository} über mehrere Shard-Datenbanken. Benutzer und Profil liegen zusammen auf
+ * dem Shard, den der Hash-Ring für die normalisierte E-Mail liefert; die E-Mail-Eindeutigkeit
+ * sichert der Unique-Constraint dieses Shards.
+ * <p>
+ * Jede Operation läuft in einer eigenen Shard-Transaktion. Gelieferte Benutzer sind detached,
+ * Rollen und Profil werden deshalb noch innerhalb der Transaktion geladen.
+ * <p>
+ * Bis der Import aus der Primärdatenbank abgeschlossen ist, werden Fehlgriffe über den
+ * {@link PrimaryUserImporter} aufgelöst (siehe {@link ShardingConfig}).
+ */
+@RequiredArgsConstructor
+public class ShardedUserRepository implements UserRepository {
+
+    private final ShardRegistry registry;
+    private final ShardRouter router;
+    private final ShardDirectory directory;
+    private final UserShardMover mover;
+    private final PrimaryUserImporter importer;
+
+    @Override
+    public boolean existsByEmail(String email) {
+        String normalized = EmailNormalizer.normalize(email);
+        return router.readShards(normalized).stream()
+                .anyMatch(shard -> registry.get(shard).read(users -> users.existsByEmail(normalized)))
+                || importer.pending() && importer.importByEmail(normalized).isPresent();
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        String normalized = EmailNormalizer.normalize(email);
+        for (String shard : router.readShards(normalized)) {
+            Optional<User> user = registry.get(shard).read(users -> users.findByEmail(normalized).map(this::loaded));
+            if (user.isPresent()) {
+                return user;
+            }
+        }
+        if (importer.pending()) {
+            return importer.importByEmail(normalized)
+                    .flatMap(shard -> registry.get(shard).read(users -> users.findByEmail(normalized).map(this::loaded)));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gruppiert die Adressen nach Shard (während eines Rebalancings nach altem und neuem Besitzer)
+     * und fragt jeden Shard einmal in einer eigenen read-only Transaktion ab.
+     */
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        Map<String, List<String>> emailsByShard = new HashMap<>();
+        for (String email : emails) {
+            String normalized = EmailNormalizer.normalize(email);
+            for (String shard : router.readShards(normalized)) {
+                emailsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(normalized);
+            }
+        }
+        Set<String> existing = new HashSet<>();
+        registry.scatter(shard -> {
+            List<String> candidates = emailsByShard.get(shard.name());
+            return candidates == null ? Set.<String>of() : shard.read(users -> users.findExistingEmails(candidates));
+        }).forEach(existing::addAll);
+        if (importer.pending()) {
+            Set<String> missing = new HashSet<>();
+            emailsByShard.values().forEach(missing::addAll);
+            missing.removeAll(existing);
+            if (!missing.isEmpty()) {
+                existing.addAll(importer.importByEmails(missing));
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public Optional<User> findByUuid(String uuid) {
+        Optional<String> known = directory.shardOf(uuid);
+        if (known.isPresent()) {
+            Optional<User> user = load(registry.get(known.get()), uuid);
+            if (user.isPresent()) {
+                return user;
+            }
+        }
+        for (Optional<Map.Entry<String, User>> hit : registry.scatter(
+                shard -> load(shard, uuid).map(user -> Map.entry(shard.name(), user)))) {
+            if (hit.isPresent()) {
+                directory.assign(uuid, hit.get().getKey());
+                return Optional.of(hit.get().getValue());
+            }
+        }
+        if (known.isPresent()) {
+            directory.remove(uuid);
+        }
+        if (importer.pending()) {
+            return importer.importByUuid(uuid).flatMap(shard -> load(registry.get(shard), uuid));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * IDs sind shardübergreifend eindeutig (siehe {@link ShardRegistry}); die Teilergebnisse der
+     * Shards lassen sich daher nach ID mischen, ohne die Keyset-Semantik zu verletzen.
+     */
+    @Override
+    public List<UserKey> findKeysAfter(long afterId, int limit) {
+        return registry.scatter(shard -> shard.read(users -> users.findKeysAfter(afterId, limit))).stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(UserKey::id))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Neue Benutzer landen auf dem Besitzer-Shard ihrer E-Mail. Ändert sich die E-Mail eines
+     * bestehenden Benutzers so, dass ein anderer Shard zuständig wird, zieht er direkt dorthin um.
+     */
+    @Override
+    public User save(User user) {
+        String owner = router.writeShard(user.getEmail());
+        if (user.getId() == null) {
+            return registry.get(owner).write(users -> {
+                User saved = loaded(users.saveAndFlush(user));
+                directory.assign(saved.getUuid(), owner);
+                return saved;
+            });
+        }
+        String current = locate(user.getUuid()).orElse(owner);
+        User saved = registry.get(current).write(users -> loaded(users.saveAndFlush(user)));
+        if (current.equals(owner)) {
+            return saved;
+        }
+        mover.move(saved.getUuid(), registry.get(current), registry.get(owner));
+        return findByUuid(saved.getUuid()).orElseThrow();
+    }
+
+    /**
+     * Verteilt die Updates über das Verzeichnis auf die Shards; UUIDs ohne Verzeichniseintrag
+     * werden auf allen Shards versucht (dort, wo der Benutzer nicht liegt, ändert sich nichts).
+     */
+    @Override
+    public Set<String> updateStatuses(Map<String, UserStatus> statusByUuid) {
+        Map<String, String> shardByUuid = directory.shardsOf(statusByUuid.keySet());
+        Map<String, Map<String, UserStatus>> updatesByShard = new HashMap<>();
+        Map<String, UserStatus> unlocated = new HashMap<>();
+        statusByUuid.forEach((uuid, status) -> {
+            String shard = shardByUuid.get(uuid);
+            (shard != null ? updatesByShard.computeIfAbsent(shard, key -> new HashMap<>()) : unlocated).put(uuid, status);
+        });
+
+        Set<String> changed = new HashSet<>();
+        registry.scatter(shard -> {
+            Map<String, UserStatus> updates = new HashMap<>(unlocated);
+            updates.putAll(updatesByShard.getOrDefault(shard.name(), Map.of()));
+            return updates.isEmpty() ? Set.<String>of() : shard.write(users -> users.updateStatuses(updates));
+        }).forEach(changed::addAll);
+        if (importer.pending()) {
+            unlocated.forEach((uuid, status) -> {
+                if (!changed.contains(uuid)) {
+                    importer.importByUuid(uuid).ifPresent(shard -> changed.addAll(
+                            registry.get(shard).write(users -> users.updateStatuses(Map.of(uuid, status)))));
+                }
+            });
+        }
+        return changed;
+    }
+
+    public List<ShardStats> stats() {
+        return registry.scatter(shard -> {
+            Map<UserStatus, Long> byStatus = new EnumMap<>(UserStatus.class);
+            shard.read(users -> users.countByStatus())
+                    .forEach(count -> byStatus.put(count.status(), count.count()));
+            long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+            return new ShardStats(shard.name(), router.isActive(shard.name()), total, byStatus);
+        });
+    }
+
+    private Optional<String> locate(String uuid) {
+        return directory.shardOf(uuid).or(() -> findByUuid(uuid).flatMap(user -> directory.shardOf(uuid)));
+    }
+
+    private Optional<User> load(Shard shard, String uuid) {
+        return shard.read(users -> users.findByUuid(uuid).map(this::loaded));
+    }
+
+    private User loaded(User user) {
+        user.getRoles().size();
+        return user;
+    }
+}
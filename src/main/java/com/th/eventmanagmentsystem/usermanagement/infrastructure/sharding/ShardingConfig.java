@@ -0,0 +1,155 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.audit.infrastructure.hibernate.AuditListenerRegistrar;
+import com.th.eventmanagmentsystem.common.backfill.BackfillCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Aktiviert das Sharding der Benutzerdaten ({@code eventmanagement.sharding.enabled=true}).
+ * Der {@link ShardedUserRepository} ersetzt dann den JPA-Adapter der Primärdatenbank,
+ * die weiterhin Verzeichnis, Audit-Log und Read-Models hält.
+ * <p>
+ * Umstellung einer bestehenden Installation:
+ * <ol>
+ *     <li>Ohne Sharding auf einen Stand mit Changeset {@code 011-normalize-user-emails} aktualisieren. Es bricht
+ *     ab, solange E-Mails existieren, die sich nur in der Schreibweise unterscheiden; diese zuerst bereinigen.</li>
+ *     <li>Sharding aktivieren. Benutzer aus den Primärtabellen werden beim ersten Zugriff auf ihren Shard
+ *     übernommen ({@link PrimaryUserImporter}), sie bleiben also durchgehend erreichbar.</li>
+ *     <li>Den Backfill {@value PrimaryUserImporter#BACKFILL_NAME} starten
+ *     ({@code POST /api/admin/backfills/user-shard-import/start}). Erst wenn er {@code COMPLETED} ist,
+ *     entfällt der Rückgriff auf die Primärtabellen; Summary-Rebuilds erst danach ausführen.</li>
+ *     <li>Die Zeilen in {@code users}/{@code user_profile} der Primärdatenbank bleiben als Rückfallebene stehen
+ *     und werden nicht mehr gelesen.</li>
+ * </ol>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eventmanagement.sharding", name = "enabled", havingValue = "true")
+@Slf4j
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardRegistry shardRegistry(ShardingProperties properties,
+                                       ConfigurableListableBeanFactory beanFactory,
+                                       ApplicationEventPublisher eventPublisher,
+                                       ResourceLoader resourceLoader,
+                                       JpaProperties jpaProperties,
+                                       HibernateProperties hibernateProperties,
+                                       LiquibaseProperties liquibaseProperties,
+                                       ObjectProvider<AuditListenerRegistrar> auditListenerRegistrar) {
+        return new ShardRegistry(properties, beanFactory, eventPublisher, resourceLoader, jpaProperties, hibernateProperties,
+                liquibaseProperties, auditListenerRegistrar);
+    }
+
+    @Bean
+    public ShardRingStore shardRingStore(JdbcTemplate jdbcTemplate) {
+        return new ShardRingStore(jdbcTemplate);
+    }
+
+    /**
+     * Existiert noch kein gespeicherter Ring, wird er aus den aktiven Shards angelegt. Inaktive Shards,
+     * die bereits Benutzer enthalten, stammen dann aus einem abgebrochenen Rebalancing; sie bleiben bis
+     * zum erneuten Lauf im Ziel-Ring, damit keine verschobenen Benutzer unsichtbar werden.
+     */
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties, ShardRegistry shardRegistry,
+                                   ShardRingStore shardRingStore) {
+        Set<String> active = properties.shards().stream()
+                .filter(ShardingProperties.ShardProperties::active)
+                .map(ShardingProperties.ShardProperties::name)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        ShardRingState state = shardRingStore.load()
+                .orElseGet(() -> shardRingStore.initialize(seedRing(active, shardRegistry)));
+        for (String node : state.targetNodes() != null ? state.targetNodes() : state.nodes()) {
+            shardRegistry.get(node);
+        }
+        if (!state.nodes().equals(active)) {
+            log.info("Shard ring v{} routes on {}, the configured active shards {} are ignored",
+                    state.version(), state.nodes(), active);
+        }
+        String instanceId = StringUtils.hasText(properties.instanceId())
+                ? properties.instanceId()
+                : UUID.randomUUID().toString();
+        return new ShardRouter(shardRingStore, state, instanceId, properties.virtualNodes(),
+                properties.ringRefreshInterval(), properties.ringStaleAfter());
+    }
+
+    private static ShardRingState seedRing(Set<String> active, ShardRegistry shardRegistry) {
+        Set<String> target = new LinkedHashSet<>(active);
+        for (Shard shard : shardRegistry.all()) {
+            if (!active.contains(shard.name())
+                    && !shard.jdbcTemplate().queryForList("SELECT id FROM users LIMIT 1", Long.class).isEmpty()) {
+                target.add(shard.name());
+            }
+        }
+        if (target.equals(active)) {
+            return new ShardRingState(1, active, null);
+        }
+        log.warn("Inactive shards {} already hold users, keeping dual reads until the rebalance is re-run", target);
+        return new ShardRingState(1, active, target);
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(JdbcTemplate jdbcTemplate, ShardingProperties properties) {
+        return new ShardDirectory(jdbcTemplate, properties.directoryCacheSize());
+    }
+
+    @Bean
+    public UserShardMover userShardMover(ShardDirectory shardDirectory) {
+        return new UserShardMover(shardDirectory);
+    }
+
+    @Bean
+    public PrimaryUserImporter primaryUserImporter(JdbcTemplate jdbcTemplate, ShardRegistry shardRegistry,
+                                                   ShardRouter shardRouter, ShardDirectory shardDirectory,
+                                                   UserShardMover userShardMover,
+                                                   BackfillCheckpointRepository checkpointRepository) {
+        return new PrimaryUserImporter(jdbcTemplate, shardRegistry, shardRouter, shardDirectory, userShardMover,
+                checkpointRepository);
+    }
+
+    @Bean
+    public PrimaryUserImportBackfill primaryUserImportBackfill(PrimaryUserImporter primaryUserImporter) {
+        return new PrimaryUserImportBackfill(primaryUserImporter);
+    }
+
+    @Bean
+    @Primary
+    public ShardedUserRepository shardedUserRepository(ShardRegistry shardRegistry, ShardRouter shardRouter,
+                                                       ShardDirectory shardDirectory, UserShardMover userShardMover,
+                                                       PrimaryUserImporter primaryUserImporter) {
+        return new ShardedUserRepository(shardRegistry, shardRouter, shardDirectory, userShardMover,
+                primaryUserImporter);
+    }
+
+    @Bean
+    @Primary
+    public ShardedProfileScan shardedProfileScan(JdbcTemplate jdbcTemplate, ShardRegistry shardRegistry,
+                                                 PrimaryUserImporter primaryUserImporter) {
+        return new ShardedProfileScan(jdbcTemplate, shardRegistry, primaryUserImporter);
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardRegistry shardRegistry, ShardRouter shardRouter,
+                                           ShardRingStore shardRingStore, UserShardMover userShardMover,
+                                           ShardingProperties properties) {
+        return new ShardRebalancer(shardRegistry, shardRouter, shardRingStore, userShardMover, properties);
+    }
+}
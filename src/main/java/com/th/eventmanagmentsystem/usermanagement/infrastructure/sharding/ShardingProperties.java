@@ -0,0 +1,42 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Die Position eines Shards in {@link #shards()} bestimmt seinen ID-Bereich
+ * (siehe {@link ShardRegistry}); neue Shards werden deshalb nur angehängt.
+ * Ein Shard mit {@code active=false} wird angelegt und migriert, nimmt aber erst
+ * nach einem Rebalancing am Hash-Ring teil.
+ * <p>
+ * {@code active} bestimmt nur den ersten Ring einer Installation; danach gilt der in
+ * {@code shard_ring_state} gespeicherte Ring (siehe {@link ShardRingStore}). Meldet sich eine Instanz
+ * länger als {@code ringStaleAfter} nicht, wartet ein Rebalancing nicht mehr auf ihre Bestätigung;
+ * sie selbst routet dann erst nach einem erneuten Laden wieder.
+ */
+@ConfigurationProperties(prefix = "eventmanagement.sharding")
+public record ShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("160") int virtualNodes,
+        @DefaultValue List<ShardProperties> shards,
+        @DefaultValue("500") int rebalanceBatchSize,
+        @DefaultValue("50ms") Duration rebalancePause,
+        @DefaultValue("10000") int directoryCacheSize,
+        @DefaultValue("1s") Duration ringRefreshInterval,
+        @DefaultValue("10s") Duration ringStaleAfter,
+        String instanceId
+) {
+
+    public record ShardProperties(
+            String name,
+            String url,
+            @DefaultValue("sa") String username,
+            @DefaultValue("") String password,
+            @DefaultValue("10") int maximumPoolSize,
+            @DefaultValue("true") boolean active
+    ) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.EmailNormalizer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verschiebt einen Benutzer samt Profil und Rollen zeilenweise (JDBC) von einem Shard auf einen
+ * anderen. UUID, Version und Zeitstempel bleiben erhalten, die technischen IDs vergibt der Ziel-Shard.
+ * <p>
+ * Die Quellzeile bleibt während des Kopierens gesperrt ({@code FOR UPDATE}); konkurrierende
+ * Änderungen warten also und scheitern danach am Optimistic Locking, statt verloren zu gehen.
+ * Existiert die Kopie im Ziel bereits (abgebrochener Lauf), wird nur noch die Quelle bereinigt.
+ */
+public class UserShardMover {
+
+    private static final List<String> PROFILE_TABLES = List.of("attendee_profile", "organizer_profile");
+
+    private final ShardDirectory directory;
+    private final Map<String, SimpleJdbcInsert> inserts = new ConcurrentHashMap<>();
+
+    public UserShardMover(ShardDirectory directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return {@code false}, wenn der Benutzer auf dem Quell-Shard nicht (mehr) existiert
+     */
+    public boolean move(String userUuid, Shard source, Shard target) {
+        if (source.name().equals(target.name())) {
+            return false;
+        }
+        return Boolean.TRUE.equals(source.writeTransaction().execute(status -> {
+            JdbcTemplate from = source.jdbcTemplate();
+            Optional<UserRows> rows = read(from, userUuid, true);
+            if (rows.isEmpty()) {
+                return false;
+            }
+            UserRows user = rows.get();
+            write(user, target);
+            directory.assign(userUuid, target.name());
+
+            from.update("DELETE FROM user_roles WHERE user_id = ?", user.userId());
+            from.update("DELETE FROM users WHERE id = ?", user.userId());
+            if (user.profileId() != null) {
+                if (user.detailsTable() != null) {
+                    from.update("DELETE FROM " + user.detailsTable() + " WHERE id = ?", user.profileId());
+                }
+                from.update("DELETE FROM user_profile WHERE id = ?", user.profileId());
+            }
+            return true;
+        }));
+    }
+
+    /**
+     * Kopiert einen Benutzer aus einer beliebigen Quelle mit Shard-Schema (z.B. der Primärdatenbank)
+     * auf einen Shard, ohne die Quelle zu verändern. Die E-Mail wird dabei normalisiert.
+     *
+     * @return {@code false}, wenn der Benutzer in der Quelle nicht existiert oder im Ziel bereits vorhanden ist
+     */
+    public boolean copy(String userUuid, JdbcTemplate source, Shard target) {
+        Optional<UserRows> rows = read(source, userUuid, false);
+        return rows.isPresent() && write(rows.get(), target);
+    }
+
+    private static Optional<UserRows> read(JdbcTemplate from, String userUuid, boolean lock) {
+        List<Map<String, Object>> rows = from.queryForList(
+                "SELECT * FROM users WHERE uuid = ?" + (lock ? " FOR UPDATE" : ""), userUuid);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, Object> user = rows.getFirst();
+        long userId = ((Number) user.get("id")).longValue();
+        // Seit Changeset 010 dürfen Benutzer ohne Profil existieren.
+        Long profileId = user.get("user_profile_id") == null ? null : ((Number) user.get("user_profile_id")).longValue();
+
+        Map<String, Object> profile = null;
+        String detailsTable = null;
+        Map<String, Object> details = null;
+        if (profileId != null) {
+            profile = from.queryForMap("SELECT * FROM user_profile WHERE id = ?", profileId);
+            for (String table : PROFILE_TABLES) {
+                List<Map<String, Object>> found = from.queryForList("SELECT * FROM " + table + " WHERE id = ?", profileId);
+                if (!found.isEmpty()) {
+                    detailsTable = table;
+                    details = found.getFirst();
+                    break;
+                }
+            }
+        }
+        List<String> roles = from.queryForList("SELECT role FROM user_roles WHERE user_id = ?", String.class, userId);
+        return Optional.of(new UserRows(userUuid, userId, user, profileId, profile, detailsTable, details, roles));
+    }
+
+    private boolean write(UserRows rows, Shard target) {
+        return Boolean.TRUE.equals(target.writeTransaction().execute(targetStatus -> {
+            JdbcTemplate to = target.jdbcTemplate();
+            if (!to.queryForList("SELECT id FROM users WHERE uuid = ?", Long.class, rows.userUuid()).isEmpty()) {
+                return false;
+            }
+            Map<String, Object> user = copyOf(rows.user());
+            user.remove("id");
+            user.put("email", EmailNormalizer.normalize((String) user.get("email")));
+            if (rows.profile() != null) {
+                Map<String, Object> profile = copyOf(rows.profile());
+                profile.remove("id");
+                long newProfileId = insert(target, "user_profile", true, profile);
+                if (rows.details() != null) {
+                    Map<String, Object> details = copyOf(rows.details());
+                    details.put("id", newProfileId);
+                    insert(target, rows.detailsTable(), false, details);
+                }
+                user.put("user_profile_id", newProfileId);
+            }
+            long newUserId = insert(target, "users", true, user);
+            to.batchUpdate("INSERT INTO user_roles (user_id, role) VALUES (?, ?)",
+                    rows.roles().stream().map(role -> new Object[]{newUserId, role}).toList());
+            return true;
+        }));
+    }
+
+    private static Map<String, Object> copyOf(Map<String, Object> row) {
+        Map<String, Object> copy = new LinkedCaseInsensitiveMap<>();
+        copy.putAll(row);
+        return copy;
+    }
+
+    private long insert(Shard shard, String table, boolean generatedId, Map<String, Object> row) {
+        SimpleJdbcInsert insert = inserts.computeIfAbsent(shard.name() + "." + table + "." + generatedId, key -> {
+            SimpleJdbcInsert simpleInsert = new SimpleJdbcInsert(shard.jdbcTemplate()).withTableName(table);
+            return generatedId ? simpleInsert.usingGeneratedKeyColumns("id") : simpleInsert;
+        });
+        if (generatedId) {
+            return insert.executeAndReturnKey(row).longValue();
+        }
+        insert.execute(row);
+        return ((Number) row.get("id")).longValue();
+    }
+
+    private record UserRows(String userUuid, long userId, Map<String, Object> user, Long profileId,
+                            Map<String, Object> profile, String detailsTable, Map<String, Object> details,
+                            List<String> roles) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.th.eventmanagmentsystem.common.web.DtoCodecs;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * CBOR und Smile als kompakte Binärformate neben JSON für service-to-service Aufrufe.
+ * Clients wählen das Format über {@code Accept}/{@code Content-Type}.
+ */
+@Configuration
+public class UserApiCodecConfig implements WebMvcConfigurer {
+
+    private static final List<Class<?>> USER_DTO_TYPES = List.of(
+            UserRegistrationRequest.class,
+            UserRegistrationResponse.class,
+            UserSummaryResponse.class,
+            UserSummaryPageResponse.class,
+            AttendeeSearchResponse.class
+    );
+
+    private final DtoCodecs dtoCodecs;
+
+    public UserApiCodecConfig(ObjectMapper objectMapper, ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        // Der Builder ist prototype-scoped und enthält alle spring.jackson.* Einstellungen.
+        ObjectMapper cborMapper = builders.getObject().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = builders.getObject().factory(new SmileFactory()).build();
+        this.dtoCodecs = new DtoCodecs(objectMapper, cborMapper, smileMapper, USER_DTO_TYPES);
+    }
+
+    @Bean
+    public DtoCodecs dtoCodecs() {
+        return dtoCodecs;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Die Default-Konverter verwenden eigene Mapper ohne spring.jackson.*. Die Konverter hier teilen sich
+        // den vorgewärmten Mapper, nutzen aber nicht die vorab aufgelösten Writer aus DtoCodecs.
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(dtoCodecs.mapper(MediaType.APPLICATION_CBOR)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(dtoCodecs.mapper(DtoCodecs.APPLICATION_SMILE)));
+    }
+}
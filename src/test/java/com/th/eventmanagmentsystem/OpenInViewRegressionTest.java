@@ -0,0 +1,103 @@
+package com.th.eventmanagmentsystem;
+
+import com.jayway.jsonpath.JsonPath;
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Open-Session-in-View ist global abgeschaltet. Controller und nicht transaktionale Services dürfen daher nach
+ * dem Ende der Repository-Transaktion keine Lazy-Assoziationen mehr anfassen; die Abläufe hier laden Benutzer
+ * samt Profil außerhalb einer Transaktion und mappen Entitäten erst im Controller-Thread.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class OpenInViewRegressionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void whenApplicationStarts_shouldNotRegisterOpenEntityManagerInViewInterceptor() {
+        // Assert
+        assertEquals(0, context.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class).length);
+    }
+
+    @Test
+    void whenRegistering_withoutOpenSession_shouldMapSavedUserToResponse() throws Exception {
+        // Arrange
+        String email = "osiv-" + UUID.randomUUID() + "@example.com";
+
+        // Act & Assert
+        mockMvc.perform(post("/api/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "Secret123!"}
+                                """.formatted(email)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.email").value(email));
+    }
+
+    @Test
+    void whenCreatingEventAndReserving_withoutOpenSession_shouldResolveProfilesOutsideTransactions() throws Exception {
+        // Arrange
+        User organizer = userRepository.save(TestUsers.organizer());
+        User attendee = userRepository.save(TestUsers.attendee());
+
+        // Act
+        String eventUuid = uuidOf(mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"organizerUuid": "%s", "title": "Lesung", "venue": "Stadtbibliothek",
+                                 "startsAt": "%s", "capacity": 20}
+                                """.formatted(organizer.getUuid(), Instant.now().plus(Duration.ofDays(3)))))
+                .andExpect(status().isCreated()));
+        mockMvc.perform(post("/api/events/{uuid}/publish", eventUuid))
+                .andExpect(status().isOk());
+        String reservationUuid = uuidOf(mockMvc.perform(post("/api/events/{uuid}/reservations", eventUuid)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"attendeeUuid": "%s", "seats": 2}
+                                """.formatted(attendee.getUuid())))
+                .andExpect(status().isCreated()));
+
+        // Assert
+        mockMvc.perform(get("/api/reservations/{uuid}", reservationUuid))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attendeeUuid").value(attendee.getUuid()))
+                .andExpect(jsonPath("$.seats").value(2));
+        mockMvc.perform(get("/api/events/{uuid}", eventUuid))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.uuid").value(eventUuid));
+    }
+
+    private static String uuidOf(ResultActions result) throws Exception {
+        return JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.uuid");
+    }
+}
@@ -0,0 +1,179 @@
+package com.th.eventmanagmentsystem;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Misst je Startvariante in einer frischen JVM die Zeit vom Prozessstart bis zur ersten erfolgreichen
+ * Registrierung ({@code POST /api/register} mit 201). Läuft nur mit {@code mvn test -Pbenchmark}; die
+ * Varianten mit AOT und CDS brauchen vorher {@code mvn -Pstartup package} und werden sonst übersprungen.
+ * <p>
+ * Alle Läufe nutzen dieselbe vorab migrierte H2-Datei, wie neue Instanzen gegen eine bestehende Datenbank.
+ */
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = 3;
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Path APPLICATION_DIR = Path.of("target", "application").toAbsolutePath();
+    private static final Path APPLICATION_JAR = APPLICATION_DIR.resolve("eventmanagment.jar");
+    private static final Path CDS_ARCHIVE = APPLICATION_DIR.resolve("eventmanagment.jsa");
+    private static final Pattern STARTED = Pattern.compile("Started EventmanagmentApplication in ([0-9.]+) seconds");
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @TempDir
+    private Path workDir;
+
+    @Test
+    void timeToFirstRegistration() throws Exception {
+        String databaseUrl = "jdbc:h2:file:" + workDir.resolve("eventmanagement").toAbsolutePath();
+        migrate(databaseUrl);
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("classpath, default", classpathLaunch(List.of())));
+        modes.add(new Mode("classpath, startup profile", classpathLaunch(List.of("-Dspring.profiles.active=startup"))));
+        if (Files.exists(APPLICATION_JAR)) {
+            modes.add(new Mode("jar, default", jarLaunch(List.of())));
+            modes.add(new Mode("jar, startup + AOT", jarLaunch(List.of(
+                    "-Dspring.profiles.active=startup", "-Dspring.aot.enabled=true"))));
+        }
+        if (Files.exists(APPLICATION_JAR) && Files.exists(CDS_ARCHIVE)) {
+            modes.add(new Mode("jar, startup + AOT + CDS", jarLaunch(List.of(
+                    "-XX:SharedArchiveFile=" + CDS_ARCHIVE, "-Xlog:cds=error",
+                    "-Dspring.profiles.active=startup", "-Dspring.aot.enabled=true"))));
+        }
+
+        System.out.printf("%-28s %14s %14s %14s %16s%n", "mode", "min ms", "median ms", "max ms", "context ready ms");
+        for (Mode mode : modes) {
+            List<Long> firstRegistration = new ArrayList<>();
+            List<Long> contextReady = new ArrayList<>();
+            for (int run = 0; run < RUNS; run++) {
+                Result result = measure(mode, databaseUrl, run);
+                firstRegistration.add(result.firstRegistrationMillis());
+                contextReady.add(result.contextReadyMillis());
+            }
+            firstRegistration.sort(null);
+            contextReady.sort(null);
+            System.out.printf("%-28s %14d %14d %14d %16d%n", mode.name(), firstRegistration.getFirst(),
+                    firstRegistration.get(RUNS / 2), firstRegistration.getLast(), contextReady.get(RUNS / 2));
+            assertTrue(firstRegistration.getLast() < TIMEOUT.toMillis(), mode.name());
+        }
+    }
+
+    private void migrate(String databaseUrl) throws Exception {
+        Process process = new ProcessBuilder(command(classpathLaunch(List.of("-Dspring.context.exit=onRefresh")),
+                databaseUrl, freePort()))
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("migrate.log").toFile())
+                .start();
+        assertTrue(process.waitFor(TIMEOUT.toSeconds(), TimeUnit.SECONDS), "migration run timed out");
+        assertEquals(0, process.exitValue(), () -> read(workDir.resolve("migrate.log")));
+    }
+
+    private Result measure(Mode mode, String databaseUrl, int run) throws Exception {
+        int port = freePort();
+        Path log = workDir.resolve(mode.name().replaceAll("\\W+", "-") + "-" + run + ".log");
+        HttpRequest register = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"email": "bench-%s@example.com", "password": "Secret123!"}
+                        """.formatted(UUID.randomUUID())))
+                .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command(mode.launch(), databaseUrl, port))
+                .directory(mode.launch().workingDirectory().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            while (System.nanoTime() - started < TIMEOUT.toNanos()) {
+                assertTrue(process.isAlive(), () -> mode.name() + " exited early:\n" + read(log));
+                try {
+                    HttpResponse<String> response = httpClient.send(register, HttpResponse.BodyHandlers.ofString());
+                    assertEquals(201, response.statusCode(), () -> mode.name() + ": " + response.body());
+                    long firstRegistration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    return new Result(firstRegistration, contextReadyMillis(log));
+                } catch (ConnectException e) {
+                    Thread.sleep(5);
+                }
+            }
+            throw new AssertionError(mode.name() + " did not answer within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static List<String> command(Launch launch, String databaseUrl, int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(launch.jvmArguments());
+        command.addAll(launch.target());
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=" + databaseUrl);
+        command.add("--spring.datasource.username=sa");
+        return command;
+    }
+
+    private static Launch classpathLaunch(List<String> jvmArguments) {
+        return new Launch(Path.of("").toAbsolutePath(), jvmArguments,
+                List.of("-cp", System.getProperty("java.class.path"), EventmanagmentApplication.class.getName()));
+    }
+
+    private static Launch jarLaunch(List<String> jvmArguments) {
+        return new Launch(APPLICATION_DIR, jvmArguments, List.of("-jar", APPLICATION_JAR.toString()));
+    }
+
+    private static long contextReadyMillis(Path log) {
+        Matcher matcher = STARTED.matcher(read(log));
+        return matcher.find() ? Math.round(Double.parseDouble(matcher.group(1)) * 1000) : -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String read(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            return "<" + e.getMessage() + ">";
+        }
+    }
+
+    private record Launch(Path workingDirectory, List<String> jvmArguments, List<String> target) {
+    }
+
+    private record Mode(String name, Launch launch) {
+    }
+
+    private record Result(long firstRegistrationMillis, long contextReadyMillis) {
+    }
+}
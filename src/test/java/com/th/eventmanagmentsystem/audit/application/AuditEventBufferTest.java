@@ -0,0 +1,88 @@
+package com.th.eventmanagmentsystem.audit.application;
+
+import com.th.eventmanagmentsystem.audit.application.config.AuditOverflowPolicy;
+import com.th.eventmanagmentsystem.audit.application.config.AuditProperties;
+import com.th.eventmanagmentsystem.audit.domain.AuditAction;
+import com.th.eventmanagmentsystem.audit.domain.AuditEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditEventBufferTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void whenBufferIsFull_withDropPolicy_shouldDropAndCount() {
+        // Arrange
+        AuditEventBuffer buffer = new AuditEventBuffer(properties(2, AuditOverflowPolicy.DROP), meterRegistry);
+
+        // Act
+        boolean first = buffer.publish(event("a"));
+        boolean second = buffer.publish(event("b"));
+        boolean third = buffer.publish(event("c"));
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(1.0, meterRegistry.get("audit.events.dropped").counter().count());
+    }
+
+    @Test
+    void whenBufferIsFull_withBlockPolicy_shouldAcceptOnceWriterDrains() throws Exception {
+        // Arrange
+        AuditEventBuffer buffer = new AuditEventBuffer(properties(1, AuditOverflowPolicy.BLOCK), meterRegistry);
+        buffer.publish(event("a"));
+        List<AuditEvent> drained = new ArrayList<>();
+
+        // Act
+        Thread writer = Thread.ofPlatform().start(() -> {
+            try {
+                Thread.sleep(50);
+                buffer.drainTo(drained, 10, Duration.ofSeconds(1).toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        boolean accepted = buffer.publish(event("b"));
+        writer.join();
+
+        // Assert
+        assertTrue(accepted);
+        assertEquals("a", drained.getFirst().entityUuid());
+        assertEquals(0.0, meterRegistry.get("audit.events.dropped").counter().count());
+    }
+
+    @Test
+    void whenDraining_shouldReturnAtMostBatchSize() throws Exception {
+        // Arrange
+        AuditEventBuffer buffer = new AuditEventBuffer(properties(10, AuditOverflowPolicy.DROP), meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            buffer.publish(event("uuid-" + i));
+        }
+        List<AuditEvent> batch = new ArrayList<>();
+
+        // Act
+        int drained = buffer.drainTo(batch, 3, 0);
+
+        // Assert
+        assertEquals(3, drained);
+        assertEquals("uuid-0", batch.getFirst().entityUuid());
+        assertEquals(2, buffer.size());
+    }
+
+    private static AuditProperties properties(int capacity, AuditOverflowPolicy policy) {
+        return new AuditProperties(true, capacity, 100, Duration.ofMillis(50), policy, Duration.ofSeconds(2), 3);
+    }
+
+    private static AuditEvent event(String uuid) {
+        return new AuditEvent("User", uuid, AuditAction.UPDATED, 1L, List.of("status"), "system", Instant.now());
+    }
+}
@@ -0,0 +1,217 @@
+package com.th.eventmanagmentsystem.checkin.application.gate;
+
+import com.th.eventmanagmentsystem.checkin.application.CheckInSyncService;
+import com.th.eventmanagmentsystem.checkin.application.config.CheckInGateProperties;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncRequest;
+import com.th.eventmanagmentsystem.checkin.application.dto.GateSnapshotStatus;
+import com.th.eventmanagmentsystem.checkin.application.dto.ScannedTicket;
+import com.th.eventmanagmentsystem.checkin.domain.CheckInConflict;
+import com.th.eventmanagmentsystem.checkin.domain.ScanOutcome;
+import com.th.eventmanagmentsystem.eventcatalog.application.EventCatalogService;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.CreateEventRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.EventResponse;
+import com.th.eventmanagmentsystem.usermanagement.domain.TestUsers;
+import com.th.eventmanagmentsystem.usermanagement.domain.User;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+        "eventmanagement.checkin.gate.enabled=true",
+        "eventmanagement.checkin.gate.id=gate-1",
+        "eventmanagement.checkin.gate.data-dir=target/checkin-test/${random.uuid}",
+        "eventmanagement.checkin.gate.sync-interval=1h"
+})
+class GateCheckInServiceTest {
+
+    @Autowired
+    private GateCheckInService gateCheckInService;
+
+    @Autowired
+    private CheckInSyncService syncService;
+
+    @Autowired
+    private EventCatalogService eventCatalogService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CheckInGateProperties properties;
+
+    @MockitoSpyBean
+    private CentralCheckInGateway gateway;
+
+    @Test
+    void whenCentralIsUnreachable_shouldValidateScansLocallyAndSyncAfterReconnect() {
+        // Arrange
+        String event = eventWithTickets();
+        String attendee = confirmed(event, 3);
+        String held = reservation(event, 1, "HELD");
+        gateCheckInService.load(event);
+        doThrow(new ResourceAccessException("network down")).when(gateway).sync(anyString(), any());
+
+        // Act
+        var admitted = gateCheckInService.scan(event, attendee);
+        var repeated = gateCheckInService.scan(event, attendee);
+        var notConfirmed = gateCheckInService.scan(event, held);
+        var garbage = gateCheckInService.scan(event, "not-a-ticket");
+        assertThrows(ResourceAccessException.class, () -> gateCheckInService.syncNow());
+        int pendingWhileOffline = status(event).pendingSync();
+        reset(gateway);
+        int synced = gateCheckInService.syncNow();
+
+        // Assert
+        assertEquals(ScanOutcome.ADMITTED, admitted.outcome());
+        assertEquals(3, admitted.seats());
+        assertEquals(ScanOutcome.ALREADY_USED, repeated.outcome());
+        assertEquals(admitted.checkedInAt(), repeated.checkedInAt());
+        assertEquals(ScanOutcome.UNKNOWN_TICKET, notConfirmed.outcome());
+        assertEquals(ScanOutcome.UNKNOWN_TICKET, garbage.outcome());
+        assertEquals(1, pendingWhileOffline);
+        assertEquals(1, synced);
+        assertEquals(0, status(event).pendingSync());
+        assertEquals("gate-1", jdbcTemplate.queryForObject(
+                "SELECT gate_id FROM check_in WHERE event_uuid = ? AND attendee_uuid = ?", String.class, event, attendee));
+    }
+
+    @Test
+    void whenTicketWasUsedAtAnotherGate_shouldReportDoubleEntryAndBlockLocally() {
+        // Arrange
+        String event = eventWithTickets();
+        String doubleEntry = confirmed(event, 1);
+        String otherGateOnly = confirmed(event, 2);
+        gateCheckInService.load(event);
+        Instant earlier = Instant.now().minus(Duration.ofMinutes(5));
+        syncService.sync(event, new CheckInSyncRequest("gate-2", 0, List.of(
+                new ScannedTicket(doubleEntry, earlier),
+                new ScannedTicket(otherGateOnly, earlier))));
+
+        // Act
+        var admittedOffline = gateCheckInService.scan(event, doubleEntry);
+        gateCheckInService.syncNow();
+        var afterSync = gateCheckInService.scan(event, otherGateOnly);
+
+        // Assert
+        assertEquals(ScanOutcome.ADMITTED, admittedOffline.outcome());
+        assertEquals(ScanOutcome.ALREADY_USED, afterSync.outcome());
+        List<CheckInConflict> conflicts = syncService.conflicts(event);
+        assertEquals(1, conflicts.size());
+        assertEquals(doubleEntry, conflicts.getFirst().attendeeUuid());
+        assertEquals("gate-1", conflicts.getFirst().gateId());
+        assertEquals("gate-2", conflicts.getFirst().firstGateId());
+        assertEquals(2, status(event).checkedIn());
+        assertEquals(0, status(event).pendingSync());
+    }
+
+    @Test
+    void whenGateRestarts_shouldResumeFromPersistedCursorInsteadOfFetchingEverythingAgain() {
+        // Arrange
+        String event = eventWithTickets();
+        String first = confirmed(event, 1);
+        String second = confirmed(event, 1);
+        String later = confirmed(event, 1);
+        gateCheckInService.load(event);
+        syncService.sync(event, new CheckInSyncRequest("gate-2", 0, List.of(
+                new ScannedTicket(first, Instant.now()),
+                new ScannedTicket(second, Instant.now()))));
+        gateCheckInService.syncNow();
+
+        // Act
+        gateCheckInService.stop();
+        gateCheckInService.start();
+        syncService.sync(event, new CheckInSyncRequest("gate-2", 2, List.of(new ScannedTicket(later, Instant.now()))));
+        clearInvocations(gateway);
+        gateCheckInService.syncNow();
+
+        // Assert
+        ArgumentCaptor<CheckInSyncRequest> request = ArgumentCaptor.forClass(CheckInSyncRequest.class);
+        verify(gateway).sync(eq(event), request.capture());
+        assertEquals(2, request.getValue().afterSequence());
+        assertEquals(List.of(1L, 2L, 3L), jdbcTemplate.queryForList(
+                "SELECT seq FROM check_in WHERE event_uuid = ? ORDER BY seq", Long.class, event));
+        assertEquals(ScanOutcome.ALREADY_USED, gateCheckInService.scan(event, later).outcome());
+    }
+
+    @Test
+    void whenNewerSnapshotIsLoaded_shouldCarryOverScansAndDeleteTheSupersededFiles() throws Exception {
+        // Arrange
+        String event = eventWithTickets();
+        String attendee = confirmed(event, 2);
+        gateCheckInService.load(event);
+        gateCheckInService.scan(event, attendee);
+        List<Path> before = snapshotFiles(event);
+        Thread.sleep(5);
+
+        // Act
+        gateCheckInService.load(event);
+
+        // Assert
+        List<Path> after = snapshotFiles(event);
+        assertEquals(2, after.size());
+        assertTrue(after.stream().noneMatch(before::contains));
+        assertEquals(ScanOutcome.ALREADY_USED, gateCheckInService.scan(event, attendee).outcome());
+        assertEquals(1, status(event).checkedIn());
+    }
+
+    private List<Path> snapshotFiles(String event) throws IOException {
+        try (Stream<Path> files = Files.list(properties.dataDir())) {
+            return files.filter(file -> file.getFileName().toString().startsWith(event + "-")).toList();
+        }
+    }
+
+    private GateSnapshotStatus status(String event) {
+        return gateCheckInService.status().stream()
+                .filter(status -> status.eventUuid().equals(event))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private String eventWithTickets() {
+        User organizer = userRepository.save(TestUsers.organizer());
+        EventResponse created = eventCatalogService.create(new CreateEventRequest(organizer.getUuid(),
+                "Stadionkonzert", "Open Air", "Olympiastadion", Instant.now().plus(Duration.ofDays(7)), 50_000));
+        for (int i = 0; i < 20; i++) {
+            confirmed(created.uuid(), 1);
+        }
+        return created.uuid();
+    }
+
+    private String confirmed(String event, int seats) {
+        return reservation(event, seats, "CONFIRMED");
+    }
+
+    private String reservation(String event, int seats, String status) {
+        String attendee = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO reservation (uuid, event_uuid, attendee_uuid, seats, reservation_status, expires_at, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, UUID.randomUUID().toString(), event, attendee, seats, status, now, now, now);
+        return attendee;
+    }
+}
@@ -0,0 +1,80 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.client;
+
+import com.sun.net.httpserver.HttpServer;
+import com.th.eventmanagmentsystem.checkin.application.config.CheckInGateProperties;
+import com.th.eventmanagmentsystem.checkin.application.dto.CheckInSyncRequest;
+import com.th.eventmanagmentsystem.checkin.application.gate.CentralCheckInGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CentralCheckInGatewayConfigTest {
+
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+    private HttpServer central;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        central = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        central.createContext("/api/checkin/events", exchange -> {
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] body = """
+                    {"checkedInElsewhere": [], "conflicts": []}
+                    """.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        central.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        central.stop(0);
+    }
+
+    @Test
+    void whenCentralCredentialsAreConfigured_shouldSendBasicAuth() {
+        // Arrange
+        CentralCheckInGateway gateway = gateway("gate-1", "s3cret");
+
+        // Act
+        gateway.sync("event-1", new CheckInSyncRequest("gate-1", 0, List.of()));
+
+        // Assert
+        String expected = "Basic " + Base64.getEncoder().encodeToString("gate-1:s3cret".getBytes(StandardCharsets.UTF_8));
+        assertEquals(expected, authorization.get());
+    }
+
+    @Test
+    void whenNoCentralUsernameIsConfigured_shouldSendNoAuthorization() {
+        // Arrange
+        CentralCheckInGateway gateway = gateway(null, null);
+
+        // Act
+        gateway.sync("event-1", new CheckInSyncRequest("gate-1", 0, List.of()));
+
+        // Assert
+        assertNull(authorization.get());
+    }
+
+    private CentralCheckInGateway gateway(String username, String password) {
+        CheckInGateProperties properties = new CheckInGateProperties(true, "gate-1", Path.of("target/checkin-test"),
+                "http://localhost:" + central.getAddress().getPort(), username, password,
+                Duration.ofSeconds(5), 1000, Duration.ofSeconds(2));
+        return new CentralCheckInGatewayConfig().centralCheckInGateway(properties, null, null);
+    }
+}
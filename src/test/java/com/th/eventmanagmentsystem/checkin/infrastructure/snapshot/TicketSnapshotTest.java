@@ -0,0 +1,210 @@
+package com.th.eventmanagmentsystem.checkin.infrastructure.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketSnapshotTest {
+
+    private static final UUID EVENT = UUID.fromString("5f0c2a8e-0d7b-4a53-9a5e-3c1f2b7d9e10");
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void whenLookingUpTickets_shouldFindEveryExportedAttendeeAndNothingElse() throws IOException {
+        // Arrange
+        List<UUID> attendees = randomUuids(10_000, 1);
+        TicketSnapshot snapshot = writeAndOpen(attendees, Instant.parse("2026-10-01T08:00:00Z"));
+
+        // Act & Assert
+        for (UUID attendee : attendees) {
+            int index = snapshot.indexOf(attendee);
+            assertEquals(attendee, snapshot.attendeeAt(index));
+            assertEquals(2, snapshot.seatsAt(index));
+        }
+        for (UUID unknown : randomUuids(1_000, 2)) {
+            assertEquals(-1, snapshot.indexOf(unknown));
+        }
+        assertEquals(EVENT, snapshot.eventUuid());
+    }
+
+    @Test
+    void whenScanningConcurrently_withSameTickets_shouldAdmitEachTicketExactlyOnce() throws Exception {
+        // Arrange
+        List<UUID> attendees = randomUuids(100_000, 3);
+        TicketSnapshot snapshot = writeAndOpen(attendees, Instant.now());
+        AtomicInteger admitted = new AtomicInteger();
+
+        // Act
+        List<Thread> gates = new ArrayList<>();
+        for (int gate = 0; gate < 8; gate++) {
+            List<UUID> order = new ArrayList<>(attendees);
+            Collections.shuffle(order, new Random(gate));
+            gates.add(Thread.ofPlatform().start(() -> {
+                for (UUID attendee : order) {
+                    if (snapshot.markUsed(snapshot.indexOf(attendee), System.currentTimeMillis())) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread gate : gates) {
+            gate.join();
+        }
+
+        // Assert
+        assertEquals(attendees.size(), admitted.get());
+        assertEquals(attendees.size(), snapshot.usedCount());
+        assertEquals(attendees.size(), snapshot.pendingSyncCount());
+    }
+
+    @Test
+    void whenReopened_shouldKeepStateOnlyForTheSameSnapshot() throws IOException {
+        // Arrange
+        List<UUID> attendees = randomUuids(200, 4);
+        Instant createdAt = Instant.parse("2026-10-01T08:00:00Z");
+        TicketSnapshot snapshot = writeAndOpen(attendees, createdAt);
+        int first = snapshot.indexOf(attendees.get(0));
+        int second = snapshot.indexOf(attendees.get(1));
+        snapshot.markUsed(first, 1_000L);
+        snapshot.markUsed(second, 2_000L);
+        snapshot.markSynced(first);
+        snapshot.force();
+
+        // Act
+        TicketSnapshot reopened = writeAndOpen(attendees, createdAt);
+        List<Integer> unsynced = new ArrayList<>();
+        reopened.forEachUnsynced(10, unsynced::add);
+        boolean firstUsedAfterRestart = reopened.isUsed(first);
+        long secondUsedAt = reopened.usedAt(second);
+        TicketSnapshot newer = writeAndOpen(attendees, createdAt.plusSeconds(60));
+
+        // Assert
+        assertTrue(firstUsedAfterRestart);
+        assertEquals(2_000L, secondUsedAt);
+        assertEquals(List.of(second), unsynced);
+        assertEquals(0, newer.usedCount());
+    }
+
+    @Test
+    void whenScanning_withMillionTickets_shouldStayFarBelowOneMillisecond() throws IOException {
+        // Arrange
+        List<UUID> attendees = randomUuids(1_000_000, 5);
+        TicketSnapshot snapshot = writeAndOpen(attendees, Instant.now());
+        List<UUID> order = new ArrayList<>(attendees);
+        Collections.shuffle(order, new Random(6));
+
+        // Act
+        long started = System.nanoTime();
+        int admitted = 0;
+        for (UUID attendee : order) {
+            if (snapshot.markUsed(snapshot.indexOf(attendee), System.currentTimeMillis())) {
+                admitted++;
+            }
+        }
+        long nanosPerScan = (System.nanoTime() - started) / order.size();
+
+        // Assert
+        assertEquals(attendees.size(), admitted);
+        assertTrue(nanosPerScan < 50_000, "scan took " + nanosPerScan + " ns");
+    }
+
+    @Test
+    void whenTicketHasNegativeSeats_shouldRejectExportBeforeWritingAnything() {
+        // Arrange
+        UUID attendee = new UUID(1, 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> TicketSnapshot.write(
+                out, EVENT, Instant.now(), new long[]{1}, new long[]{2}, new int[]{-1}));
+
+        // Assert
+        assertTrue(thrown.getMessage().contains(attendee.toString()));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void whenAttendeeHoldsMoreSeatsThanFitIntoAByte_shouldExportAndReadThemUnchanged() throws IOException {
+        // Arrange
+        List<UUID> attendees = randomUuids(2, 7);
+        Path tickets = dir.resolve("large.tickets");
+        try (OutputStream out = Files.newOutputStream(tickets)) {
+            new MappedTicketSnapshotStore().write(out, EVENT, Instant.now(),
+                    attendees.stream().mapToLong(UUID::getMostSignificantBits).toArray(),
+                    attendees.stream().mapToLong(UUID::getLeastSignificantBits).toArray(),
+                    new int[]{1_000, 256}, 2);
+        }
+
+        // Act
+        TicketSnapshot snapshot = TicketSnapshot.open(tickets, dir.resolve("large.state"));
+
+        // Assert
+        assertEquals(1_000, snapshot.seatsAt(snapshot.indexOf(attendees.get(0))));
+        assertEquals(256, snapshot.seatsAt(snapshot.indexOf(attendees.get(1))));
+    }
+
+    @Test
+    void whenGateStillHoldsAVersionOneFile_shouldReadItsByteSeats() throws IOException {
+        // Arrange
+        UUID attendee = new UUID(3, 4);
+        Path tickets = dir.resolve("legacy.tickets");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tickets))) {
+            out.writeInt(TicketSnapshot.MAGIC);
+            out.writeInt(TicketSnapshot.LEGACY_VERSION);
+            out.writeLong(EVENT.getMostSignificantBits());
+            out.writeLong(EVENT.getLeastSignificantBits());
+            out.writeLong(Instant.now().toEpochMilli());
+            out.writeInt(1);
+            out.writeInt(0);
+            out.writeLong(attendee.getMostSignificantBits());
+            out.writeLong(attendee.getLeastSignificantBits());
+            out.writeByte(255);
+        }
+
+        // Act
+        TicketSnapshot snapshot = TicketSnapshot.open(tickets, dir.resolve("legacy.state"));
+
+        // Assert
+        assertEquals(EVENT, TicketSnapshot.readHeader(tickets).eventUuid());
+        assertEquals(255, snapshot.seatsAt(snapshot.indexOf(attendee)));
+    }
+
+    private TicketSnapshot writeAndOpen(List<UUID> attendees, Instant createdAt) throws IOException {
+        List<UUID> sorted = attendees.stream()
+                .sorted((a, b) -> TicketSnapshot.compare(a.getMostSignificantBits(), a.getLeastSignificantBits(),
+                        b.getMostSignificantBits(), b.getLeastSignificantBits()))
+                .toList();
+        long[] msbs = sorted.stream().mapToLong(UUID::getMostSignificantBits).toArray();
+        long[] lsbs = sorted.stream().mapToLong(UUID::getLeastSignificantBits).toArray();
+        int[] seats = new int[sorted.size()];
+        Arrays.fill(seats, 2);
+
+        Path tickets = dir.resolve(createdAt.toEpochMilli() + ".tickets");
+        try (OutputStream out = Files.newOutputStream(tickets)) {
+            TicketSnapshot.write(out, EVENT, createdAt, msbs, lsbs, seats);
+        }
+        return TicketSnapshot.open(tickets, dir.resolve("gate.state"));
+    }
+
+    private static List<UUID> randomUuids(int count, long seed) {
+        Random random = new Random(seed);
+        Set<UUID> uuids = new LinkedHashSet<>();
+        while (uuids.size() < count) {
+            uuids.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return List.copyOf(uuids);
+    }
+}
@@ -0,0 +1,145 @@
+package com.th.eventmanagmentsystem.common.backfill;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BackfillRunnerTest {
+
+    private static final int ROWS = 1_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private BackfillCheckpointRepository checkpointRepository;
+    private BackfillRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:backfill;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE backfill_checkpoint (name VARCHAR(100) PRIMARY KEY, status VARCHAR(20) NOT NULL,
+                    last_key BIGINT NOT NULL, rows_migrated BIGINT NOT NULL, message VARCHAR(1000),
+                    started_at TIMESTAMP WITH TIME ZONE NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL)
+                """);
+        jdbcTemplate.execute("CREATE TABLE items (id BIGINT PRIMARY KEY, amount INT NOT NULL, doubled INT)");
+        jdbcTemplate.update("INSERT INTO items (id, amount) SELECT x, x FROM SYSTEM_RANGE(1, " + ROWS + ")");
+
+        BackfillProperties properties = new BackfillProperties(100, 10, 500,
+                Duration.ofSeconds(1), Duration.ZERO, Duration.ofMillis(10), false);
+        checkpointRepository = new BackfillCheckpointRepository(jdbcTemplate);
+        runner = new BackfillRunner(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                checkpointRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void whenBackfillRuns_shouldMigrateAllRowsAndComplete() {
+        // Act
+        BackfillStatus status = runner.run(new DoubleAmountBackfill(-1), () -> false);
+
+        // Assert
+        assertEquals(BackfillStatus.COMPLETED, status);
+        assertEquals(0, pendingRows());
+        BackfillCheckpoint checkpoint = checkpointRepository.find("double-amount").orElseThrow();
+        assertEquals(ROWS, checkpoint.lastKey());
+        assertEquals(ROWS, checkpoint.rowsMigrated());
+    }
+
+    @Test
+    void whenChunkFails_shouldRollBackChunkAndResumeFromCheckpoint() {
+        // Arrange
+        DoubleAmountBackfill crashing = new DoubleAmountBackfill(3);
+
+        // Act
+        BackfillStatus firstRun = runner.run(crashing, () -> false);
+        long keyAfterCrash = checkpointRepository.find("double-amount").orElseThrow().lastKey();
+        long pendingAfterCrash = pendingRows();
+        BackfillStatus secondRun = runner.run(crashing, () -> false);
+
+        // Assert
+        assertEquals(BackfillStatus.FAILED, firstRun);
+        assertEquals(ROWS - keyAfterCrash, pendingAfterCrash);
+        assertEquals(BackfillStatus.COMPLETED, secondRun);
+        assertEquals(0, pendingRows());
+        assertEquals(ROWS, checkpointRepository.find("double-amount").orElseThrow().rowsMigrated());
+    }
+
+    @Test
+    void whenStopRequested_shouldPauseAndKeepProgress() {
+        // Arrange
+        AtomicInteger checks = new AtomicInteger();
+
+        // Act
+        BackfillStatus status = runner.run(new DoubleAmountBackfill(-1), () -> checks.incrementAndGet() > 2);
+
+        // Assert
+        assertEquals(BackfillStatus.PAUSED, status);
+        long lastKey = checkpointRepository.find("double-amount").orElseThrow().lastKey();
+        assertEquals(ROWS - lastKey, pendingRows());
+    }
+
+    @Test
+    void whenEstimating_shouldCountWithoutChangingRows() {
+        // Act
+        BackfillEstimate estimate = runner.estimate(new DoubleAmountBackfill(-1));
+
+        // Assert
+        assertEquals(ROWS, estimate.rowsInRemainingRange());
+        assertEquals(ROWS, estimate.rowsPending());
+        assertEquals(10, estimate.estimatedChunks());
+        assertEquals(ROWS, pendingRows());
+    }
+
+    private long pendingRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items WHERE doubled IS NULL", Long.class);
+    }
+
+    private static final class DoubleAmountBackfill implements Backfill {
+
+        private final int failOnChunk;
+        private int chunks;
+
+        private DoubleAmountBackfill(int failOnChunk) {
+            this.failOnChunk = failOnChunk;
+        }
+
+        @Override
+        public String name() {
+            return "double-amount";
+        }
+
+        @Override
+        public String table() {
+            return "items";
+        }
+
+        @Override
+        public String pendingPredicate() {
+            return "doubled IS NULL";
+        }
+
+        @Override
+        public int migrateChunk(JdbcTemplate jdbcTemplate, long fromExclusive, long toInclusive) {
+            int updated = jdbcTemplate.update(
+                    "UPDATE items SET doubled = amount * 2 WHERE id > ? AND id <= ? AND doubled IS NULL",
+                    fromExclusive, toInclusive);
+            if (++chunks == failOnChunk) {
+                throw new IllegalStateException("Simulated crash");
+            }
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.th.eventmanagmentsystem.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicaRoutingTest {
+
+    private final List<JdbcTemplate> databases = new ArrayList<>();
+    private FlakyDataSource replica2;
+    private ReadYourWritesGuard guard;
+    private ReplicaPool replicaPool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica1 = database("replica-1");
+        replica2 = new FlakyDataSource(database("replica-2"));
+
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties(true, List.of(),
+                Duration.ofMinutes(1), Duration.ofSeconds(1), "SELECT lag_seconds FROM node",
+                Duration.ofSeconds(10), Duration.ofMinutes(1), "X-Client-Id");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        guard = new ReadYourWritesGuard(properties.readYourWritesWindow(), Clock.systemUTC());
+        replicaPool = new ReplicaPool(primary, replicas, guard, properties, new SimpleMeterRegistry());
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replicaPool);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        transactionManager.setTransactionExecutionListeners(List.of(new ReadYourWritesTransactionListener(guard)));
+        jdbcTemplate = new JdbcTemplate(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        guard.clear();
+        databases.forEach(database -> database.execute("DROP ALL OBJECTS"));
+    }
+
+    @Test
+    void whenTransactionIsReadOnly_shouldAlternateBetweenReplicas() {
+        // Act
+        List<String> nodes = List.of(readNode(), readNode(), readNode(), readNode());
+
+        // Assert
+        assertEquals(List.of("replica-1", "replica-2", "replica-1", "replica-2"), nodes);
+        assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void whenClientHasJustWritten_shouldReadFromPrimary() {
+        // Arrange
+        guard.bind("partner-a");
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET lag_seconds = 0"));
+
+        // Act
+        String pinnedRead = readNode();
+        guard.bind("partner-b");
+        String otherClientRead = readNode();
+
+        // Assert
+        assertEquals("primary", pinnedRead);
+        assertEquals("replica-1", otherClientRead);
+    }
+
+    @Test
+    void whenRequestHasNeitherClientHeaderNorUser_shouldNotPinOtherClientsBehindTheSameAddress() throws Exception {
+        // Arrange
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(guard, "X-Client-Id");
+        MockHttpServletRequest anonymous = new MockHttpServletRequest("POST", "/api/events");
+        anonymous.setRemoteAddr("203.0.113.7");
+        List<String> nodes = new ArrayList<>();
+
+        // Act
+        filter.doFilter(anonymous, new MockHttpServletResponse(), (request, response) -> {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET lag_seconds = 0"));
+            nodes.add(readNode());
+        });
+        MockHttpServletRequest sameNat = new MockHttpServletRequest("GET", "/api/events");
+        sameNat.setRemoteAddr("203.0.113.7");
+        filter.doFilter(sameNat, new MockHttpServletResponse(), (request, response) -> nodes.add(readNode()));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("anna@example.com", null, List.of()));
+        try {
+            filter.doFilter(anonymous, new MockHttpServletResponse(), (request, response) -> {
+                writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET lag_seconds = 0"));
+                nodes.add(readNode());
+            });
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        // Assert
+        assertEquals(List.of("replica-1", "replica-2", "primary"), nodes);
+    }
+
+    @Test
+    void whenReplicaFails_shouldEjectItUntilHealthCheckSucceeds() {
+        // Arrange
+        replica2.down = true;
+
+        // Act
+        List<String> whileDown = List.of(readNode(), readNode(), readNode());
+        replica2.down = false;
+        List<String> beforeHealthCheck = List.of(readNode(), readNode());
+        replicaPool.checkHealth();
+        Set<String> afterHealthCheck = Set.of(readNode(), readNode());
+
+        // Assert
+        assertEquals(List.of("replica-1", "replica-1", "replica-1"), whileDown);
+        assertEquals(List.of("replica-1", "replica-1"), beforeHealthCheck);
+        assertEquals(Set.of("replica-1", "replica-2"), afterHealthCheck);
+    }
+
+    @Test
+    void whenReplicaLagsBehind_shouldEjectItAndFallBackToPrimaryWithoutReplicas() {
+        // Arrange
+        databases.get(1).update("UPDATE node SET lag_seconds = 30");
+        databases.get(2).update("UPDATE node SET lag_seconds = 30");
+
+        // Act
+        replicaPool.checkHealth();
+
+        // Assert
+        assertEquals("primary", readNode());
+    }
+
+    private String readNode() {
+        return readOnlyTransaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate database = new JdbcTemplate(dataSource);
+        database.execute("CREATE TABLE node (name VARCHAR(20) NOT NULL, lag_seconds INT NOT NULL)");
+        database.update("INSERT INTO node (name, lag_seconds) VALUES (?, 0)", name);
+        databases.add(database);
+        return dataSource;
+    }
+
+    private static class FlakyDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        FlakyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLTransientConnectionException("replica unreachable");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.th.eventmanagmentsystem.common.schema;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeferredSchemaValidatorTest {
+
+    private static final String CHANGE_LOG = "classpath:/db/changelog/db.changelog-master.yaml";
+
+    @Test
+    void whenAShardWasNotMigrated_shouldReportItsPendingChangeSets() throws Exception {
+        // Arrange
+        DataSource primary = migrated(database());
+        DataSource migratedShard = migrated(database());
+        DataSource emptyShard = database();
+        SchemaTargets shards = () -> Map.of("shard-a", migratedShard, "shard-b", emptyShard);
+        DeferredSchemaValidator validator = new DeferredSchemaValidator(primary,
+                new StaticListableBeanFactory(Map.of("shards", shards)).getBeanProvider(SchemaTargets.class),
+                CHANGE_LOG);
+
+        // Act
+        validator.validate();
+
+        // Assert
+        Health health = validator.health();
+        assertEquals(Status.DOWN, health.getStatus());
+        Map<?, ?> pending = (Map<?, ?>) health.getDetails().get("pendingChangeSets");
+        assertEquals(List.of("shard-b"), List.copyOf(pending.keySet()));
+    }
+
+    @Test
+    void whenEveryDatabaseIsMigrated_shouldReportUp() throws Exception {
+        // Arrange
+        DataSource primary = migrated(database());
+        DataSource shard = migrated(database());
+        DeferredSchemaValidator validator = new DeferredSchemaValidator(primary,
+                new StaticListableBeanFactory(Map.of("shards", (SchemaTargets) () -> Map.of("shard-a", shard)))
+                        .getBeanProvider(SchemaTargets.class),
+                CHANGE_LOG);
+
+        // Act
+        validator.validate();
+
+        // Assert
+        assertEquals(Status.UP, validator.health().getStatus());
+    }
+
+    private static DataSource database() {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static DataSource migrated(DataSource dataSource) throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(CHANGE_LOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        return dataSource;
+    }
+}
@@ -0,0 +1,94 @@
+package com.th.eventmanagmentsystem.common.threads;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Ab JDK 24 geben virtuelle Threads ihren Carrier auch innerhalb von {@code synchronized} frei (JEP 491);
+ * dort entsteht kein Pinning mehr, das sich provozieren ließe.
+ */
+@EnabledForJreRange(max = JRE.JAVA_23)
+class VirtualThreadPinningMonitorTest {
+
+    private static final String MARKER_SITE = VirtualThreadPinningMonitorTest.class.getName() + ".pinnedMarker";
+    private static final Object MARKER_LOCK = new Object();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+            meterRegistry, new VirtualThreadPinningProperties(Duration.ofMillis(5), 12));
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void whenVirtualThreadBlocks_insideSynchronized_shouldRecordPinningAtApplicationFrame() throws Exception {
+        // Arrange
+        monitor.start();
+        Object lock = new Object();
+
+        // Act
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(Duration.ofMillis(50));
+            }
+        }).join();
+
+        // Assert
+        await().atMost(Duration.ofSeconds(10)).until(() -> !meterRegistry.find("jvm.threads.virtual.pinned").timers().isEmpty());
+        Timer timer = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        assertEquals(1, timer.count());
+        assertEquals(VirtualThreadPinningMonitorTest.class.getName() + ".sleep", timer.getId().getTag("site"));
+    }
+
+    @Test
+    void whenVirtualThreadBlocks_outsideSynchronized_shouldNotRecordPinning() throws Exception {
+        // Arrange
+        monitor.start();
+
+        // Act
+        Thread.ofVirtual().start(() -> sleep(Duration.ofMillis(50))).join();
+        // Der Stream liefert Events in zeitlicher Reihenfolge: Ist der spätere Marker da, fehlt kein früheres Event
+        Thread.ofVirtual().start(VirtualThreadPinningMonitorTest::pinnedMarker).join();
+
+        // Assert
+        await().atMost(Duration.ofSeconds(10)).until(() -> pinnedSites().contains(MARKER_SITE));
+        assertEquals(Set.of(MARKER_SITE), pinnedSites());
+    }
+
+    private Set<String> pinnedSites() {
+        return meterRegistry.find("jvm.threads.virtual.pinned").timers().stream()
+                .map(timer -> timer.getId().getTag("site"))
+                .collect(Collectors.toSet());
+    }
+
+    private static void pinnedMarker() {
+        synchronized (MARKER_LOCK) {
+            try {
+                Thread.sleep(Duration.ofMillis(50));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.th.eventmanagmentsystem.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DtoCodecsTest {
+
+    private final DtoCodecs dtoCodecs =
+            new DtoCodecs(new ObjectMapper(), new ObjectMapper(), new ObjectMapper(), List.of());
+
+    @Test
+    void whenNegotiating_withQualityValues_shouldPreferHigherQuality() {
+        // Arrange
+        List<MediaType> accept = MediaType.parseMediaTypes("application/json;q=0.5, application/cbor");
+
+        // Act
+        MediaType mediaType = dtoCodecs.negotiate(accept);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_CBOR, mediaType);
+    }
+
+    @Test
+    void whenNegotiating_withEqualQuality_shouldPreferSpecificOverWildcard() {
+        // Arrange
+        List<MediaType> accept = MediaType.parseMediaTypes("application/*, application/x-jackson-smile");
+
+        // Act
+        MediaType mediaType = dtoCodecs.negotiate(accept);
+
+        // Assert
+        assertEquals(DtoCodecs.APPLICATION_SMILE, mediaType);
+    }
+
+    @Test
+    void whenNegotiating_withOnlyUnsupportedOrWildcard_shouldFallBackToJson() {
+        // Arrange
+        List<MediaType> accept = MediaType.parseMediaTypes("text/html, */*;q=0.1");
+
+        // Act
+        MediaType mediaType = dtoCodecs.negotiate(accept);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_JSON, mediaType);
+    }
+}
@@ -0,0 +1,45 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.config.ReservationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Durchsatz der {@link ReservationEngine} bei einem stark nachgefragten Drop. Läuft nur mit
+ * {@code mvn test -Pbenchmark}; geprüft wird nur, dass nicht überbucht wurde, der Durchsatz wird ausgegeben.
+ */
+@Tag("benchmark")
+class ReservationEngineBenchmarkTest {
+
+    private static final String EVENT = "event-1";
+    private static final int ROUNDS = 5;
+
+    @Test
+    void reservationThroughput() throws Exception {
+        int threads = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+        int attemptsPerThread = 25_000;
+        int capacity = 100_000;
+        ReservationProperties properties = new ReservationProperties(16, Duration.ofMinutes(10), 65_536, 1_000,
+                Duration.ofMillis(100), Duration.ofSeconds(1), 5, Duration.ofSeconds(30), Duration.ofSeconds(30),
+                Path.of("target", "reservation-dead-letters.tsv"));
+
+        System.out.printf("%-6s %10s %8s %10s %9s%n", "round", "attempts", "seconds", "per second", "sold out");
+        for (int round = 0; round < ROUNDS; round++) {
+            ReservationWriteBuffer buffer = new ReservationWriteBuffer(properties, new SimpleMeterRegistry());
+            ReservationEngine engine = new ReservationEngine(buffer, properties, new SimpleMeterRegistry());
+            engine.open(EVENT, capacity, 0);
+            try (ReservationWorkload workload = new ReservationWorkload(engine, buffer, EVENT)) {
+                ReservationWorkload.Result result = workload.run(threads, attemptsPerThread);
+                System.out.printf("%-6d %10d %8.2f %10.0f %9d%n", round, result.attempts(), result.nanos() / 1e9,
+                        result.perSecond(), result.soldOut());
+                assertEquals(0, result.oversoldObservations());
+            }
+        }
+    }
+}
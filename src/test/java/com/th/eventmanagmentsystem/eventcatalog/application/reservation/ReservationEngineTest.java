@@ -0,0 +1,117 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.config.ReservationProperties;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.SoldOutException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationEngineTest {
+
+    private static final String EVENT = "event-1";
+
+    @Test
+    void whenManyThreadsReserveConcurrently_withPopularDrop_shouldNeverOversell() throws Exception {
+        // Arrange
+        int capacity = 20_000;
+        int threads = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+        int attemptsPerThread = 5_000;
+        ReservationWriteBuffer buffer = buffer(Duration.ofMinutes(10));
+        ReservationEngine engine = new ReservationEngine(buffer, properties(Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        engine.open(EVENT, capacity, 0);
+
+        // Act
+        ReservationWorkload.Result result;
+        try (ReservationWorkload workload = new ReservationWorkload(engine, buffer, EVENT)) {
+            result = workload.run(threads, attemptsPerThread);
+        }
+
+        // Assert
+        assertEquals(0, result.oversoldObservations());
+        assertEquals(capacity, result.keptSeats() + engine.availableSeats(EVENT).orElseThrow());
+        assertEquals(0, engine.availableSeats(EVENT).orElseThrow());
+    }
+
+    @Test
+    void whenHoldExpires_withoutConfirmation_shouldReturnSeats() throws Exception {
+        // Arrange
+        ReservationEngine engine = new ReservationEngine(buffer(Duration.ofMillis(1)),
+                properties(Duration.ofMillis(1)), new SimpleMeterRegistry());
+        engine.open(EVENT, 3, 0);
+        Reservation hold = engine.reserve(EVENT, "attendee", 3);
+        assertThrows(SoldOutException.class, () -> engine.reserve(EVENT, "attendee", 1));
+
+        // Act
+        Thread.sleep(10);
+        engine.expireDue();
+
+        // Assert
+        assertEquals(3, engine.availableSeats(EVENT).orElseThrow());
+        assertTrue(engine.confirm(hold.uuid()).isEmpty());
+        assertEquals(0, engine.confirmedSeats(EVENT));
+    }
+
+    @Test
+    void whenNoSingleStripeHasEnoughSeats_shouldGatherAcrossStripes() {
+        // Arrange
+        StripedInventory inventory = new StripedInventory(8, 8, 8);
+
+        // Act
+        boolean acquired = inventory.tryAcquire(5);
+        boolean tooMany = inventory.tryAcquire(4);
+
+        // Assert
+        assertTrue(acquired);
+        assertFalse(tooMany);
+        assertEquals(3, inventory.available());
+    }
+
+    @Test
+    void whenChangesAreSpreadOverBufferStripes_shouldKeepTheOrderOfEachReservation() throws Exception {
+        // Arrange
+        ReservationWriteBuffer buffer = buffer(Duration.ofMinutes(10));
+        List<Reservation> holds = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Reservation hold = Reservation.hold(EVENT, "attendee-" + i, 1, Instant.now(), Duration.ofMinutes(10));
+            holds.add(hold);
+            buffer.offer(hold);
+        }
+        holds.forEach(hold -> buffer.offer(hold.withStatus(ReservationStatus.CONFIRMED, Instant.now())));
+
+        // Act
+        List<Reservation> drained = new ArrayList<>();
+        while (buffer.drainTo(drained, 64, 0) > 0) {
+            // bis alle Stripes leer sind
+        }
+
+        // Assert
+        assertEquals(2_000, drained.size());
+        Set<String> held = new HashSet<>();
+        for (Reservation reservation : drained) {
+            if (reservation.status() == ReservationStatus.HELD) {
+                held.add(reservation.uuid());
+            } else {
+                assertTrue(held.contains(reservation.uuid()), "confirmed before held: " + reservation.uuid());
+            }
+        }
+        assertEquals(1_000, buffer.pendingConfirmedSeats(EVENT));
+    }
+
+    private static ReservationWriteBuffer buffer(Duration holdTtl) {
+        return new ReservationWriteBuffer(properties(holdTtl), new SimpleMeterRegistry());
+    }
+
+    private static ReservationProperties properties(Duration holdTtl) {
+        return new ReservationProperties(16, holdTtl, 65_536, 1_000, Duration.ofMillis(100),
+                Duration.ofSeconds(1), 5, Duration.ofSeconds(30), Duration.ofSeconds(30),
+                Path.of("target", "reservation-dead-letters.tsv"));
+    }
+}
@@ -0,0 +1,166 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.EventCatalogService;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.CreateEventRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.EventResponse;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationResponse;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.EventNotOpenForReservationException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.NotAnAttendeeException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.NotAnOrganizerException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationRepository;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.ReservationStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "eventmanagement.reservations.flush-interval=10ms",
+        "eventmanagement.reservations.dead-letter-file=target/reservation-service-test/dead-letters.tsv"
+})
+class ReservationServiceTest {
+
+    @Autowired
+    private EventCatalogService eventCatalogService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationEngine reservationEngine;
+
+    @Autowired
+    private InventoryReconciler inventoryReconciler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void whenAttendeeReservesAndConfirms_shouldPersistConfirmedReservationAsynchronously() {
+        // Arrange
+        EventResponse event = publishedEvent(10);
+        User attendee = userRepository.save(TestUsers.attendee());
+
+        // Act
+        ReservationResponse held = reservationService.reserve(event.uuid(), new ReservationRequest(attendee.getUuid(), 4));
+        ReservationResponse confirmed = reservationService.confirm(held.uuid());
+
+        // Assert
+        assertEquals(ReservationStatus.HELD, held.status());
+        assertEquals(ReservationStatus.CONFIRMED, confirmed.status());
+        assertEquals(6, eventCatalogService.get(event.uuid()).availableSeats());
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertEquals(ReservationStatus.CONFIRMED,
+                reservationRepository.findByUuid(held.uuid()).orElseThrow().status()));
+        assertEquals(ReservationStatus.CONFIRMED, reservationService.confirm(held.uuid()).status());
+    }
+
+    @Test
+    void whenPersistedStateDiverges_shouldCorrectInventoryAfterStableDrift() {
+        // Arrange
+        EventResponse event = publishedEvent(5);
+        User attendee = userRepository.save(TestUsers.attendee());
+        ReservationResponse held = reservationService.reserve(event.uuid(), new ReservationRequest(attendee.getUuid(), 2));
+        reservationService.confirm(held.uuid());
+        await().atMost(Duration.ofSeconds(5)).until(() -> reservationRepository.findByUuid(held.uuid())
+                .map(reservation -> reservation.status() == ReservationStatus.CONFIRMED).orElse(false));
+        jdbcTemplate.update("DELETE FROM reservation WHERE uuid = ?", held.uuid());
+
+        // Act
+        inventoryReconciler.reconcile();
+        int afterFirstRun = reservationEngine.availableSeats(event.uuid()).orElseThrow();
+        inventoryReconciler.reconcile();
+
+        // Assert
+        assertEquals(3, afterFirstRun);
+        assertEquals(5, reservationEngine.availableSeats(event.uuid()).orElseThrow());
+    }
+
+    @Test
+    void whenAnotherInstanceHoldsTheLease_shouldRefuseReservationsUntilItExpires() {
+        // Arrange
+        EventResponse event = publishedEvent(5);
+        User attendee = userRepository.save(TestUsers.attendee());
+        ReservationResponse held = reservationService.reserve(event.uuid(), new ReservationRequest(attendee.getUuid(), 2));
+        await().atMost(Duration.ofSeconds(5)).until(() -> reservationRepository.findByUuid(held.uuid()).isPresent());
+        jdbcTemplate.update("UPDATE reservation_event_lease SET owner_id = 'other-instance', expires_at = ? WHERE event_uuid = ?",
+                Timestamp.from(Instant.now().plus(Duration.ofHours(1))), event.uuid());
+
+        // Act
+        inventoryReconciler.maintainLeases();
+
+        // Assert
+        assertFalse(reservationEngine.isOpen(event.uuid()));
+        assertThrows(EventNotOpenForReservationException.class, () -> reservationService.reserve(event.uuid(),
+                new ReservationRequest(attendee.getUuid(), 1)));
+        assertThrows(EventNotOpenForReservationException.class, () -> reservationService.confirm(held.uuid()));
+
+        // Act
+        jdbcTemplate.update("UPDATE reservation_event_lease SET expires_at = ? WHERE event_uuid = ?",
+                Timestamp.from(Instant.now().minusSeconds(1)), event.uuid());
+        inventoryReconciler.maintainLeases();
+
+        // Assert
+        assertEquals(3, reservationEngine.availableSeats(event.uuid()).orElseThrow());
+        assertEquals(ReservationStatus.CONFIRMED, reservationService.confirm(held.uuid()).status());
+    }
+
+    @Test
+    void whenOneChangeInABatchCannotBeWritten_shouldWriteTheRestAndDeadLetterOnlyThatChange() {
+        // Arrange
+        EventResponse event = publishedEvent(10);
+        User attendee = userRepository.save(TestUsers.attendee());
+        Path deadLetters = Path.of("target", "reservation-service-test", "dead-letters.tsv");
+
+        // Act
+        ReservationResponse first = reservationService.reserve(event.uuid(), new ReservationRequest(attendee.getUuid(), 1));
+        // attendee_uuid ist VARCHAR(36), das INSERT dieser Reservierung scheitert daher immer
+        String poison = reservationEngine.reserve(event.uuid(), "x".repeat(100), 1).uuid();
+        ReservationResponse second = reservationService.reserve(event.uuid(), new ReservationRequest(attendee.getUuid(), 1));
+
+        // Assert
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertTrue(reservationRepository.findByUuid(first.uuid()).isPresent());
+            assertTrue(reservationRepository.findByUuid(second.uuid()).isPresent());
+            assertTrue(Files.exists(deadLetters) && Files.readString(deadLetters).contains("INSERT\t" + poison));
+        });
+        assertTrue(reservationRepository.findByUuid(poison).isEmpty());
+    }
+
+    @Test
+    void whenRolesDoNotMatch_shouldRejectOrganizerAndAttendeeActions() {
+        // Arrange
+        User attendee = userRepository.save(TestUsers.attendee());
+        EventResponse event = publishedEvent(1);
+        CreateEventRequest request = new CreateEventRequest(attendee.getUuid(), "Konzert", null, "Halle 1",
+                Instant.now().plus(Duration.ofDays(30)), 100);
+
+        // Act & Assert
+        assertThrows(NotAnOrganizerException.class, () -> eventCatalogService.create(request));
+        assertThrows(NotAnAttendeeException.class, () -> reservationService.reserve(event.uuid(),
+                new ReservationRequest(event.organizerUuid(), 1)));
+    }
+
+    private EventResponse publishedEvent(int capacity) {
+        User organizer = userRepository.save(TestUsers.organizer());
+        EventResponse created = eventCatalogService.create(new CreateEventRequest(organizer.getUuid(),
+                "Sommerfest", "Open Air", "Stadtpark", Instant.now().plus(Duration.ofDays(30)), capacity));
+        return eventCatalogService.publish(created.uuid());
+    }
+}
@@ -0,0 +1,101 @@
+package com.th.eventmanagmentsystem.eventcatalog.application.reservation;
+
+import com.th.eventmanagmentsystem.eventcatalog.domain.exception.SoldOutException;
+import com.th.eventmanagmentsystem.eventcatalog.domain.reservation.Reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gemeinsame Last für {@link ReservationEngineTest} und {@link ReservationEngineBenchmarkTest}: viele Threads
+ * reservieren gleichzeitig 1-4 Plätze, stornieren jede zehnte Reservierung und bestätigen die Hälfte der übrigen.
+ * Ein Drainer-Thread leert dabei den Write-Buffer, wie es sonst der Persister tut.
+ */
+final class ReservationWorkload implements AutoCloseable {
+
+    private final ReservationEngine engine;
+    private final String event;
+    private final AtomicBoolean draining = new AtomicBoolean(true);
+    private final Thread drainer;
+
+    ReservationWorkload(ReservationEngine engine, ReservationWriteBuffer buffer, String event) {
+        this.engine = engine;
+        this.event = event;
+        this.drainer = Thread.ofPlatform().daemon(true).start(() -> {
+            List<Reservation> batch = new ArrayList<>();
+            while (draining.get()) {
+                try {
+                    buffer.drainTo(batch, 10_000, TimeUnit.MILLISECONDS.toNanos(10));
+                } catch (InterruptedException e) {
+                    return;
+                }
+                buffer.completed(batch);
+                batch.clear();
+            }
+        });
+    }
+
+    Result run(int threads, int attemptsPerThread) throws Exception {
+        LongAdder keptSeats = new LongAdder();
+        LongAdder soldOut = new LongAdder();
+        AtomicInteger oversoldObservations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    int seats = 1 + random.nextInt(4);
+                    try {
+                        Reservation hold = engine.reserve(event, "attendee", seats);
+                        if (random.nextInt(10) == 0) {
+                            engine.cancel(hold.uuid()).orElseThrow();
+                        } else {
+                            if (random.nextBoolean()) {
+                                engine.confirm(hold.uuid()).orElseThrow();
+                            }
+                            keptSeats.add(seats);
+                        }
+                    } catch (SoldOutException e) {
+                        soldOut.increment();
+                    }
+                    if (engine.availableSeats(event).orElseThrow() < 0) {
+                        oversoldObservations.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        try {
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long nanos = System.nanoTime() - startNanos;
+        return new Result((long) threads * attemptsPerThread, keptSeats.sum(), soldOut.sum(),
+                oversoldObservations.get(), nanos);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        draining.set(false);
+        drainer.join();
+    }
+
+    record Result(long attempts, long keptSeats, long soldOut, int oversoldObservations, long nanos) {
+
+        double perSecond() {
+            return attempts / (nanos / 1e9);
+        }
+    }
+}
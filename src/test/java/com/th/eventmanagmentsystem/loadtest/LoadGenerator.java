@@ -0,0 +1,239 @@
+package com.th.eventmanagmentsystem.loadtest;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Geschlossener Lastgenerator: {@code clients} virtuelle Threads schicken je einen Request, warten auf die
+ * Antwort und wählen den nächsten gewichtet aus den Operationen. Gemessen wird nur nach der Aufwärmphase;
+ * parallel tastet ein Sampler alle {@link #SAMPLE_INTERVAL} den Connection-Pool ab.
+ */
+final class LoadGenerator {
+
+    static final Duration SAMPLE_INTERVAL = Duration.ofMillis(5);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    LoadGenerator(List<Operation> operations) {
+        this.operations = List.copyOf(operations);
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    Report run(int clients, Duration warmup, Duration measurement, HikariPoolMXBean pool, int maximumPoolSize)
+            throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + measurement.toNanos();
+
+        List<Client> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client(measureFrom, measureUntil);
+            workers.add(client);
+            threads.add(Thread.ofVirtual().name("load-client-" + i).start(client));
+        }
+        PoolSampler sampler = new PoolSampler(pool, maximumPoolSize, measureFrom, measureUntil);
+        Thread samplerThread = Thread.ofPlatform().name("pool-sampler").daemon(true).start(sampler);
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        samplerThread.join();
+
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            LongList latencies = new LongList();
+            long errors = 0;
+            for (Client client : workers) {
+                latencies.addAll(client.latencies.get(operation.name()));
+                errors += client.errors.getOrDefault(operation.name(), 0L);
+            }
+            stats.put(operation.name(), OperationStats.of(latencies, errors, measurement));
+        }
+        return new Report(stats, sampler.stats());
+    }
+
+    private Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            pick -= operation.weight();
+            if (pick < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private final class Client implements Runnable {
+
+        private final long measureFrom;
+        private final long measureUntil;
+        private final Map<String, LongList> latencies = new LinkedHashMap<>();
+        private final Map<String, Long> errors = new LinkedHashMap<>();
+
+        private Client(long measureFrom, long measureUntil) {
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            operations.forEach(operation -> latencies.put(operation.name(), new LongList()));
+        }
+
+        @Override
+        public void run() {
+            long now;
+            while ((now = System.nanoTime()) < measureUntil) {
+                Operation operation = next();
+                boolean ok;
+                try {
+                    HttpResponse<Void> response = httpClient.send(
+                            operation.request().get(), HttpResponse.BodyHandlers.discarding());
+                    ok = response.statusCode() == operation.expectedStatus();
+                } catch (Exception e) {
+                    ok = false;
+                }
+                long finished = System.nanoTime();
+                if (now >= measureFrom && finished <= measureUntil) {
+                    if (ok) {
+                        latencies.get(operation.name()).add(finished - now);
+                    } else {
+                        errors.merge(operation.name(), 1L, Long::sum);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class PoolSampler implements Runnable {
+
+        private final HikariPoolMXBean pool;
+        private final int maximumPoolSize;
+        private final long measureFrom;
+        private final long measureUntil;
+        private long samples;
+        private long activeSum;
+        private long saturatedSamples;
+        private long pendingSum;
+        private int maxPending;
+
+        private PoolSampler(HikariPoolMXBean pool, int maximumPoolSize, long measureFrom, long measureUntil) {
+            this.pool = pool;
+            this.maximumPoolSize = maximumPoolSize;
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+        }
+
+        @Override
+        public void run() {
+            long now;
+            while ((now = System.nanoTime()) < measureUntil) {
+                if (now >= measureFrom) {
+                    int active = pool.getActiveConnections();
+                    int pending = pool.getThreadsAwaitingConnection();
+                    samples++;
+                    activeSum += active;
+                    pendingSum += pending;
+                    maxPending = Math.max(maxPending, pending);
+                    if (active >= maximumPoolSize) {
+                        saturatedSamples++;
+                    }
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(SAMPLE_INTERVAL.toNanos());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private PoolStats stats() {
+            long n = Math.max(1, samples);
+            return new PoolStats(maximumPoolSize, (double) activeSum / n, 100.0 * saturatedSamples / n,
+                    (double) pendingSum / n, maxPending);
+        }
+    }
+
+    record Operation(String name, int weight, Supplier<HttpRequest> request, int expectedStatus) {
+    }
+
+    record Report(Map<String, OperationStats> operations, PoolStats pool) {
+
+        long requests() {
+            return operations.values().stream().mapToLong(OperationStats::requests).sum();
+        }
+
+        long errors() {
+            return operations.values().stream().mapToLong(OperationStats::errors).sum();
+        }
+
+        double throughput() {
+            return operations.values().stream().mapToDouble(OperationStats::throughput).sum();
+        }
+    }
+
+    /**
+     * Latenzen in Mikrosekunden, nur erfolgreiche Requests.
+     */
+    record OperationStats(long requests, long errors, double throughput,
+                          long p50, long p99, long p999, long max) {
+
+        static OperationStats of(LongList latencies, long errors, Duration measurement) {
+            long[] sorted = latencies.toSortedArray();
+            return new OperationStats(sorted.length, errors, sorted.length / (measurement.toNanos() / 1e9),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000;
+        }
+    }
+
+    record PoolStats(int size, double meanActive, double saturatedPercent, double meanPending, int maxPending) {
+    }
+
+    static final class LongList {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(LongList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
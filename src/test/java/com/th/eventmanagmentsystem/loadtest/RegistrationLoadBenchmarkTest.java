@@ -0,0 +1,194 @@
+package com.th.eventmanagmentsystem.loadtest;
+
+import com.th.eventmanagmentsystem.EventmanagmentApplication;
+import com.th.eventmanagmentsystem.eventcatalog.domain.Event;
+import com.th.eventmanagmentsystem.eventcatalog.domain.EventRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Lasttest gegen die vollständige Anwendung auf eingebettetem H2, einmal mit Plattform-Threads (Tomcat-Pool)
+ * und einmal im Profil {@code virtual-threads}. Der Mix besteht aus Registrierungen (BCrypt + Insert),
+ * E-Mail-Prüfungen (mit Basic Auth) und dem Veranstaltungskatalog. Ausgegeben werden Durchsatz, p50/p99/p999 je Operation und
+ * die Auslastung des Connection-Pools. Läuft nur mit {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class RegistrationLoadBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 64);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("loadtest.seconds", 15));
+    private static final int SEEDED_USERS = 200;
+    private static final int SEEDED_EVENTS = 200;
+    private static final int EMAILS_PER_CHECK = 20;
+    private static final String LOAD_USER = "loadtest";
+    private static final String LOAD_PASSWORD = UUID.randomUUID().toString();
+    // Niedriger BCrypt-Aufwand, damit die Anmeldung die E-Mail-Prüfung nicht dominiert
+    private static final String LOAD_PASSWORD_HASH = new BCryptPasswordEncoder(4).encode(LOAD_PASSWORD);
+    private static final String LOAD_AUTHORIZATION = "Basic " + Base64.getEncoder()
+            .encodeToString((LOAD_USER + ":" + LOAD_PASSWORD).getBytes(StandardCharsets.UTF_8));
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add(String.format("%-9s %-14s %9s %7s %9s %9s %9s %9s %9s",
+                "mode", "operation", "requests", "errors", "req/s", "p50 us", "p99 us", "p999 us", "max us"));
+        List<String> poolRows = new ArrayList<>();
+        poolRows.add(String.format("%-9s %5s %11s %11s %12s %11s %15s %9s %7s",
+                "mode", "pool", "mean active", "saturated %", "mean pending", "max pending", "acquire mean ms",
+                "timeouts", "pinned"));
+
+        for (String mode : List.of("platform", "virtual")) {
+            LoadGenerator.Report report = run(mode, rows, poolRows);
+            assertTrue(report.requests() > 0, mode);
+            assertTrue(report.errors() * 100 <= report.requests(), () -> mode + ": " + report.errors() + " errors");
+        }
+
+        System.out.printf("%d clients, %s warmup, %s measured%n", CLIENTS, WARMUP, MEASUREMENT);
+        rows.forEach(System.out::println);
+        System.out.println();
+        poolRows.forEach(System.out::println);
+    }
+
+    private LoadGenerator.Report run(String mode, List<String> rows, List<String> poolRows) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(EventmanagmentApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "spring.main.banner-mode=off",
+                        "spring.security.user.name=" + LOAD_USER,
+                        "spring.security.user.password=" + LOAD_PASSWORD_HASH);
+        if (mode.equals("virtual")) {
+            builder.profiles("virtual-threads");
+        }
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            HikariDataSource dataSource = context.getBean(DataSource.class).unwrap(HikariDataSource.class);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            seedEvents(context.getBean(EventRepository.class));
+            List<String> registered = seedUsers(baseUrl);
+
+            Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+            long acquireCountBefore = acquire.count();
+            double acquireMillisBefore = acquire.totalTime(TimeUnit.MILLISECONDS);
+            double timeoutsBefore = meterRegistry.get("hikaricp.connections.timeout").counter().count();
+            long pinnedBefore = pinnedCount(meterRegistry);
+
+            LoadGenerator generator = new LoadGenerator(List.of(
+                    new LoadGenerator.Operation("register", 2,
+                            () -> registration(baseUrl, "load-" + UUID.randomUUID() + "@example.com"), 201),
+                    new LoadGenerator.Operation("availability", 4,
+                            () -> availabilityCheck(baseUrl, registered), 200),
+                    new LoadGenerator.Operation("events", 4,
+                            () -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/events?size=20")).GET().build(),
+                            200)
+            ));
+            LoadGenerator.Report report = generator.run(CLIENTS, WARMUP, MEASUREMENT,
+                    dataSource.getHikariPoolMXBean(), dataSource.getMaximumPoolSize());
+
+            report.operations().forEach((operation, stats) -> rows.add(String.format(
+                    "%-9s %-14s %9d %7d %9.0f %9d %9d %9d %9d", mode, operation, stats.requests(), stats.errors(),
+                    stats.throughput(), stats.p50(), stats.p99(), stats.p999(), stats.max())));
+            rows.add(String.format("%-9s %-14s %9d %7d %9.0f", mode, "total", report.requests(), report.errors(),
+                    report.throughput()));
+
+            long acquisitions = Math.max(1, acquire.count() - acquireCountBefore);
+            LoadGenerator.PoolStats pool = report.pool();
+            poolRows.add(String.format("%-9s %5d %11.1f %11.1f %12.1f %11d %15.2f %9.0f %7d", mode, pool.size(),
+                    pool.meanActive(), pool.saturatedPercent(), pool.meanPending(), pool.maxPending(),
+                    (acquire.totalTime(TimeUnit.MILLISECONDS) - acquireMillisBefore) / acquisitions,
+                    meterRegistry.get("hikaricp.connections.timeout").counter().count() - timeoutsBefore,
+                    pinnedCount(meterRegistry) - pinnedBefore));
+            return report;
+        }
+    }
+
+    private static void seedEvents(EventRepository eventRepository) {
+        Instant startsAt = Instant.now().plus(30, ChronoUnit.DAYS);
+        for (int i = 0; i < SEEDED_EVENTS; i++) {
+            Event event = new Event(UUID.randomUUID().toString(), "Load test event " + i, "Seeded for the load test",
+                    "Halle " + (i % 10), startsAt.plus(i, ChronoUnit.HOURS), 500);
+            event.publish();
+            eventRepository.save(event);
+        }
+    }
+
+    private List<String> seedUsers(String baseUrl) throws InterruptedException {
+        List<String> emails = IntStream.range(0, SEEDED_USERS)
+                .mapToObj(i -> "seed-" + i + "-" + UUID.randomUUID() + "@example.com")
+                .toList();
+        List<Thread> threads = emails.stream()
+                .map(email -> Thread.ofVirtual().start(() -> {
+                    try {
+                        HttpResponse<String> response =
+                                httpClient.send(registration(baseUrl, email), HttpResponse.BodyHandlers.ofString());
+                        assertEquals(201, response.statusCode(), response::body);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }))
+                .toList();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return emails;
+    }
+
+    private static HttpRequest registration(String baseUrl, String email) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"email": "%s", "password": "Secret123!"}
+                        """.formatted(email)))
+                .build();
+    }
+
+    private static HttpRequest availabilityCheck(String baseUrl, List<String> registered) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String emails = IntStream.range(0, EMAILS_PER_CHECK)
+                .mapToObj(i -> i % 2 == 0
+                        ? registered.get(random.nextInt(registered.size()))
+                        : "free-" + random.nextInt(1_000_000) + "@example.com")
+                .map(email -> "\"" + email + "\"")
+                .collect(Collectors.joining(","));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/emails/availability/bitmap"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/octet-stream")
+                .header("Authorization", LOAD_AUTHORIZATION)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"emails\": [" + emails + "]}"))
+                .build();
+    }
+
+    private static long pinnedCount(MeterRegistry meterRegistry) {
+        return meterRegistry.find("jvm.threads.virtual.pinned").timers().stream().mapToLong(Timer::count).sum();
+    }
+}
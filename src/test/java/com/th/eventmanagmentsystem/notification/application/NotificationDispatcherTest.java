@@ -0,0 +1,131 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import com.th.eventmanagmentsystem.notification.application.config.NotificationTransport;
+import com.th.eventmanagmentsystem.notification.domain.Notification;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatch;
+import com.th.eventmanagmentsystem.notification.domain.NotificationChannel;
+import com.th.eventmanagmentsystem.notification.domain.NotificationRecipient;
+import com.th.eventmanagmentsystem.notification.domain.NotificationSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationDispatcherTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void whenSenderFailsTransiently_shouldRetryUntilDelivered() throws InterruptedException {
+        // Arrange
+        FlakySender sender = new FlakySender(NotificationChannel.EMAIL, 2);
+        NotificationProperties properties = properties(Map.of(), 3);
+        FanOutTracker tracker = new FanOutTracker(properties, meterRegistry);
+        FanOutProgress progress = tracker.register("event-1");
+        NotificationDispatcher dispatcher = dispatcher(properties, tracker, sender);
+
+        // Act
+        dispatcher.dispatch(batch(progress.id(), 1));
+
+        // Assert
+        FanOutStatus status = progress.snapshot();
+        assertEquals(3, sender.attempts.get());
+        assertEquals(1, status.delivered());
+        assertEquals(0, status.failed());
+    }
+
+    @Test
+    void whenSenderKeepsFailing_shouldGiveUpAndAllowLaterRetry() throws InterruptedException {
+        // Arrange
+        FlakySender sender = new FlakySender(NotificationChannel.EMAIL, 3);
+        NotificationProperties properties = properties(Map.of(), 3);
+        FanOutTracker tracker = new FanOutTracker(properties, meterRegistry);
+        FanOutProgress progress = tracker.register("event-1");
+        NotificationDispatcher dispatcher = dispatcher(properties, tracker, sender);
+        NotificationBatch batch = batch(progress.id(), 1);
+
+        // Act
+        dispatcher.dispatch(batch);
+        dispatcher.dispatch(batch);
+
+        // Assert
+        FanOutStatus status = progress.snapshot();
+        assertEquals(1, status.failed());
+        assertEquals(1, status.delivered());
+        assertEquals(0, status.duplicates());
+    }
+
+    @Test
+    void whenChannelIsRateLimited_shouldThrottleOnlyThatChannel() throws InterruptedException {
+        // Arrange
+        FlakySender email = new FlakySender(NotificationChannel.EMAIL, 0);
+        FlakySender sms = new FlakySender(NotificationChannel.SMS, 0);
+        NotificationProperties properties = properties(Map.of(NotificationChannel.SMS, 20), 1);
+        FanOutTracker tracker = new FanOutTracker(properties, meterRegistry);
+        FanOutProgress progress = tracker.register("event-1");
+        NotificationDispatcher dispatcher = dispatcher(properties, tracker, email, sms);
+
+        // Act
+        long started = System.nanoTime();
+        dispatcher.dispatch(batch(progress.id(), 40));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // Assert
+        // 20 Zustellungen passen in den Burst, die übrigen 20 brauchen bei 20/s etwa eine Sekunde
+        assertTrue(elapsed.toMillis() >= 900, "elapsed " + elapsed);
+        assertEquals(80, progress.snapshot().delivered());
+        assertEquals(40, sms.attempts.get());
+    }
+
+    private NotificationDispatcher dispatcher(NotificationProperties properties, FanOutTracker tracker,
+                                              NotificationSender... senders) {
+        return new NotificationDispatcher(List.of(senders), new DeliveryDeduplicator(properties), tracker,
+                properties, meterRegistry);
+    }
+
+    private static NotificationProperties properties(Map<NotificationChannel, Integer> rates, int maxAttempts) {
+        return new NotificationProperties(NotificationTransport.IN_MEMORY, 1000, 500, 1, 8, 1, 16,
+                "notification-batches", "notification-dispatcher", 10_000, rates, maxAttempts,
+                Duration.ofMillis(1), 1000, 10);
+    }
+
+    private static NotificationBatch batch(String fanOutId, int recipients) {
+        List<NotificationRecipient> list = new ArrayList<>();
+        for (int i = 0; i < recipients; i++) {
+            list.add(new NotificationRecipient("user-" + i, "user-" + i + "@example.com", "+49151" + i));
+        }
+        return new NotificationBatch(fanOutId, 0, "event-1", "Betreff", "Text", list);
+    }
+
+    private static final class FlakySender implements NotificationSender {
+
+        private final NotificationChannel channel;
+        private final int failures;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private FlakySender(NotificationChannel channel, int failures) {
+            this.channel = channel;
+            this.failures = failures;
+        }
+
+        @Override
+        public NotificationChannel channel() {
+            return channel;
+        }
+
+        @Override
+        public void send(Notification notification) {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new IllegalStateException("provider unavailable");
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.th.eventmanagmentsystem.notification.application;
+
+import com.th.eventmanagmentsystem.eventcatalog.application.EventCatalogService;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.CreateEventRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.EventResponse;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.ReservationResponse;
+import com.th.eventmanagmentsystem.eventcatalog.application.dto.UpdateEventRequest;
+import com.th.eventmanagmentsystem.eventcatalog.application.reservation.ReservationService;
+import com.th.eventmanagmentsystem.notification.application.config.NotificationConfig;
+import com.th.eventmanagmentsystem.notification.application.config.NotificationProperties;
+import com.th.eventmanagmentsystem.notification.application.config.NotificationTransport;
+import com.th.eventmanagmentsystem.notification.domain.NotificationBatch;
+import com.th.eventmanagmentsystem.notification.domain.NotificationRecipient;
+import com.th.eventmanagmentsystem.notification.domain.NotificationRecipientRepository;
+import com.th.eventmanagmentsystem.notification.domain.exception.FanOutRejectedException;
+import com.th.eventmanagmentsystem.notification.infrastructure.sender.LoggingNotificationSender;
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "eventmanagement.reservations.flush-interval=10ms",
+        "eventmanagement.notifications.page-size=7",
+        "eventmanagement.notifications.batch-size=5",
+        "eventmanagement.notifications.default-rate-per-second=10000",
+        "eventmanagement.notifications.rate-per-second.EMAIL=10000",
+        "eventmanagement.notifications.rate-per-second.SMS=10000"
+})
+class NotificationFanOutServiceTest {
+
+    @Autowired
+    private EventCatalogService eventCatalogService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private NotificationFanOutService fanOutService;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private FanOutTracker tracker;
+
+    @Autowired
+    private List<LoggingNotificationSender> senders;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void whenPublishedEventChanges_withOptedInAttendees_shouldNotifyEachActiveAttendeeOnAllChannels() {
+        // Arrange
+        EventResponse event = publishedEvent(100);
+        List<ReservationResponse> optedIn = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            optedIn.add(reserve(event, true));
+        }
+        reserve(event, false);
+        reserve(event, false);
+        reservationService.cancel(optedIn.removeLast().uuid());
+        awaitPersisted(event.uuid(), 14);
+
+        // Act
+        eventCatalogService.update(event.uuid(), new UpdateEventRequest(event.title(), event.description(),
+                "Messehalle 3", event.startsAt()));
+
+        // Assert
+        FanOutStatus status = await().atMost(Duration.ofSeconds(10)).until(
+                () -> tracker.all().stream().filter(s -> s.eventUuid().equals(event.uuid())).findFirst().orElse(null),
+                s -> s != null && s.state() == FanOutState.COMPLETED);
+        assertEquals(11, status.recipients());
+        assertEquals(11, status.processed());
+        assertEquals(3, status.batches());
+        assertEquals(22, status.delivered());
+        assertEquals(0, status.failed());
+        assertEquals(0, status.duplicates());
+    }
+
+    @Test
+    void whenBatchIsRedelivered_shouldSkipAlreadyDeliveredNotifications() throws InterruptedException {
+        // Arrange
+        FanOutStatus started = fanOutService.start(UUID.randomUUID().toString(), "Hinweis", "Text");
+        NotificationBatch batch = new NotificationBatch(started.id(), 0, started.eventUuid(), "Hinweis", "Text", List.of(
+                new NotificationRecipient(UUID.randomUUID().toString(), "a@example.com", "+49151000001"),
+                new NotificationRecipient(UUID.randomUUID().toString(), "b@example.com", null)));
+        dispatcher.dispatch(batch);
+        long sentBefore = senders.stream().mapToLong(LoggingNotificationSender::sentCount).sum();
+
+        // Act
+        dispatcher.dispatch(batch);
+
+        // Assert
+        FanOutStatus status = fanOutService.get(started.id());
+        assertEquals(sentBefore, senders.stream().mapToLong(LoggingNotificationSender::sentCount).sum());
+        assertEquals(3, status.delivered());
+        assertEquals(3, status.duplicates());
+        assertEquals(2, status.processed());
+    }
+
+    @Test
+    void whenAllFanOutThreadsAreBusy_shouldQueueTheNextFanOutAndRejectOnlyWhenTheQueueIsFull() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationRecipientRepository recipients = (eventUuid, afterUserUuid, limit) -> {
+            if (eventUuid.equals("busy")) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return List.of();
+        };
+        NotificationProperties properties = new NotificationProperties(NotificationTransport.IN_MEMORY, 1000, 500, 1, 1,
+                1, 16, "notification-batches", "notification-dispatcher", 100, null, 5, Duration.ofMillis(1), 1000, 10);
+        ThreadPoolTaskExecutor executor = new NotificationConfig().notificationFanOutExecutor(properties);
+        executor.initialize();
+        NotificationFanOutService service = new NotificationFanOutService(recipients, batch -> { }, tracker, executor,
+                properties, new SimpleMeterRegistry());
+        try {
+            FanOutStatus running = service.start("busy", "Hinweis", "Text");
+            await().atMost(Duration.ofSeconds(5)).until(() -> service.get(running.id()).state() == FanOutState.STREAMING);
+
+            // Act
+            FanOutStatus queued = service.start("queued", "Hinweis", "Text");
+            assertThrows(FanOutRejectedException.class, () -> service.start("rejected", "Hinweis", "Text"));
+            release.countDown();
+
+            // Assert
+            assertEquals(FanOutState.QUEUED, queued.state());
+            await().atMost(Duration.ofSeconds(5)).until(() -> service.get(queued.id()).state() == FanOutState.COMPLETED);
+            assertEquals(FanOutState.COMPLETED, service.get(running.id()).state());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private void awaitPersisted(String eventUuid, int reservations) {
+        await().atMost(Duration.ofSeconds(10)).until(() -> jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM reservation r JOIN user_summary s ON s.user_uuid = r.attendee_uuid
+                WHERE r.event_uuid = ? AND r.reservation_status IN ('HELD', 'CONFIRMED', 'CANCELLED')
+                """, Integer.class, eventUuid) == reservations);
+        await().atMost(Duration.ofSeconds(10)).until(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation WHERE event_uuid = ? AND reservation_status = 'CANCELLED'",
+                Integer.class, eventUuid) == 1);
+    }
+
+    private ReservationResponse reserve(EventResponse event, boolean receiveNotifications) {
+        User attendee = userRepository.save(attendee(receiveNotifications));
+        return reservationService.reserve(event.uuid(), new ReservationRequest(attendee.getUuid(), 1));
+    }
+
+    private EventResponse publishedEvent(int capacity) {
+        User organizer = userRepository.save(TestUsers.organizer());
+        EventResponse created = eventCatalogService.create(new CreateEventRequest(organizer.getUuid(),
+                "Sommerfest", "Open Air", "Stadtpark", Instant.now().plus(Duration.ofDays(30)), capacity));
+        return eventCatalogService.publish(created.uuid());
+    }
+
+    private static User attendee(boolean receiveNotifications) {
+        AttendeeProfile profile = TestUsers.attendeeProfile();
+        profile.setReceiveNotifications(receiveNotifications);
+        return TestUsers.attendee(TestUsers.uniqueEmail("attendee"), profile);
+    }
+}
@@ -0,0 +1,77 @@
+package com.th.eventmanagmentsystem.usermanagement.api;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Registrierung über die vollständige Filterkette, Validierung und Persistenz.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RegistrationApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void whenRegisteringAnonymously_withNewEmail_shouldCreateAccountWithoutProfile() throws Exception {
+        // Arrange
+        String email = "register-" + UUID.randomUUID() + "@example.com";
+
+        // Act & Assert
+        mockMvc.perform(registration(email))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.status").value("INACTIVE"));
+        assertTrue(userRepository.existsByEmail(email));
+    }
+
+    @Test
+    void whenRegistering_withEmailTakenInOtherCase_shouldAnswerConflict() throws Exception {
+        // Arrange
+        String email = "duplicate-" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(registration(email))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(registration(email.toUpperCase()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.detail").value("Email already exists"));
+    }
+
+    @Test
+    void whenCallingAdminEndpointAnonymously_shouldBeUnauthorized() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/admin/users"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private static MockHttpServletRequestBuilder registration(String email) {
+        return post("/api/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email": "%s", "password": "Secret123!"}
+                        """.formatted(email));
+    }
+}
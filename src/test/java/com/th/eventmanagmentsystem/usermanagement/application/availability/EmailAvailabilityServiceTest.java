@@ -0,0 +1,69 @@
+package com.th.eventmanagmentsystem.usermanagement.application.availability;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailAvailabilityServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private EmailAvailabilityService emailAvailabilityService;
+
+    @Test
+    void whenEmailsRepeatInDifferentCase_shouldQueryEachNormalizedAddressOnce() {
+        // Arrange
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of("anna@example.com"));
+
+        // Act
+        EmailAvailability availability = emailAvailabilityService.check(
+                List.of(" Anna@Example.com", "ben@example.com", "ANNA@example.com", " "));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).findExistingEmails(captor.capture());
+        assertEquals(List.of("anna@example.com", "ben@example.com"), List.copyOf(captor.getValue()));
+        assertEquals(List.of("anna@example.com"), availability.takenInRequestOrder());
+    }
+
+    @Test
+    void whenBitmapIsRequested_shouldFlagEveryTakenPositionOfTheRequest() {
+        // Arrange
+        List<String> emails = IntStream.range(0, 10).mapToObj(i -> "user" + i + "@example.com").toList();
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of("user0@example.com", "user9@example.com"));
+
+        // Act
+        byte[] bitmap = emailAvailabilityService.check(emails).bitmap();
+
+        // Assert
+        assertArrayEquals(new byte[]{0b0000_0001, 0b0000_0010}, bitmap);
+    }
+
+    @Test
+    void whenNoEmailIsValid_shouldNotQueryRepository() {
+        // Act
+        EmailAvailability availability = emailAvailabilityService.check(List.of("", "  "));
+
+        // Assert
+        verifyNoInteractions(userRepository);
+        assertArrayEquals(new byte[1], availability.bitmap());
+    }
+}
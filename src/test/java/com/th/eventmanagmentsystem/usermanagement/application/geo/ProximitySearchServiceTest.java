@@ -0,0 +1,104 @@
+package com.th.eventmanagmentsystem.usermanagement.application.geo;
+
+import com.th.eventmanagmentsystem.common.backfill.Backfill;
+import com.th.eventmanagmentsystem.common.backfill.BackfillRunner;
+import com.th.eventmanagmentsystem.common.backfill.BackfillStatus;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.ProximityHit;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.ProximitySearchResponse;
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import com.th.eventmanagmentsystem.usermanagement.domain.exception.InvalidLocationException;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ProximitySearchServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(8_000);
+
+    @Autowired
+    private ProximitySearchService proximitySearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BackfillRunner backfillRunner;
+
+    @Autowired
+    @Qualifier("attendeeAddressGeocodingBackfill")
+    private Backfill attendeeBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void whenProfilesAreSaved_shouldGeocodeAndFindThemAroundPostalCode() {
+        // Arrange
+        User potsdam = userRepository.save(attendee(new Address("Am Neuen Markt 1", "14467", "Potsdam", "DE")));
+        User munich = userRepository.save(attendee(new Address("Marienplatz 1", "80331", "München", "DE")));
+        User hamburg = userRepository.save(organizer(new Address("Jungfernstieg 1", "20095", "Hamburg", "DE")));
+
+        // Act
+        GeoPoint berlin = proximitySearchService.resolveCenter(null, null, "DE", "10117");
+        ProximitySearchResponse nearBerlin = proximitySearchService.withinRadius(berlin, 30, ProfileType.ATTENDEE, 10_000);
+        ProximitySearchResponse nearestOrganizer = proximitySearchService.nearest(
+                proximitySearchService.resolveCenter(53.55, 10.0, null, null), 1, ProfileType.ORGANIZER);
+
+        // Assert
+        Address address = ((AttendeeProfile) potsdam.getProfile()).getAddress();
+        assertTrue(address.isLocated());
+        assertTrue(address.getGeohash().startsWith("u33"), address.getGeohash());
+        List<String> nearBerlinUuids = nearBerlin.hits().stream().map(ProximityHit::userUuid).toList();
+        assertTrue(nearBerlinUuids.contains(potsdam.getUuid()));
+        assertFalse(nearBerlinUuids.contains(munich.getUuid()));
+        assertEquals(hamburg.getUuid(), nearestOrganizer.hits().getFirst().userUuid());
+    }
+
+    @Test
+    void whenAddressWasStoredWithoutLocation_shouldBeGeocodedByBackfill() {
+        // Arrange
+        User user = userRepository.save(attendee(new Address("Zeil 1", "60311", "Frankfurt am Main", "DE")));
+        Long profileId = user.getProfile().getId();
+        jdbcTemplate.update("UPDATE attendee_profile SET latitude = NULL, longitude = NULL, geohash = NULL WHERE id = ?",
+                profileId);
+
+        // Act
+        BackfillStatus status = backfillRunner.run(attendeeBackfill, () -> false);
+
+        // Assert
+        assertEquals(BackfillStatus.COMPLETED, status);
+        assertNotNull(jdbcTemplate.queryForObject("SELECT geohash FROM attendee_profile WHERE id = ?",
+                String.class, profileId));
+    }
+
+    @Test
+    void whenCenterCannotBeResolved_shouldRejectQuery() {
+        assertThrows(InvalidLocationException.class,
+                () -> proximitySearchService.resolveCenter(null, null, "DE", "00000"));
+        assertThrows(InvalidLocationException.class,
+                () -> proximitySearchService.resolveCenter(91.0, 0.0, null, null));
+        assertThrows(InvalidLocationException.class,
+                () -> proximitySearchService.withinRadius(new GeoPoint(52.5, 13.4), 0, null, 10));
+    }
+
+    private static User attendee(Address address) {
+        return TestUsers.attendee(TestUsers.uniqueEmail("geo-attendee"), TestUsers.attendeeProfile(address));
+    }
+
+    private static User organizer(Address address) {
+        int n = SEQUENCE.incrementAndGet();
+        OrganizerProfile profile = new OrganizerProfile("Geo Veranstalter " + n, "Stadtfeste", null, null, null,
+                "HRB-G" + n, "DE00 G" + n, address);
+        return TestUsers.organizer("geo-organizer-" + n + "@example.com", profile);
+    }
+}
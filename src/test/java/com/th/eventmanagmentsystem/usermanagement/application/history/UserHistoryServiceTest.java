@@ -0,0 +1,175 @@
+package com.th.eventmanagmentsystem.usermanagement.application.history;
+
+import com.th.eventmanagmentsystem.usermanagement.application.statussync.UserStatusChange;
+import com.th.eventmanagmentsystem.usermanagement.application.statussync.UserStatusSyncService;
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import com.th.eventmanagmentsystem.usermanagement.domain.exception.UserHistoryNotFoundException;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserHistoryRepository;
+import com.th.eventmanagmentsystem.usermanagement.domain.history.UserState;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "eventmanagement.user-history.snapshot-every=5")
+class UserHistoryServiceTest {
+
+    @Autowired
+    private UserHistoryService userHistoryService;
+
+    @Autowired
+    private UserHistoryRepository userHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStatusSyncService userStatusSyncService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void whenUserIsRegisteredAndChanged_shouldRebuildCurrentStateFromEvents() {
+        // Arrange
+        User user = userRepository.save(TestUsers.attendee("history-state@example.com"));
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            User loaded = userRepository.findByUuid(user.getUuid()).orElseThrow();
+            loaded.setStatus(UserStatus.LOCKED);
+            loaded.addRole(UserRole.ROLE_ORGANIZER);
+            loaded.removeRole(UserRole.ROLE_ATTENDEE);
+            userRepository.save(loaded);
+        });
+        UserState state = userHistoryService.currentState(user.getUuid());
+
+        // Assert
+        assertEquals(UserStatus.LOCKED, state.status());
+        assertEquals(Set.of(UserRole.ROLE_USER, UserRole.ROLE_ORGANIZER), state.roles());
+        assertEquals(6, userHistoryService.events(user.getUuid(), Instant.EPOCH, Instant.now().plusSeconds(1)).size());
+    }
+
+    @Test
+    void whenManyStatusChanges_shouldTakeSnapshotsAndReplayOnlyTheTail() {
+        // Arrange
+        User user = userRepository.save(TestUsers.attendee("history-snapshot@example.com"));
+        List<UserStatus> sequence = List.of(UserStatus.ACTIVE, UserStatus.LOCKED, UserStatus.ACTIVE,
+                UserStatus.SUSPENDED, UserStatus.ACTIVE, UserStatus.LOCKED, UserStatus.ACTIVE,
+                UserStatus.LOCKED, UserStatus.ACTIVE, UserStatus.EXPIRED, UserStatus.ACTIVE, UserStatus.LOCKED);
+        for (UserStatus next : sequence) {
+            transactionTemplate.executeWithoutResult(status -> {
+                User loaded = userRepository.findByUuid(user.getUuid()).orElseThrow();
+                loaded.setStatus(next);
+                userRepository.save(loaded);
+            });
+        }
+        DistributionSummary replayed = meterRegistry.get("user.history.replayed.events").summary();
+        long replaysBefore = replayed.count();
+        double eventsBefore = replayed.totalAmount();
+
+        // Act
+        UserState state = userHistoryService.currentState(user.getUuid());
+
+        // Assert
+        Integer snapshots = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_history_snapshot WHERE user_uuid = ?", Integer.class, user.getUuid());
+        assertEquals(3, snapshots);
+        assertEquals(UserStatus.LOCKED, state.status());
+        assertEquals(replaysBefore + 1, replayed.count());
+        assertTrue(replayed.totalAmount() - eventsBefore < 5);
+    }
+
+    @Test
+    void whenStatusPeriodsAreQueried_shouldReportHowLongTheAccountWasLocked() {
+        // Arrange
+        String uuid = UUID.randomUUID().toString();
+        Instant t0 = Instant.parse("2025-03-01T00:00:00Z");
+        userHistoryRepository.appendAll(List.of(
+                UserHistoryEvent.statusChanged(uuid, UserStatus.ACTIVE, t0),
+                UserHistoryEvent.statusChanged(uuid, UserStatus.LOCKED, t0.plus(Duration.ofDays(2))),
+                UserHistoryEvent.statusChanged(uuid, UserStatus.ACTIVE, t0.plus(Duration.ofDays(5))),
+                UserHistoryEvent.statusChanged(uuid, UserStatus.LOCKED, t0.plus(Duration.ofDays(9)))));
+
+        // Act
+        Map<UserStatus, Duration> durations = userHistoryService.timeInStatus(
+                uuid, t0.plus(Duration.ofDays(1)), t0.plus(Duration.ofDays(10)));
+        UserState atDayThree = userHistoryService.stateAt(uuid, t0.plus(Duration.ofDays(3)));
+
+        // Assert
+        assertEquals(Duration.ofDays(4), durations.get(UserStatus.LOCKED));
+        assertEquals(Duration.ofDays(5), durations.get(UserStatus.ACTIVE));
+        assertEquals(UserStatus.LOCKED, atDayThree.status());
+        assertThrows(UserHistoryNotFoundException.class, () -> userHistoryService.stateAt(uuid, t0.minusSeconds(1)));
+    }
+
+    @Test
+    void whenStatusesAreSyncedInBulk_shouldAppendHistoryEvents() {
+        // Arrange
+        User user = userRepository.save(TestUsers.attendee("history-bulk@example.com"));
+
+        // Act
+        userStatusSyncService.apply(List.of(
+                new UserStatusChange(user.getUuid(), UserStatus.SUSPENDED, Instant.now(), "hr")));
+
+        // Assert
+        assertEquals(UserStatus.SUSPENDED, userHistoryService.currentState(user.getUuid()).status());
+    }
+
+    @Test
+    void whenTheSameEventsAreAppendedAgain_shouldStoreThemOnlyOnce() {
+        // Arrange
+        String uuid = UUID.randomUUID().toString();
+        Instant t0 = Instant.parse("2025-04-01T00:00:00Z");
+        List<UserHistoryEvent> events = List.of(
+                UserHistoryEvent.statusChanged(uuid, UserStatus.ACTIVE, t0),
+                UserHistoryEvent.statusChanged(uuid, UserStatus.LOCKED, t0.plusSeconds(60)));
+        userHistoryRepository.appendAll(events);
+
+        // Act
+        userHistoryRepository.appendAll(events);
+
+        // Assert
+        assertEquals(2, userHistoryService.events(uuid, t0, t0.plusSeconds(61)).size());
+    }
+
+    @Test
+    void whenUserChangeIsRolledBack_shouldNotAppendItsHistoryEvents() {
+        // Arrange
+        User user = userRepository.save(TestUsers.attendee("history-rollback@example.com"));
+        int eventsBefore = userHistoryService.events(user.getUuid(), Instant.EPOCH, Instant.now().plusSeconds(1)).size();
+        UserStatus statusBefore = userHistoryService.currentState(user.getUuid()).status();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            User loaded = userRepository.findByUuid(user.getUuid()).orElseThrow();
+            loaded.setStatus(UserStatus.LOCKED);
+            userRepository.save(loaded);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(eventsBefore,
+                userHistoryService.events(user.getUuid(), Instant.EPOCH, Instant.now().plusSeconds(1)).size());
+        assertEquals(statusBefore, userHistoryService.currentState(user.getUuid()).status());
+    }
+}
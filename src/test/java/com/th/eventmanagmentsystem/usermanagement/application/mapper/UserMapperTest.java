@@ -0,0 +1,33 @@
+package com.th.eventmanagmentsystem.usermanagement.application.mapper;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationRequest;
+import com.th.eventmanagmentsystem.usermanagement.domain.TestUsers;
+import com.th.eventmanagmentsystem.usermanagement.domain.User;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserMapperTest {
+
+    @Test
+    void whenMappingRegistration_withImmutableRoles_shouldCreateUserWithoutProfile() {
+        // Arrange
+        UserRegistrationRequest request = new UserRegistrationRequest("anna@example.com", "Secret123!");
+
+        // Act
+        User user = UserMapper.INSTANCE.requestToUser(request, TestUsers.HASHED_PASSWORD, null,
+                UserStatus.INACTIVE, Set.of(UserRole.ROLE_USER));
+
+        // Assert
+        assertEquals("anna@example.com", user.getEmail());
+        assertEquals(TestUsers.HASHED_PASSWORD, user.getPassword());
+        assertEquals(UserStatus.INACTIVE, user.getStatus());
+        assertEquals(Set.of(UserRole.ROLE_USER), user.getRoles());
+        assertNull(user.getProfile());
+    }
+}
@@ -0,0 +1,28 @@
+package com.th.eventmanagmentsystem.usermanagement.application.search;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.AttendeeSearchResponse;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.search.InMemoryAttendeeSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttendeeSearchServiceTest {
+
+    @Test
+    void whenPageTimesSizeExceedsIntRange_shouldReturnEmptyPageWithTotal() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemoryAttendeeSearchIndex index = new InMemoryAttendeeSearchIndex(meterRegistry);
+        index.upsert(new AttendeeSearchDocument("u1", 0L, "Anna", "Müller", "München", "80331"));
+        AttendeeSearchService service = new AttendeeSearchService(index, meterRegistry);
+
+        // Act
+        AttendeeSearchResponse response = service.search("anna", 21_474_837, AttendeeSearchService.MAX_PAGE_SIZE);
+
+        // Assert
+        assertTrue(response.hits().isEmpty());
+        assertEquals(1, response.totalHits());
+        assertEquals(21_474_837, response.page());
+    }
+}
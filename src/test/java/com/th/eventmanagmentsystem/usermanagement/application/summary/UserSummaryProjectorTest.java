@@ -0,0 +1,133 @@
+package com.th.eventmanagmentsystem.usermanagement.application.summary;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.ChangeType;
+import com.th.eventmanagmentsystem.usermanagement.domain.event.UserChangedEvent;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryProjectorTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSummaryRepository userSummaryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+
+    private UserSummaryProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        projector = new UserSummaryProjector(userRepository, userSummaryRepository, transactionManager,
+                queuedTasks::add, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void whenSameUserChangesTwice_beforeProjectionRuns_shouldProjectOnce() {
+        // Arrange
+        User user = TestUsers.attendee("anna@example.com");
+        when(userRepository.findByUuid(user.getUuid())).thenReturn(Optional.of(user));
+        when(userSummaryRepository.findById(user.getUuid())).thenReturn(Optional.empty());
+
+        // Act
+        projector.onUserChanged(new UserChangedEvent(user.getUuid(), ChangeType.SAVED, Instant.now()));
+        projector.onUserChanged(new UserChangedEvent(user.getUuid(), ChangeType.SAVED, Instant.now()));
+        queuedTasks.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, queuedTasks.size());
+        ArgumentCaptor<UserSummary> captor = ArgumentCaptor.forClass(UserSummary.class);
+        verify(userSummaryRepository).save(captor.capture());
+        assertEquals("Anna Muster", captor.getValue().getDisplayName());
+        assertEquals("Berlin", captor.getValue().getCity());
+        assertEquals("ROLE_ATTENDEE,ROLE_USER", captor.getValue().getRoles());
+    }
+
+    @Test
+    void whenProjectionQueueIsFull_shouldDeferUsersAndProjectThemAfterTheRunningProjection() {
+        // Arrange
+        Deque<Runnable> boundedQueue = new ArrayDeque<>();
+        UserSummaryProjector bounded = new UserSummaryProjector(userRepository, userSummaryRepository,
+                transactionManager, task -> {
+                    if (boundedQueue.size() == 1) {
+                        throw new RejectedExecutionException("queue full");
+                    }
+                    boundedQueue.add(task);
+                }, new SimpleMeterRegistry());
+        User first = TestUsers.attendee("a@example.com");
+        User second = TestUsers.attendee("b@example.com");
+        when(userRepository.findByUuid(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        bounded.onUserChanged(new UserChangedEvent(first.getUuid(), ChangeType.SAVED, Instant.now()));
+        bounded.onUserChanged(new UserChangedEvent(second.getUuid(), ChangeType.SAVED, Instant.now()));
+        bounded.onUserChanged(new UserChangedEvent(second.getUuid(), ChangeType.SAVED, Instant.now()));
+        int queuedWhileFull = boundedQueue.size();
+        while (!boundedQueue.isEmpty()) {
+            boundedQueue.poll().run();
+        }
+
+        // Assert
+        assertEquals(1, queuedWhileFull);
+        verify(userSummaryRepository).deleteById(first.getUuid());
+        verify(userSummaryRepository).deleteById(second.getUuid());
+    }
+
+    @Test
+    void whenUserNoLongerExists_shouldDeleteSummary() {
+        // Arrange
+        when(userRepository.findByUuid("gone")).thenReturn(Optional.empty());
+
+        // Act
+        projector.project("gone");
+
+        // Assert
+        verify(userSummaryRepository).deleteById("gone");
+        verify(userSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    void whenRebuilding_shouldPageByKeysetAndRemoveOrphans() {
+        // Arrange
+        User first = TestUsers.attendee("a@example.com");
+        User second = TestUsers.attendee("b@example.com");
+        when(userRepository.findKeysAfter(eq(0L), anyInt())).thenReturn(List.of(new UserKey(1L, first.getUuid())));
+        when(userRepository.findKeysAfter(eq(1L), anyInt())).thenReturn(List.of(new UserKey(7L, second.getUuid())));
+        when(userRepository.findKeysAfter(eq(7L), anyInt())).thenReturn(List.of());
+        when(userRepository.findByUuid(first.getUuid())).thenReturn(Optional.of(first));
+        when(userRepository.findByUuid(second.getUuid())).thenReturn(Optional.of(second));
+        when(userSummaryRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        projector.rebuild();
+
+        // Assert
+        verify(userSummaryRepository, times(2)).save(any(UserSummary.class));
+        verify(userSummaryRepository).deleteProjectedBefore(any(Instant.class));
+    }
+}
@@ -0,0 +1,102 @@
+package com.th.eventmanagmentsystem.usermanagement.application.summary;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryFilter;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryPageResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryResponse;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryQuery;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class UserSummaryQueryServiceTest {
+
+    @Autowired
+    private UserSummaryQueryService userSummaryQueryService;
+
+    @Autowired
+    private UserSummaryRepository userSummaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String city;
+
+    @BeforeEach
+    void setUp() {
+        city = "Summary-" + UUID.randomUUID();
+        insert("admin@example.com", UserStatus.ACTIVE, "ROLE_ADMIN,ROLE_USER");
+        insert("user@example.com", UserStatus.ACTIVE, "ROLE_USER");
+        insert("user_manager@example.com", UserStatus.INACTIVE, "ROLE_ATTENDEE");
+        insert("userxmanager@example.com", UserStatus.INACTIVE, "ROLE_ORGANIZER");
+    }
+
+    @Test
+    void whenFilteringByRole_withRoleContainedInAnotherName_shouldMatchWholeRolesOnly() {
+        // Arrange
+        insert("users@example.com", UserStatus.ACTIVE, "ROLE_USERS");
+        UserSummaryQuery query = UserSummaryQueryService.toQuery(
+                new UserSummaryFilter(null, UserRole.ROLE_USER, city, null), PageRequest.of(0, 50));
+
+        // Act
+        List<String> emails = userSummaryRepository.search(query).content().stream()
+                .map(UserSummary::getEmail)
+                .toList();
+
+        // Assert
+        assertEquals(List.of("admin@example.com", "user@example.com"), emails);
+    }
+
+    @Test
+    void whenFilteringByEmailPrefix_withWildcardCharacters_shouldMatchThemLiterally() {
+        // Arrange
+        UserSummaryFilter filter = new UserSummaryFilter(null, null, city, "User_");
+
+        // Act
+        UserSummaryPageResponse page = userSummaryQueryService.list(filter, PageRequest.of(0, 50));
+
+        // Assert
+        assertEquals(List.of("user_manager@example.com"), emails(page));
+    }
+
+    @Test
+    void whenSortingByStatusDescending_withUnknownSortProperty_shouldIgnoreUnknownAndPage() {
+        // Arrange
+        UserSummaryFilter filter = new UserSummaryFilter(UserStatus.INACTIVE, null, city, null);
+
+        // Act
+        UserSummaryPageResponse page = userSummaryQueryService.list(filter,
+                PageRequest.of(0, 1, Sort.by(Sort.Order.desc("email"), Sort.Order.asc("password"))));
+
+        // Assert
+        assertEquals(List.of("userxmanager@example.com"), emails(page));
+        assertEquals(2, page.totalElements());
+    }
+
+    private void insert(String email, UserStatus status, String roles) {
+        jdbcTemplate.update("""
+                        INSERT INTO user_summary (user_uuid, email, user_status, roles, city, receive_notifications,
+                                                  projected_at)
+                        VALUES (?, ?, ?, ?, ?, FALSE, ?)""",
+                UUID.randomUUID().toString(), email, status.name(), roles, city, Timestamp.from(Instant.now()));
+    }
+
+    private static List<String> emails(UserSummaryPageResponse page) {
+        return page.content().stream().map(UserSummaryResponse::email).toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.th.eventmanagmentsystem.usermanagement.domain;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gemeinsame Testbenutzer. E-Mail-Adressen und Telefonnummern werden über einen JVM-weiten Zähler vergeben,
+ * damit sich Testklassen, die sich einen Spring-Kontext und damit eine Datenbank teilen, nicht in die Quere kommen.
+ */
+public final class TestUsers {
+
+    public static final String HASHED_PASSWORD = "$2a$10$" + "x".repeat(53);
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private TestUsers() {
+    }
+
+    public static String uniqueEmail(String prefix) {
+        return prefix + "-" + SEQUENCE.incrementAndGet() + "@example.com";
+    }
+
+    public static Address address() {
+        return new Address("Hauptstraße 1", "10115", "Berlin", "DE");
+    }
+
+    public static AttendeeProfile attendeeProfile() {
+        return attendeeProfile(address());
+    }
+
+    public static AttendeeProfile attendeeProfile(Address address) {
+        return new AttendeeProfile("Anna", "Muster", "+4915" + (10_000_000 + SEQUENCE.incrementAndGet()),
+                LocalDate.of(1990, 1, 1), address);
+    }
+
+    public static User attendee() {
+        return attendee(uniqueEmail("attendee"));
+    }
+
+    public static User attendee(String email) {
+        return attendee(email, attendeeProfile());
+    }
+
+    public static User attendee(String email, AttendeeProfile profile) {
+        return new User(email, HASHED_PASSWORD, Set.of(UserRole.ROLE_USER, UserRole.ROLE_ATTENDEE), profile);
+    }
+
+    public static User organizer() {
+        int n = SEQUENCE.incrementAndGet();
+        return organizer("organizer-" + n + "@example.com",
+                new OrganizerProfile("Veranstalter " + n, "Konzerte und Festivals", "HRB-" + n, "DE00 " + n));
+    }
+
+    public static User organizer(String email, OrganizerProfile profile) {
+        return new User(email, HASHED_PASSWORD, Set.of(UserRole.ROLE_USER, UserRole.ROLE_ORGANIZER), profile);
+    }
+}
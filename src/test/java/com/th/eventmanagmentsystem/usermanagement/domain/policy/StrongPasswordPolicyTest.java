@@ -0,0 +1,35 @@
+package com.th.eventmanagmentsystem.usermanagement.domain.policy;
+
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationRequest;
+import com.th.eventmanagmentsystem.usermanagement.domain.exception.WeakPasswordException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StrongPasswordPolicyTest {
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final StrongPasswordPolicy policy = new StrongPasswordPolicy(validatorFactory.getValidator());
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void whenPasswordLacksSpecialCharacter_shouldRejectAsWeak() {
+        // Act & Assert
+        assertThrows(WeakPasswordException.class,
+                () -> policy.check(new UserRegistrationRequest("anna@example.com", "Secret123")));
+    }
+
+    @Test
+    void whenOnlyEmailIsInvalid_shouldLeaveItToOtherPolicies() {
+        // Act & Assert
+        assertDoesNotThrow(() -> policy.check(new UserRegistrationRequest("not-an-email", "Secret123!")));
+    }
+}
@@ -0,0 +1,57 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Antwortzeiten des {@link GridProximityIndex} mit einer Million Profilen. Läuft nur mit {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class GridProximityIndexBenchmarkTest {
+
+    private static final int PROFILES = 1_000_000;
+    private static final int QUERIES = 200;
+
+    @Test
+    void queryLatencyWithMillionProfiles() {
+        Random random = new Random(7);
+        GridProximityIndex index = new GridProximityIndex(new SimpleMeterRegistry());
+        for (int i = 0; i < PROFILES; i++) {
+            index.upsert(Integer.toString(i), 0, ProfileType.ATTENDEE, randomPoint(random));
+        }
+
+        // Aufwärmen, damit der JIT die Suchpfade kompiliert hat
+        for (int i = 0; i < QUERIES; i++) {
+            index.withinRadius(randomPoint(random), 30, null, 100);
+            index.nearest(randomPoint(random), 10, null);
+        }
+
+        long radiusNanos = 0;
+        long nearestNanos = 0;
+        long matches = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            GeoPoint center = randomPoint(random);
+            long started = System.nanoTime();
+            matches += index.withinRadius(center, 30, null, 100).totalMatches();
+            long between = System.nanoTime();
+            matches += index.nearest(center, 10, null).size();
+            nearestNanos += System.nanoTime() - between;
+            radiusNanos += between - started;
+        }
+
+        System.out.printf("Proximity index: %d profiles, radius 30 km %.3f ms, nearest 10 %.3f ms per query%n",
+                index.size(), radiusNanos / 1e6 / QUERIES, nearestNanos / 1e6 / QUERIES);
+        assertTrue(matches > 0);
+    }
+
+    private static GeoPoint randomPoint(Random random) {
+        return new GeoPoint(47 + random.nextDouble() * 8, 6 + random.nextDouble() * 9);
+    }
+}
@@ -0,0 +1,124 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.geo;
+
+import com.th.eventmanagmentsystem.usermanagement.application.geo.ProximityIndex;
+import com.th.eventmanagmentsystem.usermanagement.domain.geo.GeoPoint;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridProximityIndexTest {
+
+    private static final GeoPoint BERLIN_MITTE = new GeoPoint(52.5170, 13.3889);
+
+    private GridProximityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GridProximityIndex(new SimpleMeterRegistry());
+        index.upsert("berlin", 0, ProfileType.ATTENDEE, new GeoPoint(52.5323, 13.3846));
+        index.upsert("potsdam", 0, ProfileType.ATTENDEE, new GeoPoint(52.4000, 13.0600));
+        index.upsert("hamburg", 0, ProfileType.ORGANIZER, new GeoPoint(53.5510, 10.0000));
+        index.upsert("muenchen", 0, ProfileType.ATTENDEE, new GeoPoint(48.1372, 11.5755));
+    }
+
+    @Test
+    void whenSearchingRadius_shouldReturnMatchesNearestFirst() {
+        ProximityIndex.Result result = index.withinRadius(BERLIN_MITTE, 30, null, 10);
+
+        assertEquals(2, result.totalMatches());
+        assertEquals(List.of("berlin", "potsdam"), uuids(result.hits()));
+        assertTrue(result.hits().getLast().distanceKm() > 20);
+    }
+
+    @Test
+    void whenSearchingWithTypeAndLimit_shouldFilterButCountAll() {
+        ProximityIndex.Result organizers = index.withinRadius(BERLIN_MITTE, 300, ProfileType.ORGANIZER, 10);
+        ProximityIndex.Result limited = index.withinRadius(BERLIN_MITTE, 300, null, 1);
+
+        assertEquals(List.of("hamburg"), uuids(organizers.hits()));
+        assertEquals(3, limited.totalMatches());
+        assertEquals(List.of("berlin"), uuids(limited.hits()));
+    }
+
+    @Test
+    void whenProfileMovesOrIsRemoved_shouldUpdateIncrementally() {
+        index.upsert("berlin", 1, ProfileType.ATTENDEE, new GeoPoint(48.1450, 11.5580));
+        index.upsert("berlin", 0, ProfileType.ATTENDEE, new GeoPoint(52.5323, 13.3846));
+        index.remove("potsdam", 0);
+
+        assertEquals(0, index.withinRadius(BERLIN_MITTE, 30, null, 10).totalMatches());
+        assertEquals(List.of("berlin", "muenchen"), uuids(index.nearest(new GeoPoint(48.14, 11.56), 2, null)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void whenLoaderDeliversAnOlderStateOfARemovedProfile_shouldNotReinsertItUntilLoadingFinished() {
+        index.upsert("potsdam", 2, ProfileType.ATTENDEE, new GeoPoint(52.4000, 13.0600));
+        index.remove("potsdam", 3);
+
+        index.upsert("potsdam", 2, ProfileType.ATTENDEE, new GeoPoint(52.4000, 13.0600));
+        index.upsert("potsdam", 3, ProfileType.ATTENDEE, new GeoPoint(52.4000, 13.0600));
+        int sizeWhileLoading = index.size();
+        index.loadFinished();
+        index.remove("berlin", 0);
+        index.upsert("berlin", 0, ProfileType.ATTENDEE, new GeoPoint(52.5323, 13.3846));
+
+        assertEquals(3, sizeWhileLoading);
+        assertEquals(List.of("berlin"), uuids(index.withinRadius(BERLIN_MITTE, 30, null, 10).hits()));
+    }
+
+    @Test
+    void whenSearchingAcrossDateLine_shouldFindPointsOnBothSides() {
+        index.upsert("east", 0, ProfileType.ATTENDEE, new GeoPoint(0, 179.9));
+        index.upsert("west", 0, ProfileType.ATTENDEE, new GeoPoint(0, -179.9));
+
+        ProximityIndex.Result result = index.withinRadius(new GeoPoint(0, 180), 20, null, 10);
+
+        assertEquals(2, result.totalMatches());
+        assertEquals(List.of("east", "west"), uuids(index.nearest(new GeoPoint(0, 179.95), 2, null)));
+    }
+
+    @Test
+    void whenComparedToBruteForce_withRandomProfiles_shouldReturnSameResults() {
+        // Arrange
+        Random random = new Random(42);
+        GridProximityIndex randomIndex = new GridProximityIndex(new SimpleMeterRegistry());
+        GeoPoint[] points = new GeoPoint[20_000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new GeoPoint(47 + random.nextDouble() * 8, 6 + random.nextDouble() * 9);
+            randomIndex.upsert("p" + i, 0, ProfileType.ATTENDEE, points[i]);
+        }
+
+        for (int query = 0; query < 50; query++) {
+            GeoPoint center = new GeoPoint(47 + random.nextDouble() * 8, 6 + random.nextDouble() * 9);
+            List<String> expectedNearest = IntStream.range(0, points.length).boxed()
+                    .sorted(Comparator.comparingDouble(i -> center.distanceKm(points[i])))
+                    .limit(10)
+                    .map(i -> "p" + i)
+                    .toList();
+            long expectedInRadius = IntStream.range(0, points.length)
+                    .filter(i -> center.distanceKm(points[i]) <= 25)
+                    .count();
+
+            // Act
+            List<String> nearest = uuids(randomIndex.nearest(center, 10, null));
+            ProximityIndex.Result inRadius = randomIndex.withinRadius(center, 25, null, 0);
+
+            // Assert
+            assertEquals(expectedNearest, nearest);
+            assertEquals(expectedInRadius, inRadius.totalMatches());
+        }
+    }
+
+    private static List<String> uuids(List<ProximityIndex.Hit> hits) {
+        return hits.stream().map(ProximityIndex.Hit::userUuid).toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.kafka;
+
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "eventmanagement.status-sync.enabled=true",
+        "eventmanagement.status-sync.topic=user-status-changes",
+        "eventmanagement.status-sync.dead-letter-topic=user-status-changes.DLT",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest"
+})
+@EmbeddedKafka(partitions = 1, topics = {"user-status-changes", "user-status-changes.DLT"})
+class UserStatusSyncListenerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Test
+    void whenBatchContainsSeveralChangesPerUser_shouldApplyLatestAndDeadLetterInvalidRecords() {
+        // Arrange
+        User anna = userRepository.save(TestUsers.attendee("anna@example.com"));
+        User ben = userRepository.save(TestUsers.attendee("ben@example.com"));
+        User cleo = userRepository.save(TestUsers.attendee("cleo@example.com"));
+        long annaVersion = anna.getVersion();
+
+        KafkaTemplate<String, String> producer = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(embeddedKafka), new StringSerializer(), new StringSerializer()));
+
+        // Act
+        producer.send(change(anna, "LOCKED", "2026-01-01T10:00:00Z"));
+        producer.send(change(anna, "ACTIVE", "2026-01-01T12:00:00Z"));
+        producer.send(change(anna, "SUSPENDED", "2026-01-01T11:00:00Z"));
+        producer.send(change(ben, "SUSPENDED", "2026-01-01T10:00:00Z"));
+        producer.send(new ProducerRecord<>("user-status-changes", "broken", "{not json"));
+        producer.send(change(cleo, "LOCKED", "2026-01-01T10:00:00Z"));
+        producer.flush();
+
+        // Assert
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            assertEquals(UserStatus.ACTIVE, status(anna));
+            assertEquals(UserStatus.SUSPENDED, status(ben));
+            assertEquals(UserStatus.LOCKED, status(cleo));
+        });
+        assertEquals(annaVersion + 1, userRepository.findByUuid(anna.getUuid()).orElseThrow().getVersion());
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("dlt-reader", "false", embeddedKafka);
+        consumerProps.put("auto.offset.reset", "earliest");
+        try (Consumer<String, String> deadLetters = new DefaultKafkaConsumerFactory<>(consumerProps,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(deadLetters, "user-status-changes.DLT");
+            ConsumerRecord<String, String> deadLetter =
+                    KafkaTestUtils.getSingleRecord(deadLetters, "user-status-changes.DLT", Duration.ofSeconds(30));
+            assertEquals("broken", deadLetter.key());
+            assertEquals("{not json", deadLetter.value());
+        }
+    }
+
+    private UserStatus status(User user) {
+        return userRepository.findByUuid(user.getUuid()).orElseThrow().getStatus();
+    }
+
+    private static ProducerRecord<String, String> change(User user, String status, String occurredAt) {
+        return new ProducerRecord<>("user-status-changes", user.getUuid(), """
+                {"userUuid":"%s","status":"%s","occurredAt":"%s","source":"hr"}
+                """.formatted(user.getUuid(), status, occurredAt));
+    }
+}
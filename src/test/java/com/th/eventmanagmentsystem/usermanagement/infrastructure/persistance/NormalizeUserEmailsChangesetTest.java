@@ -0,0 +1,86 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Spielt das komplette Changelog ein, legt Altbestände an und führt {@code 011-normalize-user-emails} erneut aus.
+ */
+class NormalizeUserEmailsChangesetTest {
+
+    private static final String CHANGESET_ID = "011-normalize-user-emails";
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws LiquibaseException {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:changeset-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        migrate();
+        jdbcTemplate.update("DELETE FROM databasechangelog WHERE id = ?", CHANGESET_ID);
+    }
+
+    @Test
+    void whenLegacyEmailsAreMixedCase_shouldLowerCaseUsersAndSummaries() throws LiquibaseException {
+        // Arrange
+        String uuid = insertUser(" Anna.Muster@Example.COM");
+        insertUser("bob@example.com");
+        jdbcTemplate.update("""
+                INSERT INTO user_summary (user_uuid, email, user_status, roles, receive_notifications, projected_at)
+                VALUES (?, ?, 'ACTIVE', 'ROLE_USER', FALSE, ?)""",
+                uuid, " Anna.Muster@Example.COM", Timestamp.from(Instant.now()));
+
+        // Act
+        migrate();
+
+        // Assert
+        assertEquals(List.of("anna.muster@example.com", "bob@example.com"),
+                jdbcTemplate.queryForList("SELECT email FROM users ORDER BY email", String.class));
+        assertEquals("anna.muster@example.com",
+                jdbcTemplate.queryForObject("SELECT email FROM user_summary WHERE user_uuid = ?", String.class, uuid));
+    }
+
+    @Test
+    void whenEmailsDifferOnlyInCase_shouldHaltWithoutChangingAnything() {
+        // Arrange
+        insertUser("Anna.Muster@example.com");
+        insertUser("anna.muster@example.com");
+
+        // Act & Assert
+        assertThrows(LiquibaseException.class, this::migrate);
+        assertEquals(List.of("Anna.Muster@example.com", "anna.muster@example.com"),
+                jdbcTemplate.queryForList("SELECT email FROM users ORDER BY email", String.class));
+    }
+
+    private void migrate() throws LiquibaseException {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    private String insertUser(String email) {
+        String uuid = UUID.randomUUID().toString();
+        jdbcTemplate.update("""
+                INSERT INTO users (uuid, email, password, user_status, created_at, created_by, is_active, version)
+                VALUES (?, ?, 'x', 'ACTIVE', ?, 'test', TRUE, 0)""",
+                uuid, email, Timestamp.from(Instant.now()));
+        return uuid;
+    }
+}
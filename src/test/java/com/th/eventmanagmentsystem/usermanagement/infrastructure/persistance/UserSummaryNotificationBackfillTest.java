@@ -0,0 +1,70 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance;
+
+import com.th.eventmanagmentsystem.common.backfill.BackfillRunner;
+import com.th.eventmanagmentsystem.common.backfill.BackfillStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class UserSummaryNotificationBackfillTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BackfillRunner backfillRunner;
+
+    @Autowired
+    private UserSummaryNotificationBackfill backfill;
+
+    @Test
+    void whenSummariesPredateNotificationColumns_shouldCopyPhoneAndOptInFromProfile() {
+        // Arrange
+        User optedIn = userRepository.save(attendee(true));
+        User optedOut = userRepository.save(attendee(false));
+        await().atMost(Duration.ofSeconds(10)).until(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_summary WHERE user_uuid IN (?, ?)", Integer.class,
+                optedIn.getUuid(), optedOut.getUuid()) == 2);
+        // Zustand nach Changeset 007 ohne Rebuild
+        jdbcTemplate.update("UPDATE user_summary SET phone_number = NULL, receive_notifications = FALSE "
+                + "WHERE user_uuid IN (?, ?)", optedIn.getUuid(), optedOut.getUuid());
+
+        // Act
+        long pendingBefore = backfillRunner.estimate(backfill).rowsPending();
+        BackfillStatus status = backfillRunner.run(backfill, () -> false);
+
+        // Assert
+        assertTrue(pendingBefore >= 2);
+        assertEquals(BackfillStatus.COMPLETED, status);
+        Map<String, Object> in = summary(optedIn);
+        assertEquals(((AttendeeProfile) optedIn.getProfile()).getPhoneNumber(), in.get("phone_number"));
+        assertEquals(true, in.get("receive_notifications"));
+        Map<String, Object> out = summary(optedOut);
+        assertEquals(((AttendeeProfile) optedOut.getProfile()).getPhoneNumber(), out.get("phone_number"));
+        assertEquals(false, out.get("receive_notifications"));
+    }
+
+    private Map<String, Object> summary(User user) {
+        return jdbcTemplate.queryForMap(
+                "SELECT phone_number, receive_notifications FROM user_summary WHERE user_uuid = ?", user.getUuid());
+    }
+
+    private static User attendee(boolean receiveNotifications) {
+        AttendeeProfile profile = TestUsers.attendeeProfile();
+        profile.setReceiveNotifications(receiveNotifications);
+        return TestUsers.attendee(TestUsers.uniqueEmail("backfill"), profile);
+    }
+}
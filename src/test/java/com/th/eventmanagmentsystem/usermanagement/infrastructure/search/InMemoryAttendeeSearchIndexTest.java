@@ -0,0 +1,106 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.search;
+
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchDocument;
+import com.th.eventmanagmentsystem.usermanagement.application.search.AttendeeSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryAttendeeSearchIndexTest {
+
+    private InMemoryAttendeeSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryAttendeeSearchIndex(new SimpleMeterRegistry());
+        index.upsert(new AttendeeSearchDocument("u1", 0L, "Anna", "Müller", "München", "80331"));
+        index.upsert(new AttendeeSearchDocument("u2", 0L, "Andreas", "Schmidt", "Berlin", "10115"));
+        index.upsert(new AttendeeSearchDocument("u3", 0L, "Jonas", "Mueller", "Hamburg", "20095"));
+    }
+
+    @Test
+    void whenSearchingByPrefix_shouldMatchNameCityAndZip() {
+        assertEquals(List.of("u1", "u2"), uuids(index.search("an", 0, 10)));
+        assertEquals(List.of("u1"), uuids(index.search("munch", 0, 10)));
+        assertEquals(List.of("u2"), uuids(index.search("101", 0, 10)));
+    }
+
+    @Test
+    void whenSearchingWithTypo_shouldMatchFuzzy() {
+        assertEquals(List.of("u2"), uuids(index.search("Schmitt", 0, 10)));
+    }
+
+    @Test
+    void whenSearchingMultipleTokens_shouldRequireAllAndRankExactFirst() {
+        index.upsert(new AttendeeSearchDocument("u4", 0L, "Anna", "Berger", "Berlin", "10117"));
+
+        AttendeeSearchIndex.Result result = index.search("anna berlin", 0, 10);
+
+        assertEquals(List.of("u4"), uuids(result));
+        assertEquals(InMemoryAttendeeSearchIndex.SCORE_EXACT * 2, result.hits().getFirst().score());
+    }
+
+    @Test
+    void whenProfileIsUpdated_shouldOnlyFindNewValues() {
+        index.upsert(new AttendeeSearchDocument("u1", 1L, "Anna", "Müller", "Köln", "50667"));
+
+        assertTrue(uuids(index.search("münchen", 0, 10)).isEmpty());
+        assertEquals(List.of("u1"), uuids(index.search("koln", 0, 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void whenStaleVersionArrives_shouldKeepNewerDocument() {
+        index.upsert(new AttendeeSearchDocument("u1", 2L, "Anna", "Müller", "Köln", "50667"));
+        index.upsert(new AttendeeSearchDocument("u1", 1L, "Anna", "Müller", "München", "80331"));
+
+        assertEquals(List.of("u1"), uuids(index.search("köln", 0, 10)));
+    }
+
+    @Test
+    void whenProfileIsRemoved_shouldNotBeFound() {
+        index.remove("u3");
+
+        assertTrue(uuids(index.search("hamburg", 0, 10)).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void whenPaging_shouldReturnTotalAndSlice() {
+        AttendeeSearchIndex.Result result = index.search("an", 1, 1);
+
+        assertEquals(2, result.totalHits());
+        assertEquals(List.of("u2"), uuids(result));
+    }
+
+    @Test
+    void whenMoreMatchesThanPage_shouldRankExactBeforePrefixAndSliceInOrder() {
+        for (int i = 10; i < 40; i++) {
+            index.upsert(new AttendeeSearchDocument("u" + i, 0L, "Annabella", "Nr" + i, "Bonn", "53111"));
+        }
+        index.upsert(new AttendeeSearchDocument("u40", 0L, "Anna", "Keller", "Bonn", "53111"));
+
+        AttendeeSearchIndex.Result first = index.search("anna", 0, 3);
+        AttendeeSearchIndex.Result second = index.search("anna", 2, 2);
+
+        assertEquals(32, first.totalHits());
+        assertEquals(List.of("u1", "u40", "u10"), uuids(first));
+        assertEquals(List.of("u10", "u11"), uuids(second));
+    }
+
+    @Test
+    void whenOffsetIsBeyondMatches_shouldReturnEmptyPageWithTotal() {
+        AttendeeSearchIndex.Result result = index.search("an", 5, 10);
+
+        assertEquals(2, result.totalHits());
+        assertTrue(result.hits().isEmpty());
+    }
+
+    private static List<String> uuids(AttendeeSearchIndex.Result result) {
+        return result.hits().stream().map(hit -> hit.document().uuid()).toList();
+    }
+}
@@ -0,0 +1,108 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.security;
+
+import com.th.eventmanagmentsystem.eventcatalog.api.EventController;
+import com.th.eventmanagmentsystem.eventcatalog.application.EventCatalogService;
+import com.th.eventmanagmentsystem.usermanagement.api.EmailAvailabilityController;
+import com.th.eventmanagmentsystem.usermanagement.api.RegistrationController;
+import com.th.eventmanagmentsystem.usermanagement.application.availability.EmailAvailability;
+import com.th.eventmanagmentsystem.usermanagement.application.availability.EmailAvailabilityService;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.registration.RegisterUserUseCase;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest({RegistrationController.class, EmailAvailabilityController.class, EventController.class})
+@Import(SecurityConfig.class)
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RegisterUserUseCase registerUserUseCase;
+
+    @MockitoBean
+    private EmailAvailabilityService emailAvailabilityService;
+
+    @MockitoBean
+    private EventCatalogService eventCatalogService;
+
+    @Test
+    void whenRegisteringAnonymously_withoutCsrfToken_shouldBeCreated() throws Exception {
+        // Arrange
+        when(registerUserUseCase.register(any())).thenReturn(
+                new UserRegistrationResponse("uuid-1", "anna@example.com", UserStatus.INACTIVE));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "anna@example.com", "password": "Secret123!"}
+                                """))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void whenBrowsingCatalogAnonymously_shouldBeAllowed() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void whenCheckingEmailsAnonymously_shouldRejectWithoutTouchingTheUserStore() throws Exception {
+        // Act & Assert
+        mockMvc.perform(availabilityBitmap())
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(emailAvailabilityService);
+    }
+
+    @Test
+    @WithMockUser
+    void whenCheckingEmailsAuthenticated_shouldAnswer() throws Exception {
+        // Arrange
+        when(emailAvailabilityService.check(any())).thenReturn(
+                new EmailAvailability(List.of("anna@example.com"), Set.of()));
+
+        // Act & Assert
+        mockMvc.perform(availabilityBitmap())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void whenCreatingEventAnonymously_shouldBeUnauthorized() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(eventCatalogService);
+    }
+
+    private static MockHttpServletRequestBuilder availabilityBitmap() {
+        return post("/api/emails/availability/bitmap")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .content("""
+                        {"emails": ["anna@example.com"]}
+                        """);
+    }
+}
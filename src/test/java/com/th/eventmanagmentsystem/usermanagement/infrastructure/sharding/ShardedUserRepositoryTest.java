@@ -0,0 +1,270 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.sharding;
+
+import com.th.eventmanagmentsystem.common.backfill.Backfill;
+import com.th.eventmanagmentsystem.common.backfill.BackfillRunner;
+import com.th.eventmanagmentsystem.common.backfill.BackfillStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.*;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary.ProfileType;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance.JpaUserPersistenceAdapter;
+import com.th.eventmanagmentsystem.usermanagement.infrastructure.persistance.ProfileScan;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "eventmanagement.sharding.enabled=true",
+        "eventmanagement.sharding.rebalance-pause=0ms",
+        "eventmanagement.sharding.rebalance-batch-size=7",
+        "eventmanagement.sharding.ring-refresh-interval=50ms",
+        "eventmanagement.sharding.shards[0].name=s0",
+        "eventmanagement.sharding.shards[0].url=jdbc:h2:mem:shard0",
+        "eventmanagement.sharding.shards[1].name=s1",
+        "eventmanagement.sharding.shards[1].url=jdbc:h2:mem:shard1",
+        "eventmanagement.sharding.shards[2].name=s2",
+        "eventmanagement.sharding.shards[2].url=jdbc:h2:mem:shard2",
+        "eventmanagement.sharding.shards[3].name=s3",
+        "eventmanagement.sharding.shards[3].url=jdbc:h2:mem:shard3",
+        "eventmanagement.sharding.shards[3].active=false"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ShardedUserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShardRegistry shardRegistry;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private ShardRingStore shardRingStore;
+
+    @Autowired
+    private JpaUserPersistenceAdapter primaryUserAdapter;
+
+    @Autowired
+    private JdbcTemplate primaryJdbcTemplate;
+
+    @Autowired
+    private BackfillRunner backfillRunner;
+
+    @Autowired
+    private ProfileScan profileScan;
+
+    @Autowired
+    @Qualifier("attendeeAddressGeocodingBackfill")
+    private Backfill attendeeGeocodingBackfill;
+
+    @Autowired
+    private PrimaryUserImportBackfill primaryUserImportBackfill;
+
+    @Test
+    void whenUsersAreSaved_shouldSpreadOverActiveShardsAndFindThemByEmailAndUuid() {
+        // Arrange
+        List<User> saved = saveUsers("spread", 60);
+
+        // Act
+        Set<String> usedShards = new HashSet<>();
+        for (Shard shard : shardRegistry.all()) {
+            if (usersOn(shard) > 0) {
+                usedShards.add(shard.name());
+            }
+        }
+
+        // Assert
+        assertInstanceOf(ShardedUserRepository.class, userRepository);
+        assertEquals(Set.of("s0", "s1", "s2"), usedShards);
+        for (User user : saved) {
+            assertEquals(user.getUuid(), userRepository.findByEmail(user.getEmail()).orElseThrow().getUuid());
+            assertEquals(user.getEmail(), userRepository.findByUuid(user.getUuid()).orElseThrow().getEmail());
+        }
+        assertEquals(60, userRepository.findKeysAfter(0, 100).size());
+    }
+
+    @Test
+    void whenEmailDiffersOnlyInCase_shouldBeTreatedAsExisting() {
+        // Arrange
+        userRepository.save(TestUsers.attendee("Anna.Muster@Example.com"));
+
+        // Act & Assert
+        assertTrue(userRepository.existsByEmail("  anna.muster@example.COM "));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.save(TestUsers.attendee("ANNA.MUSTER@example.com")));
+    }
+
+    @Test
+    void whenExistingEmailsAreLookedUpInBatch_shouldCollectMatchesFromAllShards() {
+        // Arrange
+        List<User> saved = saveUsers("batch", 30);
+        List<String> candidates = new ArrayList<>(saved.stream().map(User::getEmail).toList());
+        candidates.add("unknown@example.com");
+
+        // Act
+        Set<String> existing = userRepository.findExistingEmails(candidates);
+
+        // Assert
+        assertEquals(30, existing.size());
+        assertFalse(existing.contains("unknown@example.com"));
+    }
+
+    @Test
+    void whenKeysArePaged_shouldReturnGloballyOrderedIdsAcrossShards() {
+        // Arrange
+        saveUsers("keys", 25);
+
+        // Act
+        List<UserKey> firstPage = userRepository.findKeysAfter(0, 10);
+        List<UserKey> secondPage = userRepository.findKeysAfter(firstPage.getLast().id(), 100);
+
+        // Assert
+        assertEquals(10, firstPage.size());
+        assertEquals(15, secondPage.size());
+        assertTrue(firstPage.getLast().id() < secondPage.getFirst().id());
+    }
+
+    @Test
+    void whenRebalancingOntoNewShard_shouldMoveUsersAndKeepThemReachable() {
+        // Arrange
+        List<User> saved = saveUsers("rebalance", 80);
+
+        // Act
+        RebalanceStatus status = shardRebalancer.rebalance("s3");
+
+        // Assert
+        assertEquals(BackfillStatus.COMPLETED, status.status());
+        assertTrue(status.moved() > 0);
+        assertEquals(status.moved(), usersOn(shardRegistry.get("s3")));
+        long total = shardRegistry.all().stream().mapToLong(this::usersOn).sum();
+        assertEquals(80, total);
+        for (User user : saved) {
+            User found = userRepository.findByEmail(user.getEmail()).orElseThrow();
+            assertEquals(user.getUuid(), found.getUuid());
+            assertEquals(user.getRoles(), found.getRoles());
+            assertEquals(user.getUuid(), userRepository.findByUuid(user.getUuid()).orElseThrow().getUuid());
+        }
+        assertTrue(userRepository.existsByEmail(saved.getFirst().getEmail()));
+        ShardRingState ring = shardRingStore.load().orElseThrow();
+        assertEquals(ShardRingState.Phase.STABLE, ring.phase());
+        assertEquals(Set.of("s0", "s1", "s2", "s3"), ring.nodes());
+    }
+
+    @Test
+    void whenAnotherInstanceStillRoutesOnOldRing_shouldHoldRebalanceUntilItAcknowledges() {
+        // Arrange
+        saveUsers("instances", 40);
+        ShardRouter otherInstance = new ShardRouter(shardRingStore, shardRingStore.load().orElseThrow(), "other",
+                160, Duration.ofHours(1), Duration.ofHours(1));
+
+        try {
+            // Act
+            assertTrue(shardRebalancer.start("s3"));
+
+            // Assert
+            await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(5))
+                    .until(() -> usersOn(shardRegistry.get("s3")) == 0);
+            assertEquals(BackfillStatus.RUNNING, shardRebalancer.status().orElseThrow().status());
+
+            otherInstance.refresh();
+            assertTrue(otherInstance.migrationTarget().orElseThrow().contains("s3"));
+            await().atMost(Duration.ofSeconds(10))
+                    .until(() -> usersOn(shardRegistry.get("s3")) > 0
+                            && shardRingStore.load().orElseThrow().phase() == ShardRingState.Phase.STABLE);
+            assertEquals(BackfillStatus.RUNNING, shardRebalancer.status().orElseThrow().status());
+
+            otherInstance.refresh();
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> shardRebalancer.status().orElseThrow().status() == BackfillStatus.COMPLETED);
+            assertTrue(otherInstance.ring().contains("s3"));
+            assertTrue(otherInstance.migrationTarget().isEmpty());
+        } finally {
+            otherInstance.stop();
+        }
+    }
+
+    @Test
+    void whenPrimaryTablesAlreadyHoldUsers_shouldKeepThemReachableAndImportThemOntoShards() {
+        // Arrange
+        List<User> legacy = IntStream.range(0, 40)
+                .mapToObj(i -> primaryUserAdapter.saveAndFlush(TestUsers.attendee("legacy" + i + "@example.com")))
+                .toList();
+        primaryJdbcTemplate.update("UPDATE users SET email = 'Legacy.Mixed@Example.COM' WHERE uuid = ?",
+                legacy.getLast().getUuid());
+
+        // Act
+        User readThrough = userRepository.findByEmail("legacy0@example.com").orElseThrow();
+        boolean takenBeforeImport = userRepository.existsByEmail("LEGACY1@example.com");
+        BackfillStatus status = backfillRunner.run(primaryUserImportBackfill, () -> false);
+
+        // Assert
+        assertEquals(legacy.getFirst().getUuid(), readThrough.getUuid());
+        assertTrue(takenBeforeImport);
+        assertEquals(BackfillStatus.COMPLETED, status);
+        assertEquals(40, shardRegistry.all().stream().mapToLong(this::usersOn).sum());
+        assertEquals(40, primaryJdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class));
+        for (User user : legacy) {
+            User found = userRepository.findByUuid(user.getUuid()).orElseThrow();
+            assertEquals(user.getRoles(), found.getRoles());
+            assertNotNull(found.getProfile());
+        }
+        assertEquals(legacy.getLast().getUuid(),
+                userRepository.findByEmail("legacy.mixed@example.com").orElseThrow().getUuid());
+        assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.save(TestUsers.attendee("legacy2@example.com")));
+    }
+
+    @Test
+    void whenProfilesLiveOnShards_shouldFeedIndexesAndBackfillsFromTheShards() {
+        // Arrange
+        List<User> sharded = saveUsers("scan", 20);
+        User legacy = primaryUserAdapter.saveAndFlush(TestUsers.attendee("scan-legacy@example.com"));
+        for (Shard shard : shardRegistry.all()) {
+            shard.jdbcTemplate().update("UPDATE attendee_profile SET latitude = NULL, longitude = NULL, geohash = NULL");
+        }
+
+        // Act
+        Set<String> searchable = new HashSet<>();
+        profileScan.forEachAttendeeSearchDocument(document -> searchable.add(document.uuid()));
+        Set<String> located = new HashSet<>();
+        profileScan.forEachAddressRow(ProfileType.ATTENDEE, row -> located.add(row.userUuid()));
+        BackfillStatus status = backfillRunner.run(attendeeGeocodingBackfill, () -> false);
+
+        // Assert
+        assertEquals(21, searchable.size());
+        assertTrue(searchable.contains(legacy.getProfile().getUuid()));
+        assertEquals(21, located.size());
+        assertTrue(located.contains(legacy.getUuid()));
+        sharded.forEach(user -> assertTrue(located.contains(user.getUuid())));
+        assertEquals(BackfillStatus.COMPLETED, status);
+        long withoutGeohash = shardRegistry.all().stream()
+                .mapToLong(shard -> shard.jdbcTemplate().queryForObject(
+                        "SELECT COUNT(*) FROM attendee_profile WHERE geohash IS NULL", Long.class))
+                .sum();
+        assertEquals(0, withoutGeohash);
+    }
+
+    private List<User> saveUsers(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> userRepository.save(TestUsers.attendee(prefix + i + "@example.com")))
+                .toList();
+    }
+
+    private long usersOn(Shard shard) {
+        return shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM users", Long.class);
+    }
+}
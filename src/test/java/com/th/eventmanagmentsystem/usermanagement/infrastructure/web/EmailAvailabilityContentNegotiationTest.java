@@ -0,0 +1,138 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.th.eventmanagmentsystem.usermanagement.api.EmailAvailabilityController;
+import com.th.eventmanagmentsystem.usermanagement.application.availability.EmailAvailability;
+import com.th.eventmanagmentsystem.usermanagement.application.availability.EmailAvailabilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmailAvailabilityController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class EmailAvailabilityContentNegotiationTest {
+
+    private static final String REQUEST = """
+            {"emails": ["anna@example.com", "free@example.com", "bob@example.com"]}
+            """;
+    private static final List<String> TAKEN = List.of("anna@example.com", "bob@example.com");
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmailAvailabilityService emailAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        when(emailAvailabilityService.check(any())).thenReturn(new EmailAvailability(
+                List.of("anna@example.com", "free@example.com", "bob@example.com"), Set.copyOf(TAKEN)));
+    }
+
+    @Test
+    void whenAcceptIsJson_shouldStreamTakenEmailsAsJson() throws Exception {
+        // Act
+        byte[] body = streamed(availability().accept(MediaType.APPLICATION_JSON), MediaType.APPLICATION_JSON);
+
+        // Assert
+        assertEquals(TAKEN, jsonMapper.readValue(body, new TypeReference<List<String>>() {
+        }));
+    }
+
+    @Test
+    void whenAcceptIsCbor_shouldStreamTakenEmailsAsCbor() throws Exception {
+        // Act
+        byte[] body = streamed(availability().accept(MediaType.APPLICATION_CBOR), MediaType.APPLICATION_CBOR);
+
+        // Assert
+        assertEquals(TAKEN, cborMapper.readValue(body, new TypeReference<List<String>>() {
+        }));
+    }
+
+    @Test
+    void whenAcceptHeaderIsMissing_shouldDefaultToJson() throws Exception {
+        // Act
+        byte[] body = streamed(availability(), MediaType.APPLICATION_JSON);
+
+        // Assert
+        assertEquals(TAKEN, jsonMapper.readValue(body, new TypeReference<List<String>>() {
+        }));
+    }
+
+    @Test
+    void whenAcceptIsWildcard_shouldDefaultToJson() throws Exception {
+        // Act
+        byte[] body = streamed(availability().accept(MediaType.ALL), MediaType.APPLICATION_JSON);
+
+        // Assert
+        assertEquals(TAKEN, jsonMapper.readValue(body, new TypeReference<List<String>>() {
+        }));
+    }
+
+    @Test
+    void whenBitmapIsRequestedAsOctetStream_shouldSetOneBitPerTakenEmail() throws Exception {
+        // Act
+        byte[] body = mockMvc.perform(post("/api/emails/availability/bitmap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Assert
+        assertArrayEquals(new byte[]{0b101}, body);
+    }
+
+    @Test
+    void whenOctetStreamIsRequestedOnListEndpoint_shouldRejectWithNotAcceptable() throws Exception {
+        // Act & Assert
+        mockMvc.perform(availability().accept(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    private MockHttpServletRequestBuilder availability() {
+        return post("/api/emails/availability")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(REQUEST);
+    }
+
+    private byte[] streamed(MockHttpServletRequestBuilder builder, MediaType expectedType) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(expectedType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.th.eventmanagmentsystem.usermanagement.api.RegistrationController;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationRequest;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.registration.RegisterUserUseCase;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RegistrationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class RegistrationContentNegotiationTest {
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RegisterUserUseCase registerUserUseCase;
+
+    @Test
+    void whenRegisteringWithCbor_shouldAnswerWithCbor() throws Exception {
+        // Arrange
+        UserRegistrationRequest request = new UserRegistrationRequest("anna@example.com", "Secret123!");
+        UserRegistrationResponse response = new UserRegistrationResponse("uuid-1", "anna@example.com", UserStatus.INACTIVE);
+        when(registerUserUseCase.register(any())).thenReturn(response);
+
+        // Act
+        byte[] body = mockMvc.perform(post("/api/register")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Assert
+        assertEquals(response, cborMapper.readValue(body, UserRegistrationResponse.class));
+    }
+}
@@ -0,0 +1,105 @@
+package com.th.eventmanagmentsystem.usermanagement.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.th.eventmanagmentsystem.common.web.DtoCodecs;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserRegistrationResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryPageResponse;
+import com.th.eventmanagmentsystem.usermanagement.application.dto.UserSummaryResponse;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserRole;
+import com.th.eventmanagmentsystem.usermanagement.domain.UserStatus;
+import com.th.eventmanagmentsystem.usermanagement.domain.summary.UserSummary;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Vergleicht Payload-Größe und Durchsatz von JSON, CBOR und Smile für die User-DTOs.
+ * Läuft nur mit {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class UserDtoCodecBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    private final DtoCodecs codecs = new DtoCodecs(
+            new ObjectMapper(),
+            new ObjectMapper(new CBORFactory()),
+            new ObjectMapper(new SmileFactory()),
+            List.of(UserRegistrationResponse.class, UserSummaryPageResponse.class)
+    );
+
+    @Test
+    void compareFormats() throws Exception {
+        UserRegistrationResponse single = new UserRegistrationResponse(
+                UUID.randomUUID().toString(), "anna.muster@example.com", UserStatus.INACTIVE);
+        UserSummaryPageResponse page = new UserSummaryPageResponse(summaries(200), 0, 200, 10_000);
+
+        System.out.printf("%-28s %-16s %10s %14s %14s%n", "payload", "format", "bytes", "ser ops/s", "deser ops/s");
+        long singleJson = run("UserRegistrationResponse", single, UserRegistrationResponse.class, MEASURED_ROUNDS);
+        long pageJson = run("UserSummaryPage(200)", page, UserSummaryPageResponse.class, MEASURED_ROUNDS / 50);
+
+        assertTrue(singleJson > 0 && pageJson > 0);
+    }
+
+    private <T> long run(String label, T value, Class<T> type, int rounds) throws Exception {
+        long jsonSize = 0;
+        for (MediaType mediaType : DtoCodecs.SUPPORTED_MEDIA_TYPES) {
+            ObjectWriter writer = codecs.writer(mediaType, type);
+            ObjectReader reader = codecs.reader(mediaType, type);
+            byte[] encoded = writer.writeValueAsBytes(value);
+
+            for (int i = 0; i < WARMUP_ROUNDS / 10 + rounds / 10; i++) {
+                reader.readValue(writer.writeValueAsBytes(value));
+            }
+
+            long serializeStart = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                writer.writeValueAsBytes(value);
+            }
+            long serializeNanos = System.nanoTime() - serializeStart;
+
+            long deserializeStart = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                reader.readValue(encoded);
+            }
+            long deserializeNanos = System.nanoTime() - deserializeStart;
+
+            System.out.printf("%-28s %-16s %10d %14.0f %14.0f%n", label, mediaType.getSubtype(), encoded.length,
+                    rounds / (serializeNanos / 1e9), rounds / (deserializeNanos / 1e9));
+
+            if (mediaType.equals(MediaType.APPLICATION_JSON)) {
+                jsonSize = encoded.length;
+            } else {
+                assertTrue(encoded.length < jsonSize, mediaType + " should be smaller than JSON");
+            }
+        }
+        return jsonSize;
+    }
+
+    private static List<UserSummaryResponse> summaries(int count) {
+        List<UserSummaryResponse> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new UserSummaryResponse(
+                    UUID.randomUUID().toString(),
+                    "user" + i + "@example.com",
+                    UserStatus.ACTIVE,
+                    List.of(UserRole.ROLE_USER, UserRole.ROLE_ATTENDEE),
+                    UserSummary.ProfileType.ATTENDEE,
+                    "Vorname" + i + " Nachname" + i,
+                    "Berlin"
+            ));
+        }
+        return result;
+    }
+}